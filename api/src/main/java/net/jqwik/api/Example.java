@@ -20,7 +20,7 @@ import static org.apiguardian.api.API.Status.*;
 @Target({ElementType.ANNOTATION_TYPE, ElementType.METHOD})
 @Retention(RetentionPolicy.RUNTIME)
 @Documented
-@Property(tries = 1, shrinking = ShrinkingMode.OFF, stereotype = "Example")
+@Property(tries = 1, durationSeconds = 0, shrinking = ShrinkingMode.OFF, stereotype = "Example")
 @API(status = STABLE, since = "1.0")
 public @interface Example {
 }
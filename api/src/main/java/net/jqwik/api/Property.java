@@ -39,6 +39,12 @@ public @interface Property {
 	String SEED_NOT_SET = "";
 	String STEREOTYPE_NOT_SET = "";
 
+	@API(status = EXPERIMENTAL, since = "1.8.5")
+	int PARALLELISM_NOT_SET = 0;
+
+	@API(status = EXPERIMENTAL, since = "1.8.5")
+	int DURATION_SECONDS_NOT_SET = -1;
+
 	/**
 	 * Tries are the test runs with different parameters. By default it is 1000. You can override globally in the property file
 	 * (see <a href="https://jqwik.net/docs/current/user-guide.html#jqwik-configuration">jqwik.properties</a>, or here, in {@link Property}
@@ -92,4 +98,35 @@ public @interface Property {
 	 */
 	@API(status = MAINTAINED, since = "1.4.0")
 	FixedSeedMode whenFixedSeed() default FixedSeedMode.NOT_SET;
+
+	/**
+	 * The number of tries that can be checked concurrently.
+	 * Values are generated sequentially from the property's seed;
+	 * only the property method itself and its try hooks run in parallel.
+	 * When shrinking a falsified sample, the same number of shrinking candidates is evaluated concurrently.
+	 * <p>
+	 * Default value is the value from the global {@code jqwik.tries.parallelism}
+	 * configuration property, which itself defaults to 1, i.e. no parallelism.
+	 * <p>
+	 * Use only with properties whose body is thread-safe.
+	 *
+	 * @return the number of tries to check concurrently
+	 */
+	@API(status = EXPERIMENTAL, since = "1.8.5")
+	int parallelism() default PARALLELISM_NOT_SET;
+
+	/**
+	 * The number of seconds to run a property's tries for.
+	 * A value greater than 0 replaces the fixed number of {@linkplain #tries()}:
+	 * New tries are started until the time is up, the generator is exhausted or the property fails.
+	 * The number of tries is still used to determine the generation size.
+	 * A value of 0 switches the time budget off.
+	 * <p>
+	 * Default value is the value from the global {@code jqwik.duration.seconds}
+	 * configuration property, which itself defaults to 0.
+	 *
+	 * @return the number of seconds to run tries for
+	 */
+	@API(status = EXPERIMENTAL, since = "1.8.5")
+	int durationSeconds() default DURATION_SECONDS_NOT_SET;
 }
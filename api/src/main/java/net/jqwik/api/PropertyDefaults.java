@@ -39,6 +39,12 @@ public @interface PropertyDefaults {
 	@API(status = MAINTAINED, since = "1.6.2")
 	int maxDiscardRatio() default MAX_DISCARD_RATIO_NOT_SET;
 
+	@API(status = EXPERIMENTAL, since = "1.8.5")
+	int parallelism() default PARALLELISM_NOT_SET;
+
+	@API(status = EXPERIMENTAL, since = "1.8.5")
+	int durationSeconds() default DURATION_SECONDS_NOT_SET;
+
 	class PropertyDefaultsHook implements AroundPropertyHook {
 
 		@Override
@@ -87,6 +93,18 @@ public @interface PropertyDefaults {
 					attributes.setMaxDiscardRatio(ratio);
 				}
 			});
+			findParallelism(propertyDefaults).ifPresent(parallelism -> {
+				PropertyAttributes attributes = context.attributes();
+				if (!attributes.parallelism().isPresent()) {
+					attributes.setParallelism(parallelism);
+				}
+			});
+			findDurationSeconds(propertyDefaults).ifPresent(seconds -> {
+				PropertyAttributes attributes = context.attributes();
+				if (!attributes.durationSeconds().isPresent()) {
+					attributes.setDurationSeconds(seconds);
+				}
+			});
 
 			return property.execute();
 		}
@@ -140,6 +158,20 @@ public @interface PropertyDefaults {
 								   .findFirst();
 		}
 
+		private Optional<Integer> findParallelism(List<PropertyDefaults> propertyDefaults) {
+			return propertyDefaults.stream()
+								   .map(PropertyDefaults::parallelism)
+								   .filter(parallelism -> parallelism != PARALLELISM_NOT_SET)
+								   .findFirst();
+		}
+
+		private Optional<Integer> findDurationSeconds(List<PropertyDefaults> propertyDefaults) {
+			return propertyDefaults.stream()
+								   .map(PropertyDefaults::durationSeconds)
+								   .filter(seconds -> seconds != DURATION_SECONDS_NOT_SET)
+								   .findFirst();
+		}
+
 		@Override
 		public int aroundPropertyProximity() {
 			// Somewhat more distant than standard hooks, so that those may change the attributes
@@ -45,4 +45,32 @@ public interface ByteArbitrary extends NumericalArbitrary<Byte, ByteArbitrary> {
 	 */
 	@API(status = MAINTAINED, since = "1.4.0")
 	ByteArbitrary shrinkTowards(int target);
+
+	/**
+	 * Only generate numbers that are a multiple of {@code divisor}.
+	 * Other than filtering, no generated value will be rejected.
+	 *
+	 * @param divisor must be greater than 0
+	 */
+	@API(status = EXPERIMENTAL, since = "1.8.5")
+	default ByteArbitrary multipleOf(byte divisor) {
+		return withRemainder(divisor, (byte) 0);
+	}
+
+	/**
+	 * Only generate numbers {@code n} for which {@code Math.floorMod(n, divisor) == remainder}.
+	 * Other than filtering, no generated value will be rejected.
+	 *
+	 * @param divisor must be greater than 0
+	 * @param remainder must be between 0 (included) and {@code divisor} (excluded)
+	 */
+	@API(status = EXPERIMENTAL, since = "1.8.5")
+	ByteArbitrary withRemainder(byte divisor, byte remainder);
+
+	/**
+	 * Never generate any of the {@code values}.
+	 * Other than filtering, no generated value will be rejected.
+	 */
+	@API(status = EXPERIMENTAL, since = "1.8.5")
+	ByteArbitrary excluding(byte... values);
 }
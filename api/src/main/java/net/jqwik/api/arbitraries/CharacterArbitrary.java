@@ -109,4 +109,17 @@ public interface CharacterArbitrary extends Arbitrary<Character> {
 	 */
 	@API(status = MAINTAINED, since = "1.5.3")
 	CharacterArbitrary alpha();
+
+	/**
+	 * Never generate any of the {@code excludedChars}.
+	 *
+	 * <p>
+	 * Applies to all already allowed chars.
+	 * Other than filtering, characters from ranges are generated without rejecting a single value.
+	 * </p>
+	 *
+	 * @return new instance of arbitrary
+	 */
+	@API(status = EXPERIMENTAL, since = "1.8.5")
+	CharacterArbitrary excluding(char... excludedChars);
 }
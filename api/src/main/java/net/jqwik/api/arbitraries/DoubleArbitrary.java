@@ -69,6 +69,8 @@ public interface DoubleArbitrary extends NumericalArbitrary<Double, DoubleArbitr
 
 	/**
 	 * Set the scale (maximum number of decimal places) to {@code scale}.
+	 * Without an explicit scale values are not restricted to a number of decimal places
+	 * and include subnormal values.
 	 *
 	 * @param scale number of decimal places
 	 * @return new instance of arbitrary
@@ -63,6 +63,8 @@ public interface FloatArbitrary extends NumericalArbitrary<Float, FloatArbitrary
 
 	/**
 	 * Set the scale (maximum number of decimal places) to {@code scale}.
+	 * Without an explicit scale values are not restricted to a number of decimal places
+	 * and include subnormal values.
 	 */
 	FloatArbitrary ofScale(int scale);
 
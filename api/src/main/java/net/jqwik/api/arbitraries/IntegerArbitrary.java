@@ -32,4 +32,32 @@ public interface IntegerArbitrary extends NumericalArbitrary<Integer, IntegerArb
 	 */
 	@API(status = MAINTAINED, since = "1.4.0")
 	IntegerArbitrary shrinkTowards(int target);
+
+	/**
+	 * Only generate numbers that are a multiple of {@code divisor}.
+	 * Other than filtering, no generated value will be rejected.
+	 *
+	 * @param divisor must be greater than 0
+	 */
+	@API(status = EXPERIMENTAL, since = "1.8.5")
+	default IntegerArbitrary multipleOf(int divisor) {
+		return withRemainder(divisor, 0);
+	}
+
+	/**
+	 * Only generate numbers {@code n} for which {@code Math.floorMod(n, divisor) == remainder}.
+	 * Other than filtering, no generated value will be rejected.
+	 *
+	 * @param divisor must be greater than 0
+	 * @param remainder must be between 0 (included) and {@code divisor} (excluded)
+	 */
+	@API(status = EXPERIMENTAL, since = "1.8.5")
+	IntegerArbitrary withRemainder(int divisor, int remainder);
+
+	/**
+	 * Never generate any of the {@code values}.
+	 * Other than filtering, no generated value will be rejected.
+	 */
+	@API(status = EXPERIMENTAL, since = "1.8.5")
+	IntegerArbitrary excluding(int... values);
 }
@@ -32,4 +32,32 @@ public interface LongArbitrary extends NumericalArbitrary<Long, LongArbitrary> {
 	 */
 	@API(status = MAINTAINED, since = "1.4.0")
 	LongArbitrary shrinkTowards(long target);
+
+	/**
+	 * Only generate numbers that are a multiple of {@code divisor}.
+	 * Other than filtering, no generated value will be rejected.
+	 *
+	 * @param divisor must be greater than 0
+	 */
+	@API(status = EXPERIMENTAL, since = "1.8.5")
+	default LongArbitrary multipleOf(long divisor) {
+		return withRemainder(divisor, 0);
+	}
+
+	/**
+	 * Only generate numbers {@code n} for which {@code Math.floorMod(n, divisor) == remainder}.
+	 * Other than filtering, no generated value will be rejected.
+	 *
+	 * @param divisor must be greater than 0
+	 * @param remainder must be between 0 (included) and {@code divisor} (excluded)
+	 */
+	@API(status = EXPERIMENTAL, since = "1.8.5")
+	LongArbitrary withRemainder(long divisor, long remainder);
+
+	/**
+	 * Never generate any of the {@code values}.
+	 * Other than filtering, no generated value will be rejected.
+	 */
+	@API(status = EXPERIMENTAL, since = "1.8.5")
+	LongArbitrary excluding(long... values);
 }
@@ -34,4 +34,32 @@ public interface ShortArbitrary extends NumericalArbitrary<Short, ShortArbitrary
 	 */
 	@API(status = MAINTAINED, since = "1.4.0")
 	Arbitrary<Short> shrinkTowards(short target);
+
+	/**
+	 * Only generate numbers that are a multiple of {@code divisor}.
+	 * Other than filtering, no generated value will be rejected.
+	 *
+	 * @param divisor must be greater than 0
+	 */
+	@API(status = EXPERIMENTAL, since = "1.8.5")
+	default ShortArbitrary multipleOf(short divisor) {
+		return withRemainder(divisor, (short) 0);
+	}
+
+	/**
+	 * Only generate numbers {@code n} for which {@code Math.floorMod(n, divisor) == remainder}.
+	 * Other than filtering, no generated value will be rejected.
+	 *
+	 * @param divisor must be greater than 0
+	 * @param remainder must be between 0 (included) and {@code divisor} (excluded)
+	 */
+	@API(status = EXPERIMENTAL, since = "1.8.5")
+	ShortArbitrary withRemainder(short divisor, short remainder);
+
+	/**
+	 * Never generate any of the {@code values}.
+	 * Other than filtering, no generated value will be rejected.
+	 */
+	@API(status = EXPERIMENTAL, since = "1.8.5")
+	ShortArbitrary excluding(short... values);
 }
@@ -107,6 +107,26 @@ public interface PropertyAttributes {
 	@API(status = MAINTAINED, since = "1.4.0")
 	Optional<FixedSeedMode> whenFixedSeed();
 
+	/**
+	 * The number of tries to check concurrently in the property at hand.
+	 * Only present when set explicitly through {@linkplain Property#parallelism()}
+	 * or {@linkplain #setParallelism(Integer)}.
+	 *
+	 * @return optional parallelism
+	 */
+	@API(status = EXPERIMENTAL, since = "1.8.5")
+	Optional<Integer> parallelism();
+
+	/**
+	 * The number of seconds to run the tries of the property at hand.
+	 * Only present when set explicitly through {@linkplain Property#durationSeconds()}
+	 * or {@linkplain #setDurationSeconds(Integer)}.
+	 *
+	 * @return optional duration in seconds
+	 */
+	@API(status = EXPERIMENTAL, since = "1.8.5")
+	Optional<Integer> durationSeconds();
+
 	void setTries(Integer tries);
 
 	void setMaxDiscardRatio(Integer maxDiscardRatio);
@@ -125,4 +145,10 @@ public interface PropertyAttributes {
 
 	void setWhenFixedSeed(FixedSeedMode fixedSeedMode);
 
+	@API(status = EXPERIMENTAL, since = "1.8.5")
+	void setParallelism(Integer parallelism);
+
+	@API(status = EXPERIMENTAL, since = "1.8.5")
+	void setDurationSeconds(Integer durationSeconds);
+
 }
@@ -0,0 +1,70 @@
+package net.jqwik.api.lifecycle;
+
+import java.time.*;
+
+import org.apiguardian.api.*;
+
+import static org.apiguardian.api.API.Status.*;
+
+/**
+ * Where the time of running a property went.
+ *
+ * <p>
+ * Times of tries that are checked concurrently add up,
+ * so that generation and check time can exceed the wall clock time of a property.
+ * </p>
+ *
+ * @see PropertyExecutionResult#executionMetrics()
+ */
+@API(status = EXPERIMENTAL, since = "1.8.5")
+public interface PropertyExecutionMetrics {
+
+	/**
+	 * @return time spent generating the parameters of all tries
+	 */
+	Duration generationTime();
+
+	/**
+	 * @return time spent running all tries, including try lifecycle hooks
+	 */
+	Duration checkTime();
+
+	/**
+	 * @return time spent shrinking a falsified sample
+	 */
+	Duration shrinkingTime();
+
+	/**
+	 * @return number of candidates run while shrinking a falsified sample,
+	 * including candidates that were evaluated concurrently but whose result was not needed.
+	 * Candidates found in the falsification cache are not run and therefore not counted.
+	 */
+	int countShrinkingCandidates();
+
+	/**
+	 * @return number of shrinking candidates whose result was taken from the falsification cache
+	 */
+	int countShrinkingCacheHits();
+
+	/**
+	 * @return number of shrinking candidates that were not found in the falsification cache
+	 */
+	int countShrinkingCacheMisses();
+
+	/**
+	 * @return number of generators of this property that were found in the memoization cache
+	 * (see configuration parameter {@code jqwik.memoization.maxentries})
+	 */
+	long countMemoizedGeneratorHits();
+
+	/**
+	 * @return number of generators of this property that had to be created because they were not memoized
+	 */
+	long countMemoizedGeneratorMisses();
+
+	/**
+	 * @return percentage of this property's generator lookups that were found in the memoization cache,
+	 * or 0 if no generator was looked up
+	 */
+	double memoizedGeneratorHitRate();
+}
@@ -104,6 +104,17 @@ public interface PropertyExecutionResult {
 	@API(status = MAINTAINED, since = "1.3.5")
 	Optional<ShrunkFalsifiedSample> shrunkSample();
 
+	/**
+	 * Return the times spent for generation, checking and shrinking
+	 * if the property's tries have been run.
+	 *
+	 * @return an optional metrics object
+	 */
+	@API(status = EXPERIMENTAL, since = "1.8.5")
+	default Optional<PropertyExecutionMetrics> executionMetrics() {
+		return Optional.empty();
+	}
+
 	/**
 	 * Use to change the {@linkplain Status status} of a property execution result in a
 	 * {@linkplain AroundPropertyHook}.
@@ -62,4 +62,17 @@ public interface ActionChainArbitrary<S> extends Arbitrary<ActionChain<S>> {
 	 * @return new arbitrary instance
 	 */
 	ActionChainArbitrary<S> improveShrinkingWith(Supplier<ChangeDetector<S>> detectorSupplier);
+
+	/**
+	 * Take a snapshot of the state after each action so that shrunk action chains
+	 * can resume from the longest prefix of actions they share with a chain that has already run.
+	 *
+	 * @param takeSnapshot    A function to create a snapshot of the current state.
+	 * @param restoreSnapshot A function to create a new state from a snapshot.
+	 * @param <C>             The type of snapshots
+	 * @return new arbitrary instance
+	 * @see ChainArbitrary#withSnapshots(Function, Function)
+	 */
+	@API(status = EXPERIMENTAL, since = "1.8.5")
+	<C> ActionChainArbitrary<S> withSnapshots(Function<? super S, ? extends C> takeSnapshot, Function<? super C, ? extends S> restoreSnapshot);
 }
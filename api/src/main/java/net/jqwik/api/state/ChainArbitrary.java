@@ -64,4 +64,24 @@ public interface ChainArbitrary<T> extends Arbitrary<Chain<T>> {
 	 */
 	ChainArbitrary<T> improveShrinkingWith(Supplier<ChangeDetector<T>> detectorSupplier);
 
+	/**
+	 * Take a snapshot of the state after each transformation so that shrunk chains
+	 * can resume from the longest prefix of transformations they share with a chain that has already run,
+	 * instead of running all transformations again starting with a new initial state.
+	 *
+	 * <p>
+	 * This is only worthwhile if transformers are expensive, e.g. because they work on a database,
+	 * and it requires transformers to be deterministic.
+	 * A resumed chain starts with the restored state instead of the initial state.
+	 * {@code restoreSnapshot} must create a new state for each call, since the same snapshot can be restored more than once.
+	 * </p>
+	 *
+	 * @param takeSnapshot    A function to create a snapshot of the current state.
+	 * @param restoreSnapshot A function to create a new state from a snapshot.
+	 * @param <C>             The type of snapshots
+	 * @return new instance of arbitrary
+	 */
+	@API(status = EXPERIMENTAL, since = "1.8.5")
+	<C> ChainArbitrary<T> withSnapshots(Function<? super T, ? extends C> takeSnapshot, Function<? super C, ? extends T> restoreSnapshot);
+
 }
@@ -91,6 +91,17 @@ public class Statistics {
 		return StatisticsFacade.implementation.collectorByLabel(label);
 	}
 
+	/**
+	 * Count values collected with {@linkplain #collect(Object...)} approximately in bounded memory.
+	 *
+	 * @param maxTrackedValues The maximum number of most frequent values to track
+	 * @see StatisticsCollector#approximate(int)
+	 */
+	@API(status = EXPERIMENTAL, since = "1.8.5")
+	public static StatisticsCollector approximate(int maxTrackedValues) {
+		return StatisticsFacade.implementation.defaultCollector().approximate(maxTrackedValues);
+	}
+
 	/**
 	 * Perform coverage checking for successful property on statistics
 	 * for values collected with {@linkplain #collect(Object...)}
@@ -48,4 +48,33 @@ public interface StatisticsCollector {
 	@API(status = MAINTAINED, since = "1.4.0")
 	void coverage(Consumer<StatisticsCoverage> checker);
 
+	/**
+	 * Count collected values approximately in bounded memory instead of exactly.
+	 * Use it for values with many different occurrences, e.g. generated ids or sizes,
+	 * when a property runs for a very large number of tries.
+	 *
+	 * <p>
+	 * Only the {@code maxTrackedValues} most frequent values are reported.
+	 * Counts are estimated and never lower than the exact counts;
+	 * they are exact as long as there are no more different values than can be tracked.
+	 * The number of different values is estimated, too.
+	 * </p>
+	 *
+	 * <p>
+	 * Coverage checks work on the estimated counts.
+	 * {@linkplain StatisticsCoverage#checkQuery(Predicate)} and {@linkplain StatisticsCoverage#checkPattern(String)}
+	 * only consider the tracked values.
+	 * </p>
+	 *
+	 * <p>
+	 * Values that have been collected before are taken over.
+	 * Only the first call for a collector has an effect.
+	 * </p>
+	 *
+	 * @param maxTrackedValues The maximum number of most frequent values to track. Must be at least 1.
+	 * @return The current instance of collector to allow a fluent API
+	 */
+	@API(status = EXPERIMENTAL, since = "1.8.5")
+	StatisticsCollector approximate(int maxTrackedValues);
+
 }
@@ -0,0 +1,34 @@
+package net.jqwik.benchmarks;
+
+import org.junit.platform.engine.*;
+import org.junit.platform.engine.support.descriptor.*;
+
+import net.jqwik.engine.execution.lifecycle.*;
+
+/**
+ * Generators, shrinkables and stores need a current test descriptor,
+ * which does not exist on JMH's benchmark threads.
+ */
+class BenchmarkDescriptor {
+
+	static final TestDescriptor DESCRIPTOR = new AbstractTestDescriptor(
+		UniqueId.root("jqwik", "benchmarks"),
+		"Running jqwik benchmarks"
+	) {
+		@Override
+		public Type getType() {
+			return Type.TEST;
+		}
+	};
+
+	private BenchmarkDescriptor() {
+	}
+
+	static void enter() {
+		CurrentTestDescriptor.push(DESCRIPTOR);
+	}
+
+	static void leave() {
+		CurrentTestDescriptor.pop();
+	}
+}
@@ -0,0 +1,88 @@
+package net.jqwik.benchmarks;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import org.junit.platform.engine.*;
+import org.junit.platform.engine.reporting.*;
+
+import org.openjdk.jmh.annotations.*;
+
+import net.jqwik.api.lifecycle.*;
+import net.jqwik.engine.execution.*;
+import net.jqwik.engine.execution.pipeline.*;
+
+/**
+ * Overhead of scheduling tasks in the execution pipeline.
+ *
+ * <p>
+ * Tasks are submitted the way containers and properties are submitted by the engine:
+ * For each container a before task, the property tasks depending on it,
+ * and an after task depending on all property tasks.
+ * Tasks do nothing so that only the pipeline itself is measured.
+ * </p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ExecutionPipelineBenchmarks {
+
+	private static final PropertyExecutionListener NO_LISTENER = new PropertyExecutionListener() {
+		@Override
+		public void executionSkipped(TestDescriptor testDescriptor, String reason) {
+		}
+
+		@Override
+		public void executionStarted(TestDescriptor testDescriptor) {
+		}
+
+		@Override
+		public void executionFinished(TestDescriptor testDescriptor, PropertyExecutionResult executionResult) {
+		}
+
+		@Override
+		public void reportingEntryPublished(TestDescriptor testDescriptor, ReportEntry entry) {
+		}
+	};
+
+	@Param({"10"})
+	public int containers;
+
+	@Param({"100"})
+	public int propertiesPerContainer;
+
+	@Param({"1", "4"})
+	public int parallelism;
+
+	@Benchmark
+	public ExecutionPipeline runToTermination() {
+		ExecutionPipeline pipeline = parallelism == 1
+										 ? new ExecutionPipeline(NO_LISTENER)
+										 : new ConcurrentExecutionPipeline(NO_LISTENER, parallelism, false);
+		for (int c = 0; c < containers; c++) {
+			ExecutionTask before = emptyTask("before " + c);
+			pipeline.submit(before);
+			List<ExecutionTask> properties = new ArrayList<>();
+			for (int p = 0; p < propertiesPerContainer; p++) {
+				ExecutionTask property = emptyTask("property " + c + "-" + p);
+				pipeline.submit(property, before);
+				properties.add(property);
+			}
+			ExecutionTask after = emptyTask("after " + c);
+			pipeline.submit(after, properties.toArray(new ExecutionTask[0]));
+		}
+		pipeline.runToTermination();
+		return pipeline;
+	}
+
+	private static ExecutionTask emptyTask(String description) {
+		return ExecutionTask.from(
+			(listener, predecessorResult) -> predecessorResult,
+			BenchmarkDescriptor.DESCRIPTOR,
+			description
+		);
+	}
+}
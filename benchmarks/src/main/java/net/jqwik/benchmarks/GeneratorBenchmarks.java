@@ -0,0 +1,88 @@
+package net.jqwik.benchmarks;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import org.openjdk.jmh.annotations.*;
+
+import net.jqwik.api.*;
+import net.jqwik.engine.*;
+
+/**
+ * Throughput of generating values including the creation of their shrinkables.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GeneratorBenchmarks {
+
+	private static final int GEN_SIZE = 1000;
+
+	private Random random;
+
+	private RandomGenerator<Integer> integers;
+	private RandomGenerator<Integer> integersWithEdgeCases;
+	private RandomGenerator<String> strings;
+	private RandomGenerator<List<Integer>> lists;
+	private RandomGenerator<List<Integer>> uniqueLists;
+	private RandomGenerator<List<String>> uniqueByFeatureLists;
+	private RandomGenerator<Set<String>> sets;
+
+	@Setup(Level.Trial)
+	public void createGenerators() {
+		BenchmarkDescriptor.enter();
+		random = SourceOfRandomness.newRandom(42L);
+		integers = Arbitraries.integers().generator(GEN_SIZE);
+		integersWithEdgeCases = Arbitraries.integers().generator(GEN_SIZE, true);
+		strings = Arbitraries.strings().alpha().ofMaxLength(50).generator(GEN_SIZE);
+		lists = Arbitraries.integers().list().ofMaxSize(100).generator(GEN_SIZE);
+		uniqueLists = Arbitraries.integers().between(0, 10000).list().uniqueElements().ofMaxSize(100).generator(GEN_SIZE);
+		uniqueByFeatureLists = Arbitraries.strings().alpha().ofLength(5).list()
+										  .uniqueElements(String::toLowerCase)
+										  .ofMaxSize(500).generator(GEN_SIZE);
+		sets = Arbitraries.strings().alpha().ofLength(5).set().ofMaxSize(50).generator(GEN_SIZE);
+	}
+
+	@TearDown(Level.Trial)
+	public void leaveDescriptor() {
+		BenchmarkDescriptor.leave();
+	}
+
+	@Benchmark
+	public Integer integers() {
+		return integers.next(random).value();
+	}
+
+	@Benchmark
+	public Integer integersWithEdgeCases() {
+		return integersWithEdgeCases.next(random).value();
+	}
+
+	@Benchmark
+	public String strings() {
+		return strings.next(random).value();
+	}
+
+	@Benchmark
+	public List<Integer> lists() {
+		return lists.next(random).value();
+	}
+
+	@Benchmark
+	public List<Integer> uniqueLists() {
+		return uniqueLists.next(random).value();
+	}
+
+	@Benchmark
+	public List<String> uniqueByFeatureLists() {
+		return uniqueByFeatureLists.next(random).value();
+	}
+
+	@Benchmark
+	public Set<String> sets() {
+		return sets.next(random).value();
+	}
+}
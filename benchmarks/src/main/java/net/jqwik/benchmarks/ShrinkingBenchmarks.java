@@ -0,0 +1,93 @@
+package net.jqwik.benchmarks;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.*;
+
+import org.openjdk.jmh.annotations.*;
+
+import net.jqwik.api.*;
+import net.jqwik.api.lifecycle.*;
+import net.jqwik.engine.*;
+import net.jqwik.engine.properties.*;
+import net.jqwik.engine.properties.shrinking.*;
+
+/**
+ * Average time of shrinking a falsified sample to its minimal value.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ShrinkingBenchmarks {
+
+	private static final int GEN_SIZE = 1000;
+
+	private FalsifiedSample integersSample;
+	private FalsifiedSample listSample;
+	private FalsifiedSample stringSample;
+
+	@Setup(Level.Trial)
+	public void createFalsifiedSamples() {
+		BenchmarkDescriptor.enter();
+		Random random = SourceOfRandomness.newRandom(42L);
+
+		integersSample = falsifiedSample(
+			Arbitraries.integers().between(10000, 1000000).generator(GEN_SIZE).next(random),
+			Arbitraries.integers().between(10000, 1000000).generator(GEN_SIZE).next(random)
+		);
+		listSample = falsifiedSample(
+			Arbitraries.integers().between(0, 1000).list().ofMinSize(50).ofMaxSize(100).generator(GEN_SIZE).next(random)
+		);
+		stringSample = falsifiedSample(
+			Arbitraries.strings().alpha().ofMinLength(50).ofMaxLength(100).generator(GEN_SIZE).next(random)
+		);
+	}
+
+	@TearDown(Level.Trial)
+	public void leaveDescriptor() {
+		BenchmarkDescriptor.leave();
+	}
+
+	@Benchmark
+	public ShrunkFalsifiedSample sumOfTwoIntegers() {
+		return shrink(integersSample, params -> (int) params.get(0) + (int) params.get(1) < 1000);
+	}
+
+	@SuppressWarnings("unchecked")
+	@Benchmark
+	public ShrunkFalsifiedSample listOfIntegers() {
+		return shrink(listSample, params -> {
+			List<Integer> list = (List<Integer>) params.get(0);
+			return list.size() < 10 || list.stream().mapToInt(i -> i).sum() < 100;
+		});
+	}
+
+	@Benchmark
+	public ShrunkFalsifiedSample string() {
+		return shrink(stringSample, params -> {
+			String string = (String) params.get(0);
+			return string.length() < 5 || string.chars().noneMatch(Character::isUpperCase);
+		});
+	}
+
+	private ShrunkFalsifiedSample shrink(FalsifiedSample sample, Predicate<List<Object>> property) {
+		Falsifier<List<Object>> falsifier =
+			params -> property.test(params) ? TryExecutionResult.satisfied() : TryExecutionResult.falsified(null);
+		PropertyShrinker shrinker = new PropertyShrinker(sample, ShrinkingMode.FULL, 0, ignore -> {}, null, JqwikProperties.DEFAULT_SHRINKING_CACHE_MAX_ENTRIES);
+		return shrinker.shrink(falsifier);
+	}
+
+	@SuppressWarnings("unchecked")
+	private static FalsifiedSample falsifiedSample(Shrinkable<?>... shrinkables) {
+		List<Shrinkable<Object>> parameters = new ArrayList<>();
+		List<Object> values = new ArrayList<>();
+		for (Shrinkable<?> shrinkable : shrinkables) {
+			parameters.add((Shrinkable<Object>) shrinkable);
+			values.add(shrinkable.value());
+		}
+		return new FalsifiedSampleImpl(values, parameters, Optional.empty(), Collections.emptyList());
+	}
+}
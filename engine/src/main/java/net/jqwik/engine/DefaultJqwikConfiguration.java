@@ -34,7 +34,12 @@ public class DefaultJqwikConfiguration implements JqwikConfiguration {
 			properties.defaultEdgeCases(),
 			properties.defaultShrinking(),
 			properties.boundedShrinkingSeconds(),
-			properties.fixedSeedMode()
+			properties.shrinkingCacheMaxEntries(),
+			properties.fixedSeedMode(),
+			properties.defaultParallelism(),
+			properties.defaultDurationSeconds(),
+			properties.reportExecutionMetrics(),
+			properties.triesVirtualThreads()
 		);
 	}
 
@@ -56,6 +61,21 @@ public class DefaultJqwikConfiguration implements JqwikConfiguration {
 		return properties.reportOnlyFailures();
 	}
 
+	@Override
+	public int executionParallelism() {
+		return properties.executionParallelism();
+	}
+
+	@Override
+	public boolean useVirtualThreads() {
+		return properties.executionVirtualThreads();
+	}
+
+	@Override
+	public int memoizationMaxEntries() {
+		return properties.memoizationMaxEntries();
+	}
+
 	private TestEngineConfiguration createTestEngineConfiguration() {
 		String databasePath = properties.databasePath();
 		if (databasePath == null || databasePath.trim().isEmpty()) {
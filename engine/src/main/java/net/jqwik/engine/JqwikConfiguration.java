@@ -8,4 +8,10 @@ public interface JqwikConfiguration {
 	boolean useJunitPlatformReporter();
 
 	boolean reportOnlyFailures();
+
+	int executionParallelism();
+
+	boolean useVirtualThreads();
+
+	int memoizationMaxEntries();
 }
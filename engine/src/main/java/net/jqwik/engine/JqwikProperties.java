@@ -13,6 +13,8 @@ import net.jqwik.api.*;
 public class JqwikProperties {
 
 	public static final int DEFAULT_TRIES = 1000;
+	public static final int DEFAULT_SHRINKING_CACHE_MAX_ENTRIES = 1000;
+	public static final int DEFAULT_MEMOIZATION_MAX_ENTRIES = 2000;
 
 	private static final String PROPERTIES_FILE_NAME = "jqwik.properties";
 	private static final String CONFIGURATION_PARAMETERS_PREFIX = "jqwik.";
@@ -23,10 +25,16 @@ public class JqwikProperties {
 	private static final int DEFAULT_MAX_DISCARD_RATIO = 5;
 	private static final AfterFailureMode DEFAULT_AFTER_FAILURE = AfterFailureMode.SAMPLE_FIRST;
 	private static final boolean DEFAULT_REPORT_ONLY_FAILURES = false;
+	private static final boolean DEFAULT_REPORT_EXECUTION_METRICS = false;
 	private static final GenerationMode DEFAULT_GENERATION = GenerationMode.AUTO;
 	private static final EdgeCasesMode DEFAULT_EDGE_CASES = EdgeCasesMode.MIXIN;
 	private static final ShrinkingMode DEFAULT_SHRINKING = ShrinkingMode.BOUNDED;
 	private static final int DEFAULT_BOUNDED_SHRINKING_SECONDS = 10;
+	private static final int DEFAULT_PARALLELISM = 1;
+	private static final boolean DEFAULT_TRIES_VIRTUAL_THREADS = false;
+	private static final int DEFAULT_DURATION_SECONDS = 0;
+	private static final int DEFAULT_EXECUTION_PARALLELISM = 1;
+	private static final boolean DEFAULT_EXECUTION_VIRTUAL_THREADS = false;
 
 	// TODO: Change default to true as soon as Gradle has support for platform reporter
 	// see https://github.com/gradle/gradle/issues/4605
@@ -39,11 +47,19 @@ public class JqwikProperties {
 	private final boolean useJunitPlatformReporter;
 	private final AfterFailureMode defaultAfterFailure;
 	private final boolean reportOnlyFailures;
+	private final boolean reportExecutionMetrics;
 	private final GenerationMode defaultGeneration;
 	private final EdgeCasesMode defaultEdgeCases;
 	private final ShrinkingMode defaultShrinking;
 	private final int boundedShrinkingSeconds;
+	private final int shrinkingCacheMaxEntries;
 	private final FixedSeedMode fixedSeedMode;
+	private final int defaultParallelism;
+	private final boolean triesVirtualThreads;
+	private final int defaultDurationSeconds;
+	private final int executionParallelism;
+	private final boolean executionVirtualThreads;
+	private final int memoizationMaxEntries;
 
 	public String databasePath() {
 		return databasePath;
@@ -73,6 +89,10 @@ public class JqwikProperties {
 		return reportOnlyFailures;
 	}
 
+	public boolean reportExecutionMetrics() {
+		return reportExecutionMetrics;
+	}
+
 	public GenerationMode defaultGeneration() {
 		return defaultGeneration;
 	}
@@ -89,10 +109,38 @@ public class JqwikProperties {
 		return boundedShrinkingSeconds;
 	}
 
+	public int shrinkingCacheMaxEntries() {
+		return shrinkingCacheMaxEntries;
+	}
+
 	public FixedSeedMode fixedSeedMode() {
 		return fixedSeedMode;
 	}
 
+	public int defaultParallelism() {
+		return defaultParallelism;
+	}
+
+	public boolean triesVirtualThreads() {
+		return triesVirtualThreads;
+	}
+
+	public int defaultDurationSeconds() {
+		return defaultDurationSeconds;
+	}
+
+	public int executionParallelism() {
+		return executionParallelism;
+	}
+
+	public boolean executionVirtualThreads() {
+		return executionVirtualThreads;
+	}
+
+	public int memoizationMaxEntries() {
+		return memoizationMaxEntries;
+	}
+
 	JqwikProperties(ConfigurationParameters parameters) {
 		databasePath = parameters.get("database").orElse(DEFAULT_DATABASE_PATH);
 		runFailuresFirst = parameters.getBoolean("failures.runfirst").orElse(DEFAULT_RERUN_FAILURES_FIRST);
@@ -101,11 +149,19 @@ public class JqwikProperties {
 		useJunitPlatformReporter = parameters.getBoolean("reporting.usejunitplatform").orElse(DEFAULT_USE_JUNIT_PLATFORM_REPORTER);
 		defaultAfterFailure = parameters.get("failures.after.default", AfterFailureMode::valueOf).orElse(DEFAULT_AFTER_FAILURE);
 		reportOnlyFailures = parameters.getBoolean("reporting.onlyfailures").orElse(DEFAULT_REPORT_ONLY_FAILURES);
+		reportExecutionMetrics = parameters.getBoolean("reporting.metrics").orElse(DEFAULT_REPORT_EXECUTION_METRICS);
 		defaultGeneration = parameters.get("generation.default", GenerationMode::valueOf).orElse(DEFAULT_GENERATION);
 		defaultEdgeCases = parameters.get("edgecases.default", EdgeCasesMode::valueOf).orElse(DEFAULT_EDGE_CASES);
 		defaultShrinking = parameters.get("shrinking.default", ShrinkingMode::valueOf).orElse(DEFAULT_SHRINKING);
 		boundedShrinkingSeconds = parameters.get("shrinking.bounded.seconds", Integer::parseInt).orElse(DEFAULT_BOUNDED_SHRINKING_SECONDS);
+		shrinkingCacheMaxEntries = parameters.get("shrinking.cache.maxentries", Integer::parseInt).orElse(DEFAULT_SHRINKING_CACHE_MAX_ENTRIES);
 		fixedSeedMode = parameters.get("seeds.whenfixed", FixedSeedMode::valueOf).orElse(FixedSeedMode.ALLOW);
+		defaultParallelism = parameters.get("tries.parallelism", Integer::parseInt).orElse(DEFAULT_PARALLELISM);
+		triesVirtualThreads = parameters.getBoolean("tries.virtualthreads").orElse(DEFAULT_TRIES_VIRTUAL_THREADS);
+		defaultDurationSeconds = parameters.get("duration.seconds", Integer::parseInt).orElse(DEFAULT_DURATION_SECONDS);
+		executionParallelism = parameters.get("execution.parallelism", Integer::parseInt).orElse(DEFAULT_EXECUTION_PARALLELISM);
+		executionVirtualThreads = parameters.getBoolean("execution.virtualthreads").orElse(DEFAULT_EXECUTION_VIRTUAL_THREADS);
+		memoizationMaxEntries = parameters.get("memoization.maxentries", Integer::parseInt).orElse(DEFAULT_MEMOIZATION_MAX_ENTRIES);
 	}
 
 	static JqwikProperties load(ConfigurationParameters fromJunit) {
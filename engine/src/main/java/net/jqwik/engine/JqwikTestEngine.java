@@ -9,6 +9,7 @@ import net.jqwik.engine.descriptor.*;
 import net.jqwik.engine.discovery.*;
 import net.jqwik.engine.execution.*;
 import net.jqwik.engine.execution.lifecycle.*;
+import net.jqwik.engine.facades.*;
 import net.jqwik.engine.recording.*;
 import net.jqwik.engine.support.*;
 
@@ -60,17 +61,30 @@ public class JqwikTestEngine implements TestEngine {
 
 	private void executeTests(JqwikEngineDescriptor root, EngineExecutionListener listener) {
 		JqwikConfiguration configuration = root.getConfiguration();
+		Memoize.startSharedGenerators(configuration.memoizationMaxEntries());
 		try (TestRunRecorder recorder = configuration.testEngineConfiguration().recorder()) {
 			new JqwikExecutor(
 				lifecycleRegistry,
 				recorder,
 				configuration.testEngineConfiguration().previousFailures(),
 				configuration.useJunitPlatformReporter(),
-				configuration.reportOnlyFailures()
+				configuration.reportOnlyFailures(),
+				configuration.executionParallelism(),
+				configuration.useVirtualThreads()
 			).execute(root, listener);
+		} finally {
+			finishMemoization(configuration);
 		}
 	}
 
+	private void finishMemoization(JqwikConfiguration configuration) {
+		if (configuration.propertyDefaultValues().reportExecutionMetrics()) {
+			LOG.info(String.format("Memoized generators of this run: %s", Memoize.sharedGeneratorsStatistics()));
+		}
+		// Memoized generators keep arbitraries and everything they reference alive
+		Memoize.clearSharedGenerators();
+	}
+
 	private void registerLifecycleHooks(TestDescriptor rootDescriptor, ConfigurationParameters configurationParameters) {
 		new JqwikLifecycleRegistrator(lifecycleRegistry, configurationParameters).registerLifecycleHooks(rootDescriptor);
 	}
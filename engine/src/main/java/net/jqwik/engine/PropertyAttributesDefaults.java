@@ -15,10 +15,21 @@ public interface PropertyAttributesDefaults {
 	EdgeCasesMode edgeCases();
 	String stereotype();
 	FixedSeedMode whenFixedSeed();
+	int parallelism();
+	int durationSeconds();
 
 	// This is currently a global parameter
 	int boundedShrinkingSeconds();
 
+	// This is currently a global parameter
+	int shrinkingCacheMaxEntries();
+
+	// This is currently a global parameter
+	boolean reportExecutionMetrics();
+
+	// This is currently a global parameter
+	boolean triesOnVirtualThreads();
+
 	static PropertyAttributesDefaults with(
 		int tries,
 		int maxDiscardRatio,
@@ -27,7 +38,12 @@ public interface PropertyAttributesDefaults {
 		EdgeCasesMode edgeCasesMode,
 		ShrinkingMode shrinkingMode,
 		int boundedShrinkingSeconds,
-		FixedSeedMode fixedSeedMode
+		int shrinkingCacheMaxEntries,
+		FixedSeedMode fixedSeedMode,
+		int parallelism,
+		int durationSeconds,
+		boolean reportExecutionMetrics,
+		boolean triesOnVirtualThreads
 	) {
 		return new PropertyAttributesDefaults() {
 			@Override
@@ -70,10 +86,35 @@ public interface PropertyAttributesDefaults {
 				return boundedShrinkingSeconds;
 			}
 
+			@Override
+			public int shrinkingCacheMaxEntries() {
+				return shrinkingCacheMaxEntries;
+			}
+
 			@Override
 			public FixedSeedMode whenFixedSeed() {
 				return fixedSeedMode;
 			}
+
+			@Override
+			public int parallelism() {
+				return parallelism;
+			}
+
+			@Override
+			public int durationSeconds() {
+				return durationSeconds;
+			}
+
+			@Override
+			public boolean reportExecutionMetrics() {
+				return reportExecutionMetrics;
+			}
+
+			@Override
+			public boolean triesOnVirtualThreads() {
+				return triesOnVirtualThreads;
+			}
 		};
 	}
 }
@@ -13,6 +13,8 @@ public class SourceOfRandomness {
 
 	private static final Supplier<Random> RNG = ThreadLocalRandom::current;
 
+	private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+
 	private static final ThreadLocal<Random> current = ThreadLocal.withInitial(SourceOfRandomness::newRandom);
 
 	public static String createRandomSeed() {
@@ -37,10 +39,61 @@ public class SourceOfRandomness {
 		return new XORShiftRandom(seed);
 	}
 
+	/**
+	 * Create the {@code index}th of a series of independent sources of randomness derived from {@code seed}.
+	 * Any source of the series can be created directly without creating the ones before it.
+	 */
+	public static Random newRandom(final long seed, final long index) {
+		// Same stepping as in SplittableRandom. XORShiftRandom mixes the resulting seed.
+		return new XORShiftRandom(seed + index * GOLDEN_GAMMA);
+	}
+
+	/**
+	 * The source of randomness a try's lifecycle runs with,
+	 * no matter if tries are checked one after the other or concurrently.
+	 *
+	 * @param propertySeed the property's seed as returned by {@linkplain #seedAsLong(String)}
+	 * @param tryIndex     the index of the try counted from 0
+	 */
+	public static Random tryRandom(long propertySeed, int tryIndex) {
+		return newRandom(propertySeed, tryIndex);
+	}
+
+	/**
+	 * Properties with randomized generation always have a numeric seed, see {@linkplain #create(String)}.
+	 * Properties with exhaustive or data-driven generation might have no seed at all;
+	 * the randomness of their tries is derived from seed 0.
+	 *
+	 * @throws JqwikException if {@code seed} is neither empty nor a number
+	 */
+	public static long seedAsLong(String seed) {
+		if (seed == null || seed.isEmpty()) {
+			return 0L;
+		}
+		try {
+			return Long.parseLong(seed);
+		} catch (NumberFormatException nfe) {
+			throw new JqwikException(String.format("[%s] is not a valid random seed.", seed));
+		}
+	}
+
 	public static Random current() {
 		return current.get();
 	}
 
+	/**
+	 * Run code with {@code random} as the current source of randomness of this thread.
+	 */
+	public static <T> T runWithRandom(Random random, Supplier<T> code) {
+		Random previous = current.get();
+		current.set(random);
+		try {
+			return code.get();
+		} finally {
+			current.set(previous);
+		}
+	}
+
 	/**
 	 * A faster but not thread safe implementation of {@linkplain java.util.Random}.
 	 * It also has a period of 2^n - 1 and better statistical randomness.
@@ -131,10 +131,34 @@ public class PropertyConfiguration {
 	public int boundedShrinkingSeconds() {
 		return propertyAttributesDefaults.boundedShrinkingSeconds();
 	}
+
+	// This is currently a global value and not property specific
+	public int shrinkingCacheMaxEntries() {
+		return propertyAttributesDefaults.shrinkingCacheMaxEntries();
+	}
+
+	// This is currently a global value and not property specific
+	public boolean reportExecutionMetrics() {
+		return propertyAttributesDefaults.reportExecutionMetrics();
+	}
+
+	// This is currently a global value and not property specific
+	public boolean triesOnVirtualThreads() {
+		return propertyAttributesDefaults.triesOnVirtualThreads();
+	}
+
 	public FixedSeedMode getFixedSeedMode() {
 		return propertyAttributes.whenFixedSeed().orElse(propertyAttributesDefaults.whenFixedSeed());
 	}
 
+	public int getParallelism() {
+		return propertyAttributes.parallelism().orElse(propertyAttributesDefaults.parallelism());
+	}
+
+	public int getDurationSeconds() {
+		return propertyAttributes.durationSeconds().orElse(propertyAttributesDefaults.durationSeconds());
+	}
+
 	public boolean hasFixedSeed() {
 		return !getSeed().equals(Property.SEED_NOT_SET);
 	}
@@ -10,6 +10,7 @@ import net.jqwik.api.lifecycle.*;
 import net.jqwik.engine.*;
 import net.jqwik.engine.descriptor.*;
 import net.jqwik.engine.execution.lifecycle.*;
+import net.jqwik.engine.facades.*;
 import net.jqwik.engine.properties.*;
 import net.jqwik.engine.support.*;
 
@@ -64,7 +65,8 @@ public class CheckedProperty {
 		maybeWarnOnMultipleTriesWithoutForallParameters(effectiveConfiguration);
 		try {
 			Reporter reporter = propertyLifecycleContext.reporter();
-			return createGenericProperty(effectiveConfiguration).check(reporter, reporting);
+			PropertyConfiguration finalConfiguration = effectiveConfiguration;
+			return Memoize.countLookups(() -> createGenericProperty(finalConfiguration).check(reporter, reporting));
 		} catch (CannotFindArbitraryException | TooManyFilterMissesException generationFailedException) {
 			return failed(effectiveConfiguration, generationFailedException);
 		}
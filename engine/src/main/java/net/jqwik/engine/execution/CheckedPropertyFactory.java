@@ -79,18 +79,41 @@ public class CheckedPropertyFactory {
 		InvokePropertyMethodHook invokeMethod
 	) {
 		Method targetMethod = propertyLifecycleContext.targetMethod();
-		Function<List<Object>, Object> function = params -> {
+		Function<List<Object>, Object> function = invokeFunction(targetMethod, propertyLifecycleContext, invokeMethod);
+
+		return params -> {
+			Object result = function.apply(params);
+			return result == null || !Boolean.FALSE.equals(result);
+		};
+	}
+
+	private Function<List<Object>, Object> invokeFunction(
+		Method targetMethod,
+		PropertyLifecycleContext propertyLifecycleContext,
+		InvokePropertyMethodHook invokeMethod
+	) {
+		// Custom hooks must see every invocation, the default one can be replaced by a method handle
+		Optional<PropertyMethodHandle> methodHandle =
+			invokeMethod == InvokePropertyMethodHook.DEFAULT
+				? PropertyMethodHandle.forMethod(targetMethod)
+				: Optional.empty();
+		if (methodHandle.isPresent()) {
+			PropertyMethodHandle handle = methodHandle.get();
+			return params -> {
+				try {
+					return handle.invoke(propertyLifecycleContext.testInstance(), params.toArray());
+				} catch (Throwable e) {
+					return JqwikExceptionSupport.throwAsUncheckedException(e);
+				}
+			};
+		}
+		return params -> {
 			try {
 				return invokeMethod.invoke(targetMethod, propertyLifecycleContext.testInstance(), params.toArray());
 			} catch (Throwable e) {
 				return JqwikExceptionSupport.throwAsUncheckedException(e);
 			}
 		};
-
-		return params -> {
-			Object result = function.apply(params);
-			return result == null || !Boolean.FALSE.equals(result);
-		};
 	}
 
 	private List<MethodParameter> extractParameters(Method targetMethod, Class<?> containerClass) {
@@ -15,35 +15,50 @@ public class GenerationInfo implements Serializable {
 	private final String randomSeed;
 	private final int generationIndex;
 
-	// Store ordinals instead of enum objects so that serialization
-	// in jqwik.database uses less disk space
-	private final List<List<Byte>> byteSequences;
+	// Store packed ordinals instead of enum objects;
+	// the test run database writes the packed bytes to jqwik.database
+	private final List<PackedShrinkingSequence> packedSequences;
+
+	// One entry per shrinking sequence; null if the shrunk sample cannot be recreated through its path
+	private final List<ShrinkingPath> shrinkingPaths;
 
 	public GenerationInfo(String randomSeed) {
 		this(randomSeed, 0);
 	}
 
 	public GenerationInfo(String randomSeed, int generationIndex) {
-		this(randomSeed, generationIndex, Collections.emptyList());
+		this(randomSeed, generationIndex, Collections.emptyList(), Collections.emptyList());
 	}
 
-	private GenerationInfo(String randomSeed, int generationIndex, List<List<Byte>> byteSequences) {
+	private GenerationInfo(
+		String randomSeed,
+		int generationIndex,
+		List<PackedShrinkingSequence> packedSequences,
+		List<ShrinkingPath> shrinkingPaths
+	) {
 		this.randomSeed = randomSeed != null ? (randomSeed.isEmpty() ? null : randomSeed) : null;
 		this.generationIndex = generationIndex;
-		this.byteSequences = byteSequences;
+		this.packedSequences = packedSequences;
+		this.shrinkingPaths = shrinkingPaths;
 	}
 
-	private List<Byte> toByteSequence(List<TryExecutionResult.Status> shrinkingSequence) {
-		return shrinkingSequence.stream().map(status -> (byte) status.ordinal()).collect(Collectors.toList());
+	public GenerationInfo appendShrinkingSequence(List<TryExecutionResult.Status> toAppend) {
+		return appendShrinkingSequence(toAppend, Optional.empty());
 	}
 
-	public GenerationInfo appendShrinkingSequence(List<TryExecutionResult.Status> toAppend) {
+	/**
+	 * @param shrinkingPath the path to the sample shrunk by {@code toAppend}.
+	 *                      If present, recreating the sample replays only this path instead of the whole sequence.
+	 */
+	public GenerationInfo appendShrinkingSequence(List<TryExecutionResult.Status> toAppend, Optional<ShrinkingPath> shrinkingPath) {
 		if (toAppend.isEmpty()) {
 			return this;
 		}
-		List<List<Byte>> newByteSequences = new ArrayList<>(byteSequences);
-		newByteSequences.add(toByteSequence(toAppend));
-		return new GenerationInfo(randomSeed, generationIndex, newByteSequences);
+		List<PackedShrinkingSequence> newPackedSequences = new ArrayList<>(packedSequences);
+		newPackedSequences.add(PackedShrinkingSequence.of(toAppend));
+		List<ShrinkingPath> newShrinkingPaths = new ArrayList<>(shrinkingPaths);
+		newShrinkingPaths.add(shrinkingPath.orElse(null));
+		return new GenerationInfo(randomSeed, generationIndex, newPackedSequences, newShrinkingPaths);
 	}
 
 	public Optional<String> randomSeed() {
@@ -61,43 +76,46 @@ public class GenerationInfo implements Serializable {
 
 	private Optional<List<Shrinkable<Object>>> useShrinkingSequences(List<Shrinkable<Object>> sample) {
 		Optional<List<Shrinkable<Object>>> shrunkSample = Optional.ofNullable(sample);
-		for (List<TryExecutionResult.Status> shrinkingSequence : shrinkingSequences()) {
+		for (int i = 0; i < packedSequences.size(); i++) {
 			if (!shrunkSample.isPresent()) {
 				break;
 			}
-			shrunkSample = shrink(shrunkSample.get(), shrinkingSequence);
+			shrunkSample = shrink(shrunkSample.get(), packedSequences.get(i), shrinkingPaths.get(i));
 		}
 		return shrunkSample;
 	}
 
 	private Optional<List<Shrinkable<Object>>> shrink(
 		List<Shrinkable<Object>> sample,
-		List<TryExecutionResult.Status> shrinkingSequence
+		List<TryExecutionResult.Status> shrinkingSequence,
+		ShrinkingPath shrinkingPath
 	) {
+		if (shrinkingPath != null) {
+			return shrinkingPath.replayOn(sample);
+		}
 		ShrunkSampleRecreator recreator = new ShrunkSampleRecreator(sample);
 		return recreator.recreateFrom(shrinkingSequence);
 	}
 
 	private List<Shrinkable<Object>> useGenerationIndex(ParametersGenerator generator, TryLifecycleContext context) {
-		List<Shrinkable<Object>> sample = null;
-		for (int i = 0; i < generationIndex; i++) {
-			if (generator.hasNext()) {
-				sample = generator.next(context);
-			} else {
-				return null;
-			}
+		if (generationIndex <= 0) {
+			return null;
+		}
+		if (!generator.skip(generationIndex - 1, context) || !generator.hasNext()) {
+			return null;
 		}
-		return sample;
+		return generator.next(context);
 	}
 
 	public List<List<TryExecutionResult.Status>> shrinkingSequences() {
-		return byteSequences.stream()
-							.map(this::toShrinkingSequence)
-							.collect(Collectors.toList());
+		return Collections.unmodifiableList(packedSequences);
 	}
 
-	private List<TryExecutionResult.Status> toShrinkingSequence(List<Byte> sequence) {
-		return sequence.stream().map(ordinal -> TryExecutionResult.Status.values()[ordinal]).collect(Collectors.toList());
+	/**
+	 * @return for each shrinking sequence the path to its shrunk sample if there is one
+	 */
+	public List<Optional<ShrinkingPath>> shrinkingPaths() {
+		return shrinkingPaths.stream().map(Optional::ofNullable).collect(Collectors.toList());
 	}
 
 	@Override
@@ -108,7 +126,8 @@ public class GenerationInfo implements Serializable {
 		GenerationInfo that = (GenerationInfo) o;
 		if (generationIndex != that.generationIndex) return false;
 		if (!Objects.equals(randomSeed, that.randomSeed)) return false;
-		return byteSequences.equals(that.byteSequences);
+		if (!packedSequences.equals(that.packedSequences)) return false;
+		return shrinkingPaths.equals(that.shrinkingPaths);
 	}
 
 	@Override
@@ -120,7 +139,7 @@ public class GenerationInfo implements Serializable {
 
 	@Override
 	public String toString() {
-		List<String> sizes = byteSequences.stream().map(bytes -> "size=" + bytes.size()).collect(Collectors.toList());
+		List<String> sizes = packedSequences.stream().map(sequence -> "size=" + sequence.size()).collect(Collectors.toList());
 		Tuple.Tuple3<String, Integer, List<String>> tuple = Tuple.of(randomSeed, generationIndex, sizes);
 		return String.format("GenerationInfo%s", tuple);
 	}
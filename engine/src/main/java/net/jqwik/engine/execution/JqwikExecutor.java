@@ -17,6 +17,8 @@ public class JqwikExecutor {
 	private final Set<UniqueId> previousFailedTests;
 	private final boolean useJunitPlatformReporter;
 	private final boolean reportOnlyFailures;
+	private final int parallelism;
+	private final boolean useVirtualThreads;
 	private final PropertyTaskCreator propertyTaskCreator = new PropertyTaskCreator();
 	private final ContainerTaskCreator containerTaskCreator = new ContainerTaskCreator();
 	private final ExecutionTaskCreator childTaskCreator = this::createTask;
@@ -29,17 +31,37 @@ public class JqwikExecutor {
 		Set<UniqueId> previousFailedTests,
 		boolean useJunitPlatformReporter,
 		boolean reportOnlyFailures
+	) {
+		this(registry, recorder, previousFailedTests, useJunitPlatformReporter, reportOnlyFailures, 1, false);
+	}
+
+	public JqwikExecutor(
+		LifecycleHooksRegistry registry,
+		TestRunRecorder recorder,
+		Set<UniqueId> previousFailedTests,
+		boolean useJunitPlatformReporter,
+		boolean reportOnlyFailures,
+		int parallelism,
+		boolean useVirtualThreads
 	) {
 		this.registry = registry;
 		this.recorder = recorder;
 		this.previousFailedTests = previousFailedTests;
 		this.useJunitPlatformReporter = useJunitPlatformReporter;
 		this.reportOnlyFailures = reportOnlyFailures;
+		this.parallelism = parallelism;
+		this.useVirtualThreads = useVirtualThreads;
 	}
 
 	public void execute(TestDescriptor descriptor, EngineExecutionListener engineExecutionListener) {
 		PropertyExecutionListener recordingListener = new RecordingExecutionListener(recorder, engineExecutionListener, useJunitPlatformReporter);
-		ExecutionPipeline pipeline = new ExecutionPipeline(recordingListener);
+		ExecutionPipeline pipeline;
+		if (parallelism > 1) {
+			recordingListener = new SynchronizedExecutionListener(recordingListener);
+			pipeline = new ConcurrentExecutionPipeline(recordingListener, parallelism, useVirtualThreads);
+		} else {
+			pipeline = new ExecutionPipeline(recordingListener);
+		}
 		ExecutionTask mainTask = createTask(descriptor, pipeline, recordingListener);
 		pipeline.submit(mainTask);
 		letNonSuccessfulTestsExecuteFirst(pipeline);
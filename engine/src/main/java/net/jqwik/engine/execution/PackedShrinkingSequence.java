@@ -0,0 +1,103 @@
+package net.jqwik.engine.execution;
+
+import java.io.*;
+import java.util.*;
+
+import net.jqwik.api.lifecycle.*;
+
+/**
+ * An immutable shrinking sequence that stores each status in two bits
+ * instead of a boxed ordinal.
+ * The packed bytes are also the format in which the test run database stores a sequence.
+ */
+public final class PackedShrinkingSequence extends AbstractList<TryExecutionResult.Status> implements RandomAccess, Serializable {
+
+	private static final int BITS_PER_STATUS = 2;
+	private static final int STATUSES_PER_BYTE = Byte.SIZE / BITS_PER_STATUS;
+	private static final int STATUS_MASK = (1 << BITS_PER_STATUS) - 1;
+
+	private static final TryExecutionResult.Status[] STATUSES = TryExecutionResult.Status.values();
+
+	private final int size;
+	private final byte[] packed;
+
+	public static PackedShrinkingSequence of(List<TryExecutionResult.Status> statuses) {
+		if (statuses instanceof PackedShrinkingSequence) {
+			return (PackedShrinkingSequence) statuses;
+		}
+		byte[] packed = new byte[countBytes(statuses.size())];
+		int index = 0;
+		for (TryExecutionResult.Status status : statuses) {
+			packed[index / STATUSES_PER_BYTE] |= status.ordinal() << shift(index);
+			index++;
+		}
+		return new PackedShrinkingSequence(statuses.size(), packed);
+	}
+
+	/**
+	 * @param size   the number of statuses in the sequence
+	 * @param packed bytes as returned by {@linkplain #toBytes()}
+	 * @throws IllegalArgumentException if {@code packed} does not describe a sequence of {@code size} statuses
+	 */
+	public static PackedShrinkingSequence fromBytes(int size, byte[] packed) {
+		if (size < 0 || packed.length != countBytes(size)) {
+			throw new IllegalArgumentException(String.format("%d bytes cannot hold %d statuses", packed.length, size));
+		}
+		PackedShrinkingSequence sequence = new PackedShrinkingSequence(size, packed.clone());
+		for (int index = 0; index < STATUSES_PER_BYTE * packed.length; index++) {
+			int ordinal = (packed[index / STATUSES_PER_BYTE] >>> shift(index)) & STATUS_MASK;
+			boolean unused = index >= size;
+			if (unused ? ordinal != 0 : ordinal >= STATUSES.length) {
+				throw new IllegalArgumentException(String.format("Invalid status ordinal %d at index %d", ordinal, index));
+			}
+		}
+		return sequence;
+	}
+
+	/**
+	 * @return the number of bytes needed to store {@code size} statuses
+	 */
+	public static int countBytes(int size) {
+		return (int) ((size + (long) STATUSES_PER_BYTE - 1) / STATUSES_PER_BYTE);
+	}
+
+	private static int shift(int index) {
+		return (index % STATUSES_PER_BYTE) * BITS_PER_STATUS;
+	}
+
+	private PackedShrinkingSequence(int size, byte[] packed) {
+		this.size = size;
+		this.packed = packed;
+	}
+
+	@Override
+	public TryExecutionResult.Status get(int index) {
+		if (index < 0 || index >= size) {
+			throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+		}
+		return STATUSES[(packed[index / STATUSES_PER_BYTE] >>> shift(index)) & STATUS_MASK];
+	}
+
+	@Override
+	public int size() {
+		return size;
+	}
+
+	public byte[] toBytes() {
+		return packed.clone();
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (o instanceof PackedShrinkingSequence) {
+			PackedShrinkingSequence other = (PackedShrinkingSequence) o;
+			return size == other.size && Arrays.equals(packed, other.packed);
+		}
+		return super.equals(o);
+	}
+
+	@Override
+	public int hashCode() {
+		return super.hashCode();
+	}
+}
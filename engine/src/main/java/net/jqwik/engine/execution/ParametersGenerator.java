@@ -18,4 +18,29 @@ public interface ParametersGenerator {
 	GenerationInfo generationInfo(String randomSeed);
 
 	void reset();
+
+	/**
+	 * Skip the next {@code count} sets of parameters, which is usually much faster than generating them.
+	 *
+	 * @return false if there were fewer than {@code count} sets of parameters
+	 */
+	default boolean skip(int count, TryLifecycleContext context) {
+		for (int i = 0; i < count; i++) {
+			if (!hasNext()) {
+				return false;
+			}
+			next(context);
+		}
+		return true;
+	}
+
+	/**
+	 * Split the sets of parameters that have not been generated yet into consecutive ranges of tries,
+	 * each of which can be generated independently of and concurrently with the others.
+	 *
+	 * @return a list with just this generator if parameters cannot be generated independently
+	 */
+	default List<ParametersGenerator> partition(int numberOfParts) {
+		return Collections.singletonList(this);
+	}
 }
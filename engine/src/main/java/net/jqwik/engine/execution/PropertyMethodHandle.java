@@ -0,0 +1,53 @@
+package net.jqwik.engine.execution;
+
+import java.lang.invoke.*;
+import java.lang.reflect.*;
+import java.util.*;
+import java.util.logging.*;
+
+/**
+ * Invokes a property method through a method handle that is created once per property.
+ * This avoids the overhead of reflective invocation for every try.
+ */
+class PropertyMethodHandle {
+
+	private static final Logger LOG = Logger.getLogger(PropertyMethodHandle.class.getName());
+
+	// Takes the target and the arguments as array
+	private final MethodHandle handle;
+
+	/**
+	 * @return empty if the method cannot be accessed through a method handle, e.g. due to module restrictions
+	 */
+	static Optional<PropertyMethodHandle> forMethod(Method method) {
+		try {
+			method.setAccessible(true);
+			// Varargs parameters are passed as arrays like in reflective invocation
+			MethodHandle handle = MethodHandles.lookup().unreflect(method).asFixedArity();
+			if (Modifier.isStatic(method.getModifiers())) {
+				// Static methods ignore their target
+				handle = MethodHandles.dropArguments(handle, 0, Object.class);
+			}
+			int countParameters = method.getParameterCount();
+			MethodHandle spreadingHandle = handle
+											   .asType(MethodType.genericMethodType(countParameters + 1))
+											   .asSpreader(Object[].class, countParameters);
+			return Optional.of(new PropertyMethodHandle(spreadingHandle));
+		} catch (RuntimeException | IllegalAccessException exception) {
+			String message = String.format(
+				"Cannot create method handle for %s. Falling back to reflective invocation: %s",
+				method, exception
+			);
+			LOG.fine(message);
+			return Optional.empty();
+		}
+	}
+
+	private PropertyMethodHandle(MethodHandle handle) {
+		this.handle = handle;
+	}
+
+	Object invoke(Object target, Object[] args) throws Throwable {
+		return (Object) handle.invokeExact(target, args);
+	}
+}
@@ -11,18 +11,35 @@ import net.jqwik.engine.support.*;
 public class ResolvingParametersGenerator implements ParametersGenerator {
 	private final List<MethodParameter> propertyParameters;
 	private final ForAllParametersGenerator forAllParametersGenerator;
+	private final ResolveParameterHook resolveParameterHook;
+	private final PropertyLifecycleContext propertyLifecycleContext;
 	private final ParameterSupplierResolver parameterSupplierResolver;
-	private int currentGenerationIndex = 0;
+	private final int firstGenerationIndex;
+	private int currentGenerationIndex;
 
 	public ResolvingParametersGenerator(
 		List<MethodParameter> propertyParameters,
 		ForAllParametersGenerator forAllParametersGenerator,
 		ResolveParameterHook resolveParameterHook,
 		PropertyLifecycleContext propertyLifecycleContext
+	) {
+		this(propertyParameters, forAllParametersGenerator, resolveParameterHook, propertyLifecycleContext, 0);
+	}
+
+	private ResolvingParametersGenerator(
+		List<MethodParameter> propertyParameters,
+		ForAllParametersGenerator forAllParametersGenerator,
+		ResolveParameterHook resolveParameterHook,
+		PropertyLifecycleContext propertyLifecycleContext,
+		int firstGenerationIndex
 	) {
 		this.propertyParameters = propertyParameters;
 		this.forAllParametersGenerator = forAllParametersGenerator;
+		this.resolveParameterHook = resolveParameterHook;
+		this.propertyLifecycleContext = propertyLifecycleContext;
 		this.parameterSupplierResolver = new ParameterSupplierResolver(resolveParameterHook, propertyLifecycleContext);
+		this.firstGenerationIndex = firstGenerationIndex;
+		this.currentGenerationIndex = firstGenerationIndex;
 	}
 
 	@Override
@@ -48,6 +65,41 @@ public class ResolvingParametersGenerator implements ParametersGenerator {
 		return next;
 	}
 
+	@Override
+	public boolean skip(int count, TryLifecycleContext context) {
+		// Parameters that are not generated do not have to be resolved for skipped tries
+		if (!forAllParametersGenerator.skip(count)) {
+			return false;
+		}
+		currentGenerationIndex += count;
+		return true;
+	}
+
+	/**
+	 * Only exhaustive generation with generators that support access by index can be partitioned.
+	 * Each part counts its generation index from the start of the whole property
+	 * and resolves parameters on its own, since parts are used concurrently.
+	 */
+	@Override
+	public List<ParametersGenerator> partition(int numberOfParts) {
+		if (!(forAllParametersGenerator instanceof ExhaustiveShrinkablesGenerator)) {
+			return Collections.singletonList(this);
+		}
+		List<ExhaustiveShrinkablesGenerator> parts = ((ExhaustiveShrinkablesGenerator) forAllParametersGenerator).partition(numberOfParts);
+		if (parts.size() <= 1) {
+			return Collections.singletonList(this);
+		}
+		List<ParametersGenerator> partitions = new ArrayList<>();
+		int partGenerationIndex = currentGenerationIndex;
+		for (ExhaustiveShrinkablesGenerator part : parts) {
+			partitions.add(new ResolvingParametersGenerator(
+				propertyParameters, part, resolveParameterHook, propertyLifecycleContext, partGenerationIndex
+			));
+			partGenerationIndex += Math.toIntExact(part.maxCount());
+		}
+		return partitions;
+	}
+
 	@Override
 	public int edgeCasesTotal() {
 		return forAllParametersGenerator.edgeCasesTotal();
@@ -75,7 +127,7 @@ public class ResolvingParametersGenerator implements ParametersGenerator {
 
 	@Override
 	public void reset() {
-		currentGenerationIndex = 0;
+		currentGenerationIndex = firstGenerationIndex;
 		forAllParametersGenerator.reset();
 	}
 }
@@ -58,6 +58,7 @@ public class HookSupport {
 		if (skipExecutionHooks.isEmpty()) {
 			return SkipExecutionHook.DO_NOT_SKIP;
 		}
+		skipExecutionHooks = new ArrayList<>(skipExecutionHooks);
 		SkipExecutionHook first = skipExecutionHooks.remove(0);
 		return then(first, combineSkipExecutionHooks(skipExecutionHooks));
 	}
@@ -20,6 +20,7 @@ public class JqwikLifecycleRegistrator {
 	public void registerLifecycleHooks(TestDescriptor rootDescriptor) {
 		registerGlobalHooks(rootDescriptor);
 		register(rootDescriptor);
+		lifecycleRegistry.buildIndex(rootDescriptor);
 	}
 
 	private void registerGlobalHooks(TestDescriptor rootDescriptor) {
@@ -25,43 +25,61 @@ public class LifecycleHooksRegistry implements LifecycleHooksSupplier {
 		return (a, b) -> 0;
 	}
 
-	private final List<HookRegistration> registrations = new ArrayList<>();
+	// All hook types that are looked up, together with the order in which their hooks are applied
+	private static final Map<Class<? extends LifecycleHook>, Comparator<? extends LifecycleHook>> INDEXED_HOOK_TYPES = new LinkedHashMap<>();
+
+	static {
+		INDEXED_HOOK_TYPES.put(AroundPropertyHook.class, (Comparator<AroundPropertyHook>) AroundPropertyHook::compareTo);
+		INDEXED_HOOK_TYPES.put(AroundTryHook.class, (Comparator<AroundTryHook>) AroundTryHook::compareTo);
+		INDEXED_HOOK_TYPES.put(BeforeContainerHook.class, (Comparator<BeforeContainerHook>) BeforeContainerHook::compareTo);
+		INDEXED_HOOK_TYPES.put(AfterContainerHook.class, (Comparator<AfterContainerHook>) AfterContainerHook::compareTo);
+		INDEXED_HOOK_TYPES.put(ResolveParameterHook.class, dontCompare());
+		INDEXED_HOOK_TYPES.put(SkipExecutionHook.class, dontCompare());
+		INDEXED_HOOK_TYPES.put(InvokePropertyMethodHook.class, dontCompare());
+		INDEXED_HOOK_TYPES.put(ProvidePropertyInstanceHook.class, dontCompare());
+		INDEXED_HOOK_TYPES.put(LifecycleHook.class, dontCompare());
+	}
+
+	private final Set<HookRegistration> registrations = new LinkedHashSet<>();
 	private final Map<Class<? extends LifecycleHook>, LifecycleHook> instances = new LinkedHashMap<>();
 	private final Set<Tuple2<TestDescriptor, Class<? extends RegistrarHook>>> appliedRegistrars = new HashSet<>();
 
+	// Applicable and sorted hooks per descriptor and hook type. Built once after all hooks have been registered.
+	private volatile Map<TestDescriptor, Map<Class<? extends LifecycleHook>, List<? extends LifecycleHook>>> hookIndex = null;
+
 	@Override
 	public AroundPropertyHook aroundPropertyHook(PropertyMethodDescriptor propertyMethodDescriptor) {
-		List<AroundPropertyHook> aroundPropertyHooks = findHooks(propertyMethodDescriptor, AroundPropertyHook.class, AroundPropertyHook::compareTo);
+		List<AroundPropertyHook> aroundPropertyHooks = findHooks(propertyMethodDescriptor, AroundPropertyHook.class);
 		return HookSupport.combineAroundPropertyHooks(aroundPropertyHooks);
 	}
 
 	@Override
 	public AroundTryHook aroundTryHook(PropertyMethodDescriptor propertyMethodDescriptor) {
-		List<AroundTryHook> aroundTryHooks = findHooks(propertyMethodDescriptor, AroundTryHook.class, AroundTryHook::compareTo);
+		List<AroundTryHook> aroundTryHooks = findHooks(propertyMethodDescriptor, AroundTryHook.class);
 		return HookSupport.combineAroundTryHooks(aroundTryHooks);
 	}
 
 	@Override
 	public BeforeContainerHook beforeContainerHook(TestDescriptor descriptor) {
-		List<BeforeContainerHook> beforeContainerHooks = findHooks(descriptor, BeforeContainerHook.class, BeforeContainerHook::compareTo);
+		List<BeforeContainerHook> beforeContainerHooks = findHooks(descriptor, BeforeContainerHook.class);
 		return HookSupport.combineBeforeContainerHooks(beforeContainerHooks);
 	}
 
 	@Override
 	public AfterContainerHook afterContainerHook(TestDescriptor descriptor) {
-		List<AfterContainerHook> afterContainerHooks = findHooks(descriptor, AfterContainerHook.class, AfterContainerHook::compareTo);
+		List<AfterContainerHook> afterContainerHooks = findHooks(descriptor, AfterContainerHook.class);
 		return HookSupport.combineAfterContainerHooks(afterContainerHooks);
 	}
 
 	@Override
 	public ResolveParameterHook resolveParameterHook(TestDescriptor descriptor) {
-		List<ResolveParameterHook> resolveParameterHooks = findHooks(descriptor, ResolveParameterHook.class, dontCompare());
+		List<ResolveParameterHook> resolveParameterHooks = findHooks(descriptor, ResolveParameterHook.class);
 		return HookSupport.combineResolveParameterHooks(resolveParameterHooks);
 	}
 
 	@Override
 	public SkipExecutionHook skipExecutionHook(TestDescriptor testDescriptor) {
-		List<SkipExecutionHook> skipExecutionHooks = findHooks(testDescriptor, SkipExecutionHook.class, dontCompare());
+		List<SkipExecutionHook> skipExecutionHooks = findHooks(testDescriptor, SkipExecutionHook.class);
 		return HookSupport.combineSkipExecutionHooks(skipExecutionHooks);
 	}
 
@@ -76,7 +94,7 @@ public class LifecycleHooksRegistry implements LifecycleHooksSupplier {
 	}
 
 	private <T extends LifecycleHook> T getSingletonHook(TestDescriptor testDescriptor, Class<T> hookType, T defaultHook) {
-		List<T> invokeMethodHooks = findHooks(testDescriptor, hookType, dontCompare());
+		List<T> invokeMethodHooks = findHooks(testDescriptor, hookType);
 		if (invokeMethodHooks.isEmpty()) {
 			return defaultHook;
 		}
@@ -94,11 +112,75 @@ public class LifecycleHooksRegistry implements LifecycleHooksSupplier {
 		return hookToApply;
 	}
 
-	private <T extends LifecycleHook> List<T> findHooks(TestDescriptor descriptor, Class<T> hookType, Comparator<T> comparator) {
+	/**
+	 * Index the applicable hooks of all descriptors below {@code rootDescriptor}.
+	 * Must be called after all hooks have been registered.
+	 */
+	public void buildIndex(TestDescriptor rootDescriptor) {
+		Map<TestDescriptor, List<HookRegistration>> registrationsByDescriptor =
+			registrations.stream().collect(Collectors.groupingBy(registration -> registration.descriptor));
+		Map<TestDescriptor, Map<Class<? extends LifecycleHook>, List<? extends LifecycleHook>>> index = new HashMap<>();
+		indexDescriptor(rootDescriptor, Collections.emptyList(), registrationsByDescriptor, index);
+		hookIndex = index;
+	}
+
+	private void indexDescriptor(
+		TestDescriptor descriptor,
+		List<HookRegistration> propagatedRegistrations,
+		Map<TestDescriptor, List<HookRegistration>> registrationsByDescriptor,
+		Map<TestDescriptor, Map<Class<? extends LifecycleHook>, List<? extends LifecycleHook>>> index
+	) {
+		List<HookRegistration> ownRegistrations = registrationsByDescriptor.getOrDefault(descriptor, Collections.emptyList());
+		List<HookRegistration> applicableRegistrations = new ArrayList<>(propagatedRegistrations);
+		applicableRegistrations.addAll(ownRegistrations);
+		applicableRegistrations.sort(Comparator.comparingInt(registration -> registration.sequence));
+
+		List<Class<? extends LifecycleHook>> hookClasses =
+			applicableRegistrations.stream()
+								   .<Class<? extends LifecycleHook>>map(registration -> registration.hookClass)
+								   .distinct()
+								   .collect(Collectors.toList());
+		Map<Class<? extends LifecycleHook>, List<? extends LifecycleHook>> hooksByType = new HashMap<>();
+		INDEXED_HOOK_TYPES.keySet().forEach(
+			hookType -> hooksByType.put(hookType, Collections.unmodifiableList(applicableHooks(descriptor, hookClasses, hookType)))
+		);
+		index.put(descriptor, hooksByType);
+
+		List<HookRegistration> propagatedToChildren = new ArrayList<>();
+		propagatedRegistrations.stream()
+							   .filter(registration -> registration.propagationMode == ALL_DESCENDANTS)
+							   .forEach(propagatedToChildren::add);
+		ownRegistrations.stream()
+						.filter(registration -> registration.propagationMode != NO_DESCENDANTS)
+						.forEach(propagatedToChildren::add);
+		for (TestDescriptor child : descriptor.getChildren()) {
+			indexDescriptor(child, propagatedToChildren, registrationsByDescriptor, index);
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private <T extends LifecycleHook> List<T> findHooks(TestDescriptor descriptor, Class<T> hookType) {
+		Map<TestDescriptor, Map<Class<? extends LifecycleHook>, List<? extends LifecycleHook>>> index = hookIndex;
+		Map<Class<? extends LifecycleHook>, List<? extends LifecycleHook>> hooksByType = index != null ? index.get(descriptor) : null;
+		if (hooksByType != null && hooksByType.containsKey(hookType)) {
+			return (List<T>) hooksByType.get(hookType);
+		}
+		// Descriptors outside the indexed tree, e.g. in tests or sessions
 		List<Class<T>> hookClasses = findHookClasses(descriptor, hookType);
+		return applicableHooks(descriptor, hookClasses, hookType);
+	}
+
+	@SuppressWarnings("unchecked")
+	private <T extends LifecycleHook> List<T> applicableHooks(
+		TestDescriptor descriptor,
+		List<? extends Class<? extends LifecycleHook>> hookClasses,
+		Class<T> hookType
+	) {
+		Comparator<T> comparator = (Comparator<T>) INDEXED_HOOK_TYPES.getOrDefault(hookType, dontCompare());
 		return hookClasses
 			.stream()
-			.map(this::getHook)
+			.filter(hookType::isAssignableFrom)
+			.map(hookClass -> (T) getHook(hookClass))
 			.filter(hook -> hookAppliesTo(hook, descriptor))
 			.sorted(comparator)
 			.collect(Collectors.toList());
@@ -121,7 +203,7 @@ public class LifecycleHooksRegistry implements LifecycleHooksSupplier {
 	 * For testing only
 	 */
 	public <T extends LifecycleHook> boolean hasHook(TestDescriptor descriptor, Class<T> concreteHook) {
-		List<LifecycleHook> hooks = findHooks(descriptor, LifecycleHook.class, dontCompare());
+		List<LifecycleHook> hooks = findHooks(descriptor, LifecycleHook.class);
 		return hooks.stream().anyMatch(hook -> hook.getClass().equals(concreteHook));
 	}
 
@@ -158,9 +240,10 @@ public class LifecycleHooksRegistry implements LifecycleHooksSupplier {
 		Class<? extends LifecycleHook> hookClass,
 		PropagationMode propagateTo
 	) {
-		HookRegistration registration = new HookRegistration(descriptor, hookClass, propagateTo);
-		if (!registrations.contains(registration)) {
-			registrations.add(registration);
+		HookRegistration registration = new HookRegistration(descriptor, hookClass, propagateTo, registrations.size());
+		if (registrations.add(registration)) {
+			// Hooks registered after the index has been built must not be missed
+			hookIndex = null;
 		}
 	}
 
@@ -219,11 +302,14 @@ public class LifecycleHooksRegistry implements LifecycleHooksSupplier {
 		private final TestDescriptor descriptor;
 		private final Class<? extends LifecycleHook> hookClass;
 		private final PropagationMode propagationMode;
+		// Order of registration, which determines the order of hooks that are not explicitly ordered
+		private final int sequence;
 
 		private HookRegistration(
 			TestDescriptor descriptor,
 			Class<? extends LifecycleHook> hookClass,
-			PropagationMode propagationMode
+			PropagationMode propagationMode,
+			int sequence
 		) {
 			if (propagationMode == NOT_SET) {
 				throw new IllegalArgumentException("propagation mode must be set by caller");
@@ -231,6 +317,7 @@ public class LifecycleHooksRegistry implements LifecycleHooksSupplier {
 			this.descriptor = descriptor;
 			this.hookClass = hookClass;
 			this.propagationMode = propagationMode;
+			this.sequence = sequence;
 		}
 
 		boolean match(TestDescriptor descriptor) {
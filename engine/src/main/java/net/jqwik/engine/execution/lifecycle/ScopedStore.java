@@ -1,15 +1,22 @@
 package net.jqwik.engine.execution.lifecycle;
 
+import java.util.*;
 import java.util.function.*;
 import java.util.logging.*;
 
 import org.junit.platform.engine.*;
 
 import net.jqwik.api.lifecycle.*;
+import net.jqwik.engine.descriptor.*;
 import net.jqwik.engine.support.*;
 
 import static net.jqwik.engine.support.JqwikStringSupport.*;
 
+/**
+ * Stores with lifespan {@linkplain Lifespan#PROPERTY} or {@linkplain Lifespan#TRY} keep a separate value
+ * for each property in their scope, so that properties which run concurrently do not share or reset each other's values.
+ * Code that runs outside of a property - e.g. in container hooks - uses a single shared value.
+ */
 public class ScopedStore<T> implements Store<T> {
 
 	private static final Logger LOG = Logger.getLogger(ScopedStore.class.getName());
@@ -19,6 +26,8 @@ public class ScopedStore<T> implements Store<T> {
 	private final TestDescriptor scope;
 	private final Supplier<T> initialValueSupplier;
 
+	private final StoreValues<TestDescriptor> valuesByProperty = new StoreValues<>();
+
 	private T value;
 	private boolean initialized = false;
 
@@ -35,7 +44,19 @@ public class ScopedStore<T> implements Store<T> {
 	}
 
 	@Override
-	public synchronized T get() {
+	public T get() {
+		Optional<TryStores> tryStores = currentTryStores();
+		if (tryStores.isPresent()) {
+			return tryStores.get().get(this, initialValueSupplier);
+		}
+		Optional<TestDescriptor> property = currentProperty();
+		if (property.isPresent()) {
+			return valuesByProperty.get(property.get(), initialValueSupplier, this::closeValue);
+		}
+		return getShared();
+	}
+
+	private synchronized T getShared() {
 		if (!initialized) {
 			value = initialValueSupplier.get();
 			initialized = true;
@@ -49,19 +70,75 @@ public class ScopedStore<T> implements Store<T> {
 	}
 
 	@Override
-	public synchronized void update(Function<T, T> updater) {
-		value = updater.apply(get());
+	public void update(Function<T, T> updater) {
+		Optional<TryStores> tryStores = currentTryStores();
+		if (tryStores.isPresent()) {
+			tryStores.get().update(this, initialValueSupplier, updater);
+			return;
+		}
+		Optional<TestDescriptor> property = currentProperty();
+		if (property.isPresent()) {
+			valuesByProperty.update(property.get(), initialValueSupplier, updater, this::closeValue);
+			return;
+		}
+		updateShared(updater);
+	}
+
+	private synchronized void updateShared(Function<T, T> updater) {
+		value = updater.apply(getShared());
 	}
 
 	@Override
-	public synchronized void reset() {
-		close();
+	public void reset() {
+		Optional<TryStores> tryStores = currentTryStores();
+		if (tryStores.isPresent()) {
+			tryStores.get().reset(this);
+			return;
+		}
+		Optional<TestDescriptor> property = currentProperty();
+		if (property.isPresent()) {
+			valuesByProperty.reset(property.get(), this::closeValue);
+			return;
+		}
+		resetShared();
+	}
+
+	/**
+	 * Reset the value that {@code finishedScope} has been using and the shared value.
+	 * Values of other properties stay untouched.
+	 */
+	void resetFor(TestDescriptor finishedScope) {
+		valuesByProperty.reset(finishedScope, this::closeValue);
+		resetShared();
+	}
+
+	private synchronized void resetShared() {
+		closeShared();
 		initialized = false;
 
 		// Free memory as soon as possible, the store object might go live on for a while:
 		value = null;
 	}
 
+	// Concurrently checked tries have their own values of try stores
+	private Optional<TryStores> currentTryStores() {
+		if (lifespan != Lifespan.TRY) {
+			return Optional.empty();
+		}
+		return TryStores.current();
+	}
+
+	private Optional<TestDescriptor> currentProperty() {
+		if (lifespan == Lifespan.RUN || CurrentTestDescriptor.isEmpty()) {
+			return Optional.empty();
+		}
+		TestDescriptor current = CurrentTestDescriptor.get();
+		if (current instanceof PropertyMethodDescriptor && isVisibleFor(current)) {
+			return Optional.of(current);
+		}
+		return Optional.empty();
+	}
+
 	public Object getIdentifier() {
 		return identifier;
 	}
@@ -93,13 +170,18 @@ public class ScopedStore<T> implements Store<T> {
 	}
 
 	public void close() {
+		valuesByProperty.keys().forEach(property -> valuesByProperty.reset(property, this::closeValue));
+		closeShared();
+	}
+
+	private synchronized void closeShared() {
 		if (!initialized) {
 			return;
 		}
-		closeOnReset();
+		closeValue(value);
 	}
 
-	private void closeOnReset() {
+	void closeValue(Object value) {
 		if (value instanceof Store.CloseOnReset) {
 			try {
 				((Store.CloseOnReset) value).close();
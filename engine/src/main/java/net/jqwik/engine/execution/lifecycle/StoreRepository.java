@@ -10,7 +10,10 @@ import net.jqwik.api.*;
 import net.jqwik.api.lifecycle.*;
 
 /**
- * StoreRepository and ScopedStore CANNOT handle concurrent execution of properties!
+ * StoreRepository and ScopedStore can handle concurrent access to stores.
+ * Stores with lifespan PROPERTY or TRY keep their values per running property,
+ * so that finishing a property or one of its tries does not reset the values of other properties.
+ * Concurrently checked tries of a single property get their own values of TRY stores through {@linkplain TryStores}.
  */
 public class StoreRepository {
 
@@ -29,7 +32,7 @@ public class StoreRepository {
 
 	private final Map<Object, IdentifiedStores> storesByIdentifier = new LinkedHashMap<>();
 
-	public <T> ScopedStore<T> create(
+	public synchronized <T> ScopedStore<T> create(
 		TestDescriptor scope,
 		Object identifier,
 		Lifespan lifespan,
@@ -80,7 +83,7 @@ public class StoreRepository {
 		return store.isVisibleFor(newStore.getScope()) || newStore.isVisibleFor(store.getScope());
 	}
 
-	public <T> Optional<ScopedStore<T>> get(TestDescriptor retriever, Object identifier) {
+	public synchronized <T> Optional<ScopedStore<T>> get(TestDescriptor retriever, Object identifier) {
 		if (identifier == null) {
 			throw new IllegalArgumentException("identifier must not be null");
 		}
@@ -103,16 +106,21 @@ public class StoreRepository {
 	}
 
 	public void finishScope(TestDescriptor scope) {
-		List<ScopedStore<?>> storesToRemove =
-			streamAllStores()
-				.filter(store -> isStoreIn(store, scope))
-				.collect(Collectors.toList());
-
-		// forEach does not work because map underlying the stream is changed
-		for (ScopedStore<?> store : storesToRemove) {
-			store.close();
-			removeStore(store);
+		List<ScopedStore<?>> storesToRemove;
+		synchronized (this) {
+			storesToRemove =
+				streamAllStores()
+					.filter(store -> isStoreIn(store, scope))
+					.collect(Collectors.toList());
+
+			// forEach does not work because map underlying the stream is changed
+			for (ScopedStore<?> store : storesToRemove) {
+				removeStore(store);
+			}
 		}
+
+		// Closing can run user code, which is why it happens outside the lock
+		storesToRemove.forEach(ScopedStore::close);
 	}
 
 	private void removeStore(ScopedStore<?> store) {
@@ -143,20 +151,34 @@ public class StoreRepository {
 	}
 
 	public void finishProperty(TestDescriptor scope) {
-		streamAllStores()
-			.filter(store -> store.lifespan() == Lifespan.PROPERTY)
-			.filter(store -> store.isVisibleFor(scope))
-			.forEach(Store::reset);
+		resetStores(scope, Lifespan.PROPERTY);
 	}
 
 	public void finishTry(TestDescriptor scope) {
-		streamAllStores()
-			.filter(store -> store.lifespan() == Lifespan.TRY)
-			.filter(store -> store.isVisibleFor(scope))
-			.forEach(Store::reset);
+		Optional<TryStores> tryStores = TryStores.current();
+		if (tryStores.isPresent()) {
+			tryStores.get().finish();
+			return;
+		}
+		resetStores(scope, Lifespan.TRY);
+	}
+
+	// Only the values of the property in scope - and shared values used outside of properties - are reset
+	private void resetStores(TestDescriptor scope, Lifespan lifespan) {
+		List<ScopedStore<?>> storesToReset;
+		synchronized (this) {
+			storesToReset =
+				streamAllStores()
+					.filter(store -> store.lifespan() == lifespan)
+					.filter(store -> store.isVisibleFor(scope))
+					.collect(Collectors.toList());
+		}
+
+		// Resetting can run user code, which is why it happens outside the lock
+		storesToReset.forEach(store -> store.resetFor(scope));
 	}
 
-	public int size() {
+	public synchronized int size() {
 		return storesByIdentifier.values().stream().mapToInt(HashMap::size).sum();
 	}
 }
@@ -0,0 +1,67 @@
+package net.jqwik.engine.execution.lifecycle;
+
+import java.util.*;
+import java.util.function.*;
+
+/**
+ * Values of stores that are kept separately per key, e.g. per store for a single try
+ * or per running property for a single store.
+ *
+ * <p>
+ * Initial values and updates can run user code, which is why they are computed outside the lock.
+ * </p>
+ */
+class StoreValues<K> {
+
+	private final Map<K, Object> values = new LinkedHashMap<>();
+
+	@SuppressWarnings("unchecked")
+	<T> T get(K key, Supplier<T> initialValueSupplier, Consumer<Object> closeValue) {
+		synchronized (this) {
+			if (values.containsKey(key)) {
+				return (T) values.get(key);
+			}
+		}
+		T initialValue = initialValueSupplier.get();
+		synchronized (this) {
+			if (!values.containsKey(key)) {
+				values.put(key, initialValue);
+				return initialValue;
+			}
+		}
+		// Another thread has been faster
+		closeValue.accept(initialValue);
+		return get(key, initialValueSupplier, closeValue);
+	}
+
+	/**
+	 * The updater is applied again if the value has been changed concurrently in the meantime.
+	 */
+	<T> void update(K key, Supplier<T> initialValueSupplier, Function<T, T> updater, Consumer<Object> closeValue) {
+		while (true) {
+			T current = get(key, initialValueSupplier, closeValue);
+			T updated = updater.apply(current);
+			synchronized (this) {
+				if (values.containsKey(key) && values.get(key) == current) {
+					values.put(key, updated);
+					return;
+				}
+			}
+		}
+	}
+
+	void reset(K key, Consumer<Object> closeValue) {
+		Object value;
+		synchronized (this) {
+			if (!values.containsKey(key)) {
+				return;
+			}
+			value = values.remove(key);
+		}
+		closeValue.accept(value);
+	}
+
+	synchronized List<K> keys() {
+		return new ArrayList<>(values.keySet());
+	}
+}
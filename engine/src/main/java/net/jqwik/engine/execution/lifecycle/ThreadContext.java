@@ -0,0 +1,52 @@
+package net.jqwik.engine.execution.lifecycle;
+
+import java.util.*;
+import java.util.function.*;
+
+import org.junit.platform.engine.*;
+
+import net.jqwik.api.domains.*;
+import net.jqwik.engine.*;
+
+/**
+ * The jqwik specific state of a thread, i.e. current test descriptor and domain context,
+ * which is otherwise held in thread locals.
+ *
+ * <p>
+ * A context is captured on the calling thread and handed over explicitly
+ * to code that runs on other threads, e.g. on worker or virtual threads.
+ * The source of randomness is not part of the context,
+ * because random instances must not be shared between threads.
+ * </p>
+ */
+public class ThreadContext {
+
+	public static ThreadContext capture() {
+		TestDescriptor descriptor = CurrentTestDescriptor.isEmpty() ? null : CurrentTestDescriptor.get();
+		return new ThreadContext(descriptor, CurrentDomainContext.get());
+	}
+
+	private final TestDescriptor descriptor;
+	private final DomainContext domainContext;
+
+	private ThreadContext(TestDescriptor descriptor, DomainContext domainContext) {
+		this.descriptor = descriptor;
+		this.domainContext = domainContext;
+	}
+
+	public <T> T runWith(Supplier<T> code) {
+		return CurrentDomainContext.runWithContext(domainContext, () -> {
+			if (descriptor == null) {
+				return code.get();
+			}
+			return CurrentTestDescriptor.runWithDescriptor(descriptor, code);
+		});
+	}
+
+	/**
+	 * Run code within this context and with {@code random} as source of randomness.
+	 */
+	public <T> T runWith(Random random, Supplier<T> code) {
+		return runWith(() -> SourceOfRandomness.runWithRandom(random, code));
+	}
+}
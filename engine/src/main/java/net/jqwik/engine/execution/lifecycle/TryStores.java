@@ -0,0 +1,58 @@
+package net.jqwik.engine.execution.lifecycle;
+
+import java.util.*;
+import java.util.function.*;
+
+import net.jqwik.api.lifecycle.*;
+
+/**
+ * Values of all stores with lifespan {@linkplain Lifespan#TRY} as seen by a single try.
+ *
+ * <p>
+ * Tries that are checked concurrently cannot share the values of try stores,
+ * since finishing one try would reset the values of all other running tries.
+ * While a thread runs code with a try's stores - the try's generation as well as its lifecycle -
+ * try stores read and write the values of this try only.
+ * Finishing the try resets those values without touching any other try.
+ * </p>
+ */
+public class TryStores {
+
+	private static final ThreadLocal<TryStores> current = new ThreadLocal<>();
+
+	static Optional<TryStores> current() {
+		return Optional.ofNullable(current.get());
+	}
+
+	private final StoreValues<ScopedStore<?>> values = new StoreValues<>();
+
+	public <T> T runWith(Supplier<T> code) {
+		TryStores previous = current.get();
+		current.set(this);
+		try {
+			return code.get();
+		} finally {
+			current.set(previous);
+		}
+	}
+
+	<T> T get(ScopedStore<T> store, Supplier<T> initialValueSupplier) {
+		return values.get(store, initialValueSupplier, store::closeValue);
+	}
+
+	<T> void update(ScopedStore<T> store, Supplier<T> initialValueSupplier, Function<T, T> updater) {
+		values.update(store, initialValueSupplier, updater, store::closeValue);
+	}
+
+	void reset(ScopedStore<?> store) {
+		values.reset(store, store::closeValue);
+	}
+
+	/**
+	 * Reset the values of all try stores that have been used by this try.
+	 */
+	public void finish() {
+		// Closing can run user code, which is why it happens outside the lock
+		values.keys().forEach(this::reset);
+	}
+}
@@ -0,0 +1,177 @@
+package net.jqwik.engine.execution.pipeline;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.logging.*;
+
+import net.jqwik.engine.execution.*;
+import net.jqwik.engine.support.*;
+
+/**
+ * A pipeline that runs independent tasks concurrently.
+ *
+ * <p>
+ * Tasks are dispatched in the same order the sequential {@linkplain ExecutionPipeline} would run them,
+ * i.e. tasks put in front with {@linkplain #executeFirst(List)} are started first and
+ * unfinished predecessors are moved to the top of the queue.
+ * A task is only dispatched when all its predecessors have finished.
+ * </p>
+ *
+ * <p>
+ * Each task gets the combined result of its own predecessors as predecessor result:
+ * the first non successful one or success if all predecessors were successful.
+ * </p>
+ */
+public class ConcurrentExecutionPipeline extends ExecutionPipeline {
+
+	private static final Logger LOG = Logger.getLogger(ConcurrentExecutionPipeline.class.getName());
+
+	private final int parallelism;
+	private final boolean useVirtualThreads;
+
+	private final Set<ExecutionTask> runningTasks = Collections.newSetFromMap(new IdentityHashMap<>());
+	private final Map<ExecutionTask, TaskExecutionResult> taskResults = new IdentityHashMap<>();
+	private Throwable workerThrowable = null;
+
+	public ConcurrentExecutionPipeline(PropertyExecutionListener executionListener, int parallelism, boolean useVirtualThreads) {
+		super(executionListener);
+		if (parallelism < 1) {
+			throw new IllegalArgumentException("parallelism must be at least 1");
+		}
+		this.parallelism = parallelism;
+		this.useVirtualThreads = useVirtualThreads;
+	}
+
+	@Override
+	public synchronized void submit(ExecutionTask task, ExecutionTask... predecessors) {
+		super.submit(task, predecessors);
+	}
+
+	@Override
+	public synchronized void executeFirst(List<ExecutionTask> executionTaskList) {
+		super.executeFirst(executionTaskList);
+	}
+
+	@Override
+	public void runToTermination() {
+		ExecutorService executorService = createExecutorService();
+		try {
+			synchronized (this) {
+				while (workerThrowable == null && (!queuedTasks().isEmpty() || !runningTasks.isEmpty())) {
+					Optional<ExecutionTask> readyTask = runningTasks.size() < parallelism ? nextReadyTask() : Optional.empty();
+					if (readyTask.isPresent()) {
+						dispatch(readyTask.get(), executorService);
+					} else {
+						waitForRunningTask();
+					}
+				}
+				while (!runningTasks.isEmpty()) {
+					waitForRunningTask();
+				}
+			}
+		} finally {
+			executorService.shutdown();
+		}
+		if (workerThrowable != null) {
+			//noinspection ResultOfMethodCallIgnored
+			JqwikExceptionSupport.throwAsUncheckedException(workerThrowable);
+		}
+	}
+
+	private void waitForRunningTask() {
+		if (runningTasks.isEmpty()) {
+			String message = String.format("Cannot schedule any of the remaining tasks %s", queuedTasks());
+			throw new IllegalStateException(message);
+		}
+		try {
+			wait();
+		} catch (InterruptedException interruptedException) {
+			Thread.currentThread().interrupt();
+			JqwikExceptionSupport.throwAsUncheckedException(interruptedException);
+		}
+	}
+
+	private Optional<ExecutionTask> nextReadyTask() {
+		List<ExecutionTask> tasks = queuedTasks();
+		int index = 0;
+		while (index < tasks.size()) {
+			ExecutionTask candidate = tasks.get(index);
+			ExecutionTask[] predecessors = predecessorsOf(candidate);
+			ensurePredecessorsSubmitted(candidate, predecessors);
+			List<ExecutionTask> laterQueuedPredecessors = new ArrayList<>();
+			boolean allPredecessorsFinished = true;
+			for (ExecutionTask predecessor : predecessors) {
+				if (isFinished(predecessor)) {
+					continue;
+				}
+				allPredecessorsFinished = false;
+				// Predecessors queued before the candidate have already been considered
+				if (!runningTasks.contains(predecessor) && tasks.indexOf(predecessor) > index) {
+					laterQueuedPredecessors.add(predecessor);
+				}
+			}
+			if (!laterQueuedPredecessors.isEmpty()) {
+				executeFirst(laterQueuedPredecessors);
+				index = 0;
+				continue;
+			}
+			if (allPredecessorsFinished) {
+				tasks.remove(index);
+				return Optional.of(candidate);
+			}
+			index++;
+		}
+		return Optional.empty();
+	}
+
+	private void dispatch(ExecutionTask task, ExecutorService executorService) {
+		TaskExecutionResult predecessorResult = combinedResultOf(predecessorsOf(task));
+		runningTasks.add(task);
+		executorService.execute(() -> {
+			TaskExecutionResult result = null;
+			Throwable throwable = null;
+			try {
+				result = task.execute(executionListener(), predecessorResult);
+			} catch (Throwable t) {
+				throwable = t;
+			} finally {
+				finished(task, result, throwable);
+			}
+		});
+	}
+
+	private synchronized void finished(ExecutionTask task, TaskExecutionResult result, Throwable throwable) {
+		if (throwable != null) {
+			if (workerThrowable == null) {
+				workerThrowable = throwable;
+			}
+			result = TaskExecutionResult.failure(throwable);
+		}
+		taskResults.put(task, result);
+		markFinished(task);
+		runningTasks.remove(task);
+		notifyAll();
+	}
+
+	private TaskExecutionResult combinedResultOf(ExecutionTask[] predecessors) {
+		for (ExecutionTask predecessor : predecessors) {
+			TaskExecutionResult result = taskResults.get(predecessor);
+			if (result != null && !result.successful()) {
+				return result;
+			}
+		}
+		return TaskExecutionResult.success();
+	}
+
+	private ExecutorService createExecutorService() {
+		if (useVirtualThreads) {
+			Optional<ExecutorService> virtualThreadExecutor = JqwikThreadSupport.virtualThreadPerTaskExecutor();
+			if (virtualThreadExecutor.isPresent()) {
+				return virtualThreadExecutor.get();
+			}
+			LOG.warning("Virtual threads are not available in this JVM. Falling back to fork join pool.");
+		}
+		return new ForkJoinPool(parallelism);
+	}
+
+}
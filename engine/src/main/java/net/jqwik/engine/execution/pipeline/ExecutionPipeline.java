@@ -28,7 +28,7 @@ public class ExecutionPipeline implements Pipeline {
 			tasks.add(task);
 	}
 
-	private void ensurePredecessorsSubmitted(ExecutionTask task, ExecutionTask[] predecessors) {
+	void ensurePredecessorsSubmitted(ExecutionTask task, ExecutionTask[] predecessors) {
 		for (ExecutionTask predecessor : predecessors) {
 			if (!taskFinished.containsKey(predecessor))
 				throw new PredecessorNotSubmittedException(task, predecessor);
@@ -73,6 +73,26 @@ public class ExecutionPipeline implements Pipeline {
 		}
 	}
 
+	ExecutionTask[] predecessorsOf(ExecutionTask task) {
+		return taskPredecessors.get(task);
+	}
+
+	boolean isFinished(ExecutionTask task) {
+		return taskFinished.getOrDefault(task, false);
+	}
+
+	void markFinished(ExecutionTask task) {
+		taskFinished.put(task, true);
+	}
+
+	List<ExecutionTask> queuedTasks() {
+		return tasks;
+	}
+
+	PropertyExecutionListener executionListener() {
+		return executionListener;
+	}
+
 	public void runToTermination() {
 		TaskExecutionResult predecessorResult = TaskExecutionResult.success();
 		while (!tasks.isEmpty()) {
@@ -80,7 +100,7 @@ public class ExecutionPipeline implements Pipeline {
 			if (movedPredecessorsToTopOfQueue(head))
 				continue;
 			predecessorResult = head.execute(executionListener, predecessorResult);
-			taskFinished.put(head, true);
+			markFinished(head);
 			tasks.remove(0);
 		}
 	}
@@ -11,6 +11,9 @@ import net.jqwik.engine.properties.arbitraries.exhaustive.*;
 public class ExhaustiveGeneratorFacadeImpl extends ExhaustiveGenerator.ExhaustiveGeneratorFacade {
 	@Override
 	public <T, U> ExhaustiveGenerator<U> map(ExhaustiveGenerator<T> self, Function<T, U> mapper) {
+		if (self instanceof IndexedExhaustiveGenerator) {
+			return new IndexedMappedExhaustiveGenerator<>((IndexedExhaustiveGenerator<T>) self, mapper);
+		}
 		return new MappedExhaustiveGenerator<>(self, mapper);
 	}
 
@@ -21,6 +24,9 @@ public class ExhaustiveGeneratorFacadeImpl extends ExhaustiveGenerator.Exhaustiv
 
 	@Override
 	public <T> ExhaustiveGenerator<T> injectNull(ExhaustiveGenerator<T> self) {
+		if (self instanceof IndexedExhaustiveGenerator) {
+			return new IndexedWithNullExhaustiveGenerator<>((IndexedExhaustiveGenerator<T>) self);
+		}
 		return new WithNullExhaustiveGenerator<>(self);
 	}
 
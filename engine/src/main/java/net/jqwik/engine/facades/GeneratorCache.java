@@ -0,0 +1,79 @@
+package net.jqwik.engine.facades;
+
+import java.util.*;
+import java.util.function.*;
+
+import net.jqwik.api.*;
+import net.jqwik.engine.support.*;
+
+/**
+ * A bounded cache of generators that can be used concurrently from all properties of a test run.
+ *
+ * <p>
+ * The least recently used generator is evicted first.
+ * Generators are created outside of the lock because creating a generator
+ * will often memoize the generators of other arbitraries.
+ * </p>
+ */
+class GeneratorCache {
+
+	private final int maxEntries;
+	private final Map<Object, RandomGenerator<?>> generators;
+
+	private final MemoizationCounts counts = new MemoizationCounts();
+
+	GeneratorCache(int maxEntries) {
+		this.maxEntries = maxEntries;
+		this.generators = new LruCache<>(maxEntries);
+	}
+
+	/**
+	 * @param propertyCounts Additionally counts the lookup for the property that does it. Can be null.
+	 */
+	RandomGenerator<?> computeIfAbsent(
+		Object key,
+		Supplier<? extends RandomGenerator<?>> generatorSupplier,
+		MemoizationCounts propertyCounts
+	) {
+		RandomGenerator<?> cached;
+		synchronized (generators) {
+			cached = generators.get(key);
+		}
+		if (cached != null) {
+			counts.countHit();
+			if (propertyCounts != null) {
+				propertyCounts.countHit();
+			}
+			return cached;
+		}
+		counts.countMiss();
+		if (propertyCounts != null) {
+			propertyCounts.countMiss();
+		}
+		RandomGenerator<?> generator = generatorSupplier.get();
+		synchronized (generators) {
+			// Another thread might have been faster. Sharing its generator keeps memoization consistent.
+			RandomGenerator<?> concurrentlyCreated = generators.putIfAbsent(key, generator);
+			return concurrentlyCreated != null ? concurrentlyCreated : generator;
+		}
+	}
+
+	long hits() {
+		return counts.hits();
+	}
+
+	long misses() {
+		return counts.misses();
+	}
+
+	int size() {
+		synchronized (generators) {
+			return generators.size();
+		}
+	}
+
+	@Override
+	public String toString() {
+		return String.format("%s, size=%d of %d", counts, size(), maxEntries);
+	}
+}
@@ -0,0 +1,40 @@
+package net.jqwik.engine.facades;
+
+import java.util.*;
+import java.util.concurrent.atomic.*;
+
+/**
+ * Hits and misses of memoized generator lookups. Lookups can be counted concurrently.
+ */
+public class MemoizationCounts {
+
+	private final LongAdder hits = new LongAdder();
+	private final LongAdder misses = new LongAdder();
+
+	void countHit() {
+		hits.increment();
+	}
+
+	void countMiss() {
+		misses.increment();
+	}
+
+	public long hits() {
+		return hits.sum();
+	}
+
+	public long misses() {
+		return misses.sum();
+	}
+
+	public double hitRate() {
+		long hits = hits();
+		long lookups = hits + misses();
+		return lookups == 0 ? 0.0 : hits * 100.0 / lookups;
+	}
+
+	@Override
+	public String toString() {
+		return String.format(Locale.ROOT, "hits=%d, misses=%d, hit rate=%.1f %%", hits(), misses(), hitRate());
+	}
+}
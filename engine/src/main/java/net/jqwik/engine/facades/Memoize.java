@@ -1,18 +1,28 @@
 package net.jqwik.engine.facades;
 
 import java.util.*;
+import java.util.concurrent.*;
 import java.util.function.*;
 
+import org.junit.platform.engine.*;
+
 import net.jqwik.api.*;
 import net.jqwik.api.Tuple.*;
+import net.jqwik.api.domains.*;
 import net.jqwik.api.lifecycle.*;
-import net.jqwik.engine.support.*;
+import net.jqwik.engine.*;
+import net.jqwik.engine.execution.lifecycle.*;
 
 public class Memoize {
 
-	private static Store<Map<Tuple3<Arbitrary<?>, Integer, Boolean>, RandomGenerator<?>>> generatorStore() {
-		return Store.getOrCreate(Memoize.class, Lifespan.PROPERTY, () -> new LruCache<>(500));
-	}
+	private static final int MAX_GENERATORS_PER_PROPERTY = 500;
+
+	private static volatile int maxSharedGenerators = JqwikProperties.DEFAULT_MEMOIZATION_MAX_ENTRIES;
+
+	// Generators created with the global domain context are shared between all properties of an engine run.
+	private static volatile GeneratorCache sharedGeneratorCache = new GeneratorCache(maxSharedGenerators);
+
+	private static final Map<TestDescriptor, MemoizationCounts> countsByProperty = new ConcurrentHashMap<>();
 
 	@SuppressWarnings("unchecked")
 	public static <U> RandomGenerator<U> memoizedGenerator(
@@ -25,30 +35,83 @@ public class Memoize {
 			return (RandomGenerator<U>) generatorSupplier.get();
 		}
 
-		Tuple3<Arbitrary<?>, Integer, Boolean> key = Tuple.of(arbitrary, genSize, withEdgeCases);
-		RandomGenerator<?> generator = computeIfAbsent(
-				generatorStore().get(),
-				key,
-				ignore -> generatorSupplier.get()
-		);
+		DomainContext domainContext = CurrentDomainContext.get();
+		GeneratorCache generatorCache;
+		if (domainContext == CurrentDomainContext.GLOBAL_DOMAIN_CONTEXT) {
+			generatorCache = sharedGeneratorCache;
+		} else if (!CurrentTestDescriptor.isEmpty()) {
+			// Other domain contexts are specific to a property, so their generators are of no use to other properties
+			generatorCache = Store.getOrCreate(
+				Memoize.class,
+				Lifespan.PROPERTY,
+				() -> new GeneratorCache(MAX_GENERATORS_PER_PROPERTY)
+			).get();
+		} else {
+			return (RandomGenerator<U>) generatorSupplier.get();
+		}
+
+		// The domain context is part of the key since it can change how a generator is created
+		Tuple4<Arbitrary<?>, Integer, Boolean, DomainContext> key = Tuple.of(arbitrary, genSize, withEdgeCases, domainContext);
+		RandomGenerator<?> generator = generatorCache.computeIfAbsent(key, generatorSupplier, countsOfCurrentProperty());
 		return (RandomGenerator<U>) generator;
 	}
 
-	// Had to roll my on computeIfAbsent because HashMap.computeIfAbsent()
-	// does not allow modifications of the map within the mapping function
-	private static <K, V> V computeIfAbsent(
-			Map<K, V> cache,
-			K key,
-			Function<? super K, ? extends V> mappingFunction
-	) {
-		V result = cache.get(key);
+	private static MemoizationCounts countsOfCurrentProperty() {
+		if (countsByProperty.isEmpty() || CurrentTestDescriptor.isEmpty()) {
+			return null;
+		}
+		return countsByProperty.get(CurrentTestDescriptor.get());
+	}
 
-		if (result == null) {
-			result = mappingFunction.apply(key);
-			cache.put(key, result);
+	/**
+	 * Count the generator lookups of the current property while {@code code} is running.
+	 * Lookups from other threads are counted as long as they run with the property's test descriptor.
+	 */
+	public static <T> T countLookups(Supplier<T> code) {
+		TestDescriptor property = CurrentTestDescriptor.get();
+		if (countsByProperty.putIfAbsent(property, new MemoizationCounts()) != null) {
+			// Lookups are already being counted, e.g. when a property is checked from within another property
+			return code.get();
 		}
+		try {
+			return code.get();
+		} finally {
+			countsByProperty.remove(property);
+		}
+	}
+
+	/**
+	 * @return the lookups counted so far for the current property, if they are being counted at all
+	 */
+	public static Optional<MemoizationCounts> countedLookups() {
+		return Optional.ofNullable(countsOfCurrentProperty());
+	}
+
+	/**
+	 * Start with an empty cache of shared generators that remembers at most {@code maxEntries} generators.
+	 * Called when an engine run starts.
+	 */
+	public static void startSharedGenerators(int maxEntries) {
+		maxSharedGenerators = maxEntries;
+		clearSharedGenerators();
+	}
+
+	/**
+	 * Forget all shared generators and their statistics. Called when an engine run is finished.
+	 */
+	public static void clearSharedGenerators() {
+		sharedGeneratorCache = new GeneratorCache(maxSharedGenerators);
+	}
+
+	/**
+	 * Hits, misses and size of the generator cache shared by all properties of the current engine run.
+	 */
+	public static String sharedGeneratorsStatistics() {
+		return sharedGeneratorCache.toString();
+	}
 
-		return result;
+	static GeneratorCache sharedGeneratorCache() {
+		return sharedGeneratorCache;
 	}
 
 }
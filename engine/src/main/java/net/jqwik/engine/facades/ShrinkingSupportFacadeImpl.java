@@ -7,6 +7,7 @@ import java.util.stream.*;
 import net.jqwik.api.*;
 import net.jqwik.api.facades.*;
 import net.jqwik.api.lifecycle.*;
+import net.jqwik.engine.*;
 import net.jqwik.engine.properties.*;
 import net.jqwik.engine.properties.shrinking.*;
 
@@ -59,7 +60,10 @@ public class ShrinkingSupportFacadeImpl extends ShrinkingSupportFacade {
 	) {
 		FalsifiedSample sample = toFalsifiedSample(falsifiedShrinkable, originalError);
 		Consumer<FalsifiedSample> parametersReporter = ignore -> {};
-		PropertyShrinker shrinker = new PropertyShrinker(sample, ShrinkingMode.FULL, 10, parametersReporter, null);
+		PropertyShrinker shrinker = new PropertyShrinker(
+			sample, ShrinkingMode.FULL, 10, parametersReporter, null,
+			JqwikProperties.DEFAULT_SHRINKING_CACHE_MAX_ENTRIES
+		);
 
 		return shrinker.shrink(toParamFalsifier(falsifier));
 	}
@@ -0,0 +1,232 @@
+package net.jqwik.engine.hooks.statistics;
+
+import java.util.*;
+
+/**
+ * Counts collected values in bounded memory:
+ * <ul>
+ *     <li>The most frequent values are tracked with the Space-Saving algorithm</li>
+ *     <li>The counts of all values are bounded by a count-min sketch</li>
+ *     <li>The number of distinct values is estimated by a HyperLogLog sketch</li>
+ * </ul>
+ *
+ * <p>
+ * Counts are never lower than the exact counts.
+ * As long as there are no more distinct values than can be tracked all counts are exact.
+ * </p>
+ */
+class ApproximateCounts {
+
+	private static final int SKETCH_DEPTH = 4;
+	private static final int MIN_SKETCH_WIDTH = 1024;
+
+	// 2^12 registers give a standard error of about 1.6 %
+	private static final int HLL_PRECISION = 12;
+	private static final int HLL_REGISTERS = 1 << HLL_PRECISION;
+
+	private final int maxTrackedValues;
+	private final int sketchMask;
+	private final int[][] sketch;
+	private final byte[] registers = new byte[HLL_REGISTERS];
+
+	private final Map<List<Object>, Counter> tracked = new HashMap<>();
+	// Min-heap of tracked counters so that the least frequent one can be replaced
+	private final Counter[] heap;
+	private int heapSize = 0;
+
+	private int countAll = 0;
+
+	ApproximateCounts(int maxTrackedValues) {
+		this.maxTrackedValues = maxTrackedValues;
+		int sketchWidth = nextPowerOfTwo(Math.max(MIN_SKETCH_WIDTH, maxTrackedValues * 16));
+		this.sketchMask = sketchWidth - 1;
+		this.sketch = new int[SKETCH_DEPTH][sketchWidth];
+		this.heap = new Counter[maxTrackedValues];
+	}
+
+	private static int nextPowerOfTwo(int value) {
+		int highestOneBit = Integer.highestOneBit(value);
+		return highestOneBit == value ? value : highestOneBit << 1;
+	}
+
+	int maxTrackedValues() {
+		return maxTrackedValues;
+	}
+
+	void add(List<Object> key, int occurrences) {
+		countAll += occurrences;
+		int hash = key.hashCode();
+		addToSketch(hash, occurrences);
+		addToRegisters(hash);
+		track(key, occurrences);
+	}
+
+	private void track(List<Object> key, int occurrences) {
+		Counter counter = tracked.get(key);
+		if (counter != null) {
+			counter.count += occurrences;
+			siftDown(counter.heapIndex);
+		} else if (heapSize < maxTrackedValues) {
+			counter = new Counter(key, occurrences);
+			tracked.put(key, counter);
+			heap[heapSize] = counter;
+			counter.heapIndex = heapSize++;
+			siftUp(counter.heapIndex);
+		} else {
+			// The new value might have occurred as often as the least frequent one it replaces
+			Counter leastFrequent = heap[0];
+			tracked.remove(leastFrequent.key);
+			leastFrequent.key = key;
+			leastFrequent.count += occurrences;
+			tracked.put(key, leastFrequent);
+			siftDown(0);
+		}
+	}
+
+	int countAll() {
+		return countAll;
+	}
+
+	/**
+	 * @return an upper bound of how often {@code key} has been added
+	 */
+	int count(List<Object> key) {
+		int sketchCount = sketchCount(key.hashCode());
+		Counter counter = tracked.get(key);
+		if (counter != null) {
+			return Math.min(counter.count, sketchCount);
+		}
+		// A value that is not tracked cannot have occurred more often than the least frequent tracked value
+		int untrackedBound = heapSize < maxTrackedValues ? 0 : heap[0].count;
+		return Math.min(untrackedBound, sketchCount);
+	}
+
+	/**
+	 * @return the tracked values with their estimated counts
+	 */
+	Map<List<Object>, Integer> trackedCounts() {
+		Map<List<Object>, Integer> counts = new LinkedHashMap<>();
+		for (int i = 0; i < heapSize; i++) {
+			List<Object> key = heap[i].key;
+			counts.put(key, count(key));
+		}
+		return counts;
+	}
+
+	long distinctValues() {
+		if (heapSize < maxTrackedValues) {
+			return heapSize;
+		}
+		double sum = 0.0;
+		int zeroRegisters = 0;
+		for (byte register : registers) {
+			sum += 1.0 / (1L << register);
+			if (register == 0) {
+				zeroRegisters++;
+			}
+		}
+		double alpha = 0.7213 / (1.0 + 1.079 / HLL_REGISTERS);
+		double estimate = alpha * HLL_REGISTERS * HLL_REGISTERS / sum;
+		if (estimate <= 2.5 * HLL_REGISTERS && zeroRegisters > 0) {
+			estimate = HLL_REGISTERS * Math.log((double) HLL_REGISTERS / zeroRegisters);
+		}
+		return Math.max(heapSize, Math.round(estimate));
+	}
+
+	private void addToSketch(int hash, int occurrences) {
+		for (int row = 0; row < SKETCH_DEPTH; row++) {
+			int column = mix(hash, row) & sketchMask;
+			sketch[row][column] += occurrences;
+		}
+	}
+
+	private int sketchCount(int hash) {
+		int min = Integer.MAX_VALUE;
+		for (int row = 0; row < SKETCH_DEPTH; row++) {
+			int column = mix(hash, row) & sketchMask;
+			min = Math.min(min, sketch[row][column]);
+		}
+		return min;
+	}
+
+	private void addToRegisters(int hash) {
+		long hash64 = mix64(hash);
+		int register = (int) (hash64 >>> (64 - HLL_PRECISION));
+		// The guard bit limits the rank to the number of remaining bits
+		long remainingBits = (hash64 << HLL_PRECISION) | (1L << (HLL_PRECISION - 1));
+		byte rank = (byte) (Long.numberOfLeadingZeros(remainingBits) + 1);
+		if (rank > registers[register]) {
+			registers[register] = rank;
+		}
+	}
+
+	private static int mix(int hash, int row) {
+		int h = hash + row * 0x9e3779b9;
+		h ^= h >>> 16;
+		h *= 0x85ebca6b;
+		h ^= h >>> 13;
+		h *= 0xc2b2ae35;
+		h ^= h >>> 16;
+		return h;
+	}
+
+	private static long mix64(int hash) {
+		long h = hash;
+		h ^= h >>> 33;
+		h *= 0xff51afd7ed558ccdL;
+		h ^= h >>> 33;
+		h *= 0xc4ceb9fe1a85ec53L;
+		h ^= h >>> 33;
+		return h;
+	}
+
+	private void siftUp(int index) {
+		Counter counter = heap[index];
+		while (index > 0) {
+			int parentIndex = (index - 1) / 2;
+			Counter parent = heap[parentIndex];
+			if (parent.count <= counter.count) {
+				break;
+			}
+			place(parent, index);
+			index = parentIndex;
+		}
+		place(counter, index);
+	}
+
+	private void siftDown(int index) {
+		Counter counter = heap[index];
+		while (true) {
+			int childIndex = 2 * index + 1;
+			if (childIndex >= heapSize) {
+				break;
+			}
+			if (childIndex + 1 < heapSize && heap[childIndex + 1].count < heap[childIndex].count) {
+				childIndex++;
+			}
+			Counter child = heap[childIndex];
+			if (counter.count <= child.count) {
+				break;
+			}
+			place(child, index);
+			index = childIndex;
+		}
+		place(counter, index);
+	}
+
+	private void place(Counter counter, int index) {
+		heap[index] = counter;
+		counter.heapIndex = index;
+	}
+
+	private static class Counter {
+		private List<Object> key;
+		private int count;
+		private int heapIndex;
+
+		private Counter(List<Object> key, int count) {
+			this.key = key;
+			this.count = count;
+		}
+	}
+}
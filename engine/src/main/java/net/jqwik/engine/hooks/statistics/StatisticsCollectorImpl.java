@@ -19,6 +19,10 @@ public class StatisticsCollectorImpl implements StatisticsCollector {
 	private final List<Consumer<StatisticsCoverage>> coverageCheckers = new ArrayList<>();
 	private final String label;
 
+	// Replaces exact counts once approximate counting has been switched on
+	private ApproximateCounts approximateCounts = null;
+	private int numberOfValues = 0;
+
 	private List<StatisticsEntryImpl> statisticsEntries = null;
 
 	public StatisticsCollectorImpl(String label) {
@@ -26,7 +30,7 @@ public class StatisticsCollectorImpl implements StatisticsCollector {
 	}
 
 	@Override
-	public StatisticsCollector collect(Object... values) {
+	public synchronized StatisticsCollector collect(Object... values) {
 		ensureAtLeastOneParameter(values);
 		List<Object> key = keyFrom(values);
 		ensureSameNumberOfValues(key);
@@ -34,9 +38,39 @@ public class StatisticsCollectorImpl implements StatisticsCollector {
 		return this;
 	}
 
+	@Override
+	public synchronized StatisticsCollector approximate(int maxTrackedValues) {
+		if (maxTrackedValues < 1) {
+			String message = String.format("StatisticsCollector[%s] must track at least one value", label);
+			throw new IllegalArgumentException(message);
+		}
+		if (approximateCounts == null) {
+			approximateCounts = new ApproximateCounts(maxTrackedValues);
+			counts.forEach(approximateCounts::add);
+			counts.clear();
+			statisticsEntries = null;
+		}
+		return this;
+	}
+
+	public boolean isApproximate() {
+		return approximateCounts != null;
+	}
+
+	/**
+	 * Only available if {@linkplain #isApproximate()}.
+	 */
+	public long approximateDistinctValues() {
+		return approximateCounts.distinctValues();
+	}
+
 	private void updateCounts(List<Object> key) {
-		int count = counts.computeIfAbsent(key, any -> 0);
-		counts.put(key, ++count);
+		if (approximateCounts != null) {
+			approximateCounts.add(key, 1);
+		} else {
+			int count = counts.computeIfAbsent(key, any -> 0);
+			counts.put(key, ++count);
+		}
 		statisticsEntries = null;
 	}
 
@@ -48,11 +82,11 @@ public class StatisticsCollectorImpl implements StatisticsCollector {
 	}
 
 	private void ensureSameNumberOfValues(List<Object> keyCandidate) {
-		if (counts.isEmpty()) {
+		if (numberOfValues == 0) {
+			numberOfValues = keyCandidate.size();
 			return;
 		}
-		List<Object> anyKey = counts.keySet().iterator().next();
-		if (anyKey.size() != keyCandidate.size()) {
+		if (numberOfValues != keyCandidate.size()) {
 			String message = String.format("StatisticsCollector[%s] must always be called with same number of values", label);
 			throw new IllegalArgumentException(message);
 		}
@@ -77,7 +111,15 @@ public class StatisticsCollectorImpl implements StatisticsCollector {
 				   .stream()
 				   .filter(entry -> entry.values().equals(key))
 				   .findFirst()
-				   .orElse(StatisticsEntryImpl.nullFor(key));
+				   .orElseGet(() -> untrackedEntry(key));
+	}
+
+	private StatisticsEntryImpl untrackedEntry(List<Object> key) {
+		if (approximateCounts == null || approximateCounts.count(key) == 0) {
+			return StatisticsEntryImpl.nullFor(key);
+		}
+		int count = approximateCounts.count(key);
+		return new StatisticsEntryImpl(key, displayKey(key), count, count * 100.0 / countAllCollects());
 	}
 
 	private StatisticsEntry query(Predicate<List<Object>> query, int countAll) {
@@ -115,6 +157,9 @@ public class StatisticsCollectorImpl implements StatisticsCollector {
 	}
 
 	public int countAllCollects() {
+		if (approximateCounts != null) {
+			return approximateCounts.countAll();
+		}
 		return counts.values().stream().mapToInt(aCount -> aCount).sum();
 	}
 
@@ -139,6 +184,9 @@ public class StatisticsCollectorImpl implements StatisticsCollector {
 	}
 
 	public Map<List<Object>, Integer> getCounts() {
+		if (approximateCounts != null) {
+			return approximateCounts.trackedCounts();
+		}
 		return counts;
 	}
 
@@ -152,7 +200,7 @@ public class StatisticsCollectorImpl implements StatisticsCollector {
 
 	private List<StatisticsEntryImpl> calculateStatistics() {
 		int sum = countAllCollects();
-		return counts.entrySet()
+		return getCounts().entrySet()
 					 .stream()
 					 .sorted(this::compareStatisticsEntries)
 					 .filter(entry -> !entry.getKey().equals(Collections.emptyList()))
@@ -20,7 +20,7 @@ public class StatisticsHook implements AroundPropertyHook {
 	private static final Supplier<Map<String, StatisticsCollectorImpl>> STATISTICS_MAP_SUPPLIER =
 		() -> new LinkedHashMap<String, StatisticsCollectorImpl>() {
 			@Override
-			public StatisticsCollectorImpl get(Object key) {
+			public synchronized StatisticsCollectorImpl get(Object key) {
 				return this.computeIfAbsent((String) key, StatisticsCollectorImpl::new);
 			}
 		};
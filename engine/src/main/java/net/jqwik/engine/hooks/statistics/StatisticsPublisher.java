@@ -2,6 +2,8 @@ package net.jqwik.engine.hooks.statistics;
 
 import java.util.*;
 
+import org.jspecify.annotations.*;
+
 import net.jqwik.api.*;
 import net.jqwik.api.statistics.*;
 
@@ -10,6 +12,8 @@ public class StatisticsPublisher {
 	private final List<StatisticsEntry> entries;
 	private final int countCollects;
 	private final String label;
+	// Only known for approximate statistics
+	private final @Nullable Long distinctValues;
 
 	public StatisticsPublisher(
 		StatisticsCollectorImpl statisticsCollector,
@@ -19,7 +23,8 @@ public class StatisticsPublisher {
 			statisticsReportFormat,
 			statisticsCollector.statisticsEntries(),
 			statisticsCollector.countAllCollects(),
-			statisticsCollector.label()
+			statisticsCollector.label(),
+			statisticsCollector.isApproximate() ? statisticsCollector.approximateDistinctValues() : null
 		);
 	}
 
@@ -28,12 +33,14 @@ public class StatisticsPublisher {
 		StatisticsReportFormat statisticsReportFormat,
 		List<? extends StatisticsEntry> entries,
 		int countCollects,
-		String label
+		String label,
+		@Nullable Long distinctValues
 	) {
 		this.statisticsReportFormat = statisticsReportFormat;
 		this.entries = (List<StatisticsEntry>) entries;
 		this.countCollects = countCollects;
 		this.label = label;
+		this.distinctValues = distinctValues;
 	}
 
 	public void publish(Reporter reporter, String propertyName) {
@@ -60,6 +67,9 @@ public class StatisticsPublisher {
 	}
 
 	private String createReportEntryKey(String propertyName) {
+		if (distinctValues != null) {
+			return String.format("[%s] (%d, ~%d different values) %s", propertyName, countCollects, distinctValues, label);
+		}
 		return String.format("[%s] (%d) %s", propertyName, countCollects, label);
 	}
 
@@ -0,0 +1,134 @@
+package net.jqwik.engine.properties;
+
+import java.time.*;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+
+import net.jqwik.api.lifecycle.*;
+import net.jqwik.engine.execution.lifecycle.*;
+
+/**
+ * Collects the times of a property's phases. Times can be added concurrently.
+ */
+class ExecutionMetrics implements PropertyExecutionMetrics {
+
+	private final LongAdder generationNanos = new LongAdder();
+	private final LongAdder checkNanos = new LongAdder();
+	private final LongAdder shrinkingNanos = new LongAdder();
+	private final AtomicInteger countShrinkingCandidates = new AtomicInteger(0);
+	private final AtomicInteger countShrinkingCacheHits = new AtomicInteger(0);
+	private final AtomicInteger countShrinkingCacheMisses = new AtomicInteger(0);
+	private final AtomicLong countMemoizedGeneratorHits = new AtomicLong(0);
+	private final AtomicLong countMemoizedGeneratorMisses = new AtomicLong(0);
+
+	void addGenerationTime(long startNanos) {
+		generationNanos.add(System.nanoTime() - startNanos);
+	}
+
+	void addShrinkingTime(long startNanos, int countCandidates) {
+		shrinkingNanos.add(System.nanoTime() - startNanos);
+		countShrinkingCandidates.addAndGet(countCandidates);
+	}
+
+	void addShrinkingCacheStatistics(int hits, int misses) {
+		countShrinkingCacheHits.addAndGet(hits);
+		countShrinkingCacheMisses.addAndGet(misses);
+	}
+
+	void addMemoizationStatistics(long hits, long misses) {
+		countMemoizedGeneratorHits.addAndGet(hits);
+		countMemoizedGeneratorMisses.addAndGet(misses);
+	}
+
+	/**
+	 * Measure the time of each try run through the returned executor.
+	 */
+	TryLifecycleExecutor timeChecks(TryLifecycleExecutor tryLifecycleExecutor) {
+		return (tryLifecycleContext, parameters) -> {
+			long start = System.nanoTime();
+			try {
+				return tryLifecycleExecutor.execute(tryLifecycleContext, parameters);
+			} finally {
+				checkNanos.add(System.nanoTime() - start);
+			}
+		};
+	}
+
+	@Override
+	public Duration generationTime() {
+		return Duration.ofNanos(generationNanos.sum());
+	}
+
+	@Override
+	public Duration checkTime() {
+		return Duration.ofNanos(checkNanos.sum());
+	}
+
+	@Override
+	public Duration shrinkingTime() {
+		return Duration.ofNanos(shrinkingNanos.sum());
+	}
+
+	@Override
+	public int countShrinkingCandidates() {
+		return countShrinkingCandidates.get();
+	}
+
+	@Override
+	public int countShrinkingCacheHits() {
+		return countShrinkingCacheHits.get();
+	}
+
+	@Override
+	public int countShrinkingCacheMisses() {
+		return countShrinkingCacheMisses.get();
+	}
+
+	@Override
+	public long countMemoizedGeneratorHits() {
+		return countMemoizedGeneratorHits.get();
+	}
+
+	@Override
+	public long countMemoizedGeneratorMisses() {
+		return countMemoizedGeneratorMisses.get();
+	}
+
+	@Override
+	public double memoizedGeneratorHitRate() {
+		long hits = countMemoizedGeneratorHits();
+		long lookups = hits + countMemoizedGeneratorMisses();
+		return lookups == 0 ? 0.0 : hits * 100.0 / lookups;
+	}
+
+	Map<String, Object> report(int countTries) {
+		long checkMillis = checkTime().toMillis();
+		double triesPerSecond = checkMillis == 0 ? countTries : countTries * 1000.0 / checkMillis;
+
+		Map<String, Object> reports = new LinkedHashMap<>();
+		reports.put("generation", formatMillis(generationTime()));
+		reports.put("check", formatMillis(checkTime()));
+		reports.put("shrinking", formatMillis(shrinkingTime()));
+		reports.put("shrinking candidates", countShrinkingCandidates());
+		reports.put("shrinking cache", String.format(Locale.ROOT, "%d hits, %d misses", countShrinkingCacheHits(), countShrinkingCacheMisses()));
+		reports.put("memoized generators", String.format(
+			Locale.ROOT, "%d hits, %d misses, hit rate %.1f %%",
+			countMemoizedGeneratorHits(), countMemoizedGeneratorMisses(), memoizedGeneratorHitRate()
+		));
+		reports.put("checked tries per second", String.format(Locale.ROOT, "%.1f", triesPerSecond));
+		return reports;
+	}
+
+	private String formatMillis(Duration duration) {
+		return String.format(Locale.ROOT, "%.3f ms", duration.toNanos() / (double) TimeUnit.MILLISECONDS.toNanos(1));
+	}
+
+	@Override
+	public String toString() {
+		return String.format(
+			"ExecutionMetrics[generation=%s, check=%s, shrinking=%s, shrinkingCandidates=%d, shrinkingCacheHits=%d]",
+			generationTime(), checkTime(), shrinkingTime(), countShrinkingCandidates(), countShrinkingCacheHits()
+		);
+	}
+}
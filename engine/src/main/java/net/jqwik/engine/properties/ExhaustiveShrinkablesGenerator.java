@@ -4,6 +4,7 @@ import java.util.*;
 import java.util.stream.*;
 
 import net.jqwik.api.*;
+import net.jqwik.engine.properties.arbitraries.exhaustive.*;
 import net.jqwik.engine.support.*;
 import net.jqwik.engine.support.types.*;
 
@@ -47,19 +48,108 @@ public class ExhaustiveShrinkablesGenerator implements ForAllParametersGenerator
 	}
 
 	private final List<List<ExhaustiveGenerator<Object>>> generators;
+	// Only present if all generators support access by index
+	private final List<List<IndexedExhaustiveGenerator<Object>>> indexedGenerators;
+	private final long[] radixes;
+	private final long fromIndex;
+	private final long toIndex;
 	private final long maxCount;
 	private Iterator<List<Shrinkable<Object>>> combinatorialIterator;
+	private long nextIndex;
 
 	private ExhaustiveShrinkablesGenerator(List<List<ExhaustiveGenerator<Object>>> generators) {
-		this.maxCount = generators
-							.stream()
-							.mapToLong(set -> set.stream().mapToLong(ExhaustiveGenerator::maxCount).sum())
-							.reduce((product, count) -> product * count)
-							.orElse(1L);
+		this(generators, indexedGenerators(generators), 0, calculateMaxCount(generators));
+	}
+
+	private ExhaustiveShrinkablesGenerator(
+		List<List<ExhaustiveGenerator<Object>>> generators,
+		List<List<IndexedExhaustiveGenerator<Object>>> indexedGenerators,
+		long fromIndex,
+		long toIndex
+	) {
 		this.generators = generators;
+		this.indexedGenerators = indexedGenerators;
+		this.radixes = generators
+						   .stream()
+						   .mapToLong(ExhaustiveShrinkablesGenerator::sumOfMaxCounts)
+						   .toArray();
+		this.fromIndex = fromIndex;
+		this.toIndex = toIndex;
+		this.maxCount = toIndex - fromIndex;
 		this.reset();
 	}
 
+	private static long calculateMaxCount(List<List<ExhaustiveGenerator<Object>>> generators) {
+		return generators
+				   .stream()
+				   .mapToLong(ExhaustiveShrinkablesGenerator::sumOfMaxCounts)
+				   .reduce((product, count) -> product * count)
+				   .orElse(1L);
+	}
+
+	private static long sumOfMaxCounts(List<ExhaustiveGenerator<Object>> generatorList) {
+		return generatorList.stream().mapToLong(ExhaustiveGenerator::maxCount).sum();
+	}
+
+	private static List<List<IndexedExhaustiveGenerator<Object>>> indexedGenerators(List<List<ExhaustiveGenerator<Object>>> generators) {
+		List<List<IndexedExhaustiveGenerator<Object>>> indexedGenerators = new ArrayList<>();
+		for (List<ExhaustiveGenerator<Object>> generatorList : generators) {
+			List<IndexedExhaustiveGenerator<Object>> indexedList = new ArrayList<>();
+			for (ExhaustiveGenerator<Object> generator : generatorList) {
+				if (!(generator instanceof IndexedExhaustiveGenerator)) {
+					return null;
+				}
+				indexedList.add((IndexedExhaustiveGenerator<Object>) generator);
+			}
+			indexedGenerators.add(indexedList);
+		}
+		return indexedGenerators;
+	}
+
+	/**
+	 * Split the samples that have not been generated yet into up to {@code numberOfParts} consecutive ranges,
+	 * each of which can be generated independently of and concurrently with the others.
+	 * Generators that do not support access by index cannot be split.
+	 */
+	public List<ExhaustiveShrinkablesGenerator> partition(int numberOfParts) {
+		if (indexedGenerators == null || numberOfParts <= 1) {
+			return Collections.singletonList(this);
+		}
+		long remaining = toIndex - nextIndex;
+		long partSize = remaining / numberOfParts;
+		long remainder = remaining % numberOfParts;
+		List<ExhaustiveShrinkablesGenerator> parts = new ArrayList<>();
+		long partFrom = nextIndex;
+		for (int i = 0; i < numberOfParts && partFrom < toIndex; i++) {
+			long partTo = partFrom + partSize + (i < remainder ? 1 : 0);
+			if (partTo > partFrom) {
+				parts.add(new ExhaustiveShrinkablesGenerator(generators, indexedGenerators, partFrom, partTo));
+			}
+			partFrom = partTo;
+		}
+		return parts;
+	}
+
+	private List<Shrinkable<Object>> sampleAt(long index) {
+		long[] digits = Combinatorics.mixedRadixDigits(index, radixes);
+		List<Shrinkable<Object>> values = new ArrayList<>(digits.length);
+		for (int i = 0; i < digits.length; i++) {
+			values.add(Shrinkable.unshrinkable(valueAt(indexedGenerators.get(i), digits[i])));
+		}
+		return values;
+	}
+
+	private static Object valueAt(List<IndexedExhaustiveGenerator<Object>> concatenatedGenerators, long index) {
+		long rest = index;
+		for (IndexedExhaustiveGenerator<Object> generator : concatenatedGenerators) {
+			if (rest < generator.maxCount()) {
+				return generator.get(rest);
+			}
+			rest -= generator.maxCount();
+		}
+		throw new IndexOutOfBoundsException("Index: " + index);
+	}
+
 	private Iterator<List<Shrinkable<Object>>> combine(List<List<ExhaustiveGenerator<Object>>> generators) {
 		List<Iterable<Object>> iterables = generators
 											   .stream()
@@ -67,7 +157,8 @@ public class ExhaustiveShrinkablesGenerator implements ForAllParametersGenerator
 											   .collect(Collectors.toList());
 
 		return new Iterator<List<Shrinkable<Object>>>() {
-			final Iterator<List<Object>> iterator = Combinatorics.combine(iterables);
+			// Each combination is turned into a new list of shrinkables right away
+			final Iterator<List<Object>> iterator = Combinatorics.combineWithoutCopying(iterables);
 
 			@Override
 			public boolean hasNext() {
@@ -76,8 +167,9 @@ public class ExhaustiveShrinkablesGenerator implements ForAllParametersGenerator
 
 			@Override
 			public List<Shrinkable<Object>> next() {
-				List<Shrinkable<Object>> values = new ArrayList<>();
-				for (Object o : iterator.next()) {
+				List<Object> combination = iterator.next();
+				List<Shrinkable<Object>> values = new ArrayList<>(combination.size());
+				for (Object o : combination) {
 					values.add(Shrinkable.unshrinkable(o));
 				}
 				return values;
@@ -95,17 +187,43 @@ public class ExhaustiveShrinkablesGenerator implements ForAllParametersGenerator
 
 	@Override
 	public boolean hasNext() {
+		if (indexedGenerators != null) {
+			return nextIndex < toIndex;
+		}
 		return combinatorialIterator.hasNext();
 	}
 
 	@Override
 	public List<Shrinkable<Object>> next() {
+		if (indexedGenerators != null) {
+			if (!hasNext()) {
+				throw new NoSuchElementException();
+			}
+			return sampleAt(nextIndex++);
+		}
 		return combinatorialIterator.next();
 	}
 
+	@Override
+	public boolean skip(int count) {
+		if (indexedGenerators == null) {
+			return ForAllParametersGenerator.super.skip(count);
+		}
+		if (count > toIndex - nextIndex) {
+			nextIndex = toIndex;
+			return false;
+		}
+		nextIndex += count;
+		return true;
+	}
+
 	@Override
 	public void reset() {
-		this.combinatorialIterator = combine(generators);
+		if (indexedGenerators != null) {
+			this.nextIndex = fromIndex;
+		} else {
+			this.combinatorialIterator = combine(generators);
+		}
 	}
 
 	public long maxCount() {
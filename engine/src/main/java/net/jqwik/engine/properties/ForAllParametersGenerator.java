@@ -15,4 +15,19 @@ public interface ForAllParametersGenerator extends Iterator<List<Shrinkable<Obje
 	}
 
     void reset();
+
+	/**
+	 * Skip the next {@code count} sets of parameters.
+	 *
+	 * @return false if there were fewer than {@code count} sets of parameters
+	 */
+	default boolean skip(int count) {
+		for (int i = 0; i < count; i++) {
+			if (!hasNext()) {
+				return false;
+			}
+			next();
+		}
+		return true;
+	}
 }
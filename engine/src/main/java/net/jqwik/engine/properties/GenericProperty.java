@@ -2,16 +2,20 @@ package net.jqwik.engine.properties;
 
 import java.lang.reflect.*;
 import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
 import java.util.function.*;
 import java.util.stream.*;
 
 import net.jqwik.api.*;
 import net.jqwik.api.Tuple.*;
 import net.jqwik.api.lifecycle.*;
+import net.jqwik.engine.*;
 import net.jqwik.engine.descriptor.*;
 import net.jqwik.engine.execution.*;
 import net.jqwik.engine.execution.lifecycle.*;
 import net.jqwik.engine.execution.reporting.*;
+import net.jqwik.engine.facades.*;
 import net.jqwik.engine.properties.shrinking.*;
 import net.jqwik.engine.support.*;
 
@@ -22,6 +26,8 @@ public class GenericProperty {
 	private final ParametersGenerator parametersGenerator;
 	private final TryLifecycleExecutor tryLifecycleExecutor;
 	private final Supplier<TryLifecycleContext> tryLifecycleContextSupplier;
+	private final ExecutionMetrics executionMetrics = new ExecutionMetrics();
+	private final TryLifecycleExecutor timedTryLifecycleExecutor;
 
 	public GenericProperty(
 		String name,
@@ -35,17 +41,46 @@ public class GenericProperty {
 		this.parametersGenerator = parametersGenerator;
 		this.tryLifecycleExecutor = tryLifecycleExecutor;
 		this.tryLifecycleContextSupplier = tryLifecycleContextSupplier;
+		this.timedTryLifecycleExecutor = executionMetrics.timeChecks(tryLifecycleExecutor);
 	}
 
 	public PropertyCheckResult check(Reporter reporter, Reporting[] reporting) {
-		int maxTries = configuration.getTries();
+		TimeBudget timeBudget = TimeBudget.start(configuration.getDurationSeconds());
+		PropertyCheckResult checkResult = checkTries(reporter, reporting, timeBudget).withExecutionMetrics(executionMetrics);
+		Memoize.countedLookups().ifPresent(
+			counts -> executionMetrics.addMemoizationStatistics(counts.hits(), counts.misses())
+		);
+		if (configuration.reportExecutionMetrics()) {
+			reporter.publishReports("execution metrics", executionMetrics.report(checkResult.countChecks()));
+		}
+		if (timeBudget.isActive()) {
+			Map<String, Object> reports = timeBudget.report(
+				checkResult.countTries(),
+				parametersGenerator.edgeCasesTried(),
+				parametersGenerator.edgeCasesTotal()
+			);
+			reporter.publishReports("time budget", reports);
+		}
+		return checkResult;
+	}
+
+	private PropertyCheckResult checkTries(Reporter reporter, Reporting[] reporting, TimeBudget timeBudget) {
+		// With a time budget tries are only limited by time
+		int maxTries = timeBudget.isActive() ? Integer.MAX_VALUE : configuration.getTries();
+		if (configuration.getParallelism() > 1 && maxTries > 1) {
+			return checkWithParallelTries(reporter, reporting, maxTries, timeBudget);
+		}
 		int countChecks = 0;
 		int countTries = 0;
+		long seed = SourceOfRandomness.seedAsLong(configuration.getSeed());
 		boolean finishEarly = false;
 		while (countTries < maxTries) {
 			if (finishEarly) {
 				break;
 			}
+			if (timeBudget.isExhausted()) {
+				break;
+			}
 			if (!parametersGenerator.hasNext()) {
 				break;
 			}
@@ -53,6 +88,7 @@ public class GenericProperty {
 
 			List<Shrinkable<Object>> shrinkableParams;
 			TryLifecycleContext tryLifecycleContext = tryLifecycleContextSupplier.get();
+			long generationStart = System.nanoTime();
 			try {
 				shrinkableParams = parametersGenerator.next(tryLifecycleContext);
 			} catch (Throwable throwable) {
@@ -60,12 +96,19 @@ public class GenericProperty {
 				JqwikExceptionSupport.rethrowIfBlacklisted(throwable);
 
 				return exhaustedCheckResult(countTries, countChecks, throwable);
+			} finally {
+				executionMetrics.addGenerationTime(generationStart);
 			}
 
 			List<Object> sample = extractParams(shrinkableParams);
 			try {
 				countChecks++;
-				TryExecutionResult tryExecutionResult = testPredicate(tryLifecycleContext, sample, reporter, reporting);
+				// Same randomness as with concurrently checked tries
+				Random tryRandom = SourceOfRandomness.tryRandom(seed, countTries - 1);
+				TryExecutionResult tryExecutionResult = SourceOfRandomness.runWithRandom(
+					tryRandom,
+					() -> testPredicate(tryLifecycleContext, sample, reporter, reporting)
+				);
 				switch (tryExecutionResult.status()) {
 					case SATISFIED:
 						finishEarly = tryExecutionResult.shouldPropertyFinishEarly();
@@ -77,12 +120,14 @@ public class GenericProperty {
 							tryExecutionResult.throwable(),
 							tryExecutionResult.footnotes()
 						);
+						timeBudget.triesFinished();
 						return shrinkAndCreateCheckResult(
 							reporter,
 							reporting,
 							countChecks,
 							countTries,
 							falsifiedSample,
+							parametersGenerator.generationInfo(configuration.getSeed()),
 							tryLifecycleContext.targetMethod()
 						);
 					case INVALID:
@@ -107,21 +152,294 @@ public class GenericProperty {
 			} catch (Throwable throwable) {
 				// Only not AssertionErrors and non Exceptions get here
 				JqwikExceptionSupport.rethrowIfBlacklisted(throwable);
+				GenerationInfo generationInfo = parametersGenerator.generationInfo(configuration.getSeed());
+				return failedCheckResult(countTries, countChecks, sample, shrinkableParams, generationInfo, throwable);
+			}
+		}
+		return finishedCheckResult(timeBudget.isActive() ? countTries : maxTries, countTries, countChecks);
+	}
+
+	private PropertyCheckResult checkWithParallelTries(
+		Reporter reporter,
+		Reporting[] reporting,
+		int maxTries,
+		TimeBudget timeBudget
+	) {
+		List<ParametersGenerator> partitions = parametersGenerator.partition(configuration.getParallelism());
+		if (partitions.size() > 1) {
+			return checkPartitionsInParallel(reporter, reporting, partitions, maxTries, timeBudget);
+		}
+		int countChecks = 0;
+		int countTries = 0;
+		ParallelTriesExecutor parallelTriesExecutor = new ParallelTriesExecutor(
+			configuration.getParallelism(),
+			timedTryLifecycleExecutor,
+			configuration.getSeed(),
+			configuration.triesOnVirtualThreads()
+		);
+		try {
+			boolean finishEarly = false;
+			while (!finishEarly && countTries < maxTries && !timeBudget.isExhausted() && parametersGenerator.hasNext()) {
+				// Values are generated sequentially so that a property's seed fully determines all tries
+				int batchSize = Math.min(parallelTriesExecutor.batchSize(), maxTries - countTries);
+				List<TryLifecycleContext> contexts = new ArrayList<>();
+				List<List<Shrinkable<Object>>> shrinkables = new ArrayList<>();
+				List<List<Object>> samples = new ArrayList<>();
+				List<TryStores> tryStores = new ArrayList<>();
+				List<GenerationInfo> generationInfos = new ArrayList<>();
+				Throwable generationError = null;
+				while (samples.size() < batchSize && parametersGenerator.hasNext()) {
+					TryLifecycleContext tryLifecycleContext = tryLifecycleContextSupplier.get();
+					// Generators can keep state in try stores, which must not be shared with other tries
+					TryStores storesOfTry = new TryStores();
+					List<Shrinkable<Object>> shrinkableParams;
+					long generationStart = System.nanoTime();
+					try {
+						shrinkableParams = storesOfTry.runWith(() -> parametersGenerator.next(tryLifecycleContext));
+					} catch (Throwable throwable) {
+						JqwikExceptionSupport.rethrowIfBlacklisted(throwable);
+						storesOfTry.finish();
+						generationError = throwable;
+						break;
+					} finally {
+						executionMetrics.addGenerationTime(generationStart);
+					}
+					List<Object> sample = extractParams(shrinkableParams);
+					if (Reporting.GENERATED.containedIn(reporting)) {
+						Map<String, Object> reports = SampleReporter.createSampleReports(tryLifecycleContext.targetMethod(), sample);
+						reporter.publishReports("generated", reports);
+					}
+					contexts.add(tryLifecycleContext);
+					shrinkables.add(shrinkableParams);
+					samples.add(sample);
+					tryStores.add(storesOfTry);
+					generationInfos.add(parametersGenerator.generationInfo(configuration.getSeed()));
+				}
+
+				List<Future<TryExecutionResult>> results = parallelTriesExecutor.execute(contexts, samples, tryStores, countTries);
+
+				// Results are evaluated in order of generation to get the same outcome as sequential checking
+				for (int i = 0; i < results.size(); i++) {
+					countTries++;
+					countChecks++;
+					TryExecutionResult tryExecutionResult;
+					try {
+						tryExecutionResult = parallelTriesExecutor.resultOf(results.get(i));
+					} catch (Throwable throwable) {
+						// Only not AssertionErrors and non Exceptions get here
+						JqwikExceptionSupport.rethrowIfBlacklisted(throwable);
+						parallelTriesExecutor.close();
+						return failedCheckResult(countTries, countChecks, samples.get(i), shrinkables.get(i), generationInfos.get(i), throwable);
+					}
+					if (tryExecutionResult.status() == TryExecutionResult.Status.FALSIFIED) {
+						parallelTriesExecutor.close();
+						timeBudget.triesFinished();
+						FalsifiedSample falsifiedSample = new FalsifiedSampleImpl(
+							samples.get(i),
+							shrinkables.get(i),
+							tryExecutionResult.throwable(),
+							tryExecutionResult.footnotes()
+						);
+						return shrinkAndCreateCheckResult(
+							reporter,
+							reporting,
+							countChecks,
+							countTries,
+							falsifiedSample,
+							generationInfos.get(i),
+							contexts.get(i).targetMethod()
+						);
+					}
+					if (tryExecutionResult.status() == TryExecutionResult.Status.INVALID) {
+						countChecks--;
+					}
+					if (tryExecutionResult.shouldPropertyFinishEarly()) {
+						finishEarly = true;
+						break;
+					}
+				}
+				if (generationError != null) {
+					// Mostly TooManyFilterMissesException gets here
+					return exhaustedCheckResult(countTries + 1, countChecks, generationError);
+				}
+			}
+		} finally {
+			parallelTriesExecutor.close();
+		}
+		return finishedCheckResult(timeBudget.isActive() ? countTries : maxTries, countTries, countChecks);
+	}
+
+	/**
+	 * Each worker generates and checks the tries of its own partition,
+	 * which spares the property thread from generating all tries up front.
+	 * Results are evaluated in order of the tries' generation index
+	 * to get the same outcome as sequential checking.
+	 */
+	private PropertyCheckResult checkPartitionsInParallel(
+		Reporter reporter,
+		Reporting[] reporting,
+		List<ParametersGenerator> partitions,
+		int maxTries,
+		TimeBudget timeBudget
+	) {
+		// Tries with a higher index than a falsified or otherwise final try are not needed
+		AtomicInteger firstFinalIndex = new AtomicInteger(Integer.MAX_VALUE);
+		List<CheckedTry> checkedTries = new ArrayList<>();
+		try (ParallelTriesExecutor parallelTriesExecutor = new ParallelTriesExecutor(
+			configuration.getParallelism(),
+			timedTryLifecycleExecutor,
+			configuration.getSeed(),
+			configuration.triesOnVirtualThreads()
+		)) {
+			List<Future<List<CheckedTry>>> futures = new ArrayList<>();
+			for (ParametersGenerator partition : partitions) {
+				futures.add(parallelTriesExecutor.submit(
+					() -> checkPartition(partition, reporter, reporting, maxTries, timeBudget, firstFinalIndex)
+				));
+			}
+			for (Future<List<CheckedTry>> future : futures) {
+				checkedTries.addAll(parallelTriesExecutor.resultOf(future));
+			}
+		}
+
+		int countTries = 0;
+		int countChecks = 0;
+		for (CheckedTry checkedTry : checkedTries) {
+			if (checkedTry.index != countTries) {
+				// A partition stopped early, e.g. because the time budget was exhausted
+				break;
+			}
+			if (checkedTry.generationError != null) {
+				// Mostly TooManyFilterMissesException gets here
+				return exhaustedCheckResult(countTries + 1, countChecks, checkedTry.generationError);
+			}
+			countTries++;
+			countChecks++;
+			if (checkedTry.error != null) {
+				return failedCheckResult(
+					countTries, countChecks, checkedTry.sample, checkedTry.shrinkables, checkedTry.generationInfo, checkedTry.error
+				);
+			}
+			TryExecutionResult tryExecutionResult = checkedTry.result;
+			if (tryExecutionResult.status() == TryExecutionResult.Status.FALSIFIED) {
+				timeBudget.triesFinished();
 				FalsifiedSample falsifiedSample = new FalsifiedSampleImpl(
-					sample,
-					shrinkableParams,
-					Optional.of(throwable),
-					Collections.emptyList()
+					checkedTry.sample,
+					checkedTry.shrinkables,
+					tryExecutionResult.throwable(),
+					tryExecutionResult.footnotes()
 				);
-				GenerationInfo generationInfo = parametersGenerator.generationInfo(configuration.getSeed());
-				return PropertyCheckResult.failed(
-					configuration.getStereotype(), name, countTries, countChecks, generationInfo,
-					configuration.getGenerationMode(),
-					configuration.getEdgeCasesMode(), parametersGenerator.edgeCasesTotal(), parametersGenerator.edgeCasesTried(),
-					falsifiedSample, null, throwable
+				return shrinkAndCreateCheckResult(
+					reporter,
+					reporting,
+					countChecks,
+					countTries,
+					falsifiedSample,
+					checkedTry.generationInfo,
+					checkedTry.targetMethod
+				);
+			}
+			if (tryExecutionResult.status() == TryExecutionResult.Status.INVALID) {
+				countChecks--;
+			}
+			if (tryExecutionResult.shouldPropertyFinishEarly()) {
+				break;
+			}
+		}
+		return finishedCheckResult(timeBudget.isActive() ? countTries : maxTries, countTries, countChecks);
+	}
+
+	private List<CheckedTry> checkPartition(
+		ParametersGenerator partition,
+		Reporter reporter,
+		Reporting[] reporting,
+		int maxTries,
+		TimeBudget timeBudget,
+		AtomicInteger firstFinalIndex
+	) {
+		long seed = SourceOfRandomness.seedAsLong(configuration.getSeed());
+		List<CheckedTry> checkedTries = new ArrayList<>();
+		while (partition.hasNext() && !timeBudget.isExhausted()) {
+			// Partitions count generation indexes from the start of the property
+			int index = partition.generationInfo(configuration.getSeed()).generationIndex();
+			if (index >= maxTries || index > firstFinalIndex.get()) {
+				break;
+			}
+			TryLifecycleContext tryLifecycleContext = tryLifecycleContextSupplier.get();
+			// Generators can keep state in try stores, which must not be shared with other tries
+			TryStores storesOfTry = new TryStores();
+			List<Shrinkable<Object>> shrinkableParams;
+			long generationStart = System.nanoTime();
+			try {
+				shrinkableParams = storesOfTry.runWith(() -> partition.next(tryLifecycleContext));
+			} catch (Throwable throwable) {
+				JqwikExceptionSupport.rethrowIfBlacklisted(throwable);
+				storesOfTry.finish();
+				firstFinalIndex.accumulateAndGet(index, Math::min);
+				checkedTries.add(CheckedTry.generationFailed(index, throwable));
+				break;
+			} finally {
+				executionMetrics.addGenerationTime(generationStart);
+			}
+			List<Object> sample = extractParams(shrinkableParams);
+			if (Reporting.GENERATED.containedIn(reporting)) {
+				Map<String, Object> reports = SampleReporter.createSampleReports(tryLifecycleContext.targetMethod(), sample);
+				reporter.publishReports("generated", reports);
+			}
+
+			TryExecutionResult tryExecutionResult = null;
+			Throwable error = null;
+			try {
+				tryExecutionResult = SourceOfRandomness.runWithRandom(
+					SourceOfRandomness.tryRandom(seed, index),
+					() -> storesOfTry.runWith(() -> timedTryLifecycleExecutor.execute(tryLifecycleContext, sample))
 				);
+			} catch (Throwable throwable) {
+				// Only not AssertionErrors and non Exceptions get here
+				JqwikExceptionSupport.rethrowIfBlacklisted(throwable);
+				error = throwable;
+			}
+			boolean isFinal = error != null
+								  || tryExecutionResult.status() == TryExecutionResult.Status.FALSIFIED
+								  || tryExecutionResult.shouldPropertyFinishEarly();
+			if (!isFinal) {
+				// Samples of satisfied and invalid tries are not needed any more
+				checkedTries.add(CheckedTry.checked(index, tryExecutionResult));
+				continue;
 			}
+			firstFinalIndex.accumulateAndGet(index, Math::min);
+			checkedTries.add(CheckedTry.finalTry(
+				index, tryExecutionResult, error, sample, shrinkableParams,
+				partition.generationInfo(configuration.getSeed()), tryLifecycleContext.targetMethod()
+			));
+			break;
 		}
+		return checkedTries;
+	}
+
+	private PropertyCheckResult failedCheckResult(
+		int countTries,
+		int countChecks,
+		List<Object> sample,
+		List<Shrinkable<Object>> shrinkableParams,
+		GenerationInfo generationInfo,
+		Throwable throwable
+	) {
+		FalsifiedSample falsifiedSample = new FalsifiedSampleImpl(
+			sample,
+			shrinkableParams,
+			Optional.of(throwable),
+			Collections.emptyList()
+		);
+		return PropertyCheckResult.failed(
+			configuration.getStereotype(), name, countTries, countChecks, generationInfo,
+			configuration.getGenerationMode(),
+			configuration.getEdgeCasesMode(), parametersGenerator.edgeCasesTotal(), parametersGenerator.edgeCasesTried(),
+			falsifiedSample, null, throwable
+		);
+	}
+
+	private PropertyCheckResult finishedCheckResult(int maxTries, int countTries, int countChecks) {
 		if (countChecks == 0 || maxDiscardRatioExceeded(countChecks, countTries, configuration.getMaxDiscardRatio())) {
 			return exhaustedCheckResult(maxTries, countChecks, null);
 		}
@@ -163,7 +481,7 @@ public class GenericProperty {
 			Map<String, Object> reports = SampleReporter.createSampleReports(tryLifecycleContext.targetMethod(), sample);
 			reporter.publishReports("generated", reports);
 		}
-		return tryLifecycleExecutor.execute(tryLifecycleContext, sample);
+		return timedTryLifecycleExecutor.execute(tryLifecycleContext, sample);
 	}
 
 	private boolean maxDiscardRatioExceeded(int countChecks, int countTries, int maxDiscardRatio) {
@@ -178,12 +496,13 @@ public class GenericProperty {
 	private PropertyCheckResult shrinkAndCreateCheckResult(
 		Reporter reporter, Reporting[] reporting, int countChecks,
 		int countTries, FalsifiedSample originalSample,
+		GenerationInfo falsifiedGenerationInfo,
 		Method targetMethod
 	) {
-		Tuple2<ShrunkFalsifiedSample, List<TryExecutionResult.Status>> tuple = shrink(reporter, reporting, originalSample, targetMethod);
+		Tuple3<ShrunkFalsifiedSample, List<TryExecutionResult.Status>, Optional<ShrinkingPath>> tuple =
+			shrink(reporter, reporting, originalSample, targetMethod);
 		ShrunkFalsifiedSample shrunkSample = tuple.get1();
-		GenerationInfo generationInfo = parametersGenerator.generationInfo(configuration.getSeed())
-														   .appendShrinkingSequence(tuple.get2());
+		GenerationInfo generationInfo = falsifiedGenerationInfo.appendShrinkingSequence(tuple.get2(), tuple.get3());
 		return PropertyCheckResult.failed(
 			configuration.getStereotype(), name, countTries, countChecks, generationInfo, configuration.getGenerationMode(),
 			configuration.getEdgeCasesMode(), parametersGenerator.edgeCasesTotal(), parametersGenerator.edgeCasesTried(),
@@ -191,7 +510,7 @@ public class GenericProperty {
 		);
 	}
 
-	private Tuple2<ShrunkFalsifiedSample, List<TryExecutionResult.Status>> shrink(
+	private Tuple3<ShrunkFalsifiedSample, List<TryExecutionResult.Status>, Optional<ShrinkingPath>> shrink(
 		Reporter reporter,
 		Reporting[] reporting,
 		FalsifiedSample originalSample,
@@ -207,12 +526,19 @@ public class GenericProperty {
 			configuration.getShrinkingMode(),
 			configuration.boundedShrinkingSeconds(),
 			falsifiedSampleReporter,
-			targetMethod
+			targetMethod,
+			configuration.shrinkingCacheMaxEntries(),
+			configuration.getParallelism(),
+			configuration.triesOnVirtualThreads()
 		);
 
 		Falsifier<List<Object>> forAllFalsifier = createFalsifier(tryLifecycleContextSupplier, tryLifecycleExecutor);
+		long shrinkingStart = System.nanoTime();
 		ShrunkFalsifiedSample falsifiedSample = shrinker.shrink(forAllFalsifier);
-		return Tuple.of(falsifiedSample, shrinker.shrinkingSequence());
+		List<TryExecutionResult.Status> shrinkingSequence = shrinker.shrinkingSequence();
+		executionMetrics.addShrinkingTime(shrinkingStart, shrinker.countEvaluatedCandidates());
+		executionMetrics.addShrinkingCacheStatistics(shrinker.countCacheHits(), shrinker.countCacheMisses());
+		return Tuple.of(falsifiedSample, shrinkingSequence, shrinker.shrinkingPath());
 	}
 
 	private Consumer<FalsifiedSample> createFalsifiedSampleReporter(Reporter reporter, Reporting[] reporting) {
@@ -229,4 +555,50 @@ public class GenericProperty {
 		return params -> tryExecutor.execute(tryLifecycleContext.get(), params);
 	}
 
+	/**
+	 * A try that has been generated and checked by a worker of {@linkplain #checkPartitionsInParallel}.
+	 * Sample and shrinkables are only kept for a final try.
+	 */
+	private static class CheckedTry {
+
+		static CheckedTry checked(int index, TryExecutionResult result) {
+			return new CheckedTry(index, result, null, null, null, null, null, null);
+		}
+
+		static CheckedTry generationFailed(int index, Throwable generationError) {
+			return new CheckedTry(index, null, null, generationError, null, null, null, null);
+		}
+
+		static CheckedTry finalTry(
+			int index, TryExecutionResult result, Throwable error,
+			List<Object> sample, List<Shrinkable<Object>> shrinkables,
+			GenerationInfo generationInfo, Method targetMethod
+		) {
+			return new CheckedTry(index, result, error, null, sample, shrinkables, generationInfo, targetMethod);
+		}
+
+		private final int index;
+		private final TryExecutionResult result;
+		private final Throwable error;
+		private final Throwable generationError;
+		private final List<Object> sample;
+		private final List<Shrinkable<Object>> shrinkables;
+		private final GenerationInfo generationInfo;
+		private final Method targetMethod;
+
+		private CheckedTry(
+			int index, TryExecutionResult result, Throwable error, Throwable generationError,
+			List<Object> sample, List<Shrinkable<Object>> shrinkables,
+			GenerationInfo generationInfo, Method targetMethod
+		) {
+			this.index = index;
+			this.result = result;
+			this.error = error;
+			this.generationError = generationError;
+			this.sample = sample;
+			this.shrinkables = shrinkables;
+			this.generationInfo = generationInfo;
+			this.targetMethod = targetMethod;
+		}
+	}
 }
@@ -0,0 +1,170 @@
+package net.jqwik.engine.properties;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+import java.util.function.*;
+import java.util.logging.*;
+
+import net.jqwik.api.lifecycle.*;
+import net.jqwik.engine.*;
+import net.jqwik.engine.execution.lifecycle.*;
+import net.jqwik.engine.support.*;
+
+/**
+ * Checks batches of already generated tries on a pool of worker threads.
+ *
+ * <p>
+ * Each try runs with the test descriptor and domain context of the calling thread,
+ * with its own values of try stores
+ * and with its own source of randomness derived from the property's seed and the try's index.
+ * As soon as a try fails all tries with a higher index that have not started yet are skipped.
+ * </p>
+ *
+ * <p>
+ * With virtual threads each try gets its own thread and parallelism only limits
+ * the number of tries running at the same time.
+ * </p>
+ */
+class ParallelTriesExecutor implements AutoCloseable {
+
+	private static final Logger LOG = Logger.getLogger(ParallelTriesExecutor.class.getName());
+
+	// Tries per worker that are generated ahead
+	private static final int TRIES_PER_WORKER = 16;
+
+	private final int parallelism;
+	private final TryLifecycleExecutor tryLifecycleExecutor;
+	private final long baseSeed;
+	private final ThreadContext threadContext;
+	private final ExecutorService executorService;
+	private final Semaphore runningTries;
+
+	private volatile boolean closed = false;
+
+	ParallelTriesExecutor(int parallelism, TryLifecycleExecutor tryLifecycleExecutor, String seed, boolean useVirtualThreads) {
+		this.parallelism = parallelism;
+		this.tryLifecycleExecutor = tryLifecycleExecutor;
+		this.baseSeed = SourceOfRandomness.seedAsLong(seed);
+		this.threadContext = ThreadContext.capture();
+		Optional<ExecutorService> virtualThreadExecutor =
+			useVirtualThreads ? virtualThreadExecutor() : Optional.empty();
+		this.executorService = virtualThreadExecutor.orElseGet(() -> Executors.newFixedThreadPool(parallelism));
+		this.runningTries = virtualThreadExecutor.isPresent() ? new Semaphore(parallelism) : null;
+	}
+
+	private static Optional<ExecutorService> virtualThreadExecutor() {
+		Optional<ExecutorService> executor = JqwikThreadSupport.virtualThreadPerTaskExecutor();
+		if (!executor.isPresent()) {
+			LOG.warning("Virtual threads are not available in this JVM. Falling back to platform threads for tries.");
+		}
+		return executor;
+	}
+
+	int batchSize() {
+		return parallelism * TRIES_PER_WORKER;
+	}
+
+	/**
+	 * @param tryStores      The try stores each sample has been generated with
+	 * @param firstTryIndex The index of the first try in the batch, counted from the beginning of the property
+	 * @return futures of the tries' results in the same order as tries were handed in
+	 */
+	List<Future<TryExecutionResult>> execute(
+		List<TryLifecycleContext> contexts,
+		List<List<Object>> samples,
+		List<TryStores> tryStores,
+		int firstTryIndex
+	) {
+		AtomicInteger firstFailingIndex = new AtomicInteger(Integer.MAX_VALUE);
+		List<Future<TryExecutionResult>> futures = new ArrayList<>();
+		for (int i = 0; i < samples.size(); i++) {
+			int index = i;
+			TryLifecycleContext context = contexts.get(i);
+			List<Object> sample = samples.get(i);
+			TryStores storesOfTry = tryStores.get(i);
+			Random random = SourceOfRandomness.tryRandom(baseSeed, firstTryIndex + index);
+			futures.add(executorService.submit(() -> {
+				acquireTrySlot();
+				try {
+					if (closed || index > firstFailingIndex.get()) {
+						// Result will never be looked at
+						storesOfTry.finish();
+						return null;
+					}
+					TryExecutionResult result = threadContext.runWith(
+						random,
+						() -> storesOfTry.runWith(() -> tryLifecycleExecutor.execute(context, sample))
+					);
+					if (result.status() == TryExecutionResult.Status.FALSIFIED) {
+						firstFailingIndex.accumulateAndGet(index, Math::min);
+					}
+					return result;
+				} catch (Throwable throwable) {
+					firstFailingIndex.accumulateAndGet(index, Math::min);
+					throw throwable;
+				} finally {
+					releaseTrySlot();
+				}
+			}));
+		}
+		return futures;
+	}
+
+	/**
+	 * Run {@code task} on a worker with the test descriptor and domain context of the calling thread.
+	 * The task itself is responsible for the source of randomness and the try stores of the tries it runs.
+	 */
+	<T> Future<T> submit(Supplier<T> task) {
+		return executorService.submit(() -> {
+			acquireTrySlot();
+			try {
+				return threadContext.runWith(task);
+			} finally {
+				releaseTrySlot();
+			}
+		});
+	}
+
+	// Thread pools limit the number of running tries themselves
+	private void acquireTrySlot() {
+		if (runningTries != null) {
+			runningTries.acquireUninterruptibly();
+		}
+	}
+
+	private void releaseTrySlot() {
+		if (runningTries != null) {
+			runningTries.release();
+		}
+	}
+
+	/**
+	 * Wait for a try's or task's result. Throwables that escaped are rethrown.
+	 */
+	<T> T resultOf(Future<T> future) {
+		try {
+			return future.get();
+		} catch (ExecutionException executionException) {
+			return JqwikExceptionSupport.throwAsUncheckedException(executionException.getCause());
+		} catch (InterruptedException interruptedException) {
+			Thread.currentThread().interrupt();
+			return JqwikExceptionSupport.throwAsUncheckedException(interruptedException);
+		}
+	}
+
+	/**
+	 * Skip all tries that have not started yet and wait for running tries to finish.
+	 */
+	@Override
+	public void close() {
+		closed = true;
+		executorService.shutdown();
+		try {
+			// Running tries cannot be stopped from outside
+			executorService.awaitTermination(Long.MAX_VALUE, TimeUnit.MILLISECONDS);
+		} catch (InterruptedException interruptedException) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
@@ -42,6 +42,7 @@ public class PropertyCheckResult implements ExtendedPropertyExecutionResult {
 			edgeCasesTried,
 			null,
 			null,
+			null,
 			null
 		);
 	}
@@ -77,7 +78,8 @@ public class PropertyCheckResult implements ExtendedPropertyExecutionResult {
 			edgeCasesTried,
 			originalSample,
 			shrunkSample,
-			throwable
+			throwable,
+			null
 		);
 	}
 
@@ -108,7 +110,8 @@ public class PropertyCheckResult implements ExtendedPropertyExecutionResult {
 			edgeCasesTried,
 			null,
 			null,
-			throwable
+			throwable,
+			null
 		);
 	}
 
@@ -137,7 +140,8 @@ public class PropertyCheckResult implements ExtendedPropertyExecutionResult {
 			edgeCasesTried,
 			null,
 			null,
-			throwable
+			throwable,
+			null
 		);
 	}
 
@@ -154,6 +158,7 @@ public class PropertyCheckResult implements ExtendedPropertyExecutionResult {
 	private final FalsifiedSample originalSample;
 	private final ShrunkFalsifiedSample shrunkSample;
 	private final Throwable throwable;
+	private final PropertyExecutionMetrics executionMetrics;
 
 	private PropertyCheckResult(
 		CheckStatus status, String stereotype,
@@ -167,7 +172,8 @@ public class PropertyCheckResult implements ExtendedPropertyExecutionResult {
 		int edgeCasesTried,
 		FalsifiedSample originalSample,
 		ShrunkFalsifiedSample shrunkSample,
-		Throwable throwable
+		Throwable throwable,
+		PropertyExecutionMetrics executionMetrics
 	) {
 		this.stereotype = stereotype;
 		this.status = status;
@@ -182,6 +188,7 @@ public class PropertyCheckResult implements ExtendedPropertyExecutionResult {
 		this.shrunkSample = shrunkSample;
 		this.originalSample = originalSample;
 		this.throwable = determineThrowable(status, throwable);
+		this.executionMetrics = executionMetrics;
 	}
 
 	private Throwable determineThrowable(CheckStatus status, Throwable throwable) {
@@ -236,7 +243,8 @@ public class PropertyCheckResult implements ExtendedPropertyExecutionResult {
 					edgeCasesTried,
 					originalSample,
 					shrunkSample,
-					throwable
+					throwable,
+					executionMetrics
 				);
 			case SUCCESSFUL:
 				return new PropertyCheckResult(
@@ -252,13 +260,33 @@ public class PropertyCheckResult implements ExtendedPropertyExecutionResult {
 					edgeCasesTried,
 					null,
 					null,
-					throwable
+					throwable,
+					executionMetrics
 				);
 			default:
 				throw new IllegalStateException(String.format("Unknown state: %s", newStatus.name()));
 		}
 	}
 
+	PropertyCheckResult withExecutionMetrics(PropertyExecutionMetrics executionMetrics) {
+		return new PropertyCheckResult(
+			status,
+			stereotype,
+			propertyName,
+			tries,
+			checks,
+			generationInfo,
+			generation,
+			edgeCasesMode,
+			edgeCasesTotal,
+			edgeCasesTried,
+			originalSample,
+			shrunkSample,
+			throwable,
+			executionMetrics
+		);
+	}
+
 	@Override
 	public boolean isExtended() {
 		return true;
@@ -292,6 +320,11 @@ public class PropertyCheckResult implements ExtendedPropertyExecutionResult {
 		return Optional.ofNullable(shrunkSample);
 	}
 
+	@Override
+	public Optional<PropertyExecutionMetrics> executionMetrics() {
+		return Optional.ofNullable(executionMetrics);
+	}
+
 	public GenerationMode generation() {
 		return generation;
 	}
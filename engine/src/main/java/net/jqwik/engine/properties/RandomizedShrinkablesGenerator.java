@@ -160,7 +160,8 @@ public class RandomizedShrinkablesGenerator implements ForAllParametersGenerator
 	private final int edgeCasesTotal;
 	private final int baseToEdgeCaseRatio;
 	private final long baseRandomSeed;
-	private Random random;
+	// Each try's randomness is derived from the base seed and the try's index
+	private long tryIndex = 0;
 
 	private boolean allEdgeCasesGenerated = false;
 	private int edgeCasesTried = 0;
@@ -179,7 +180,6 @@ public class RandomizedShrinkablesGenerator implements ForAllParametersGenerator
 		this.edgeCasesTotal = edgeCasesTotal;
 		this.baseToEdgeCaseRatio = baseToEdgeCaseRatio;
 		this.baseRandomSeed = baseRandomSeed;
-		this.random = SourceOfRandomness.newRandom(baseRandomSeed);
 	}
 
 	@Override
@@ -190,27 +190,55 @@ public class RandomizedShrinkablesGenerator implements ForAllParametersGenerator
 
 	@Override
 	public List<Shrinkable<Object>> next() {
-		if (!allEdgeCasesGenerated) {
-			if (edgeCasesMode.generateFirst()) {
+		Random random = SourceOfRandomness.newRandom(baseRandomSeed, tryIndex++);
+		if (nextIsEdgeCase(random)) {
+			edgeCasesTried++;
+			return edgeCasesGenerator.next();
+		}
+		return randomGenerator.generateNext(random);
+	}
+
+	/**
+	 * Skipping does not generate any random values.
+	 * Only edge cases must be iterated over since their order does not depend on a try's randomness.
+	 */
+	@Override
+	public boolean skip(int count) {
+		for (int i = 0; i < count; i++) {
+			if (allEdgeCasesGenerated || !(edgeCasesMode.generateFirst() || edgeCasesMode.mixIn())) {
+				tryIndex += count - i;
+				break;
+			}
+			Random random = SourceOfRandomness.newRandom(baseRandomSeed, tryIndex++);
+			if (nextIsEdgeCase(random)) {
+				edgeCasesTried++;
+				edgeCasesGenerator.next();
+			}
+		}
+		return true;
+	}
+
+	private boolean nextIsEdgeCase(Random random) {
+		if (allEdgeCasesGenerated) {
+			return false;
+		}
+		if (edgeCasesMode.generateFirst()) {
+			if (edgeCasesGenerator.hasNext()) {
+				return true;
+			} else {
+				allEdgeCasesGenerated = true;
+			}
+		}
+		if (edgeCasesMode.mixIn()) {
+			if (shouldGenerateEdgeCase(random)) {
 				if (edgeCasesGenerator.hasNext()) {
-					edgeCasesTried++;
-					return edgeCasesGenerator.next();
+					return true;
 				} else {
 					allEdgeCasesGenerated = true;
 				}
 			}
-			if (edgeCasesMode.mixIn()) {
-				if (shouldGenerateEdgeCase(random)) {
-					if (edgeCasesGenerator.hasNext()) {
-						edgeCasesTried++;
-						return edgeCasesGenerator.next();
-					} else {
-						allEdgeCasesGenerated = true;
-					}
-				}
-			}
 		}
-		return randomGenerator.generateNext(random);
+		return false;
 	}
 
 	@Override
@@ -225,7 +253,7 @@ public class RandomizedShrinkablesGenerator implements ForAllParametersGenerator
 
 	@Override
 	public void reset() {
-		random = SourceOfRandomness.newRandom(baseRandomSeed);
+		tryIndex = 0;
 	}
 
 	private boolean shouldGenerateEdgeCase(Random localRandom) {
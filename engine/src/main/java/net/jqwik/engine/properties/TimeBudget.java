@@ -0,0 +1,65 @@
+package net.jqwik.engine.properties;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * Limits the tries of a property by time instead of by count.
+ *
+ * <p>
+ * A budget of zero or less seconds is inactive, i.e. it is never exhausted.
+ * </p>
+ */
+class TimeBudget {
+
+	private final long durationNanos;
+	private final long startNanos;
+	private long triesFinishedNanos = -1;
+
+	static TimeBudget start(int durationSeconds) {
+		return new TimeBudget(TimeUnit.SECONDS.toNanos(Math.max(durationSeconds, 0)), System.nanoTime());
+	}
+
+	private TimeBudget(long durationNanos, long startNanos) {
+		this.durationNanos = durationNanos;
+		this.startNanos = startNanos;
+	}
+
+	boolean isActive() {
+		return durationNanos > 0;
+	}
+
+	boolean isExhausted() {
+		return isActive() && System.nanoTime() - startNanos >= durationNanos;
+	}
+
+	/**
+	 * Stop measuring so that time spent afterwards, e.g. for shrinking, does not count as time spent for tries.
+	 */
+	void triesFinished() {
+		if (triesFinishedNanos < 0) {
+			triesFinishedNanos = System.nanoTime();
+		}
+	}
+
+	Map<String, Object> report(int countTries, int edgeCasesTried, int edgeCasesTotal) {
+		triesFinished();
+		long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(triesFinishedNanos - startNanos);
+		double triesPerSecond = elapsedMillis == 0 ? countTries : countTries * 1000.0 / elapsedMillis;
+
+		Map<String, Object> reports = new LinkedHashMap<>();
+		reports.put("duration", String.format("%d ms of %d s", elapsedMillis, TimeUnit.NANOSECONDS.toSeconds(durationNanos)));
+		reports.put("tries", countTries);
+		reports.put("tries per second", String.format(Locale.ROOT, "%.1f", triesPerSecond));
+		reports.put("edge cases", edgeCasesCoverage(edgeCasesTried, edgeCasesTotal));
+		return reports;
+	}
+
+	private String edgeCasesCoverage(int edgeCasesTried, int edgeCasesTotal) {
+		if (edgeCasesTotal == 0) {
+			return "none";
+		}
+		double percentage = edgeCasesTried * 100.0 / edgeCasesTotal;
+		return String.format(Locale.ROOT, "%d of %d (%.1f %%)", edgeCasesTried, edgeCasesTotal, percentage);
+	}
+}
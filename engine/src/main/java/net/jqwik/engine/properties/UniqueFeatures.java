@@ -0,0 +1,117 @@
+package net.jqwik.engine.properties;
+
+import java.util.*;
+
+/**
+ * Counts the features extracted from a collection of elements
+ * so that the uniqueness of an added or replaced element can be checked
+ * without going through all elements again.
+ */
+public class UniqueFeatures<T> {
+
+	private final List<FeatureExtractor<T>> extractors;
+	private final List<Map<Object, Integer>> featureCounts;
+
+	public UniqueFeatures(Collection<FeatureExtractor<T>> extractors) {
+		this.extractors = new ArrayList<>(extractors);
+		this.featureCounts = new ArrayList<>(extractors.size());
+		for (int i = 0; i < extractors.size(); i++) {
+			featureCounts.add(new HashMap<>());
+		}
+	}
+
+	public static <T> UniqueFeatures<T> of(Collection<FeatureExtractor<T>> extractors, Collection<T> elements) {
+		UniqueFeatures<T> uniqueFeatures = new UniqueFeatures<>(extractors);
+		for (T element : elements) {
+			uniqueFeatures.add(element);
+		}
+		return uniqueFeatures;
+	}
+
+	/**
+	 * Add {@code value} if none of its features is already present.
+	 *
+	 * @return true if value has been added
+	 */
+	public boolean addIfUnique(T value) {
+		if (!isUnique(value)) {
+			return false;
+		}
+		add(value);
+		return true;
+	}
+
+	public boolean isUnique(T value) {
+		for (int i = 0; i < extractors.size(); i++) {
+			Object feature = extractors.get(i).applySafe(value);
+			if (count(i, feature) > 0) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Check if the elements would still be unique if {@code oldValue} was replaced by {@code newValue}.
+	 */
+	public boolean isUniqueReplacement(T oldValue, T newValue) {
+		for (int i = 0; i < extractors.size(); i++) {
+			FeatureExtractor<T> extractor = extractors.get(i);
+			Object newFeature = extractor.applySafe(newValue);
+			int count = count(i, newFeature);
+			if (Objects.equals(newFeature, extractor.applySafe(oldValue))) {
+				count--;
+			}
+			if (count > 0) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Check if the elements would still be unique if both {@code oldValue1} was replaced by {@code newValue1}
+	 * and {@code oldValue2} by {@code newValue2}.
+	 */
+	public boolean isUniqueReplacement(T oldValue1, T newValue1, T oldValue2, T newValue2) {
+		for (int i = 0; i < extractors.size(); i++) {
+			FeatureExtractor<T> extractor = extractors.get(i);
+			Object oldFeature1 = extractor.applySafe(oldValue1);
+			Object oldFeature2 = extractor.applySafe(oldValue2);
+			Object newFeature1 = extractor.applySafe(newValue1);
+			Object newFeature2 = extractor.applySafe(newValue2);
+			if (Objects.equals(newFeature1, newFeature2)) {
+				return false;
+			}
+			if (countWithout(i, newFeature1, oldFeature1, oldFeature2) > 0) {
+				return false;
+			}
+			if (countWithout(i, newFeature2, oldFeature1, oldFeature2) > 0) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private void add(T value) {
+		for (int i = 0; i < extractors.size(); i++) {
+			Object feature = extractors.get(i).applySafe(value);
+			featureCounts.get(i).merge(feature, 1, Integer::sum);
+		}
+	}
+
+	private int count(int extractorIndex, Object feature) {
+		return featureCounts.get(extractorIndex).getOrDefault(feature, 0);
+	}
+
+	private int countWithout(int extractorIndex, Object feature, Object removed1, Object removed2) {
+		int count = count(extractorIndex, feature);
+		if (Objects.equals(feature, removed1)) {
+			count--;
+		}
+		if (Objects.equals(feature, removed2)) {
+			count--;
+		}
+		return count;
+	}
+}
@@ -1,6 +1,5 @@
 package net.jqwik.engine.properties.arbitraries;
 
-import java.math.*;
 import java.util.*;
 import java.util.stream.*;
 
@@ -15,37 +14,88 @@ public class CharacterRangeArbitrary implements Arbitrary<Character> {
 	private final char min;
 	private final char max;
 
+	// Excluded characters are skipped through an index instead of being filtered
+	private final List<Range<Character>> excludedRanges;
+
 	public CharacterRangeArbitrary(char min, char max) {
+		this(min, max, Collections.emptyList());
+	}
+
+	CharacterRangeArbitrary(char min, char max, List<Range<Character>> excludedRanges) {
 		this.min = min;
 		this.max = max;
+		this.excludedRanges = excludedRanges;
+	}
+
+	CharacterRangeArbitrary excluding(Collection<Character> excludedChars) {
+		List<Range<Character>> newExcludedRanges = new ArrayList<>(excludedRanges);
+		for (Character excludedChar : excludedChars) {
+			newExcludedRanges.add(Range.of(excludedChar, excludedChar));
+		}
+		return new CharacterRangeArbitrary(min, max, newExcludedRanges);
 	}
 
 	@Override
 	public RandomGenerator<Character> generator(int genSize) {
-		return RandomGenerators.chars(min, max);
+		if (excludedRanges.isEmpty()) {
+			return RandomGenerators.chars(min, max);
+		}
+		CharacterRanges ranges = characterRanges();
+		return RandomIntegralGenerators.integrals(
+			1000,
+			ranges.minIndex(),
+			ranges.maxIndex(),
+			ranges.minIndex(),
+			RandomDistribution.uniform(),
+			ranges
+		);
+	}
+
+	/**
+	 * @return the allowed characters, which shrink towards the minimum
+	 */
+	CharacterRanges characterRanges() {
+		if (excludedRanges.isEmpty()) {
+			return CharacterRanges.of(min, max);
+		}
+		CharacterRanges ranges = CharacterRanges.of(min, max, excludedRanges);
+		if (ranges.isEmpty()) {
+			String message = String.format("All characters between [%s] and [%s] are excluded.", min, max);
+			throw new IllegalArgumentException(message);
+		}
+		return ranges;
 	}
 
 	private List<Shrinkable<Character>> listOfEdgeCases(int maxEdgeCases) {
 		Stream<Character> edgeCases = Stream.of(min, max, ' ').filter(c -> c >= min && c <= max);
-		return edgeCases
-					   .map(aCharacter -> new ShrinkableBigInteger(
-									BigInteger.valueOf((int) aCharacter),
-									Range.of(BigInteger.valueOf(this.min), BigInteger.valueOf(max)),
-									BigInteger.valueOf(min)
-							)
-					   )
-					   .map(shrinkableBigInteger -> shrinkableBigInteger.map(BigInteger::intValueExact))
-					   .map(shrinkableInteger -> shrinkableInteger.map(anInt -> ((char) (int) anInt)))
+		if (excludedRanges.isEmpty()) {
+			return edgeCases
+					   .map(aCharacter -> new ShrinkableIntegral<>(aCharacter, min, max, min, ShrinkableIntegral.TO_CHARACTER))
 					   .limit(Math.max(0, maxEdgeCases))
 					   .collect(Collectors.toList());
+		}
+		CharacterRanges ranges = characterRanges();
+		return edgeCases
+				   .map(aCharacter -> ranges.indexOf(aCharacter))
+				   .distinct()
+				   .map(anIndex -> new ShrinkableIntegral<>(anIndex, ranges.minIndex(), ranges.maxIndex(), ranges.minIndex(), ranges))
+				   .limit(Math.max(0, maxEdgeCases))
+				   .collect(Collectors.toList());
 	}
 
 	@Override
 	public Optional<ExhaustiveGenerator<Character>> exhaustive(long maxNumberOfSamples) {
+		if (!excludedRanges.isEmpty()) {
+			CharacterRanges ranges = characterRanges();
+			int minIndex = ranges.minIndex();
+			return ExhaustiveGenerators.fromIndex(
+				offset -> ranges.charAt(minIndex + offset),
+				ranges.count(),
+				maxNumberOfSamples
+			);
+		}
 		long maxCount = max + 1 - min;
-		return ExhaustiveGenerators
-					   .fromIterable(() -> IntStream.range(min, max + 1).iterator(), maxCount, maxNumberOfSamples)
-					   .map(optionalGenerator -> optionalGenerator.map(anInt -> (char) (int) anInt));
+		return ExhaustiveGenerators.fromIndex(offset -> (char) (min + offset), maxCount, maxNumberOfSamples);
 	}
 
 	@Override
@@ -61,11 +111,12 @@ public class CharacterRangeArbitrary implements Arbitrary<Character> {
 		CharacterRangeArbitrary that = (CharacterRangeArbitrary) o;
 
 		if (min != that.min) return false;
-		return max == that.max;
+		if (max != that.max) return false;
+		return excludedRanges.equals(that.excludedRanges);
 	}
 
 	@Override
 	public int hashCode() {
-		return HashCodeSupport.hash(min, max);
+		return HashCodeSupport.hash(min, max, excludedRanges);
 	}
 }
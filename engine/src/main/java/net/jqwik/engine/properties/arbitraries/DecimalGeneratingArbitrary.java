@@ -36,7 +36,7 @@ class DecimalGeneratingArbitrary extends TypedCloneable implements Arbitrary<Big
 		return RandomDecimalGenerators.bigDecimals(genSize, range, scale, distribution, shrinkingTarget());
 	}
 
-	private void checkRange() {
+	void checkRange() {
 		checkScale(range.min);
 		checkScale(range.max);
 	}
@@ -130,7 +130,7 @@ class DecimalGeneratingArbitrary extends TypedCloneable implements Arbitrary<Big
 		}
 	}
 
-	private BigDecimal shrinkingTarget() {
+	BigDecimal shrinkingTarget() {
 		if (shrinkingTarget == null) {
 			return RandomDecimalGenerators.defaultShrinkingTarget(range, scale);
 		} else {
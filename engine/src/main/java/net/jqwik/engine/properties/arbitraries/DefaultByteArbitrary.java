@@ -20,17 +20,17 @@ public class DefaultByteArbitrary extends TypedCloneable implements ByteArbitrar
 
 	@Override
 	public RandomGenerator<Byte> generator(int genSize) {
-		return generatingArbitrary.generator(genSize).map(BigInteger::byteValueExact);
+		return generatingArbitrary.generator(genSize, value -> (byte) value);
 	}
 
 	@Override
 	public Optional<ExhaustiveGenerator<Byte>> exhaustive(long maxNumberOfSamples) {
-		return generatingArbitrary.exhaustive(maxNumberOfSamples).map(generator -> generator.map(BigInteger::byteValueExact));
+		return generatingArbitrary.exhaustive(maxNumberOfSamples, value -> (byte) value);
 	}
 
 	@Override
 	public EdgeCases<Byte> edgeCases(int maxEdgeCases) {
-		return EdgeCasesSupport.map(generatingArbitrary.edgeCases(maxEdgeCases), BigInteger::byteValueExact);
+		return generatingArbitrary.edgeCases(maxEdgeCases, value -> (byte) value);
 	}
 
 	@Override
@@ -73,6 +73,28 @@ public class DefaultByteArbitrary extends TypedCloneable implements ByteArbitrar
 		return clone;
 	}
 
+	@Override
+	public ByteArbitrary withRemainder(byte divisor, byte remainder) {
+		BigInteger bigDivisor = BigInteger.valueOf(divisor);
+		BigInteger bigRemainder = BigInteger.valueOf(remainder);
+		generatingArbitrary.checkValueConstraints(bigDivisor, bigRemainder);
+		DefaultByteArbitrary clone = typedClone();
+		clone.generatingArbitrary.divisor = bigDivisor;
+		clone.generatingArbitrary.remainder = bigRemainder;
+		return clone;
+	}
+
+	@Override
+	public ByteArbitrary excluding(byte... values) {
+		List<BigInteger> excludedValues = new ArrayList<>();
+		for (byte value : values) {
+			excludedValues.add(BigInteger.valueOf(value));
+		}
+		DefaultByteArbitrary clone = typedClone();
+		clone.generatingArbitrary.excludeValues(excludedValues);
+		return clone;
+	}
+
 	@Override
 	public boolean equals(Object o) {
 		if (this == o) return true;
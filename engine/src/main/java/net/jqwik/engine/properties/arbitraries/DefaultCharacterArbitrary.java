@@ -5,6 +5,9 @@ import java.util.stream.*;
 
 import net.jqwik.api.*;
 import net.jqwik.api.arbitraries.*;
+import net.jqwik.api.support.*;
+import net.jqwik.engine.properties.*;
+import net.jqwik.engine.properties.shrinking.*;
 
 public class DefaultCharacterArbitrary extends TypedCloneable implements CharacterArbitrary {
 
@@ -38,7 +41,16 @@ public class DefaultCharacterArbitrary extends TypedCloneable implements Charact
 		return codepoint >= 0xe000 && codepoint <= 0xf8ff;
 	}
 
+	// Noncharacters and private use characters are not generated by default
+	private static final List<Range<Character>> DEFAULT_EXCLUDED_RANGES = Arrays.asList(
+		Range.of((char) 0xd800, (char) 0xdfff),
+		Range.of((char) 0xe000, (char) 0xf8ff),
+		Range.of((char) 0xfdd0, (char) 0xfdef),
+		Range.of((char) 0xfffe, (char) 0xffff)
+	);
+
 	private List<Tuple.Tuple2<Integer, Arbitrary<Character>>> partsWithSize = new ArrayList<>();
+	private Set<Character> excludedChars = Collections.emptySet();
 
 	public DefaultCharacterArbitrary() {
 	}
@@ -50,19 +62,42 @@ public class DefaultCharacterArbitrary extends TypedCloneable implements Charact
 
 	private Arbitrary<Character> arbitrary() {
 		if (partsWithSize.isEmpty()) {
-			return defaultArbitrary();
+			return withoutExcludedChars(defaultArbitrary());
 		}
 		if (partsWithSize.size() == 1) {
-			return partsWithSize.get(0).get2();
+			return withoutExcludedChars(partsWithSize.get(0).get2());
 		}
 
-		return Arbitraries.frequencyOf(partsWithSize);
+		List<Tuple.Tuple2<Integer, Arbitrary<Character>>> parts =
+			partsWithSize.stream()
+						 .map(part -> Tuple.of(part.get1(), withoutExcludedChars(part.get2())))
+						 .collect(Collectors.toList());
+		return Arbitraries.frequencyOf(parts);
+	}
+
+	/**
+	 * @return the allowed characters if all of them come from a single range
+	 */
+	Optional<CharacterRanges> characterRanges() {
+		Arbitrary<Character> arbitrary = arbitrary();
+		if (arbitrary instanceof CharacterRangeArbitrary) {
+			return Optional.of(((CharacterRangeArbitrary) arbitrary).characterRanges());
+		}
+		return Optional.empty();
 	}
 
 	private Arbitrary<Character> defaultArbitrary() {
-		return rangeArbitrary(Character.MIN_VALUE, Character.MAX_VALUE)
-				   .filter(c -> !DefaultCharacterArbitrary.isNoncharacter(c)
-									&& !DefaultCharacterArbitrary.isPrivateUseCharacter(c));
+		return new CharacterRangeArbitrary(Character.MIN_VALUE, Character.MAX_VALUE, DEFAULT_EXCLUDED_RANGES);
+	}
+
+	private Arbitrary<Character> withoutExcludedChars(Arbitrary<Character> part) {
+		if (excludedChars.isEmpty()) {
+			return part;
+		}
+		if (part instanceof CharacterRangeArbitrary) {
+			return ((CharacterRangeArbitrary) part).excluding(excludedChars);
+		}
+		return part.filter(c -> !excludedChars.contains(c));
 	}
 
 	@Override
@@ -120,18 +155,29 @@ public class DefaultCharacterArbitrary extends TypedCloneable implements Charact
 		return this.range('A', 'Z').range('a', 'z');
 	}
 
+	@Override
+	public CharacterArbitrary excluding(char... excludedChars) {
+		DefaultCharacterArbitrary clone = super.typedClone();
+		clone.excludedChars = new LinkedHashSet<>(this.excludedChars);
+		for (char excludedChar : excludedChars) {
+			clone.excludedChars.add(excludedChar);
+		}
+		return clone;
+	}
+
 	@Override
 	public boolean equals(Object o) {
 		if (this == o) return true;
 		if (o == null || getClass() != o.getClass()) return false;
 
 		DefaultCharacterArbitrary that = (DefaultCharacterArbitrary) o;
-		return partsWithSize.equals(that.partsWithSize);
+		if (!partsWithSize.equals(that.partsWithSize)) return false;
+		return excludedChars.equals(that.excludedChars);
 	}
 
 	@Override
 	public int hashCode() {
-		return partsWithSize.hashCode();
+		return HashCodeSupport.hash(partsWithSize, excludedChars);
 	}
 
 	private CharacterArbitrary cloneWith(Arbitrary<Character> part, int size) {
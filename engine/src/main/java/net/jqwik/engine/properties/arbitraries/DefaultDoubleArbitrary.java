@@ -8,6 +8,8 @@ import net.jqwik.api.*;
 import net.jqwik.api.arbitraries.*;
 import net.jqwik.api.support.*;
 import net.jqwik.engine.properties.*;
+import net.jqwik.engine.properties.arbitraries.randomized.*;
+import net.jqwik.engine.properties.shrinking.*;
 
 public class DefaultDoubleArbitrary extends TypedCloneable implements DoubleArbitrary {
 
@@ -16,6 +18,8 @@ public class DefaultDoubleArbitrary extends TypedCloneable implements DoubleArbi
 
 	private DecimalGeneratingArbitrary generatingArbitrary;
 	private final Set<Double> specials = new LinkedHashSet<>();
+	private boolean fixedScale = false;
+	private Consumer<EdgeCases.Config<Double>> edgeCasesConfigurator = EdgeCases.Config.noConfig();
 
 	public DefaultDoubleArbitrary() {
 		this.generatingArbitrary = new DecimalGeneratingArbitrary(Range.of(toBigDecimal(DEFAULT_MIN), toBigDecimal(DEFAULT_MAX)));
@@ -38,13 +42,8 @@ public class DefaultDoubleArbitrary extends TypedCloneable implements DoubleArbi
 
 	@Override
 	public Arbitrary<Double> edgeCases(Consumer<EdgeCases.Config<Double>> configurator) {
-		Consumer<EdgeCases.Config<BigDecimal>> decimalConfigurator = new MappedEdgeCasesConsumer<>(
-				configurator,
-				BigDecimal::doubleValue,
-				BigDecimal::valueOf
-		);
 		DefaultDoubleArbitrary clone = typedClone();
-		clone.generatingArbitrary = (DecimalGeneratingArbitrary) generatingArbitrary.edgeCases(decimalConfigurator);
+		clone.edgeCasesConfigurator = configurator;
 		return clone;
 	}
 
@@ -86,6 +85,7 @@ public class DefaultDoubleArbitrary extends TypedCloneable implements DoubleArbi
 	public DoubleArbitrary ofScale(int scale) {
 		DefaultDoubleArbitrary clone = typedClone();
 		clone.generatingArbitrary.scale = scale;
+		clone.fixedScale = true;
 		return clone;
 	}
 
@@ -121,13 +121,15 @@ public class DefaultDoubleArbitrary extends TypedCloneable implements DoubleArbi
 
 		DefaultDoubleArbitrary that = (DefaultDoubleArbitrary) o;
 
+		if (fixedScale != that.fixedScale) return false;
 		if (!generatingArbitrary.equals(that.generatingArbitrary)) return false;
+		if (!LambdaSupport.areEqual(edgeCasesConfigurator, that.edgeCasesConfigurator)) return false;
 		return specials.equals(that.specials);
 	}
 
 	@Override
 	public int hashCode() {
-		return HashCodeSupport.hash(generatingArbitrary, specials);
+		return HashCodeSupport.hash(generatingArbitrary, fixedScale, specials);
 	}
 
 	private BigDecimal toBigDecimal(double value) {
@@ -135,7 +137,14 @@ public class DefaultDoubleArbitrary extends TypedCloneable implements DoubleArbi
 	}
 
 	private Arbitrary<Double> arbitrary() {
-		Arbitrary<Double> doubleArbitrary = generatingArbitrary.map(BigDecimal::doubleValue);
+		Arbitrary<Double> doubleArbitrary = new FloatingPointGeneratingArbitrary<>(
+			generatingArbitrary,
+			fixedScale,
+			FloatingPointType.DOUBLE,
+			BigDecimal::doubleValue,
+			RandomDecimalGenerators::scaledDouble,
+			edgeCasesConfigurator
+		);
 		if (specials.isEmpty()) {
 			return doubleArbitrary;
 		}
@@ -8,6 +8,8 @@ import net.jqwik.api.*;
 import net.jqwik.api.arbitraries.*;
 import net.jqwik.api.support.*;
 import net.jqwik.engine.properties.*;
+import net.jqwik.engine.properties.arbitraries.randomized.*;
+import net.jqwik.engine.properties.shrinking.*;
 
 public class DefaultFloatArbitrary extends TypedCloneable implements FloatArbitrary {
 
@@ -16,6 +18,8 @@ public class DefaultFloatArbitrary extends TypedCloneable implements FloatArbitr
 
 	private DecimalGeneratingArbitrary generatingArbitrary;
 	private final Set<Float> specials = new LinkedHashSet<>();
+	private boolean fixedScale = false;
+	private Consumer<EdgeCases.Config<Float>> edgeCasesConfigurator = EdgeCases.Config.noConfig();
 
 	public DefaultFloatArbitrary() {
 		this.generatingArbitrary = new DecimalGeneratingArbitrary(Range.of(toBigDecimal(DEFAULT_MIN), toBigDecimal(DEFAULT_MAX)));
@@ -38,13 +42,8 @@ public class DefaultFloatArbitrary extends TypedCloneable implements FloatArbitr
 
 	@Override
 	public Arbitrary<Float> edgeCases(Consumer<EdgeCases.Config<Float>> configurator) {
-		Consumer<EdgeCases.Config<BigDecimal>> decimalConfigurator = new MappedEdgeCasesConsumer<>(
-				configurator,
-				BigDecimal::floatValue,
-				BigDecimal::valueOf
-		);
 		DefaultFloatArbitrary clone = typedClone();
-		clone.generatingArbitrary = (DecimalGeneratingArbitrary) generatingArbitrary.edgeCases(decimalConfigurator);
+		clone.edgeCasesConfigurator = configurator;
 		return clone;
 	}
 
@@ -86,6 +85,7 @@ public class DefaultFloatArbitrary extends TypedCloneable implements FloatArbitr
 	public FloatArbitrary ofScale(int scale) {
 		DefaultFloatArbitrary clone = typedClone();
 		clone.generatingArbitrary.scale = scale;
+		clone.fixedScale = true;
 		return clone;
 	}
 
@@ -121,17 +121,26 @@ public class DefaultFloatArbitrary extends TypedCloneable implements FloatArbitr
 
 		DefaultFloatArbitrary that = (DefaultFloatArbitrary) o;
 
+		if (fixedScale != that.fixedScale) return false;
 		if (!generatingArbitrary.equals(that.generatingArbitrary)) return false;
+		if (!LambdaSupport.areEqual(edgeCasesConfigurator, that.edgeCasesConfigurator)) return false;
 		return specials.equals(that.specials);
 	}
 
 	@Override
 	public int hashCode() {
-		return HashCodeSupport.hash(generatingArbitrary, specials);
+		return HashCodeSupport.hash(generatingArbitrary, fixedScale, specials);
 	}
 
 	private Arbitrary<Float> arbitrary() {
-		Arbitrary<Float> floatArbitrary = generatingArbitrary.map(BigDecimal::floatValue);
+		Arbitrary<Float> floatArbitrary = new FloatingPointGeneratingArbitrary<>(
+			generatingArbitrary,
+			fixedScale,
+			FloatingPointType.FLOAT,
+			BigDecimal::floatValue,
+			RandomDecimalGenerators::scaledFloat,
+			edgeCasesConfigurator
+		);
 		if (specials.isEmpty()) {
 			return floatArbitrary;
 		}
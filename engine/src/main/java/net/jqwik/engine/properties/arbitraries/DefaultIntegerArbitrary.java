@@ -20,17 +20,17 @@ public class DefaultIntegerArbitrary extends TypedCloneable implements IntegerAr
 
 	@Override
 	public RandomGenerator<Integer> generator(int genSize) {
-		return generatingArbitrary.generator(genSize).map(BigInteger::intValueExact);
+		return generatingArbitrary.generator(genSize, value -> (int) value);
 	}
 
 	@Override
 	public Optional<ExhaustiveGenerator<Integer>> exhaustive(long maxNumberOfSamples) {
-		return generatingArbitrary.exhaustive(maxNumberOfSamples).map(generator -> generator.map(BigInteger::intValueExact));
+		return generatingArbitrary.exhaustive(maxNumberOfSamples, value -> (int) value);
 	}
 
 	@Override
 	public EdgeCases<Integer> edgeCases(int maxEdgeCases) {
-		return EdgeCasesSupport.map(generatingArbitrary.edgeCases(maxEdgeCases), BigInteger::intValueExact);
+		return generatingArbitrary.edgeCases(maxEdgeCases, value -> (int) value);
 	}
 
 	@Override
@@ -73,6 +73,28 @@ public class DefaultIntegerArbitrary extends TypedCloneable implements IntegerAr
 		return clone;
 	}
 
+	@Override
+	public IntegerArbitrary withRemainder(int divisor, int remainder) {
+		BigInteger bigDivisor = BigInteger.valueOf(divisor);
+		BigInteger bigRemainder = BigInteger.valueOf(remainder);
+		generatingArbitrary.checkValueConstraints(bigDivisor, bigRemainder);
+		DefaultIntegerArbitrary clone = typedClone();
+		clone.generatingArbitrary.divisor = bigDivisor;
+		clone.generatingArbitrary.remainder = bigRemainder;
+		return clone;
+	}
+
+	@Override
+	public IntegerArbitrary excluding(int... values) {
+		List<BigInteger> excludedValues = new ArrayList<>();
+		for (int value : values) {
+			excludedValues.add(BigInteger.valueOf(value));
+		}
+		DefaultIntegerArbitrary clone = typedClone();
+		clone.generatingArbitrary.excludeValues(excludedValues);
+		return clone;
+	}
+
 	@Override
 	public boolean equals(Object o) {
 		if (this == o) return true;
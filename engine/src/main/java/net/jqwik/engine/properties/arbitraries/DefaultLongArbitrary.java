@@ -20,17 +20,17 @@ public class DefaultLongArbitrary extends TypedCloneable implements LongArbitrar
 
 	@Override
 	public RandomGenerator<Long> generator(int genSize) {
-		return generatingArbitrary.generator(genSize).map(BigInteger::longValueExact);
+		return generatingArbitrary.generator(genSize, Long::valueOf);
 	}
 
 	@Override
 	public Optional<ExhaustiveGenerator<Long>> exhaustive(long maxNumberOfSamples) {
-		return generatingArbitrary.exhaustive(maxNumberOfSamples).map(generator -> generator.map(BigInteger::longValueExact));
+		return generatingArbitrary.exhaustive(maxNumberOfSamples, Long::valueOf);
 	}
 
 	@Override
 	public EdgeCases<Long> edgeCases(int maxEdgeCases) {
-		return EdgeCasesSupport.map(generatingArbitrary.edgeCases(maxEdgeCases), BigInteger::longValueExact);
+		return generatingArbitrary.edgeCases(maxEdgeCases, Long::valueOf);
 	}
 
 	@Override
@@ -73,6 +73,28 @@ public class DefaultLongArbitrary extends TypedCloneable implements LongArbitrar
 		return clone;
 	}
 
+	@Override
+	public LongArbitrary withRemainder(long divisor, long remainder) {
+		BigInteger bigDivisor = BigInteger.valueOf(divisor);
+		BigInteger bigRemainder = BigInteger.valueOf(remainder);
+		generatingArbitrary.checkValueConstraints(bigDivisor, bigRemainder);
+		DefaultLongArbitrary clone = typedClone();
+		clone.generatingArbitrary.divisor = bigDivisor;
+		clone.generatingArbitrary.remainder = bigRemainder;
+		return clone;
+	}
+
+	@Override
+	public LongArbitrary excluding(long... values) {
+		List<BigInteger> excludedValues = new ArrayList<>();
+		for (long value : values) {
+			excludedValues.add(BigInteger.valueOf(value));
+		}
+		DefaultLongArbitrary clone = typedClone();
+		clone.generatingArbitrary.excludeValues(excludedValues);
+		return clone;
+	}
+
 	@Override
 	public boolean equals(Object o) {
 		if (this == o) return true;
@@ -20,17 +20,17 @@ public class DefaultShortArbitrary extends TypedCloneable implements ShortArbitr
 
 	@Override
 	public RandomGenerator<Short> generator(int genSize) {
-		return generatingArbitrary.generator(genSize).map(BigInteger::shortValueExact);
+		return generatingArbitrary.generator(genSize, value -> (short) value);
 	}
 
 	@Override
 	public Optional<ExhaustiveGenerator<Short>> exhaustive(long maxNumberOfSamples) {
-		return generatingArbitrary.exhaustive(maxNumberOfSamples).map(generator -> generator.map(BigInteger::shortValueExact));
+		return generatingArbitrary.exhaustive(maxNumberOfSamples, value -> (short) value);
 	}
 
 	@Override
 	public EdgeCases<Short> edgeCases(int maxEdgeCases) {
-		return EdgeCasesSupport.map(generatingArbitrary.edgeCases(maxEdgeCases), BigInteger::shortValueExact);
+		return generatingArbitrary.edgeCases(maxEdgeCases, value -> (short) value);
 	}
 
 	@Override
@@ -73,6 +73,28 @@ public class DefaultShortArbitrary extends TypedCloneable implements ShortArbitr
 		return clone;
 	}
 
+	@Override
+	public ShortArbitrary withRemainder(short divisor, short remainder) {
+		BigInteger bigDivisor = BigInteger.valueOf(divisor);
+		BigInteger bigRemainder = BigInteger.valueOf(remainder);
+		generatingArbitrary.checkValueConstraints(bigDivisor, bigRemainder);
+		DefaultShortArbitrary clone = typedClone();
+		clone.generatingArbitrary.divisor = bigDivisor;
+		clone.generatingArbitrary.remainder = bigRemainder;
+		return clone;
+	}
+
+	@Override
+	public ShortArbitrary excluding(short... values) {
+		List<BigInteger> excludedValues = new ArrayList<>();
+		for (short value : values) {
+			excludedValues.add(BigInteger.valueOf(value));
+		}
+		DefaultShortArbitrary clone = typedClone();
+		clone.generatingArbitrary.excludeValues(excludedValues);
+		return clone;
+	}
+
 	@Override
 	public boolean equals(Object o) {
 		if (this == o) return true;
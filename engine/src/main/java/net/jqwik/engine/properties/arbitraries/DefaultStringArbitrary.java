@@ -25,6 +25,16 @@ public class DefaultStringArbitrary extends TypedCloneable implements StringArbi
 	@Override
 	public RandomGenerator<String> generator(int genSize) {
 		long maxUniqueChars = characterArbitrary.exhaustive(maxLength()).map(ExhaustiveGenerator::maxCount).orElse((long) maxLength());
+		Optional<CharacterRanges> characterRanges = effectiveCharacterRanges();
+		if (characterRanges.isPresent()) {
+			return RandomGenerators.strings(
+				characterRanges.get(),
+				minLength, maxLength(), maxUniqueChars,
+				genSize, lengthDistribution,
+				characterArbitrary,
+				uniqueChars
+			);
+		}
 		return RandomGenerators.strings(
 			randomCharacterGenerator(),
 			minLength, maxLength(), maxUniqueChars,
@@ -83,7 +93,7 @@ public class DefaultStringArbitrary extends TypedCloneable implements StringArbi
 	}
 
 	private EdgeCases<String> emptyStringEdgeCase() {
-		return EdgeCases.fromSupplier(() -> new ShrinkableString(Collections.emptyList(), minLength, maxLength(), characterArbitrary, uniqueChars));
+		return EdgeCases.fromSupplier(() -> CompactShrinkableString.of(Collections.emptyList(), minLength, maxLength(), characterArbitrary, uniqueChars));
 	}
 
 	private EdgeCases<String> fixedSizedEdgeCases(int fixedSize, int maxEdgeCases) {
@@ -91,7 +101,7 @@ public class DefaultStringArbitrary extends TypedCloneable implements StringArbi
 			effectiveCharacterArbitrary().edgeCases(maxEdgeCases),
 			shrinkableChar -> {
 				List<Shrinkable<Character>> shrinkableChars = new ArrayList<>(Collections.nCopies(fixedSize, shrinkableChar));
-				return new ShrinkableString(shrinkableChars, minLength, maxLength(), characterArbitrary, uniqueChars);
+				return CompactShrinkableString.of(shrinkableChars, minLength, maxLength(), characterArbitrary, uniqueChars);
 			}
 		);
 	}
@@ -225,6 +235,7 @@ public class DefaultStringArbitrary extends TypedCloneable implements StringArbi
 		if (minLength != that.minLength) return false;
 		if (!Objects.equals(maxLength, that.maxLength)) return false;
 		if (Double.compare(that.repeatChars, repeatChars) != 0) return false;
+		if (uniqueChars != that.uniqueChars) return false;
 		if (!characterArbitrary.equals(that.characterArbitrary)) return false;
 		if (!excludedChars.equals(that.excludedChars)) return false;
 		return Objects.equals(lengthDistribution, that.lengthDistribution);
@@ -232,7 +243,7 @@ public class DefaultStringArbitrary extends TypedCloneable implements StringArbi
 
 	@Override
 	public int hashCode() {
-		return HashCodeSupport.hash(characterArbitrary, minLength, maxLength, repeatChars, excludedChars, lengthDistribution);
+		return HashCodeSupport.hash(characterArbitrary, minLength, maxLength, repeatChars, excludedChars, lengthDistribution, uniqueChars);
 	}
 
 	private RandomGenerator<Character> randomCharacterGenerator() {
@@ -244,12 +255,25 @@ public class DefaultStringArbitrary extends TypedCloneable implements StringArbi
 		}
 	}
 
+	// Injecting duplicates needs a generator of character shrinkables
+	private Optional<CharacterRanges> effectiveCharacterRanges() {
+		Arbitrary<Character> effectiveCharacterArbitrary = effectiveCharacterArbitrary();
+		if (repeatChars > 0 || !(effectiveCharacterArbitrary instanceof DefaultCharacterArbitrary)) {
+			return Optional.empty();
+		}
+		return ((DefaultCharacterArbitrary) effectiveCharacterArbitrary).characterRanges();
+	}
+
 	private Arbitrary<Character> effectiveCharacterArbitrary() {
-		Arbitrary<Character> characterArbitrary = this.characterArbitrary;
-		if (!excludedChars.isEmpty()) {
-			characterArbitrary = characterArbitrary.filter(c -> !excludedChars.contains(c));
+		if (excludedChars.isEmpty()) {
+			return characterArbitrary;
+		}
+		char[] chars = new char[excludedChars.size()];
+		int i = 0;
+		for (Character excludedChar : excludedChars) {
+			chars[i++] = excludedChar;
 		}
-		return characterArbitrary;
+		return characterArbitrary.excluding(chars);
 	}
 
 }
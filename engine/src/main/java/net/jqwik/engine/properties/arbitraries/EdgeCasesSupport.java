@@ -190,7 +190,7 @@ public class EdgeCasesSupport {
 			remainingEdgeCases = (int) Math.max(1, Math.ceil(remainingEdgeCases / (double) supplierList.size()));
 		}
 
-		Iterator<List<Supplier<Shrinkable<Object>>>> iterator = Combinatorics.combine(listOfSuppliers);
+		Iterator<List<Supplier<Shrinkable<Object>>>> iterator = Combinatorics.combineWithoutCopying(listOfSuppliers);
 
 		List<Supplier<Shrinkable<T>>> suppliers = new ArrayList<>();
 		int count = 0;
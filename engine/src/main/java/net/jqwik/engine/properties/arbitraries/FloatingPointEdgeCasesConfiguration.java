@@ -0,0 +1,35 @@
+package net.jqwik.engine.properties.arbitraries;
+
+import net.jqwik.api.*;
+import net.jqwik.engine.properties.*;
+import net.jqwik.engine.properties.shrinking.*;
+
+class FloatingPointEdgeCasesConfiguration<T> extends GenericEdgeCasesConfiguration<T> {
+
+	private final double min;
+	private final double max;
+	private final double shrinkingTarget;
+	private final FloatingPointType<T> type;
+
+	FloatingPointEdgeCasesConfiguration(double min, double max, double shrinkingTarget, FloatingPointType<T> type) {
+		this.min = min;
+		this.max = max;
+		this.shrinkingTarget = shrinkingTarget;
+		this.type = type;
+	}
+
+	@Override
+	protected void checkEdgeCaseIsValid(T edgeCase) {
+		double value = type.toDouble(edgeCase);
+		if (!(value >= min && value <= max)) {
+			String message = String.format("Edge case <%s> is outside the arbitrary's allowed range %s", edgeCase, Range.of(min, max));
+			throw new IllegalArgumentException(message);
+		}
+	}
+
+	@Override
+	protected Shrinkable<T> createShrinkable(T additionalEdgeCase) {
+		return new ShrinkableFloatingPoint<>(type.toDouble(additionalEdgeCase), min, max, shrinkingTarget, type);
+	}
+
+}
@@ -0,0 +1,189 @@
+package net.jqwik.engine.properties.arbitraries;
+
+import java.math.*;
+import java.util.*;
+import java.util.function.*;
+import java.util.stream.*;
+
+import net.jqwik.api.*;
+import net.jqwik.api.support.*;
+import net.jqwik.engine.properties.*;
+import net.jqwik.engine.properties.arbitraries.randomized.*;
+import net.jqwik.engine.properties.shrinking.*;
+
+import static net.jqwik.engine.properties.arbitraries.randomized.RandomDecimalGenerators.*;
+
+/**
+ * Generates doubles or floats within the range of a {@linkplain DecimalGeneratingArbitrary}.
+ *
+ * <p>
+ * Without a fixed scale values are generated and shrunk by their IEEE-754 representation,
+ * see {@linkplain RandomFloatingPointGenerators} and {@linkplain ShrinkableFloatingPoint}.
+ * Edge cases include the smallest subnormal and normal values.
+ * </p>
+ *
+ * <p>
+ * With a fixed scale - i.e. after {@code ofScale()} - values are decimals of that scale.
+ * If the unscaled range fits into a long, values are generated and shrunk as unscaled longs
+ * and converted with {@code fromUnscaled}. Wider ranges are generated as BigDecimal.
+ * </p>
+ */
+class FloatingPointGeneratingArbitrary<T> implements Arbitrary<T> {
+
+	interface UnscaledConversion<T> {
+		T convert(long unscaled, int scale);
+	}
+
+	private final DecimalGeneratingArbitrary decimalArbitrary;
+	private final boolean fixedScale;
+	private final FloatingPointType<T> type;
+	private final Function<BigDecimal, T> fromDecimal;
+	private final UnscaledConversion<T> fromUnscaled;
+	private final Consumer<EdgeCases.Config<T>> edgeCasesConfigurator;
+
+	FloatingPointGeneratingArbitrary(
+		DecimalGeneratingArbitrary decimalArbitrary,
+		boolean fixedScale,
+		FloatingPointType<T> type,
+		Function<BigDecimal, T> fromDecimal,
+		UnscaledConversion<T> fromUnscaled,
+		Consumer<EdgeCases.Config<T>> edgeCasesConfigurator
+	) {
+		this.decimalArbitrary = decimalArbitrary;
+		this.fixedScale = fixedScale;
+		this.type = type;
+		this.fromDecimal = fromDecimal;
+		this.fromUnscaled = fromUnscaled;
+		this.edgeCasesConfigurator = edgeCasesConfigurator;
+	}
+
+	@Override
+	public RandomGenerator<T> generator(int genSize) {
+		if (!fixedScale) {
+			return RandomFloatingPointGenerators.floatingPoints(
+				genSize,
+				min(),
+				max(),
+				shrinkingTarget(),
+				decimalArbitrary.distribution,
+				type
+			);
+		}
+		decimalArbitrary.checkRange();
+		int scale = decimalArbitrary.scale;
+		return RandomDecimalGenerators.floatingPoints(
+			genSize,
+			decimalArbitrary.range,
+			scale,
+			decimalArbitrary.distribution,
+			decimalArbitrary.shrinkingTarget(),
+			fromDecimal,
+			unscaled -> fromUnscaled.convert(unscaled, scale)
+		);
+	}
+
+	@Override
+	public Optional<ExhaustiveGenerator<T>> exhaustive(long maxNumberOfSamples) {
+		return decimalArbitrary.exhaustive(maxNumberOfSamples).map(generator -> generator.map(fromDecimal));
+	}
+
+	@Override
+	public EdgeCases<T> edgeCases(int maxEdgeCases) {
+		if (!fixedScale) {
+			double min = min();
+			double max = max();
+			double shrinkingTarget = shrinkingTarget();
+			Function<Integer, EdgeCases<T>> edgeCasesCreator =
+				maxCount -> EdgeCasesSupport.fromShrinkables(edgeCaseShrinkables(min, max, shrinkingTarget, maxCount));
+			FloatingPointEdgeCasesConfiguration<T> configuration =
+				new FloatingPointEdgeCasesConfiguration<>(min, max, shrinkingTarget, type);
+			return configuration.configure(edgeCasesConfigurator, edgeCasesCreator, maxEdgeCases);
+		}
+		return scaledEdgeCases(maxEdgeCases);
+	}
+
+	private EdgeCases<T> scaledEdgeCases(int maxEdgeCases) {
+		Consumer<EdgeCases.Config<BigDecimal>> decimalConfigurator = new MappedEdgeCasesConsumer<>(
+			edgeCasesConfigurator,
+			fromDecimal,
+			value -> new BigDecimal(value.toString())
+		);
+		EdgeCases<BigDecimal> decimalEdgeCases = decimalArbitrary.edgeCases(decimalConfigurator).edgeCases(maxEdgeCases);
+		int scale = decimalArbitrary.scale;
+		Range<BigInteger> unscaledRange = unscaledBigIntegerRange(decimalArbitrary.range, scale);
+		if (decimalArbitrary.range.isSingular() || !isWithinLongRange(unscaledRange)) {
+			return EdgeCasesSupport.map(decimalEdgeCases, fromDecimal);
+		}
+		long min = unscaledRange.min.longValueExact();
+		long max = unscaledRange.max.longValueExact();
+		long shrinkingTarget = unscaledBigInteger(decimalArbitrary.shrinkingTarget(), scale).longValueExact();
+		return EdgeCasesSupport.mapShrinkable(
+			decimalEdgeCases,
+			shrinkable -> new ShrinkableIntegral<>(
+				unscaledBigInteger(shrinkable.value(), scale).longValueExact(),
+				min,
+				max,
+				shrinkingTarget,
+				unscaled -> fromUnscaled.convert(unscaled, scale)
+			)
+		);
+	}
+
+	private List<Shrinkable<T>> edgeCaseShrinkables(double min, double max, double shrinkingTarget, int maxEdgeCases) {
+		double[] rawEdgeCases = {
+			shrinkingTarget, 0.0, 1.0, -1.0, min, max,
+			type.minValue(), -type.minValue(),
+			type.maxSubnormal(), -type.maxSubnormal(),
+			type.minNormal(), -type.minNormal()
+		};
+		return Arrays.stream(rawEdgeCases)
+					 .filter(value -> value >= min && value <= max)
+					 .distinct()
+					 .<Shrinkable<T>>mapToObj(value -> new ShrinkableFloatingPoint<>(value, min, max, shrinkingTarget, type))
+					 .limit(Math.max(0, maxEdgeCases))
+					 .collect(Collectors.toList());
+	}
+
+	private double min() {
+		Range<BigDecimal> range = decimalArbitrary.range;
+		double min = type.round(range.min.doubleValue());
+		return range.minIncluded ? min : type.nextUp(min);
+	}
+
+	private double max() {
+		Range<BigDecimal> range = decimalArbitrary.range;
+		double max = type.round(range.max.doubleValue());
+		double checkedMax = range.maxIncluded ? max : type.nextDown(max);
+		if (checkedMax < min()) {
+			String message = String.format("No %s value can be generated in %s", type, range);
+			throw new JqwikException(message);
+		}
+		return checkedMax;
+	}
+
+	private double shrinkingTarget() {
+		if (decimalArbitrary.shrinkingTarget == null) {
+			return RandomFloatingPointGenerators.defaultShrinkingTarget(min(), max());
+		}
+		return type.round(decimalArbitrary.shrinkingTarget.doubleValue());
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (this == o) return true;
+		if (o == null || getClass() != o.getClass()) return false;
+
+		FloatingPointGeneratingArbitrary<?> that = (FloatingPointGeneratingArbitrary<?>) o;
+		if (fixedScale != that.fixedScale) return false;
+		if (type != that.type) return false;
+		if (!decimalArbitrary.equals(that.decimalArbitrary)) return false;
+		if (!LambdaSupport.areEqual(fromDecimal, that.fromDecimal)) return false;
+		if (!LambdaSupport.areEqual(fromUnscaled, that.fromUnscaled)) return false;
+		return LambdaSupport.areEqual(edgeCasesConfigurator, that.edgeCasesConfigurator);
+	}
+
+	@Override
+	public int hashCode() {
+		return HashCodeSupport.hash(decimalArbitrary, fixedScale, type);
+	}
+}
@@ -21,6 +21,11 @@ class IntegralGeneratingArbitrary extends TypedCloneable implements Arbitrary<Bi
 	BigInteger shrinkingTarget;
 	RandomDistribution distribution = RandomDistribution.biased();
 
+	// Only values with this remainder when divided by divisor are generated
+	BigInteger divisor = ONE;
+	BigInteger remainder = ZERO;
+	Set<BigInteger> excludedValues = Collections.emptySet();
+
 	private Consumer<EdgeCases.Config<BigInteger>> edgeCasesConfigurator = EdgeCases.Config.noConfig();
 
 	IntegralGeneratingArbitrary(BigInteger defaultMin, BigInteger defaultMax) {
@@ -34,6 +39,32 @@ class IntegralGeneratingArbitrary extends TypedCloneable implements Arbitrary<Bi
 		return RandomGenerators.bigIntegers(min, max, shrinkingTarget(), distribution);
 	}
 
+	/**
+	 * Generate values of integral types that fit into a long, e.g. ints, without going through BigInteger.
+	 */
+	<T> RandomGenerator<T> generator(int genSize, LongFunction<T> toValue) {
+		if (hasValueConstraints()) {
+			IntegralValueIndex index = valueIndex();
+			return RandomIntegralGenerators.integrals(
+				1000,
+				index.minIndex(),
+				index.maxIndex(),
+				index.indexOf(shrinkingTarget().longValueExact()),
+				distribution,
+				anIndex -> toValue.apply(index.valueAt(anIndex)),
+				index::indexOfNegatedValue
+			);
+		}
+		return RandomIntegralGenerators.integrals(
+			1000,
+			min.longValueExact(),
+			max.longValueExact(),
+			shrinkingTarget().longValueExact(),
+			distribution,
+			toValue
+		);
+	}
+
 	@Override
 	public Optional<ExhaustiveGenerator<BigInteger>> exhaustive(long maxNumberOfSamples) {
 		BigInteger maxCount = max.subtract(min).add(BigInteger.ONE);
@@ -42,7 +73,32 @@ class IntegralGeneratingArbitrary extends TypedCloneable implements Arbitrary<Bi
 		if (maxCount.compareTo(valueOf(maxNumberOfSamples)) > 0) {
 			return Optional.empty();
 		} else {
-			return ExhaustiveGenerators.fromIterable(RangeIterator::new, maxCount.longValueExact(), maxNumberOfSamples);
+			return ExhaustiveGenerators.fromIndex(index -> min.add(valueOf(index)), maxCount.longValueExact(), maxNumberOfSamples);
+		}
+	}
+
+	<T> Optional<ExhaustiveGenerator<T>> exhaustive(long maxNumberOfSamples, LongFunction<T> toValue) {
+		if (hasValueConstraints()) {
+			IntegralValueIndex index = valueIndex();
+			long minIndex = index.minIndex();
+			return ExhaustiveGenerators.fromIndex(
+				offset -> toValue.apply(index.valueAt(minIndex + offset)),
+				index.count(),
+				maxNumberOfSamples
+			);
+		}
+		BigInteger maxCount = max.subtract(min).add(BigInteger.ONE);
+
+		// Necessary because maxCount could be larger than Long.MAX_VALUE
+		if (maxCount.compareTo(valueOf(maxNumberOfSamples)) > 0) {
+			return Optional.empty();
+		} else {
+			long first = min.longValueExact();
+			return ExhaustiveGenerators.fromIndex(
+				offset -> toValue.apply(first + offset),
+				maxCount.longValueExact(),
+				maxNumberOfSamples
+			);
 		}
 	}
 
@@ -66,6 +122,42 @@ class IntegralGeneratingArbitrary extends TypedCloneable implements Arbitrary<Bi
 		return configuration.configure(edgeCasesConfigurator, edgeCasesCreator, maxEdgeCases);
 	}
 
+	/**
+	 * Edge cases are configured as BigIntegers but shrink like values generated by {@linkplain #generator(int, LongFunction)}.
+	 */
+	<T> EdgeCases<T> edgeCases(int maxEdgeCases, LongFunction<T> toValue) {
+		if (hasValueConstraints()) {
+			return constrainedEdgeCases(maxEdgeCases, toValue);
+		}
+		long min = this.min.longValueExact();
+		long max = this.max.longValueExact();
+		long shrinkingTarget = shrinkingTarget().longValueExact();
+		return EdgeCasesSupport.mapShrinkable(
+			edgeCases(maxEdgeCases),
+			shrinkable -> new ShrinkableIntegral<>(shrinkable.value().longValueExact(), min, max, shrinkingTarget, toValue)
+		);
+	}
+
+	/**
+	 * Edge cases that are not allowed are replaced by the next allowed value.
+	 */
+	private <T> EdgeCases<T> constrainedEdgeCases(int maxEdgeCases, LongFunction<T> toValue) {
+		IntegralValueIndex index = valueIndex();
+		long targetIndex = index.indexOf(shrinkingTarget().longValueExact());
+		LongFunction<T> indexToValue = anIndex -> toValue.apply(index.valueAt(anIndex));
+		Set<Long> edgeCaseIndices = new LinkedHashSet<>();
+		for (Shrinkable<BigInteger> edgeCase : edgeCases(maxEdgeCases)) {
+			edgeCaseIndices.add(index.indexOf(edgeCase.value().longValueExact()));
+		}
+		List<Shrinkable<T>> shrinkables =
+			edgeCaseIndices.stream()
+						   .map(anIndex -> new ShrinkableIntegral<>(
+							   anIndex, index.minIndex(), index.maxIndex(), targetIndex, indexToValue, index::indexOfNegatedValue
+						   ))
+						   .collect(Collectors.toList());
+		return EdgeCasesSupport.fromShrinkables(shrinkables);
+	}
+
 	@Override
 	public Arbitrary<BigInteger> edgeCases(Consumer<EdgeCases.Config<BigInteger>> configurator) {
 		IntegralGeneratingArbitrary clone = typedClone();
@@ -84,6 +176,9 @@ class IntegralGeneratingArbitrary extends TypedCloneable implements Arbitrary<Bi
 		if (!max.equals(that.max)) return false;
 		if (!Objects.equals(shrinkingTarget, that.shrinkingTarget)) return false;
 		if (!distribution.equals(that.distribution)) return false;
+		if (!divisor.equals(that.divisor)) return false;
+		if (!remainder.equals(that.remainder)) return false;
+		if (!excludedValues.equals(that.excludedValues)) return false;
 		return LambdaSupport.areEqual(edgeCasesConfigurator, that.edgeCasesConfigurator);
 	}
 
@@ -92,6 +187,42 @@ class IntegralGeneratingArbitrary extends TypedCloneable implements Arbitrary<Bi
 		return HashCodeSupport.hash(min, max, shrinkingTarget);
 	}
 
+	boolean hasValueConstraints() {
+		return !divisor.equals(ONE) || !excludedValues.isEmpty();
+	}
+
+	void checkValueConstraints(BigInteger divisor, BigInteger remainder) {
+		if (divisor.signum() <= 0) {
+			throw new IllegalArgumentException(String.format("Divisor [%s] must be greater than 0.", divisor));
+		}
+		if (remainder.signum() < 0 || remainder.compareTo(divisor) >= 0) {
+			String message = String.format("Remainder [%s] must be between 0 and divisor [%s] minus 1.", remainder, divisor);
+			throw new IllegalArgumentException(message);
+		}
+	}
+
+	void excludeValues(Collection<BigInteger> values) {
+		Set<BigInteger> newExcludedValues = new LinkedHashSet<>(excludedValues);
+		newExcludedValues.addAll(values);
+		excludedValues = newExcludedValues;
+	}
+
+	private IntegralValueIndex valueIndex() {
+		List<Range<BigInteger>> excludedRanges =
+			excludedValues.stream()
+						  .map(value -> Range.of(value, value))
+						  .collect(Collectors.toList());
+		IntegralValueIndex index = IntegralValueIndex.of(min, max, divisor, remainder, excludedRanges);
+		if (index.isEmpty()) {
+			String message = String.format(
+				"There is no value between [%s] and [%s] with remainder [%s] when divided by [%s] that is not excluded in %s.",
+				min, max, remainder, divisor, excludedValues
+			);
+			throw new IllegalArgumentException(message);
+		}
+		return index;
+	}
+
 	private Stream<BigInteger> streamDefaultEdgeCases() {
 		return streamRawEdgeCases()
 			.distinct()
@@ -116,24 +247,4 @@ class IntegralGeneratingArbitrary extends TypedCloneable implements Arbitrary<Bi
 		}
 	}
 
-	class RangeIterator implements Iterator<BigInteger> {
-
-		BigInteger current = min;
-
-		@Override
-		public boolean hasNext() {
-			return current.compareTo(max) <= 0;
-		}
-
-		@Override
-		public BigInteger next() {
-			if (!hasNext()) {
-				throw new NoSuchElementException();
-			}
-			BigInteger next = current;
-			current = current.add(BigInteger.ONE);
-			return next;
-		}
-	}
-
 }
@@ -0,0 +1,216 @@
+package net.jqwik.engine.properties.arbitraries;
+
+import java.math.*;
+import java.util.*;
+
+import net.jqwik.engine.properties.*;
+
+/**
+ * Numbers the values of an integral range that leave a given remainder when divided by a divisor
+ * and that are not excluded. Values can thereby be generated, shrunk and enumerated through their index
+ * without rejecting a single value.
+ *
+ * <p>
+ * Allowed values have the form {@code divisor * quotient + remainder}.
+ * The index of an allowed value is its quotient minus the number of excluded quotients below it.
+ * </p>
+ */
+class IntegralValueIndex {
+
+	private final long divisor;
+	private final long remainder;
+	private final long minIndex;
+	private final long maxIndex;
+
+	// Sorted and merged ranges of excluded quotients
+	private final long[] excludedStarts;
+	private final long[] excludedEnds;
+	// The index an excluded range would start at if its quotients were not excluded
+	private final long[] excludedStartIndices;
+	// The number of excluded quotients up to and including an excluded range
+	private final long[] excludedUpTo;
+
+	static IntegralValueIndex of(
+		BigInteger min,
+		BigInteger max,
+		BigInteger divisor,
+		BigInteger remainder,
+		Collection<Range<BigInteger>> excludedValues
+	) {
+		long minQuotient = ceilDiv(min.subtract(remainder), divisor).longValueExact();
+		long maxQuotient = floorDiv(max.subtract(remainder), divisor).longValueExact();
+
+		List<long[]> excludedQuotients = new ArrayList<>();
+		for (Range<BigInteger> excluded : excludedValues) {
+			BigInteger start = ceilDiv(excluded.min.subtract(remainder), divisor).max(BigInteger.valueOf(minQuotient));
+			BigInteger end = floorDiv(excluded.max.subtract(remainder), divisor).min(BigInteger.valueOf(maxQuotient));
+			if (start.compareTo(end) <= 0) {
+				excludedQuotients.add(new long[]{start.longValueExact(), end.longValueExact()});
+			}
+		}
+		return new IntegralValueIndex(
+			divisor.longValueExact(),
+			remainder.longValueExact(),
+			minQuotient,
+			maxQuotient,
+			merge(excludedQuotients)
+		);
+	}
+
+	private static BigInteger floorDiv(BigInteger dividend, BigInteger divisor) {
+		BigInteger[] quotientAndRemainder = dividend.divideAndRemainder(divisor);
+		if (quotientAndRemainder[1].signum() < 0) {
+			return quotientAndRemainder[0].subtract(BigInteger.ONE);
+		}
+		return quotientAndRemainder[0];
+	}
+
+	private static BigInteger ceilDiv(BigInteger dividend, BigInteger divisor) {
+		return floorDiv(dividend.add(divisor).subtract(BigInteger.ONE), divisor);
+	}
+
+	private static List<long[]> merge(List<long[]> ranges) {
+		ranges.sort(Comparator.comparingLong(range -> range[0]));
+		List<long[]> merged = new ArrayList<>();
+		for (long[] range : ranges) {
+			if (!merged.isEmpty()) {
+				long[] last = merged.get(merged.size() - 1);
+				// Adjacent ranges are merged, too. last[1] + 1 cannot overflow since range[0] is a larger quotient.
+				if (range[0] <= last[1] || range[0] == last[1] + 1) {
+					last[1] = Math.max(last[1], range[1]);
+					continue;
+				}
+			}
+			merged.add(new long[]{range[0], range[1]});
+		}
+		return merged;
+	}
+
+	private IntegralValueIndex(long divisor, long remainder, long minQuotient, long maxQuotient, List<long[]> excludedQuotients) {
+		this.divisor = divisor;
+		this.remainder = remainder;
+		int countRanges = excludedQuotients.size();
+		this.excludedStarts = new long[countRanges];
+		this.excludedEnds = new long[countRanges];
+		this.excludedStartIndices = new long[countRanges];
+		this.excludedUpTo = new long[countRanges];
+		long countExcluded = 0;
+		for (int i = 0; i < countRanges; i++) {
+			long[] range = excludedQuotients.get(i);
+			excludedStarts[i] = range[0];
+			excludedEnds[i] = range[1];
+			excludedStartIndices[i] = range[0] - countExcluded;
+			countExcluded += range[1] - range[0] + 1;
+			excludedUpTo[i] = countExcluded;
+		}
+		this.minIndex = minQuotient;
+		this.maxIndex = maxQuotient - countExcluded;
+	}
+
+	boolean isEmpty() {
+		return maxIndex < minIndex;
+	}
+
+	long minIndex() {
+		return minIndex;
+	}
+
+	long maxIndex() {
+		return maxIndex;
+	}
+
+	/**
+	 * @return the number of allowed values or {@linkplain Long#MAX_VALUE} if there are more
+	 */
+	long count() {
+		BigInteger count = BigInteger.valueOf(maxIndex).subtract(BigInteger.valueOf(minIndex)).add(BigInteger.ONE);
+		return count.bitLength() < 64 ? count.longValueExact() : Long.MAX_VALUE;
+	}
+
+	long valueAt(long index) {
+		int range = lastRangeStartingAtOrBefore(excludedStartIndices, index);
+		long quotient = range < 0 ? index : index + excludedUpTo[range];
+		return quotient * divisor + remainder;
+	}
+
+	/**
+	 * @return the index of {@code value} or of the next larger allowed value if {@code value} is not allowed.
+	 * Values outside the range are mapped to the index of the nearest allowed value.
+	 */
+	long indexOf(long value) {
+		// Rounds up to the next quotient without the overflow of value - remainder
+		long quotient = Math.floorDiv(value, divisor);
+		if (Math.floorMod(value, divisor) > remainder) {
+			quotient++;
+		}
+		int range = lastRangeStartingAtOrBefore(excludedStarts, quotient);
+		long index;
+		if (range < 0) {
+			index = quotient;
+		} else if (quotient <= excludedEnds[range]) {
+			index = excludedStartIndices[range];
+		} else {
+			index = quotient - excludedUpTo[range];
+		}
+		return Math.max(minIndex, Math.min(maxIndex, index));
+	}
+
+	/**
+	 * Shrinking a negative value to its positive counterpart must happen on values, not on indices.
+	 *
+	 * @return the index of the negation of the value at {@code index} if this value is negative and its negation allowed
+	 */
+	OptionalLong indexOfNegatedValue(long index) {
+		long value = valueAt(index);
+		// Long.MIN_VALUE cannot be negated
+		if (value >= 0 || value == Long.MIN_VALUE) {
+			return OptionalLong.empty();
+		}
+		long negated = -value;
+		if (!isAllowed(negated)) {
+			return OptionalLong.empty();
+		}
+		return OptionalLong.of(indexOf(negated));
+	}
+
+	boolean isAllowed(long value) {
+		if (Math.floorMod(value, divisor) != remainder) {
+			return false;
+		}
+		long index = indexOf(value);
+		return valueAt(index) == value;
+	}
+
+	private static int lastRangeStartingAtOrBefore(long[] starts, long key) {
+		// Starts are strictly increasing since there is an allowed quotient between two merged ranges
+		int found = Arrays.binarySearch(starts, key);
+		return found >= 0 ? found : -found - 2;
+	}
+
+	Iterator<Long> iterator() {
+		return new Iterator<Long>() {
+			private long next = minIndex;
+			private boolean hasNext = !isEmpty();
+
+			@Override
+			public boolean hasNext() {
+				return hasNext;
+			}
+
+			@Override
+			public Long next() {
+				if (!hasNext) {
+					throw new NoSuchElementException();
+				}
+				long index = next;
+				// Avoid overflow when maxIndex is Long.MAX_VALUE
+				if (index == maxIndex) {
+					hasNext = false;
+				} else {
+					next++;
+				}
+				return valueAt(index);
+			}
+		};
+	}
+}
@@ -2,17 +2,21 @@ package net.jqwik.engine.properties.arbitraries.exhaustive;
 
 import java.util.*;
 import java.util.function.*;
-import java.util.stream.*;
 
 import net.jqwik.api.*;
 import net.jqwik.engine.support.*;
 
 class CombinedExhaustiveGenerator<R> implements ExhaustiveGenerator<R> {
 	private final Long maxCount;
-	private final List<Arbitrary<Object>> arbitraries;
+	private final List<ExhaustiveGenerator<Object>> generators;
 	private final Function<List<Object>, R> combinator;
 
-	static Optional<Long> calculateMaxCount(List<Arbitrary<Object>> arbitraries, long maxNumberOfSamples) {
+	/**
+	 * @return the exhaustive generators of all arbitraries
+	 * if all of them can be generated exhaustively and the number of combinations does not exceed {@code maxNumberOfSamples}
+	 */
+	static Optional<List<ExhaustiveGenerator<Object>>> exhaustiveGenerators(List<Arbitrary<Object>> arbitraries, long maxNumberOfSamples) {
+		List<ExhaustiveGenerator<Object>> generators = new ArrayList<>();
 		long product = 1;
 		for (Arbitrary<Object> arbitrary : arbitraries) {
 			Optional<ExhaustiveGenerator<Object>> exhaustive = arbitrary.exhaustive(maxNumberOfSamples);
@@ -23,13 +27,22 @@ class CombinedExhaustiveGenerator<R> implements ExhaustiveGenerator<R> {
 			if (product > maxNumberOfSamples) {
 				return Optional.empty();
 			}
+			generators.add(exhaustive.get());
 		}
-		return Optional.of(product);
+		return Optional.of(generators);
 	}
 
-	CombinedExhaustiveGenerator(Long maxCount, List<Arbitrary<Object>> arbitraries, Function<List<Object>, R> combinator) {
+	static long calculateMaxCount(List<ExhaustiveGenerator<Object>> generators) {
+		long product = 1;
+		for (ExhaustiveGenerator<Object> generator : generators) {
+			product *= generator.maxCount();
+		}
+		return product;
+	}
+
+	CombinedExhaustiveGenerator(Long maxCount, List<ExhaustiveGenerator<Object>> generators, Function<List<Object>, R> combinator) {
 		this.maxCount = maxCount;
-		this.arbitraries = arbitraries;
+		this.generators = generators;
 		this.combinator = combinator;
 	}
 
@@ -40,10 +53,7 @@ class CombinedExhaustiveGenerator<R> implements ExhaustiveGenerator<R> {
 
 	@Override
 	public Iterator<R> iterator() {
-		List<Iterable<Object>> iterables = arbitraries
-			.stream()
-			.map(a -> (Iterable<Object>) a.exhaustive().get())
-			.collect(Collectors.toList());
+		List<Iterable<Object>> iterables = new ArrayList<>(generators);
 		Iterator<List<Object>> valuesIterator = Combinatorics.combine(iterables);
 
 		return new Iterator<R>() {
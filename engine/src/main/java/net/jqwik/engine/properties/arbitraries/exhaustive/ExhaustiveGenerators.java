@@ -16,7 +16,8 @@ public class ExhaustiveGenerators {
 	}
 
 	public static <T> Optional<ExhaustiveGenerator<T>> choose(List<T> values, long maxNumberOfSamples) {
-		return fromIterable(values, values.size(), maxNumberOfSamples);
+		List<T> randomAccessValues = values instanceof RandomAccess ? values : new ArrayList<>(values);
+		return fromIndex(index -> randomAccessValues.get((int) index), values.size(), maxNumberOfSamples);
 	}
 
 	public static Optional<ExhaustiveGenerator<Character>> choose(char[] characters, long maxNumberOfSamples) {
@@ -34,6 +35,16 @@ public class ExhaustiveGenerators {
 		return Optional.of(new IterableBasedExhaustiveGenerator<>(iterator, maxCount));
 	}
 
+	/**
+	 * @param valueAt must return the value at a given index between 0 (inclusive) and {@code maxCount} (exclusive)
+	 */
+	public static <T> Optional<ExhaustiveGenerator<T>> fromIndex(LongFunction<T> valueAt, long maxCount, long maxNumberOfSamples) {
+		if (maxCount > maxNumberOfSamples) {
+			return Optional.empty();
+		}
+		return Optional.of(new IndexBasedExhaustiveGenerator<>(valueAt, maxCount));
+	}
+
 	public static <T> Optional<ExhaustiveGenerator<List<T>>> list(
 			Arbitrary<T> elementArbitrary,
 			int minSize, int maxSize,
@@ -84,8 +95,24 @@ public class ExhaustiveGenerators {
 			Function<List<Object>, R> combinator,
 			long maxNumberOfSamples
 	) {
-		Optional<Long> optionalMaxCount = CombinedExhaustiveGenerator.calculateMaxCount(arbitraries, maxNumberOfSamples);
-		return optionalMaxCount.map(maxCount -> new CombinedExhaustiveGenerator<>(maxCount, arbitraries, combinator));
+		Optional<List<ExhaustiveGenerator<Object>>> optionalGenerators = CombinedExhaustiveGenerator.exhaustiveGenerators(arbitraries, maxNumberOfSamples);
+		return optionalGenerators.map(generators -> createCombined(generators, combinator));
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <R> ExhaustiveGenerator<R> createCombined(
+			List<ExhaustiveGenerator<Object>> generators,
+			Function<List<Object>, R> combinator
+	) {
+		long maxCount = CombinedExhaustiveGenerator.calculateMaxCount(generators);
+		if (generators.stream().allMatch(generator -> generator instanceof IndexedExhaustiveGenerator)) {
+			List<IndexedExhaustiveGenerator<Object>> indexedGenerators =
+				generators.stream()
+						  .map(generator -> (IndexedExhaustiveGenerator<Object>) generator)
+						  .collect(Collectors.toList());
+			return new IndexedCombinedExhaustiveGenerator<>(maxCount, indexedGenerators, combinator);
+		}
+		return new CombinedExhaustiveGenerator<>(maxCount, generators, combinator);
 	}
 
 	public static <T> Optional<ExhaustiveGenerator<List<T>>> shuffle(List<T> values, long maxNumberOfSamples) {
@@ -0,0 +1,24 @@
+package net.jqwik.engine.properties.arbitraries.exhaustive;
+
+import java.util.function.*;
+
+class IndexBasedExhaustiveGenerator<T> implements IndexedExhaustiveGenerator<T> {
+
+	private final LongFunction<T> valueAt;
+	private final long maxCount;
+
+	IndexBasedExhaustiveGenerator(LongFunction<T> valueAt, long maxCount) {
+		this.valueAt = valueAt;
+		this.maxCount = maxCount;
+	}
+
+	@Override
+	public long maxCount() {
+		return maxCount;
+	}
+
+	@Override
+	public T get(long index) {
+		return valueAt.apply(index);
+	}
+}
@@ -0,0 +1,35 @@
+package net.jqwik.engine.properties.arbitraries.exhaustive;
+
+import java.util.*;
+import java.util.function.*;
+
+import net.jqwik.engine.support.*;
+
+class IndexedCombinedExhaustiveGenerator<R> implements IndexedExhaustiveGenerator<R> {
+	private final long maxCount;
+	private final List<IndexedExhaustiveGenerator<Object>> generators;
+	private final long[] radixes;
+	private final Function<List<Object>, R> combinator;
+
+	IndexedCombinedExhaustiveGenerator(long maxCount, List<IndexedExhaustiveGenerator<Object>> generators, Function<List<Object>, R> combinator) {
+		this.maxCount = maxCount;
+		this.generators = generators;
+		this.radixes = generators.stream().mapToLong(IndexedExhaustiveGenerator::maxCount).toArray();
+		this.combinator = combinator;
+	}
+
+	@Override
+	public long maxCount() {
+		return maxCount;
+	}
+
+	@Override
+	public R get(long index) {
+		long[] digits = Combinatorics.mixedRadixDigits(index, radixes);
+		List<Object> values = new ArrayList<>(digits.length);
+		for (int i = 0; i < digits.length; i++) {
+			values.add(generators.get(i).get(digits[i]));
+		}
+		return combinator.apply(values);
+	}
+}
@@ -0,0 +1,44 @@
+package net.jqwik.engine.properties.arbitraries.exhaustive;
+
+import java.util.*;
+
+import net.jqwik.api.*;
+
+/**
+ * An exhaustive generator whose values can be accessed by their position.
+ * This allows to split the generated values into ranges and to start generation at any offset.
+ */
+public interface IndexedExhaustiveGenerator<T> extends ExhaustiveGenerator<T> {
+
+	/**
+	 * @param index must be between 0 (inclusive) and {@linkplain #maxCount()} (exclusive)
+	 */
+	T get(long index);
+
+	@Override
+	default Iterator<T> iterator() {
+		return iterator(0, maxCount());
+	}
+
+	/**
+	 * Iterate over the values from {@code fromIndex} (inclusive) to {@code toIndex} (exclusive)
+	 */
+	default Iterator<T> iterator(long fromIndex, long toIndex) {
+		return new Iterator<T>() {
+			private long next = fromIndex;
+
+			@Override
+			public boolean hasNext() {
+				return next < toIndex;
+			}
+
+			@Override
+			public T next() {
+				if (!hasNext()) {
+					throw new NoSuchElementException();
+				}
+				return get(next++);
+			}
+		};
+	}
+}
@@ -0,0 +1,23 @@
+package net.jqwik.engine.properties.arbitraries.exhaustive;
+
+import java.util.function.*;
+
+public class IndexedMappedExhaustiveGenerator<T, U> implements IndexedExhaustiveGenerator<U> {
+	private final IndexedExhaustiveGenerator<T> toMap;
+	private final Function<T, U> mapper;
+
+	public IndexedMappedExhaustiveGenerator(IndexedExhaustiveGenerator<T> toMap, Function<T, U> mapper) {
+		this.toMap = toMap;
+		this.mapper = mapper;
+	}
+
+	@Override
+	public long maxCount() {
+		return toMap.maxCount();
+	}
+
+	@Override
+	public U get(long index) {
+		return mapper.apply(toMap.get(index));
+	}
+}
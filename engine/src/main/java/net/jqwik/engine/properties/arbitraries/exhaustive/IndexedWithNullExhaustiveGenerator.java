@@ -0,0 +1,19 @@
+package net.jqwik.engine.properties.arbitraries.exhaustive;
+
+public class IndexedWithNullExhaustiveGenerator<T> implements IndexedExhaustiveGenerator<T> {
+	private final IndexedExhaustiveGenerator<T> base;
+
+	public IndexedWithNullExhaustiveGenerator(IndexedExhaustiveGenerator<T> base) {
+		this.base = base;
+	}
+
+	@Override
+	public long maxCount() {
+		return base.maxCount() + 1;
+	}
+
+	@Override
+	public T get(long index) {
+		return index == 0 ? null : base.get(index - 1);
+	}
+}
@@ -7,30 +7,38 @@ import net.jqwik.api.*;
 import net.jqwik.api.RandomDistribution.*;
 import net.jqwik.engine.properties.*;
 
-class BiasedNumericGenerator implements RandomNumericGenerator {
+class BiasedNumericGenerator implements LongNumericGenerator {
 
-	private final RandomNumericGenerator partitionedGenerator;
+	private final List<RandomNumericGenerator> partitions;
+	private final boolean partitioned;
 
 	BiasedNumericGenerator(int genSize, BigInteger min, BigInteger max, BigInteger center) {
 		List<BigInteger> partitionPoints = BiasedPartitionPointsCalculator.calculatePartitionPoints(genSize, min, max, center);
 		Range<BigInteger> range = Range.of(min, max);
-		partitionedGenerator = partitionedGenerator(range, partitionPoints);
+		partitioned = !partitionPoints.isEmpty();
+		partitions = partitioned
+						 ? createPartitions(range, partitionPoints)
+						 : Collections.singletonList(createUniformGenerator(range.min, range.max));
 	}
 
 	@Override
 	public BigInteger next(Random random) {
-		return partitionedGenerator.next(random);
+		return choosePartition(random).next(random);
 	}
 
-	private RandomNumericGenerator partitionedGenerator(
-		Range<BigInteger> range,
-		List<BigInteger> partitionPoints
-	) {
-		if (partitionPoints.isEmpty()) {
-			return createUniformGenerator(range.min, range.max);
+	/**
+	 * Only call if the whole range fits into a long, because then all partitions do as well.
+	 */
+	@Override
+	public long nextLong(Random random) {
+		return ((LongNumericGenerator) choosePartition(random)).nextLong(random);
+	}
+
+	private RandomNumericGenerator choosePartition(Random random) {
+		if (!partitioned) {
+			return partitions.get(0);
 		}
-		List<RandomNumericGenerator> generators = createPartitions(range, partitionPoints);
-		return random -> generators.get(random.nextInt(generators.size())).next(random);
+		return partitions.get(random.nextInt(partitions.size()));
 	}
 
 	private List<RandomNumericGenerator> createPartitions(
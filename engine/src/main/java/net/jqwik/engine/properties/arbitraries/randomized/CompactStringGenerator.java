@@ -0,0 +1,116 @@
+package net.jqwik.engine.properties.arbitraries.randomized;
+
+import java.util.*;
+import java.util.function.*;
+
+import net.jqwik.api.*;
+import net.jqwik.engine.properties.shrinking.*;
+
+/**
+ * Generates strings of characters from {@linkplain CharacterRanges} straight into a char array
+ * instead of creating a shrinkable for each character.
+ * For the same seed the generated strings are the same as with {@linkplain ContainerGenerator}
+ * and a character generator for the same ranges.
+ */
+class CompactStringGenerator implements RandomGenerator<String> {
+	private final CharacterRanges characterRanges;
+	private final ToLongFunction<Random> indexGenerator;
+	private final int minLength;
+	private final int maxLength;
+	private final long maxUniqueChars;
+	private final Arbitrary<Character> characterArbitrary;
+	private final boolean uniqueChars;
+	private final Function<Random, Integer> lengthGenerator;
+	private final long maxAttempts;
+
+	CompactStringGenerator(
+		CharacterRanges characterRanges,
+		int minLength,
+		int maxLength,
+		long maxUniqueChars,
+		int genSize,
+		RandomDistribution lengthDistribution,
+		Arbitrary<Character> characterArbitrary,
+		boolean uniqueChars
+	) {
+		this.characterRanges = characterRanges;
+		this.indexGenerator = RandomIntegralGenerators.longs(
+			1000,
+			characterRanges.minIndex(),
+			characterRanges.maxIndex(),
+			characterRanges.minIndex(),
+			RandomDistribution.uniform()
+		);
+		this.minLength = minLength;
+		this.maxLength = maxLength;
+		this.maxUniqueChars = maxUniqueChars;
+		this.characterArbitrary = characterArbitrary;
+		this.uniqueChars = uniqueChars;
+		this.lengthGenerator = SizeGenerator.create(minLength, maxLength, genSize, lengthDistribution);
+		// Same heuristic as in ContainerGenerator
+		this.maxAttempts = Math.min(10000, Math.max(1000, maxUniqueChars * 10));
+	}
+
+	@Override
+	public Shrinkable<String> next(Random random) {
+		int length = lengthGenerator.apply(random);
+		char[] chars = new char[length];
+		int count = 0;
+
+		// Raise probability for no duplicates even in large strings to approx 2 percent
+		boolean noDuplicates = length >= 2
+								   && length <= maxUniqueChars
+								   && !uniqueChars
+								   && random.nextInt(100) <= 2;
+		int sizeToShuffleIfExceeded = Integer.MAX_VALUE;
+
+		BitSet existingChars = new BitSet();
+
+		while (count < length) {
+			try {
+				chars[count] = nextUntilAccepted(random, existingChars, noDuplicates);
+				count++;
+			} catch (TooManyFilterMissesException tooManyFailedGenerationAttempts) {
+				if (noDuplicates) {
+					noDuplicates = false;
+					sizeToShuffleIfExceeded = count;
+					continue;
+				}
+				if (count < minLength) {
+					throw tooManyFailedGenerationAttempts;
+				}
+				break;
+			}
+		}
+		if (count > sizeToShuffleIfExceeded) {
+			shuffle(chars, count, random);
+		}
+		return CompactShrinkableString.of(Arrays.copyOf(chars, count), characterRanges, minLength, maxLength, characterArbitrary, uniqueChars);
+	}
+
+	private char nextUntilAccepted(Random random, BitSet existingChars, boolean noDuplicates) {
+		boolean mustBeUnique = noDuplicates || uniqueChars;
+		for (int i = 0; i < maxAttempts; i++) {
+			char next = characterRanges.charAt(indexGenerator.applyAsLong(random));
+			if (mustBeUnique) {
+				if (existingChars.get(next)) {
+					continue;
+				}
+				existingChars.set(next);
+			}
+			return next;
+		}
+		String message = String.format("Trying to fulfill uniqueness constraint missed more than %s times.", maxAttempts);
+		throw new TooManyFilterMissesException(message);
+	}
+
+	// Same swaps as Collections.shuffle(List, Random)
+	private static void shuffle(char[] chars, int count, Random random) {
+		for (int i = count; i > 1; i--) {
+			int other = random.nextInt(i);
+			char swapped = chars[i - 1];
+			chars[i - 1] = chars[other];
+			chars[other] = swapped;
+		}
+	}
+}
@@ -6,8 +6,6 @@ import java.util.function.*;
 import net.jqwik.api.*;
 import net.jqwik.engine.properties.*;
 
-import static net.jqwik.engine.properties.UniquenessChecker.*;
-
 class ContainerGenerator<T, C> implements RandomGenerator<C> {
 	private final RandomGenerator<T> elementGenerator;
 	private final Function<List<Shrinkable<T>>, Shrinkable<C>> createShrinkable;
@@ -62,12 +60,12 @@ class ContainerGenerator<T, C> implements RandomGenerator<C> {
 								   && random.nextInt(100) <= 2;
 		int sizeToShuffleIfExceeded = Integer.MAX_VALUE;
 
-		boolean canUseSetForValues = uniquenessExtractors.isEmpty() || uniquenessExtractors.contains(FeatureExtractor.identity());
-		Collection<T> existingValues = canUseSetForValues ? new HashSet<>() : new ArrayList<>();
+		Set<T> existingValues = new HashSet<>();
+		UniqueFeatures<T> existingFeatures = new UniqueFeatures<>(uniquenessExtractors);
 
 		while (listOfShrinkables.size() < listSize) {
 			try {
-				Shrinkable<T> next = nextUntilAccepted(random, existingValues, elementGenerator::next, noDuplicates);
+				Shrinkable<T> next = nextUntilAccepted(random, existingValues, existingFeatures, elementGenerator::next, noDuplicates);
 				listOfShrinkables.add(next);
 			} catch (TooManyFilterMissesException tooManyFailedGenerationAttempts) {
 				// Switch off noDuplicates to enable generation of elements to proceed
@@ -100,7 +98,8 @@ class ContainerGenerator<T, C> implements RandomGenerator<C> {
 
 	private Shrinkable<T> nextUntilAccepted(
 		Random random,
-		Collection<T> existingValues,
+		Set<T> existingValues,
+		UniqueFeatures<T> existingFeatures,
 		Function<Random, Shrinkable<T>> fetchShrinkable,
 		boolean noDuplicates
 	) {
@@ -110,18 +109,16 @@ class ContainerGenerator<T, C> implements RandomGenerator<C> {
 			if (noDuplicates && existingValues.contains(value)) {
 				continue;
 			}
-			if (!checkSpecifiedUniqueness(existingValues, value)) {
+			if (!existingFeatures.addIfUnique(value)) {
 				continue;
 			}
-			existingValues.add(value);
+			if (noDuplicates) {
+				existingValues.add(value);
+			}
 			return next;
 		}
 		String message = String.format("Trying to fulfill uniqueness constraint missed more than %s times.", maxAttempts);
 		throw new TooManyFilterMissesException(message);
 	}
 
-	private boolean checkSpecifiedUniqueness(Collection<T> elements, T value) {
-		return checkValueUniqueIn(uniquenessExtractors, value, elements);
-	}
-
 }
@@ -10,15 +10,14 @@ public class InjectDuplicatesGenerator<T> implements RandomGenerator<T> {
 
 	private final RandomGenerator<T> base;
 	private final double duplicateProbability;
-	private final Store<List<Long>> previousSeedsStore;
 
 	public InjectDuplicatesGenerator(RandomGenerator<T> base, double duplicateProbability) {
 		this.base = base;
 		this.duplicateProbability = duplicateProbability;
-		this.previousSeedsStore = createPreviousSeedsStorePerTry();
 	}
 
-	private Store<List<Long>> createPreviousSeedsStorePerTry() {
+	// The store is looked up for every value because a memoized generator can be used by more than one property
+	private Store<List<Long>> previousSeedsStorePerTry() {
 		return Store.getOrCreate(this, Lifespan.TRY, ArrayList::new);
 	}
 
@@ -29,6 +28,7 @@ public class InjectDuplicatesGenerator<T> implements RandomGenerator<T> {
 	}
 
 	long chooseSeed(Random random) {
+		Store<List<Long>> previousSeedsStore = previousSeedsStorePerTry();
 		List<Long> previousSeeds = previousSeedsStore.get();
 		if (!previousSeeds.isEmpty()) {
 			if (random.nextDouble() <= duplicateProbability) {
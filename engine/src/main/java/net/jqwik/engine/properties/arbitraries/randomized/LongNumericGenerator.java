@@ -0,0 +1,25 @@
+package net.jqwik.engine.properties.arbitraries.randomized;
+
+import java.math.*;
+import java.util.*;
+
+import net.jqwik.api.RandomDistribution.*;
+
+/**
+ * A numeric generator that can create values as primitive longs
+ * as long as the generated range fits into a long.
+ *
+ * <p>
+ * {@linkplain #nextLong(Random)} must use the source of randomness in the same way as {@linkplain #next(Random)}
+ * so that the same seed leads to the same values on both paths.
+ * </p>
+ */
+interface LongNumericGenerator extends RandomNumericGenerator {
+
+	long nextLong(Random random);
+
+	@Override
+	default BigInteger next(Random random) {
+		return BigInteger.valueOf(nextLong(random));
+	}
+}
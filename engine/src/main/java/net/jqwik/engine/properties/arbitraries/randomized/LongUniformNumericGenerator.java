@@ -0,0 +1,48 @@
+package net.jqwik.engine.properties.arbitraries.randomized;
+
+import java.math.*;
+import java.util.*;
+
+/**
+ * Generates the same values as {@linkplain BigUniformNumericGenerator} for ranges that fit into a long
+ * but without creating intermediate BigIntegers.
+ */
+class LongUniformNumericGenerator implements LongNumericGenerator {
+
+	private final long min;
+	// Interpreted as unsigned value since max - min can be larger than Long.MAX_VALUE
+	private final long range;
+	private final int bits;
+
+	LongUniformNumericGenerator(BigInteger min, BigInteger max) {
+		this.min = min.longValueExact();
+		this.range = max.longValueExact() - this.min;
+		this.bits = max.subtract(min).bitLength();
+	}
+
+	@Override
+	public long nextLong(Random random) {
+		byte[] randomBytes = new byte[(bits + 7) / 8];
+		while (true) {
+			long rawValue = randomBits(randomBytes, random);
+			if (Long.compareUnsigned(rawValue, range) <= 0) {
+				return min + rawValue;
+			}
+		}
+	}
+
+	// Uses random in the same way as new BigInteger(bits, random)
+	private long randomBits(byte[] randomBytes, Random random) {
+		if (randomBytes.length == 0) {
+			return 0L;
+		}
+		random.nextBytes(randomBytes);
+		int excessBits = 8 * randomBytes.length - bits;
+		randomBytes[0] &= (byte) ((1 << (8 - excessBits)) - 1);
+		long value = 0L;
+		for (byte randomByte : randomBytes) {
+			value = (value << 8) | (randomByte & 0xFF);
+		}
+		return value;
+	}
+}
@@ -1,12 +1,22 @@
 package net.jqwik.engine.properties.arbitraries.randomized;
 
 import java.math.*;
+import java.util.function.*;
 
 import net.jqwik.api.*;
 import net.jqwik.engine.properties.*;
 
 public class RandomDecimalGenerators {
 
+	// Powers of ten that are exactly representable as double and float
+	private static final double[] DOUBLE_POWERS_OF_TEN = {
+		1.0e0, 1.0e1, 1.0e2, 1.0e3, 1.0e4, 1.0e5, 1.0e6, 1.0e7, 1.0e8, 1.0e9, 1.0e10,
+		1.0e11, 1.0e12, 1.0e13, 1.0e14, 1.0e15, 1.0e16, 1.0e17, 1.0e18, 1.0e19, 1.0e20, 1.0e21, 1.0e22
+	};
+	private static final float[] FLOAT_POWERS_OF_TEN = {
+		1.0e0f, 1.0e1f, 1.0e2f, 1.0e3f, 1.0e4f, 1.0e5f, 1.0e6f, 1.0e7f, 1.0e8f, 1.0e9f, 1.0e10f
+	};
+
 	public static RandomGenerator<BigDecimal> bigDecimals(
 		int genSize,
 		Range<BigDecimal> range,
@@ -32,6 +42,73 @@ public class RandomDecimalGenerators {
 		return scaledBigDecimalGenerator(unscaledBigIntegerGenerator, scale);
 	}
 
+	/**
+	 * Generate decimal values that are represented by a floating point type, e.g. doubles.
+	 * As long as the unscaled range fits into a long no BigDecimals are created for generation and shrinking.
+	 * For the same seed the generated values are the same as with {@linkplain #bigDecimals} mapped by {@code fromDecimal}.
+	 */
+	public static <T> RandomGenerator<T> floatingPoints(
+		int genSize,
+		Range<BigDecimal> range,
+		int scale,
+		RandomDistribution distribution,
+		BigDecimal shrinkingTarget,
+		Function<BigDecimal, T> fromDecimal,
+		LongFunction<T> fromUnscaled
+	) {
+		checkRangeIsSound(range, scale);
+
+		if (scale < 0) {
+			throw new JqwikException(String.format("Scale [%s] must be positive.", scale));
+		}
+
+		if (range.isSingular()) {
+			return ignored -> Shrinkable.unshrinkable(fromDecimal.apply(range.min));
+		}
+
+		Range<BigInteger> unscaledRange = unscaledBigIntegerRange(range, scale);
+		BigInteger unscaledShrinkingTarget = unscaledBigInteger(shrinkingTarget, scale);
+		if (isWithinLongRange(unscaledRange)) {
+			return RandomIntegralGenerators.integrals(
+				genSize,
+				unscaledRange.min.longValueExact(),
+				unscaledRange.max.longValueExact(),
+				unscaledShrinkingTarget.longValueExact(),
+				distribution,
+				fromUnscaled
+			);
+		}
+		RandomGenerator<BigInteger> unscaledBigIntegerGenerator =
+			RandomIntegralGenerators.bigIntegers(genSize, unscaledRange.min, unscaledRange.max, unscaledShrinkingTarget, distribution);
+		return unscaledBigIntegerGenerator.map(value -> fromDecimal.apply(scaledBigDecimal(value, scale)));
+	}
+
+	public static boolean isWithinLongRange(Range<BigInteger> unscaledRange) {
+		return unscaledRange.min.bitLength() < Long.SIZE && unscaledRange.max.bitLength() < Long.SIZE;
+	}
+
+	/**
+	 * Same result as {@code new BigDecimal(BigInteger.valueOf(unscaled), scale).doubleValue()}.
+	 * Dividing is correctly rounded when both operands are exactly representable as double.
+	 */
+	public static double scaledDouble(long unscaled, int scale) {
+		if (unscaled > -(1L << 52) && unscaled < (1L << 52) && scale >= 0 && scale < DOUBLE_POWERS_OF_TEN.length) {
+			return (double) unscaled / DOUBLE_POWERS_OF_TEN[scale];
+		}
+		return scaledBigDecimal(BigInteger.valueOf(unscaled), scale).doubleValue();
+	}
+
+	/**
+	 * Same result as {@code new BigDecimal(BigInteger.valueOf(unscaled), scale).floatValue()}.
+	 * Dividing is correctly rounded when both operands are exactly representable as float.
+	 */
+	public static float scaledFloat(long unscaled, int scale) {
+		if (unscaled > -(1L << 22) && unscaled < (1L << 22) && scale >= 0 && scale < FLOAT_POWERS_OF_TEN.length) {
+			return (float) unscaled / FLOAT_POWERS_OF_TEN[scale];
+		}
+		return scaledBigDecimal(BigInteger.valueOf(unscaled), scale).floatValue();
+	}
+
 	private static void checkRangeIsSound(Range<BigDecimal> range, int scale) {
 		if (range.minIncluded || range.maxIncluded) {
 			return;
@@ -0,0 +1,124 @@
+package net.jqwik.engine.properties.arbitraries.randomized;
+
+import java.math.*;
+import java.util.*;
+
+import net.jqwik.api.*;
+import net.jqwik.api.RandomDistribution.*;
+import net.jqwik.engine.properties.*;
+import net.jqwik.engine.properties.shrinking.*;
+
+/**
+ * Generates doubles and floats that are not constrained by a scale.
+ * Most values are decimals with two decimal places - generated by the distribution as unscaled longs -
+ * so that generated values are readable. The others cover the whole range of representable values:
+ * Some are chosen uniformly by bit pattern, which yields all magnitudes including subnormals,
+ * some uniformly by value.
+ */
+public class RandomFloatingPointGenerators {
+
+	private static final int DECIMALS_SCALE = 2;
+	private static final double DECIMALS_FACTOR = 100.0;
+
+	// Unscaled decimals up to this magnitude are exactly representable as double
+	private static final double MAX_UNSCALED = 0x1p53;
+
+	/**
+	 * @param min inclusive lower border
+	 * @param max inclusive upper border
+	 */
+	public static <T> RandomGenerator<T> floatingPoints(
+		int genSize,
+		double min,
+		double max,
+		double shrinkingTarget,
+		RandomDistribution distribution,
+		FloatingPointType<T> type
+	) {
+		checkTargetInRange(min, max, shrinkingTarget);
+
+		if (min == max) {
+			return ignored -> Shrinkable.unshrinkable(type.toValue(min));
+		}
+
+		RandomNumericGenerator decimalsGenerator = decimalsGenerator(genSize, min, max, shrinkingTarget, distribution);
+		long minOrdinal = type.ordinal(min);
+		long maxOrdinal = type.ordinal(max);
+
+		return random -> {
+			double value;
+			int strategy = random.nextInt(8);
+			if (strategy == 0 || (decimalsGenerator == null && random.nextBoolean())) {
+				value = type.fromOrdinal(nextOrdinal(random, minOrdinal, maxOrdinal));
+			} else if (strategy == 1 || decimalsGenerator == null) {
+				value = clamp(type.round(nextUniform(random, min, max)), min, max);
+			} else {
+				value = clamp(type.round(nextDecimal(random, decimalsGenerator)), min, max);
+			}
+			return new ShrinkableFloatingPoint<>(value, min, max, shrinkingTarget, type);
+		};
+	}
+
+	private static RandomNumericGenerator decimalsGenerator(
+		int genSize,
+		double min,
+		double max,
+		double shrinkingTarget,
+		RandomDistribution distribution
+	) {
+		long unscaledMin = (long) Math.ceil(Math.max(min * DECIMALS_FACTOR, -MAX_UNSCALED));
+		long unscaledMax = (long) Math.floor(Math.min(max * DECIMALS_FACTOR, MAX_UNSCALED));
+		if (unscaledMin >= unscaledMax) {
+			return null;
+		}
+		long unscaledTarget = (long) Math.rint(shrinkingTarget * DECIMALS_FACTOR);
+		unscaledTarget = Math.max(unscaledMin, Math.min(unscaledMax, unscaledTarget));
+		return distribution.createGenerator(
+			genSize,
+			BigInteger.valueOf(unscaledMin),
+			BigInteger.valueOf(unscaledMax),
+			BigInteger.valueOf(unscaledTarget)
+		);
+	}
+
+	private static double nextDecimal(Random random, RandomNumericGenerator decimalsGenerator) {
+		long unscaled = decimalsGenerator instanceof LongNumericGenerator
+							? ((LongNumericGenerator) decimalsGenerator).nextLong(random)
+							: decimalsGenerator.next(random).longValueExact();
+		return RandomDecimalGenerators.scaledDouble(unscaled, DECIMALS_SCALE);
+	}
+
+	// All values are treated as unsigned longs since the number of ordinals can exceed Long.MAX_VALUE
+	private static long nextOrdinal(Random random, long minOrdinal, long maxOrdinal) {
+		long numberOfOrdinals = maxOrdinal - minOrdinal + 1;
+		long offset = random.nextLong();
+		if (numberOfOrdinals != 0) {
+			offset = Long.remainderUnsigned(offset, numberOfOrdinals);
+		}
+		return minOrdinal + offset;
+	}
+
+	private static double nextUniform(Random random, double min, double max) {
+		double fraction = random.nextDouble();
+		// Does not overflow even if max - min is larger than Double.MAX_VALUE
+		return min * (1 - fraction) + max * fraction;
+	}
+
+	private static double clamp(double value, double min, double max) {
+		return Math.max(min, Math.min(max, value));
+	}
+
+	private static void checkTargetInRange(double min, double max, double shrinkingTarget) {
+		if (shrinkingTarget < min || shrinkingTarget > max) {
+			String message = String.format("Shrinking target <%s> is outside allowed range %s", shrinkingTarget, Range.of(min, max));
+			throw new JqwikException(message);
+		}
+	}
+
+	public static double defaultShrinkingTarget(double min, double max) {
+		if (min <= 0 && max >= 0) {
+			return 0.0;
+		}
+		return min > 0 ? min : max;
+	}
+}
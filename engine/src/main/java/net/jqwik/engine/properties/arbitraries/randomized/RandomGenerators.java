@@ -52,7 +52,7 @@ public class RandomGenerators {
 	}
 
 	public static RandomGenerator<Character> chars(char min, char max) {
-		return integers(min, max).map(anInt -> ((char) (int) anInt));
+		return RandomIntegralGenerators.integrals(1000, min, max, min, RandomDistribution.uniform(), ShrinkableIntegral.TO_CHARACTER);
 	}
 
 	public static RandomGenerator<Integer> integers(int min, int max) {
@@ -103,11 +103,33 @@ public class RandomGenerators {
 		Arbitrary<Character> characterArbitrary,
 		boolean uniqueChars
 	) {
-		Function<List<Shrinkable<Character>>, Shrinkable<String>> createShrinkable = elements -> new ShrinkableString(elements, minLength, maxLength, characterArbitrary, uniqueChars);
+		Function<List<Shrinkable<Character>>, Shrinkable<String>> createShrinkable = elements -> CompactShrinkableString.of(elements, minLength, maxLength, characterArbitrary, uniqueChars);
 		Set<FeatureExtractor<Character>> featureExtractors = uniqueChars ? ShrinkableString.UNIQUE_CHARS_EXTRACTOR : Collections.emptySet();
 		return container(elementGenerator, createShrinkable, minLength, maxLength, maxUniqueChars, genSize, lengthDistribution, featureExtractors);
 	}
 
+	/**
+	 * Generate strings of characters from {@code characterRanges} without creating a shrinkable for each character.
+	 */
+	public static RandomGenerator<String> strings(
+		CharacterRanges characterRanges,
+		int minLength, int maxLength, long maxUniqueChars,
+		int genSize, RandomDistribution lengthDistribution,
+		Arbitrary<Character> characterArbitrary,
+		boolean uniqueChars
+	) {
+		if (minLength > maxLength) {
+			String message = String.format("minSize <%s> must not be larger than maxSize <%s>.", minLength, maxLength);
+			throw new JqwikException(message);
+		}
+		return new CompactStringGenerator(
+			characterRanges,
+			minLength, maxLength, maxUniqueChars,
+			genSize, lengthDistribution,
+			characterArbitrary, uniqueChars
+		);
+	}
+
 	private static <T, C> RandomGenerator<C> container(
 		RandomGenerator<T> elementGenerator,
 		Function<List<Shrinkable<T>>, Shrinkable<C>> createShrinkable,
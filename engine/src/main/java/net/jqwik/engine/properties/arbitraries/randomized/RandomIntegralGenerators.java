@@ -1,6 +1,8 @@
 package net.jqwik.engine.properties.arbitraries.randomized;
 
 import java.math.*;
+import java.util.*;
+import java.util.function.*;
 
 import net.jqwik.api.*;
 import net.jqwik.api.RandomDistribution.*;
@@ -37,6 +39,68 @@ public class RandomIntegralGenerators {
 		};
 	}
 
+	/**
+	 * Generate integral values within a range that fits into a long without creating BigIntegers
+	 * for every value, unless the distribution's generator cannot create longs directly.
+	 * For the same seed the generated values are the same as with {@linkplain #bigIntegers}.
+	 */
+	public static <T> RandomGenerator<T> integrals(
+		int genSize,
+		long min,
+		long max,
+		long shrinkingTarget,
+		RandomDistribution distribution,
+		LongFunction<T> toValue
+	) {
+		return integrals(genSize, min, max, shrinkingTarget, distribution, toValue, ShrinkableIntegral.NEGATE_LONG_VALUE);
+	}
+
+	/**
+	 * @param negation see {@linkplain ShrinkableIntegral#ShrinkableIntegral(long, long, long, long, LongFunction, LongFunction)}
+	 */
+	public static <T> RandomGenerator<T> integrals(
+		int genSize,
+		long min,
+		long max,
+		long shrinkingTarget,
+		RandomDistribution distribution,
+		LongFunction<T> toValue,
+		LongFunction<OptionalLong> negation
+	) {
+		Range<BigInteger> range = Range.of(BigInteger.valueOf(min), BigInteger.valueOf(max));
+
+		checkTargetInRange(range, BigInteger.valueOf(shrinkingTarget));
+
+		if (min == max) {
+			return ignored -> Shrinkable.unshrinkable(toValue.apply(min));
+		}
+
+		ToLongFunction<Random> longs = longs(genSize, range, shrinkingTarget, distribution);
+		return random -> new ShrinkableIntegral<>(longs.applyAsLong(random), min, max, shrinkingTarget, toValue, negation);
+	}
+
+	/**
+	 * Generate plain long values in the same way as {@linkplain #integrals} does.
+	 */
+	static ToLongFunction<Random> longs(int genSize, long min, long max, long shrinkingTarget, RandomDistribution distribution) {
+		Range<BigInteger> range = Range.of(BigInteger.valueOf(min), BigInteger.valueOf(max));
+		checkTargetInRange(range, BigInteger.valueOf(shrinkingTarget));
+		if (min == max) {
+			return ignored -> min;
+		}
+		return longs(genSize, range, shrinkingTarget, distribution);
+	}
+
+	private static ToLongFunction<Random> longs(int genSize, Range<BigInteger> range, long shrinkingTarget, RandomDistribution distribution) {
+		RandomNumericGenerator numericGenerator =
+			distribution.createGenerator(genSize, range.min, range.max, BigInteger.valueOf(shrinkingTarget));
+
+		if (numericGenerator instanceof LongNumericGenerator) {
+			return ((LongNumericGenerator) numericGenerator)::nextLong;
+		}
+		return random -> numericGenerator.next(random).longValueExact();
+	}
+
 	private static void checkTargetInRange(Range<BigInteger> range, BigInteger value) {
 		if (!range.includes(value)) {
 			String message = String.format("Shrinking target <%s> is outside allowed range %s", value, range);
@@ -3,9 +3,7 @@ package net.jqwik.engine.properties.arbitraries.randomized;
 import java.math.*;
 import java.util.*;
 
-import net.jqwik.api.*;
-
-class SmallUniformNumericGenerator implements RandomDistribution.RandomNumericGenerator {
+class SmallUniformNumericGenerator implements LongNumericGenerator {
 
 	private final int min;
 	private final int max;
@@ -16,9 +14,8 @@ class SmallUniformNumericGenerator implements RandomDistribution.RandomNumericGe
 	}
 
 	@Override
-	public BigInteger next(Random random) {
+	public long nextLong(Random random) {
 		int bound = Math.abs(max - min) + 1;
-		int value = random.nextInt(bound >= 0 ? bound : Integer.MAX_VALUE) + min;
-		return BigInteger.valueOf(value);
+		return random.nextInt(bound >= 0 ? bound : Integer.MAX_VALUE) + min;
 	}
 }
@@ -16,12 +16,18 @@ public class UniformRandomDistribution implements RandomDistribution {
 		// Small number generation can be faster
 		if (isWithinIntegerRange(min, max)) {
 			return new SmallUniformNumericGenerator(min, max);
+		} else if (isWithinLongRange(min, max)) {
+			return new LongUniformNumericGenerator(min, max);
 		} else {
 			return new BigUniformNumericGenerator(min, max);
 		}
 
 	}
 
+	private static boolean isWithinLongRange(BigInteger min, BigInteger max) {
+		return min.bitLength() < Long.SIZE && max.bitLength() < Long.SIZE;
+	}
+
 	private static boolean isWithinIntegerRange(BigInteger min, BigInteger max) {
 		boolean rangeIsSmallerThanIntegerMax = max.subtract(min).compareTo(BigInteger.valueOf(Integer.MAX_VALUE)) < 0;
 		boolean minAndMaxAreWithinInt = min.compareTo(BigInteger.valueOf(Integer.MIN_VALUE)) >= 0
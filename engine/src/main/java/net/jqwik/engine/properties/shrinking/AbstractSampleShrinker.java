@@ -4,6 +4,8 @@ import java.util.*;
 import java.util.function.*;
 import java.util.stream.*;
 
+import org.jspecify.annotations.*;
+
 import net.jqwik.api.*;
 import net.jqwik.api.Tuple.*;
 import net.jqwik.api.lifecycle.*;
@@ -15,10 +17,13 @@ abstract class AbstractSampleShrinker {
 		return ShrinkingDistance.forCollection(shrinkables);
 	}
 
-	private final Map<List<Object>, TryExecutionResult> falsificationCache;
+	private final FalsificationCache falsificationCache;
+	@Nullable
+	private final ConcurrentFalsifier concurrentFalsifier;
 
-	public AbstractSampleShrinker(Map<List<Object>, TryExecutionResult> falsificationCache) {
+	public AbstractSampleShrinker(FalsificationCache falsificationCache, @Nullable ConcurrentFalsifier concurrentFalsifier) {
 		this.falsificationCache = falsificationCache;
+		this.concurrentFalsifier = concurrentFalsifier;
 	}
 
 	public abstract FalsifiedSample shrink(
@@ -36,6 +41,8 @@ abstract class AbstractSampleShrinker {
 		Function<List<Shrinkable<Object>>, Stream<List<Shrinkable<Object>>>> supplyShrinkCandidates
 	) {
 		List<Shrinkable<Object>> currentShrinkBase = sample.shrinkables();
+		// Parameters of a sample might have been changed during its execution
+		SampleFingerprint currentFingerprint = SampleFingerprint.of(createValues(currentShrinkBase).collect(Collectors.toList()));
 		Optional<FalsifiedSample> bestResult = Optional.empty();
 		FilteredResults filteredResults = new FilteredResults();
 
@@ -44,15 +51,13 @@ abstract class AbstractSampleShrinker {
 
 			FalsifiedSample currentBest = bestResult.orElse(null);
 
-			Optional<Tuple3<List<Object>, List<Shrinkable<Object>>, TryExecutionResult>> newShrinkingResult =
+			Stream<List<Shrinkable<Object>>> candidates =
 				supplyShrinkCandidates.apply(currentShrinkBase)
-								 .peek(ignore -> shrinkAttemptConsumer.accept(currentBest))
-								 .filter(shrinkables -> calculateDistance(shrinkables).compareTo(currentDistance) <= 0)
-								 .map(shrinkables -> {
-									 List<Object> params = createValues(shrinkables).collect(Collectors.toList());
-									 TryExecutionResult result = falsify(falsifier, params);
-									 return Tuple.of(params, shrinkables, result);
-								 })
+									  .peek(ignore -> shrinkAttemptConsumer.accept(currentBest))
+									  .filter(shrinkables -> calculateDistance(shrinkables).compareTo(currentDistance) <= 0);
+
+			Optional<Tuple3<SampleFingerprint, List<Shrinkable<Object>>, TryExecutionResult>> newShrinkingResult =
+				falsifyCandidates(falsifier, candidates, currentShrinkBase, currentFingerprint)
 								 .peek(t -> {
 									 // Remember best 10 invalid results in case no  falsified shrink is found
 									 if (t.get3().isInvalid() && calculateDistance(t.get2()).compareTo(currentDistance) < 0) {
@@ -61,12 +66,15 @@ abstract class AbstractSampleShrinker {
 								 })
 								 .filter(t -> t.get3().isFalsified())
 								 .findAny();
+			if (concurrentFalsifier != null) {
+				concurrentFalsifier.discardEvaluated();
+			}
 
 			if (newShrinkingResult.isPresent()) {
-				Tuple3<List<Object>, List<Shrinkable<Object>>, TryExecutionResult> falsifiedTry = newShrinkingResult.get();
+				Tuple3<SampleFingerprint, List<Shrinkable<Object>>, TryExecutionResult> falsifiedTry = newShrinkingResult.get();
 				TryExecutionResult tryExecutionResult = falsifiedTry.get3();
 				FalsifiedSample falsifiedSample = new FalsifiedSampleImpl(
-					falsifiedTry.get1(),
+					falsifiedTry.get1().parameters(),
 					falsifiedTry.get2(),
 					tryExecutionResult.throwable(),
 					tryExecutionResult.footnotes()
@@ -74,10 +82,12 @@ abstract class AbstractSampleShrinker {
 				sampleShrunkConsumer.accept(falsifiedSample);
 				bestResult = Optional.of(falsifiedSample);
 				currentShrinkBase = falsifiedTry.get2();
+				currentFingerprint = falsifiedTry.get1();
 				filteredResults.clear();
 			} else if (!filteredResults.isEmpty()) {
-				Tuple3<List<Object>, List<Shrinkable<Object>>, TryExecutionResult> aFilteredResult = filteredResults.pop();
+				Tuple3<SampleFingerprint, List<Shrinkable<Object>>, TryExecutionResult> aFilteredResult = filteredResults.pop();
 				currentShrinkBase = aFilteredResult.get2();
+				currentFingerprint = aFilteredResult.get1();
 			} else {
 				break;
 			}
@@ -86,28 +96,93 @@ abstract class AbstractSampleShrinker {
 		return bestResult.orElse(sample);
 	}
 
-	private TryExecutionResult falsify(Falsifier<List<Object>> falsifier, List<Object> params) {
-		// I wonder in which cases this is really an optimization
-		return falsificationCache.computeIfAbsent(params, p -> falsifier.execute(params));
+	private Stream<Tuple3<SampleFingerprint, List<Shrinkable<Object>>, TryExecutionResult>> falsifyCandidates(
+		Falsifier<List<Object>> falsifier,
+		Stream<List<Shrinkable<Object>>> candidates,
+		List<Shrinkable<Object>> baseShrinkables,
+		SampleFingerprint baseFingerprint
+	) {
+		Stream<Tuple2<SampleFingerprint, List<Shrinkable<Object>>>> candidatesWithParams =
+			candidates.map(shrinkables -> Tuple.of(SampleFingerprint.shrunkFrom(shrinkables, baseShrinkables, baseFingerprint), shrinkables));
+		if (concurrentFalsifier == null) {
+			return candidatesWithParams.map(t -> Tuple.of(t.get1(), t.get2(), falsify(falsifier, t.get1())));
+		}
+		Iterator<Tuple3<SampleFingerprint, List<Shrinkable<Object>>, TryExecutionResult>> batchedFalsification =
+			new BatchedFalsification(candidatesWithParams.iterator(), falsifier, concurrentFalsifier);
+		return StreamSupport.stream(Spliterators.spliteratorUnknownSize(batchedFalsification, Spliterator.ORDERED), false);
+	}
+
+	private TryExecutionResult falsify(Falsifier<List<Object>> falsifier, SampleFingerprint sample) {
+		return falsificationCache.falsify(falsifier, sample);
 	}
 
 	private Stream<Object> createValues(List<Shrinkable<Object>> shrinkables) {
 		return shrinkables.stream().map(Shrinkable::value);
 	}
 
+	/**
+	 * Hands batches of candidates to the concurrent falsifier before they are falsified one after the other.
+	 * Results are requested lazily so that candidates after the first falsified one are never used.
+	 */
+	private class BatchedFalsification implements Iterator<Tuple3<SampleFingerprint, List<Shrinkable<Object>>, TryExecutionResult>> {
+
+		private final Iterator<Tuple2<SampleFingerprint, List<Shrinkable<Object>>>> candidates;
+		private final Falsifier<List<Object>> falsifier;
+		private final ConcurrentFalsifier concurrentFalsifier;
+		private final Deque<Tuple2<SampleFingerprint, List<Shrinkable<Object>>>> currentBatch = new ArrayDeque<>();
+
+		private BatchedFalsification(
+			Iterator<Tuple2<SampleFingerprint, List<Shrinkable<Object>>>> candidates,
+			Falsifier<List<Object>> falsifier,
+			ConcurrentFalsifier concurrentFalsifier
+		) {
+			this.candidates = candidates;
+			this.falsifier = falsifier;
+			this.concurrentFalsifier = concurrentFalsifier;
+		}
+
+		@Override
+		public boolean hasNext() {
+			return !currentBatch.isEmpty() || candidates.hasNext();
+		}
+
+		@Override
+		public Tuple3<SampleFingerprint, List<Shrinkable<Object>>, TryExecutionResult> next() {
+			if (currentBatch.isEmpty()) {
+				fetchNextBatch();
+			}
+			Tuple2<SampleFingerprint, List<Shrinkable<Object>>> candidate = currentBatch.removeFirst();
+			TryExecutionResult result = falsify(falsifier, candidate.get1());
+			return Tuple.of(candidate.get1(), candidate.get2(), result);
+		}
+
+		private void fetchNextBatch() {
+			List<SampleFingerprint> notCached = new ArrayList<>();
+			while (currentBatch.size() < concurrentFalsifier.batchSize() && candidates.hasNext()) {
+				Tuple2<SampleFingerprint, List<Shrinkable<Object>>> candidate = candidates.next();
+				currentBatch.addLast(candidate);
+				if (!falsificationCache.isCached(candidate.get1())) {
+					notCached.add(candidate.get1());
+				}
+			}
+			concurrentFalsifier.evaluate(notCached);
+		}
+	}
+
 	private static class FilteredResults {
 
 		public static final int MAX_SIZE = 100;
 
-		Comparator<? super Tuple3<List<Object>, List<Shrinkable<Object>>, TryExecutionResult>> resultComparator =
+		Comparator<? super Tuple3<SampleFingerprint, List<Shrinkable<Object>>, TryExecutionResult>> resultComparator =
 			Comparator.comparing(left -> calculateDistance(left.get2()));
 
-		PriorityQueue<Tuple3<List<Object>, List<Shrinkable<Object>>, TryExecutionResult>> prioritizedResults = new PriorityQueue<>(resultComparator);
+		PriorityQueue<Tuple3<SampleFingerprint, List<Shrinkable<Object>>, TryExecutionResult>> prioritizedResults = new PriorityQueue<>(resultComparator);
 
-		Set<Tuple3<List<Object>, List<Shrinkable<Object>>, TryExecutionResult>> removedResults = new LinkedHashSet<>();
+		// Results are not part of the key since they are no longer identical once evicted from the falsification cache
+		Set<Tuple2<SampleFingerprint, List<Shrinkable<Object>>>> removedResults = new LinkedHashSet<>();
 
-		void push(Tuple3<List<Object>, List<Shrinkable<Object>>, TryExecutionResult> result) {
-			if (removedResults.contains(result)) {
+		void push(Tuple3<SampleFingerprint, List<Shrinkable<Object>>, TryExecutionResult> result) {
+			if (removedResults.contains(Tuple.of(result.get1(), result.get2()))) {
 				return;
 			}
 			prioritizedResults.add(result);
@@ -124,10 +199,10 @@ abstract class AbstractSampleShrinker {
 			return prioritizedResults.isEmpty();
 		}
 
-		Tuple3<List<Object>, List<Shrinkable<Object>>, TryExecutionResult> pop() {
-			Tuple3<List<Object>, List<Shrinkable<Object>>, TryExecutionResult> result = prioritizedResults.peek();
+		Tuple3<SampleFingerprint, List<Shrinkable<Object>>, TryExecutionResult> pop() {
+			Tuple3<SampleFingerprint, List<Shrinkable<Object>>, TryExecutionResult> result = prioritizedResults.peek();
 			prioritizedResults.remove(result);
-			removedResults.add(result);
+			removedResults.add(Tuple.of(result.get1(), result.get2()));
 			return result;
 		}
 
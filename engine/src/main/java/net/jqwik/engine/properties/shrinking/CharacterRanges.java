@@ -0,0 +1,139 @@
+package net.jqwik.engine.properties.shrinking;
+
+import java.util.*;
+import java.util.function.*;
+
+import net.jqwik.engine.properties.*;
+
+/**
+ * The characters between a minimum and a maximum that are not excluded,
+ * numbered through an index without gaps.
+ *
+ * <p>
+ * The index of an allowed character is its code minus the number of excluded characters below it.
+ * Thus the minimum index is the code of the minimum and without exclusions a character's index is its code.
+ * As a conversion from index to character an instance can be used as the value function of {@linkplain ShrinkableIntegral},
+ * which allows strings of these characters to be shrunk as char arrays.
+ * </p>
+ */
+public final class CharacterRanges implements LongFunction<Character> {
+
+	public static CharacterRanges of(char min, char max) {
+		return new CharacterRanges(min, new char[]{min}, new char[]{max});
+	}
+
+	public static CharacterRanges of(char min, char max, Collection<Range<Character>> excludedRanges) {
+		List<Range<Character>> sortedExclusions = new ArrayList<>(excludedRanges);
+		sortedExclusions.sort(Comparator.comparing(range -> range.min));
+		StringBuilder starts = new StringBuilder();
+		StringBuilder ends = new StringBuilder();
+		// An int because the next allowed char after Character.MAX_VALUE does not fit into a char
+		int next = min;
+		for (Range<Character> excluded : sortedExclusions) {
+			if (excluded.min > next && next <= max) {
+				starts.append((char) next);
+				ends.append((char) Math.min(max, excluded.min - 1));
+			}
+			next = Math.max(next, excluded.max + 1);
+		}
+		if (next <= max) {
+			starts.append((char) next);
+			ends.append(max);
+		}
+		return new CharacterRanges(min, starts.toString().toCharArray(), ends.toString().toCharArray());
+	}
+
+	private final int minIndex;
+	// Sorted ranges of allowed chars with at least one excluded char between two ranges
+	private final char[] starts;
+	private final char[] ends;
+	private final int[] startIndices;
+
+	private CharacterRanges(int minIndex, char[] starts, char[] ends) {
+		this.minIndex = minIndex;
+		this.starts = starts;
+		this.ends = ends;
+		this.startIndices = new int[starts.length];
+		int index = minIndex;
+		for (int i = 0; i < starts.length; i++) {
+			startIndices[i] = index;
+			index += ends[i] - starts[i] + 1;
+		}
+	}
+
+	public boolean isEmpty() {
+		return starts.length == 0;
+	}
+
+	public int minIndex() {
+		return minIndex;
+	}
+
+	public int maxIndex() {
+		return minIndex + count() - 1;
+	}
+
+	public int count() {
+		if (isEmpty()) {
+			return 0;
+		}
+		int last = starts.length - 1;
+		return startIndices[last] - minIndex + ends[last] - starts[last] + 1;
+	}
+
+	public char charAt(long index) {
+		int range = Arrays.binarySearch(startIndices, (int) index);
+		if (range < 0) {
+			range = -range - 2;
+		}
+		return (char) (starts[range] + (index - startIndices[range]));
+	}
+
+	/**
+	 * @return the index of {@code aChar} or of the next larger allowed char if {@code aChar} is excluded.
+	 * Chars outside the range are mapped to the index of the nearest allowed char.
+	 */
+	public int indexOf(char aChar) {
+		if (starts.length == 1 && aChar >= starts[0] && aChar <= ends[0]) {
+			return startIndices[0] + aChar - starts[0];
+		}
+		int range = Arrays.binarySearch(starts, aChar);
+		if (range < 0) {
+			range = -range - 2;
+		}
+		if (range < 0) {
+			return minIndex;
+		}
+		if (aChar <= ends[range]) {
+			return startIndices[range] + aChar - starts[range];
+		}
+		return range < starts.length - 1 ? startIndices[range + 1] : maxIndex();
+	}
+
+	@Override
+	public Character apply(long index) {
+		return charAt(index);
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (this == o) return true;
+		if (o == null || getClass() != o.getClass()) return false;
+		CharacterRanges that = (CharacterRanges) o;
+		return minIndex == that.minIndex && Arrays.equals(starts, that.starts) && Arrays.equals(ends, that.ends);
+	}
+
+	@Override
+	public int hashCode() {
+		return 31 * minIndex + Arrays.hashCode(starts);
+	}
+
+	@Override
+	public String toString() {
+		StringJoiner ranges = new StringJoiner(", ", "CharacterRanges[", "]");
+		for (int i = 0; i < starts.length; i++) {
+			ranges.add(String.format("%04x..%04x", (int) starts[i], (int) ends[i]));
+		}
+		return ranges.toString();
+	}
+}
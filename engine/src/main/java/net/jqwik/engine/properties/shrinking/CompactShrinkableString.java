@@ -0,0 +1,497 @@
+package net.jqwik.engine.properties.shrinking;
+
+import java.util.*;
+import java.util.function.*;
+import java.util.stream.*;
+
+import org.jspecify.annotations.*;
+
+import net.jqwik.api.*;
+import net.jqwik.engine.support.*;
+
+/**
+ * A shrinkable string that keeps its characters in a char array
+ * instead of a list with one shrinkable per character.
+ * Every position has its own {@linkplain CharacterRanges} and shrinks towards their minimum.
+ *
+ * <p>
+ * For characters generated from character ranges shrinking creates the same candidates
+ * in the same order as {@linkplain ShrinkableString}. Use {@linkplain #of(List, int, int, Arbitrary, boolean)}
+ * to get a compact shrinkable from character shrinkables whenever possible.
+ * </p>
+ */
+public class CompactShrinkableString implements Shrinkable<String> {
+
+	// There are 23 fibonacci numbers below 2^16
+	private static final int MAX_CHAR_CANDIDATES = 2 * 23 + 1;
+
+	private final char[] chars;
+	// Usually all positions share the same instance.
+	// The array is shared with candidates in which only characters have changed.
+	private final CharacterRanges[] ranges;
+	private final int minSize;
+	private final int maxSize;
+	private final boolean uniqueChars;
+
+	@Nullable
+	private final Arbitrary<Character> characterArbitrary;
+
+	// Lazily computed because contained chars are only needed when shrinking with unique chars
+	@Nullable
+	private volatile BitSet containedChars;
+
+	/**
+	 * @param chars all of which must be in {@code characterRanges}
+	 */
+	public static Shrinkable<String> of(
+		char[] chars, CharacterRanges characterRanges, int minSize, int maxSize,
+		Arbitrary<Character> characterArbitrary,
+		boolean uniqueChars
+	) {
+		CharacterRanges[] ranges = new CharacterRanges[chars.length];
+		Arrays.fill(ranges, characterRanges);
+		return new CompactShrinkableString(chars, ranges, minSize, maxSize, uniqueChars, characterArbitrary);
+	}
+
+	public static Shrinkable<String> of(
+		List<Shrinkable<Character>> elements, int minSize, int maxSize,
+		Arbitrary<Character> characterArbitrary,
+		boolean uniqueChars
+	) {
+		char[] chars = new char[elements.size()];
+		CharacterRanges[] ranges = new CharacterRanges[elements.size()];
+		for (int i = 0; i < elements.size(); i++) {
+			Shrinkable<Character> element = elements.get(i);
+			CharacterRanges elementRanges = characterRangesOf(element, i > 0 ? ranges[i - 1] : null);
+			if (elementRanges == null) {
+				return new ShrinkableString(elements, minSize, maxSize, characterArbitrary, uniqueChars);
+			}
+			chars[i] = element.value();
+			ranges[i] = elementRanges;
+		}
+		return new CompactShrinkableString(chars, ranges, minSize, maxSize, uniqueChars, characterArbitrary);
+	}
+
+	/**
+	 * @param previous the ranges of the previous element, which are reused if they are the same
+	 * @return {@code null} if the element does not shrink like a character from character ranges
+	 */
+	@Nullable
+	private static CharacterRanges characterRangesOf(Shrinkable<Character> element, @Nullable CharacterRanges previous) {
+		if (!(element instanceof ShrinkableIntegral)) {
+			return null;
+		}
+		ShrinkableIntegral<?> integralElement = (ShrinkableIntegral<?>) element;
+		long min = integralElement.min();
+		long max = integralElement.max();
+		if (integralElement.shrinkingTarget() != min) {
+			return null;
+		}
+		if (integralElement.toValue() instanceof CharacterRanges) {
+			CharacterRanges ranges = (CharacterRanges) integralElement.toValue();
+			return ranges.minIndex() == min && ranges.maxIndex() == max ? ranges : null;
+		}
+		if (integralElement.toValue() != ShrinkableIntegral.TO_CHARACTER || min < Character.MIN_VALUE || max > Character.MAX_VALUE) {
+			return null;
+		}
+		if (previous != null && previous.minIndex() == min && previous.maxIndex() == max && previous.count() == max - min + 1) {
+			return previous;
+		}
+		return CharacterRanges.of((char) min, (char) max);
+	}
+
+	private CompactShrinkableString(
+		char[] chars, CharacterRanges[] ranges, int minSize, int maxSize,
+		boolean uniqueChars,
+		@Nullable Arbitrary<Character> characterArbitrary
+	) {
+		this.chars = chars;
+		this.ranges = ranges;
+		this.minSize = minSize;
+		this.maxSize = maxSize;
+		this.uniqueChars = uniqueChars;
+		this.characterArbitrary = characterArbitrary;
+	}
+
+	@Override
+	public String value() {
+		return new String(chars);
+	}
+
+	@Override
+	public Stream<Shrinkable<String>> shrink() {
+		if (chars.length > 100) {
+			return JqwikStreamSupport.concat(
+				shrinkSizeAggressively(),
+				shrinkSizeOfString(),
+				shrinkCharsOneAfterTheOther(100)
+			);
+		}
+		return JqwikStreamSupport.concat(
+			shrinkSizeOfString(),
+			shrinkCharsOneAfterTheOther(0),
+			shrinkPairsOfChars(),
+			sortChars()
+		);
+	}
+
+	// Same cuts as AggressiveSizeOfListShrinker
+	private Stream<Shrinkable<String>> shrinkSizeAggressively() {
+		int size = chars.length;
+		if (size <= minSize) {
+			return Stream.empty();
+		}
+		List<Shrinkable<String>> candidates = new ArrayList<>();
+		candidates.addAll(leftAndRightCuts(minSize));
+		if (size > minSize + 1) {
+			candidates.addAll(leftAndRightCuts(minSize + 1));
+		}
+		int halfSize = size / 2;
+		if (halfSize >= minSize) {
+			candidates.addAll(leftAndRightCuts(halfSize, size - halfSize));
+		}
+		return sortedByDistance(candidates);
+	}
+
+	private List<Shrinkable<String>> leftAndRightCuts(int charsToKeep) {
+		return leftAndRightCuts(charsToKeep, charsToKeep);
+	}
+
+	private List<Shrinkable<String>> leftAndRightCuts(int charsToKeepLeft, int charsToKeepRight) {
+		List<Shrinkable<String>> cuts = new ArrayList<>(2);
+		addDistinct(cuts, cut(0, charsToKeepLeft));
+		addDistinct(cuts, cut(chars.length - charsToKeepRight, chars.length));
+		return cuts;
+	}
+
+	// Same cuts as SizeOfListShrinker
+	private Stream<Shrinkable<String>> shrinkSizeOfString() {
+		int size = chars.length;
+		if (size <= minSize) {
+			return Stream.empty();
+		}
+		List<Shrinkable<String>> candidates = new ArrayList<>();
+		if (minSize == 0) {
+			candidates.add(cut(0, 0));
+		}
+		int charsToCut = new SizeOfListShrinker<>(minSize).calculateElementsToCut(size);
+		List<Shrinkable<String>> cuts = new ArrayList<>(4);
+		addDistinct(cuts, cut(0, size - charsToCut));
+		if (charsToCut != 1) {
+			addDistinct(cuts, cut(0, size - 1));
+		}
+		addDistinct(cuts, cut(charsToCut, size));
+		if (charsToCut != 1) {
+			addDistinct(cuts, cut(1, size));
+		}
+		candidates.addAll(cuts);
+		return sortedByDistance(candidates);
+	}
+
+	private static void addDistinct(List<Shrinkable<String>> cuts, Shrinkable<String> cut) {
+		if (!cuts.contains(cut)) {
+			cuts.add(cut);
+		}
+	}
+
+	private Stream<Shrinkable<String>> sortedByDistance(List<Shrinkable<String>> candidates) {
+		return candidates.stream().sorted(Comparator.comparing(Shrinkable::distance));
+	}
+
+	private Shrinkable<String> cut(int from, int to) {
+		return new CompactShrinkableString(
+			Arrays.copyOfRange(chars, from, to),
+			Arrays.copyOfRange(ranges, from, to),
+			minSize, maxSize, uniqueChars, characterArbitrary
+		);
+	}
+
+	private Stream<Shrinkable<String>> shrinkCharsOneAfterTheOther(int maxToShrink) {
+		int charsToShrink = maxToShrink > 0 ? Math.min(maxToShrink, chars.length) : chars.length;
+		List<Stream<Shrinkable<String>>> shrinkPerCharStreams = new ArrayList<>(charsToShrink);
+		for (int i = 0; i < charsToShrink; i++) {
+			shrinkPerCharStreams.add(shrinkCharAt(i));
+		}
+		return JqwikStreamSupport.concat(shrinkPerCharStreams);
+	}
+
+	private Stream<Shrinkable<String>> shrinkCharAt(int index) {
+		// Candidates are computed when the stream is consumed and not before
+		Spliterator<Shrinkable<String>> candidates = new Spliterators.AbstractSpliterator<Shrinkable<String>>(Long.MAX_VALUE, Spliterator.ORDERED) {
+			private char[] shrunkChars = null;
+			private int next = 0;
+
+			@Override
+			public boolean tryAdvance(Consumer<? super Shrinkable<String>> action) {
+				if (shrunkChars == null) {
+					shrunkChars = shrinkCandidates(index);
+				}
+				while (next < shrunkChars.length) {
+					char shrunkChar = shrunkChars[next++];
+					if (isUniqueReplacement(shrunkChar)) {
+						action.accept(withCharAt(index, shrunkChar));
+						return true;
+					}
+				}
+				return false;
+			}
+		};
+		return StreamSupport.stream(candidates, false);
+	}
+
+	private Stream<Shrinkable<String>> shrinkPairsOfChars() {
+		return Combinatorics
+				   .distinctPairs(chars.length)
+				   .flatMap(pair -> {
+					   int first = pair.get1();
+					   int second = pair.get2();
+					   char[] firstCandidates = shrinkCandidates(first);
+					   char[] secondCandidates = shrinkCandidates(second);
+					   return IntStream.range(0, Math.min(firstCandidates.length, secondCandidates.length))
+									   .mapToObj(i -> {
+										   char[] newChars = chars.clone();
+										   newChars[first] = firstCandidates[i];
+										   newChars[second] = secondCandidates[i];
+										   if (uniqueChars && !areUnique(newChars)) {
+											   return null;
+										   }
+										   return withChars(newChars, ranges);
+									   })
+									   .filter(Objects::nonNull);
+				   });
+	}
+
+	private Stream<Shrinkable<String>> sortChars() {
+		long[] distancesAndIndices = new long[chars.length];
+		for (int i = 0; i < chars.length; i++) {
+			distancesAndIndices[i] = ((long) distanceAt(i) << 32) | i;
+		}
+		// Sorting by distance first and index second keeps the order of chars with equal distance
+		Arrays.sort(distancesAndIndices);
+		char[] sortedChars = new char[chars.length];
+		CharacterRanges[] sortedRanges = new CharacterRanges[chars.length];
+		for (int i = 0; i < chars.length; i++) {
+			int index = (int) distancesAndIndices[i];
+			sortedChars[i] = chars[index];
+			sortedRanges[i] = ranges[index];
+		}
+		if (Arrays.equals(chars, sortedChars)) {
+			return Stream.empty();
+		}
+		return JqwikStreamSupport.concat(
+			Stream.of(withChars(sortedChars, sortedRanges)),
+			pairwiseSort()
+		);
+	}
+
+	private Stream<Shrinkable<String>> pairwiseSort() {
+		return Combinatorics.distinctPairs(chars.length)
+							.filter(pair -> isGreaterThan(pair.get1(), pair.get2()))
+							.map(pair -> {
+								char[] pairSwap = chars.clone();
+								CharacterRanges[] pairSwapRanges = ranges.clone();
+								swap(pairSwap, pairSwapRanges, pair.get1(), pair.get2());
+								return withChars(pairSwap, pairSwapRanges);
+							});
+	}
+
+	// Same as comparing the shrinkables of both chars
+	private boolean isGreaterThan(int index, int otherIndex) {
+		int comparison = Integer.compare(distanceAt(index), distanceAt(otherIndex));
+		if (comparison == 0) {
+			return chars[index] > chars[otherIndex];
+		}
+		return comparison > 0;
+	}
+
+	private static void swap(char[] chars, CharacterRanges[] ranges, int first, int second) {
+		char firstChar = chars[first];
+		chars[first] = chars[second];
+		chars[second] = firstChar;
+		CharacterRanges firstRange = ranges[first];
+		ranges[first] = ranges[second];
+		ranges[second] = firstRange;
+	}
+
+	/**
+	 * The same candidates that shrinking a character with {@linkplain ShrinkableIntegral} produces,
+	 * i.e. the distinct fibonacci steps from the character's index and the minimum index, sorted by distance.
+	 */
+	private char[] shrinkCandidates(int index) {
+		CharacterRanges charRanges = ranges[index];
+		int value = charRanges.indexOf(chars[index]);
+		int target = charRanges.minIndex();
+		int distance = value - target;
+		if (distance == 0) {
+			return new char[0];
+		}
+		int[] candidates = new int[MAX_CHAR_CANDIDATES];
+		int count = 0;
+		candidates[count++] = target;
+		int butLast = 0;
+		int last = 1;
+		while (true) {
+			int step = butLast + last;
+			if (step >= distance) {
+				break;
+			}
+			candidates[count++] = target + step;
+			candidates[count++] = value - step;
+			butLast = last;
+			last = step;
+		}
+		// All candidates are above the target so their order is the order of distances
+		Arrays.sort(candidates, 0, count);
+		char[] distinctChars = new char[count];
+		int distinctCount = 0;
+		for (int i = 0; i < count; i++) {
+			if (i == 0 || candidates[i - 1] != candidates[i]) {
+				distinctChars[distinctCount++] = charRanges.charAt(candidates[i]);
+			}
+		}
+		return Arrays.copyOf(distinctChars, distinctCount);
+	}
+
+	private boolean isUniqueReplacement(char replacement) {
+		if (!uniqueChars) {
+			return true;
+		}
+		// The replaced char is never the same as its replacement
+		return !containedChars().get(replacement);
+	}
+
+	private BitSet containedChars() {
+		if (containedChars == null) {
+			containedChars = charsOf(chars);
+		}
+		return containedChars;
+	}
+
+	private static BitSet charsOf(char[] chars) {
+		BitSet bitSet = new BitSet();
+		for (char c : chars) {
+			bitSet.set(c);
+		}
+		return bitSet;
+	}
+
+	private static boolean areUnique(char[] chars) {
+		BitSet seen = new BitSet();
+		for (char c : chars) {
+			if (seen.get(c)) {
+				return false;
+			}
+			seen.set(c);
+		}
+		return true;
+	}
+
+	private CompactShrinkableString withCharAt(int index, char newChar) {
+		char[] newChars = chars.clone();
+		newChars[index] = newChar;
+		return withChars(newChars, ranges);
+	}
+
+	private CompactShrinkableString withChars(char[] newChars, CharacterRanges[] newRanges) {
+		return new CompactShrinkableString(newChars, newRanges, minSize, maxSize, uniqueChars, characterArbitrary);
+	}
+
+	@Override
+	public Optional<Shrinkable<String>> grow(Shrinkable<?> before, Shrinkable<?> after) {
+		if (before instanceof CompactShrinkableString && after instanceof CompactShrinkableString) {
+			CompactShrinkableString beforeString = (CompactShrinkableString) before;
+			CompactShrinkableString afterString = (CompactShrinkableString) after;
+			// Moving chars from one string to another is only allowed if both contain chars
+			// created by the same arbitrary
+			if (Objects.equals(beforeString.characterArbitrary, afterString.characterArbitrary)) {
+				return growBy(beforeString.removedIn(afterString));
+			}
+		}
+		return Optional.empty();
+	}
+
+	private CompactShrinkableString removedIn(CompactShrinkableString after) {
+		BitSet remainingChars = charsOf(after.chars);
+		char[] removedChars = new char[chars.length];
+		CharacterRanges[] removedRanges = new CharacterRanges[chars.length];
+		int countRemoved = 0;
+		for (int i = 0; i < chars.length; i++) {
+			if (!remainingChars.get(chars[i])) {
+				removedChars[countRemoved] = chars[i];
+				removedRanges[countRemoved] = ranges[i];
+				countRemoved++;
+			}
+		}
+		return withChars(Arrays.copyOf(removedChars, countRemoved), Arrays.copyOf(removedRanges, countRemoved));
+	}
+
+	private Optional<Shrinkable<String>> growBy(CompactShrinkableString removed) {
+		int removedSize = removed.chars.length;
+		if (chars.length + removedSize > maxSize) {
+			return Optional.empty();
+		}
+		// Removed chars are prepended one after the other and thereby end up in reversed order
+		char[] grownChars = new char[chars.length + removedSize];
+		CharacterRanges[] grownRanges = new CharacterRanges[chars.length + removedSize];
+		for (int i = 0; i < removedSize; i++) {
+			grownChars[removedSize - 1 - i] = removed.chars[i];
+			grownRanges[removedSize - 1 - i] = removed.ranges[i];
+		}
+		System.arraycopy(chars, 0, grownChars, removedSize, chars.length);
+		System.arraycopy(ranges, 0, grownRanges, removedSize, ranges.length);
+		return Optional.of(withChars(grownChars, grownRanges));
+	}
+
+	@Override
+	public Stream<Shrinkable<String>> grow() {
+		List<Stream<Shrinkable<String>>> growPerCharStreams = new ArrayList<>(chars.length);
+		for (int i = 0; i < chars.length; i++) {
+			int index = i;
+			growPerCharStreams.add(
+				charShrinkable(index).grow().map(grownChar -> withCharAt(index, grownChar.value()))
+			);
+		}
+		return JqwikStreamSupport.concat(growPerCharStreams);
+	}
+
+	private Shrinkable<Character> charShrinkable(int index) {
+		CharacterRanges charRanges = ranges[index];
+		int min = charRanges.minIndex();
+		return new ShrinkableIntegral<>(charRanges.indexOf(chars[index]), min, charRanges.maxIndex(), min, charRanges);
+	}
+
+	private int distanceAt(int index) {
+		CharacterRanges charRanges = ranges[index];
+		return charRanges.indexOf(chars[index]) - charRanges.minIndex();
+	}
+
+	@Override
+	public ShrinkingDistance distance() {
+		if (chars.length == 0) {
+			return ShrinkingDistance.of(0);
+		}
+		long sumOfDistances = 0;
+		for (int i = 0; i < chars.length; i++) {
+			sumOfDistances += distanceAt(i);
+		}
+		return ShrinkingDistance.of(chars.length, sumOfDistances);
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (this == o) return true;
+		if (o == null || getClass() != o.getClass()) return false;
+		CompactShrinkableString that = (CompactShrinkableString) o;
+		return Arrays.equals(chars, that.chars);
+	}
+
+	@Override
+	public int hashCode() {
+		return Arrays.hashCode(chars);
+	}
+
+	@Override
+	public String toString() {
+		return String.format("%s<%s>(%s:%s)", getClass().getSimpleName(), String.class.getSimpleName(), value(), distance());
+	}
+}
@@ -0,0 +1,127 @@
+package net.jqwik.engine.properties.shrinking;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import net.jqwik.api.*;
+import net.jqwik.api.lifecycle.*;
+import net.jqwik.engine.execution.lifecycle.*;
+import net.jqwik.engine.support.*;
+
+/**
+ * Evaluates batches of shrinking candidates ahead of time on a pool of worker threads.
+ *
+ * <p>
+ * Results are only handed out when a candidate is executed through {@linkplain #execute(List)},
+ * which shrinkers do in the same order as in sequential shrinking.
+ * Results of candidates that sequential shrinking would never have tried are discarded,
+ * so that the chosen candidate and the recorded shrinking sequence do not depend on concurrency.
+ * </p>
+ *
+ * <p>
+ * At most parallelism candidates are evaluated at the same time. This includes candidates
+ * the calling thread evaluates itself and discarded evaluations that have not yet reacted to being interrupted.
+ * Each candidate that is evaluated ahead of time gets its own {@linkplain TryStores try stores}.
+ * </p>
+ */
+class ConcurrentFalsifier implements Falsifier<List<Object>>, AutoCloseable {
+
+	private final Falsifier<List<Object>> falsifier;
+	private final int parallelism;
+	private final ThreadContext threadContext;
+	private final ExecutorService executorService;
+	private final Semaphore runningEvaluations;
+
+	// Shrinkers execute the same parameters object that has been evaluated, so there is no need to hash parameters
+	private final Map<List<Object>, Future<TryExecutionResult>> evaluatedCandidates = new IdentityHashMap<>();
+
+	ConcurrentFalsifier(Falsifier<List<Object>> falsifier, int parallelism, boolean useVirtualThreads) {
+		this.falsifier = falsifier;
+		this.parallelism = parallelism;
+		this.threadContext = ThreadContext.capture();
+		// Virtual thread executors do not limit the number of running tasks
+		this.runningEvaluations = new Semaphore(parallelism);
+		Optional<ExecutorService> virtualThreadExecutor =
+			useVirtualThreads ? JqwikThreadSupport.virtualThreadPerTaskExecutor() : Optional.empty();
+		this.executorService = virtualThreadExecutor.orElseGet(() -> Executors.newFixedThreadPool(parallelism));
+	}
+
+	int batchSize() {
+		return parallelism;
+	}
+
+	/**
+	 * Start evaluating candidates that have not been evaluated before.
+	 */
+	void evaluate(Collection<SampleFingerprint> candidates) {
+		Set<SampleFingerprint> evaluatedInBatch = new HashSet<>();
+		for (SampleFingerprint candidate : candidates) {
+			List<Object> parameters = candidate.parameters();
+			if (evaluatedCandidates.containsKey(parameters) || !evaluatedInBatch.add(candidate)) {
+				continue;
+			}
+			evaluatedCandidates.put(parameters, executorService.submit(() -> evaluateAheadOfTime(parameters)));
+		}
+	}
+
+	private TryExecutionResult evaluateAheadOfTime(List<Object> parameters) throws InterruptedException {
+		// Discarded evaluations that are still waiting for their turn are interrupted here
+		runningEvaluations.acquire();
+		try {
+			TryStores storesOfCandidate = new TryStores();
+			try {
+				return threadContext.runWith(() -> storesOfCandidate.runWith(() -> falsifier.execute(parameters)));
+			} finally {
+				storesOfCandidate.finish();
+			}
+		} finally {
+			runningEvaluations.release();
+		}
+	}
+
+	@Override
+	public TryExecutionResult execute(List<Object> parameters) {
+		Future<TryExecutionResult> evaluated = evaluatedCandidates.remove(parameters);
+		if (evaluated == null) {
+			runningEvaluations.acquireUninterruptibly();
+			try {
+				return falsifier.execute(parameters);
+			} finally {
+				runningEvaluations.release();
+			}
+		}
+		return resultOf(evaluated);
+	}
+
+	private TryExecutionResult resultOf(Future<TryExecutionResult> future) {
+		try {
+			return future.get();
+		} catch (ExecutionException executionException) {
+			return JqwikExceptionSupport.throwAsUncheckedException(executionException.getCause());
+		} catch (InterruptedException interruptedException) {
+			Thread.currentThread().interrupt();
+			return JqwikExceptionSupport.throwAsUncheckedException(interruptedException);
+		}
+	}
+
+	/**
+	 * Forget all results that have not been used.
+	 * Evaluations that have not started yet are skipped, running evaluations are interrupted.
+	 */
+	void discardEvaluated() {
+		evaluatedCandidates.values().forEach(future -> future.cancel(true));
+		evaluatedCandidates.clear();
+	}
+
+	@Override
+	public void close() {
+		discardEvaluated();
+		executorService.shutdown();
+		try {
+			// Interrupted evaluations can only stop when the property reacts to being interrupted
+			executorService.awaitTermination(Long.MAX_VALUE, TimeUnit.MILLISECONDS);
+		} catch (InterruptedException interruptedException) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
@@ -0,0 +1,91 @@
+package net.jqwik.engine.properties.shrinking;
+
+import java.util.*;
+import java.util.function.*;
+
+import net.jqwik.api.*;
+import net.jqwik.api.lifecycle.*;
+import net.jqwik.engine.support.*;
+
+/**
+ * Remembers the results of the most recently tried shrinking candidates
+ * so that the same sample is not falsified twice.
+ *
+ * <p>
+ * The number of entries is bounded; the least recently used entry is evicted first.
+ * The cache is a pure optimization: the result of every candidate - found in the cache or not -
+ * is handed to the result consumer, so that a recorded shrinking sequence
+ * can be replayed without a cache or with a cache of any other size.
+ * </p>
+ *
+ * <p>
+ * A cache is only used by the thread that runs the shrinking algorithm.
+ * </p>
+ */
+class FalsificationCache {
+
+	private final int maxEntries;
+	private final Consumer<TryExecutionResult> resultConsumer;
+	private final Map<SampleFingerprint, TryExecutionResult> results;
+
+	private int hits = 0;
+	private int misses = 0;
+
+	FalsificationCache(int maxEntries) {
+		this(maxEntries, ignore -> {});
+	}
+
+	/**
+	 * @param resultConsumer is called with the result of every falsified sample including cache hits
+	 */
+	FalsificationCache(int maxEntries, Consumer<TryExecutionResult> resultConsumer) {
+		this.maxEntries = Math.max(maxEntries, 0);
+		this.resultConsumer = resultConsumer;
+		this.results = new LruCache<>(this.maxEntries);
+	}
+
+
+	TryExecutionResult falsify(Falsifier<List<Object>> falsifier, List<Object> params) {
+		return falsify(falsifier, SampleFingerprint.of(params));
+	}
+
+	TryExecutionResult falsify(Falsifier<List<Object>> falsifier, SampleFingerprint sample) {
+		TryExecutionResult cachedResult = results.get(sample);
+		if (cachedResult != null) {
+			hits++;
+			resultConsumer.accept(cachedResult);
+			return cachedResult;
+		}
+		misses++;
+		TryExecutionResult result = falsifier.execute(sample.parameters());
+		if (maxEntries > 0) {
+			results.put(sample, result);
+		}
+		resultConsumer.accept(result);
+		return result;
+	}
+
+	/**
+	 * Check for a cached result without changing the order of eviction.
+	 */
+	boolean isCached(SampleFingerprint sample) {
+		return results.containsKey(sample);
+	}
+
+	int hits() {
+		return hits;
+	}
+
+	int misses() {
+		return misses;
+	}
+
+	int size() {
+		return results.size();
+	}
+
+	@Override
+	public String toString() {
+		return String.format("FalsificationCache[hits=%d, misses=%d, size=%d, maxEntries=%d]", hits, misses, size(), maxEntries);
+	}
+}
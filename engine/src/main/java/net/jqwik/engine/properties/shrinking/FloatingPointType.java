@@ -0,0 +1,168 @@
+package net.jqwik.engine.properties.shrinking;
+
+/**
+ * Access to the IEEE-754 representation of doubles and floats.
+ * Values of both types are handled as doubles, float values are always exactly representable as double.
+ *
+ * <p>
+ * The ordinal of a value is its position among all values of the type: Neighbouring values have neighbouring ordinals,
+ * zero has ordinal 0 and negative values have negative ordinals. Both zeros have ordinal 0.
+ * NaN has no ordinal.
+ * </p>
+ */
+public abstract class FloatingPointType<T> {
+
+	public static final FloatingPointType<Double> DOUBLE = new DoubleType();
+	public static final FloatingPointType<Float> FLOAT = new FloatType();
+
+	private FloatingPointType() {
+	}
+
+	public abstract long ordinal(double value);
+
+	public abstract double fromOrdinal(long ordinal);
+
+	/**
+	 * @return the value of this type that is nearest to {@code value}
+	 */
+	public abstract double round(double value);
+
+	public abstract T toValue(double value);
+
+	public abstract double toDouble(T value);
+
+	/**
+	 * @return the smallest positive value, which is also the smallest subnormal value
+	 */
+	public abstract double minValue();
+
+	public abstract double minNormal();
+
+	public abstract double maxValue();
+
+	/**
+	 * @return the number of decimal places that is enough to represent every value with an exponent of 0
+	 */
+	abstract int maxDecimals();
+
+	public double maxSubnormal() {
+		return fromOrdinal(ordinal(minNormal()) - 1);
+	}
+
+	public double nextUp(double value) {
+		return fromOrdinal(ordinal(value) + 1);
+	}
+
+	public double nextDown(double value) {
+		return fromOrdinal(ordinal(value) - 1);
+	}
+
+	private static class DoubleType extends FloatingPointType<Double> {
+
+		@Override
+		public long ordinal(double value) {
+			long bits = Double.doubleToLongBits(value);
+			return bits >= 0 ? bits : -(bits & Long.MAX_VALUE);
+		}
+
+		@Override
+		public double fromOrdinal(long ordinal) {
+			return ordinal >= 0 ? Double.longBitsToDouble(ordinal) : Double.longBitsToDouble(-ordinal | Long.MIN_VALUE);
+		}
+
+		@Override
+		public double round(double value) {
+			return value;
+		}
+
+		@Override
+		public Double toValue(double value) {
+			return value;
+		}
+
+		@Override
+		public double toDouble(Double value) {
+			return value;
+		}
+
+		@Override
+		public double minValue() {
+			return Double.MIN_VALUE;
+		}
+
+		@Override
+		public double minNormal() {
+			return Double.MIN_NORMAL;
+		}
+
+		@Override
+		public double maxValue() {
+			return Double.MAX_VALUE;
+		}
+
+		@Override
+		int maxDecimals() {
+			return 17;
+		}
+
+		@Override
+		public String toString() {
+			return "double";
+		}
+	}
+
+	private static class FloatType extends FloatingPointType<Float> {
+
+		@Override
+		public long ordinal(double value) {
+			int bits = Float.floatToIntBits((float) value);
+			return bits >= 0 ? bits : -(bits & Integer.MAX_VALUE);
+		}
+
+		@Override
+		public double fromOrdinal(long ordinal) {
+			int bits = (int) ordinal;
+			return ordinal >= 0 ? Float.intBitsToFloat(bits) : Float.intBitsToFloat(-bits | Integer.MIN_VALUE);
+		}
+
+		@Override
+		public double round(double value) {
+			return (float) value;
+		}
+
+		@Override
+		public Float toValue(double value) {
+			return (float) value;
+		}
+
+		@Override
+		public double toDouble(Float value) {
+			return value;
+		}
+
+		@Override
+		public double minValue() {
+			return Float.MIN_VALUE;
+		}
+
+		@Override
+		public double minNormal() {
+			return Float.MIN_NORMAL;
+		}
+
+		@Override
+		public double maxValue() {
+			return Float.MAX_VALUE;
+		}
+
+		@Override
+		int maxDecimals() {
+			return 9;
+		}
+
+		@Override
+		public String toString() {
+			return "float";
+		}
+	}
+}
@@ -0,0 +1,73 @@
+package net.jqwik.engine.properties.shrinking;
+
+import java.util.*;
+import java.util.stream.*;
+
+/**
+ * Creates the same candidates as {@linkplain BigIntegerShrinker} for values and targets of type long.
+ */
+class LongShrinker {
+
+	private final long shrinkingTarget;
+
+	LongShrinker(long shrinkingTarget) {
+		this.shrinkingTarget = shrinkingTarget;
+	}
+
+	Stream<Long> shrink(long value) {
+		Set<Long> candidates = new LinkedHashSet<>();
+		long lower = Math.min(shrinkingTarget, value);
+		long higher = Math.max(shrinkingTarget, value);
+		// Unsigned because the distance can be larger than Long.MAX_VALUE
+		long distance = higher - lower;
+		addFibbonaci(candidates, lower, distance);
+		subFibbonaci(candidates, higher, distance);
+		candidates.add(shrinkingTarget);
+		candidates.remove(value);
+		return candidates.stream();
+	}
+
+	private void subFibbonaci(Set<Long> candidates, long target, long distance) {
+		long butLast = 0;
+		long last = 1;
+		while (true) {
+			if (!isStepWithin(butLast, last, distance)) {
+				break;
+			}
+			long step = butLast + last;
+			candidates.add(target - step);
+			butLast = last;
+			last = step;
+		}
+	}
+
+	private void addFibbonaci(Set<Long> candidates, long target, long distance) {
+		long butLast = 0;
+		long last = 1;
+		while (true) {
+			if (!isStepWithin(butLast, last, distance)) {
+				break;
+			}
+			long step = butLast + last;
+			candidates.add(target + step);
+			butLast = last;
+			last = step;
+		}
+	}
+
+	// All values are treated as unsigned longs
+	private static boolean isStepWithin(long butLast, long last, long distance) {
+		if (Long.compareUnsigned(last, distance) >= 0) {
+			return false;
+		}
+		return Long.compareUnsigned(butLast, distance - last) < 0;
+	}
+
+	/**
+	 * @return the distance between value and target or Long.MAX_VALUE if the distance does not fit into a long
+	 */
+	static long distance(long value, long target) {
+		long distance = value >= target ? value - target : target - value;
+		return distance < 0 ? Long.MAX_VALUE : distance;
+	}
+}
@@ -1,16 +1,19 @@
 package net.jqwik.engine.properties.shrinking;
 
 import java.util.*;
+import java.util.concurrent.atomic.*;
 import java.util.function.*;
 import java.util.stream.*;
 
+import org.jspecify.annotations.*;
+
 import net.jqwik.api.*;
 import net.jqwik.api.lifecycle.*;
 
 class OneAfterTheOtherParameterShrinker extends AbstractSampleShrinker {
 
-	public OneAfterTheOtherParameterShrinker(Map<List<Object>, TryExecutionResult> falsificationCache) {
-		super(falsificationCache);
+	public OneAfterTheOtherParameterShrinker(FalsificationCache falsificationCache, @Nullable ConcurrentFalsifier concurrentFalsifier) {
+		super(falsificationCache, concurrentFalsifier);
 	}
 
 	@Override
@@ -37,7 +40,12 @@ class OneAfterTheOtherParameterShrinker extends AbstractSampleShrinker {
 		Function<List<Shrinkable<Object>>, Stream<List<Shrinkable<Object>>>> shrinker =
 			shrinkables -> {
 				Shrinkable<Object> shrinkable = shrinkables.get(parameterIndex);
-				return shrinkable.shrink().map(s -> replaceIn(s, parameterIndex, sample.shrinkables()));
+				ShrinkingPath.Step lastStep = ShrinkingCandidate.lastStepOf(shrinkables);
+				AtomicInteger indexInShrinkStream = new AtomicInteger(0);
+				return shrinkable.shrink().map(s -> new ShrinkingCandidate(
+					replaceIn(s, parameterIndex, sample.shrinkables()),
+					ShrinkingPath.Step.shrunk(lastStep, parameterIndex, indexInShrinkStream.getAndIncrement())
+				));
 			};
 
 		return shrink(
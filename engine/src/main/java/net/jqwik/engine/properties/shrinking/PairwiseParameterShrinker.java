@@ -1,17 +1,20 @@
 package net.jqwik.engine.properties.shrinking;
 
 import java.util.*;
+import java.util.concurrent.atomic.*;
 import java.util.function.*;
 import java.util.stream.*;
 
+import org.jspecify.annotations.*;
+
 import net.jqwik.api.*;
 import net.jqwik.api.lifecycle.*;
 import net.jqwik.engine.support.*;
 
 class PairwiseParameterShrinker extends AbstractSampleShrinker {
 
-	public PairwiseParameterShrinker(Map<List<Object>, TryExecutionResult> falsificationCache) {
-		super(falsificationCache);
+	public PairwiseParameterShrinker(FalsificationCache falsificationCache, @Nullable ConcurrentFalsifier concurrentFalsifier) {
+		super(falsificationCache, concurrentFalsifier);
 	}
 
 	@Override
@@ -42,12 +45,16 @@ class PairwiseParameterShrinker extends AbstractSampleShrinker {
 			shrinkables -> {
 				Stream<Shrinkable<Object>> shrink1 = shrinkables.get(index1).shrink();
 				Stream<Shrinkable<Object>> shrink2 = shrinkables.get(index2).shrink();
+				ShrinkingPath.Step lastStep = ShrinkingCandidate.lastStepOf(shrinkables);
+				AtomicInteger indexInShrinkStreams = new AtomicInteger(0);
 
 				return JqwikStreamSupport.zip(shrink1, shrink2, (shrinkable1, shrinkable2) -> {
 					ArrayList<Shrinkable<Object>> newShrinkables = new ArrayList<>(sample.shrinkables());
 					newShrinkables.set(index1, shrinkable1);
 					newShrinkables.set(index2, shrinkable2);
-					return newShrinkables;
+					int index = indexInShrinkStreams.getAndIncrement();
+					ShrinkingPath.Step step = ShrinkingPath.Step.shrunk(ShrinkingPath.Step.shrunk(lastStep, index1, index), index2, index);
+					return new ShrinkingCandidate(newShrinkables, step);
 				});
 			};
 
@@ -7,10 +7,7 @@ import java.util.concurrent.atomic.*;
 import java.util.function.*;
 import java.util.logging.*;
 
-import org.junit.platform.engine.*;
-
 import net.jqwik.api.*;
-import net.jqwik.api.domains.*;
 import net.jqwik.api.lifecycle.*;
 import net.jqwik.engine.execution.lifecycle.*;
 import net.jqwik.engine.properties.*;
@@ -25,10 +22,15 @@ public class PropertyShrinker {
 	private final int boundedShrinkingSeconds;
 	private final Consumer<FalsifiedSample> falsifiedSampleReporter;
 	private final Method targetMethod;
+	private final FalsificationCache falsificationCache;
+	private final int parallelism;
+	private final boolean useVirtualThreads;
 
 	private final AtomicInteger shrinkingStepsCounter = new AtomicInteger(0);
+	private final AtomicInteger evaluatedCandidatesCounter = new AtomicInteger(0);
 	private final List<TryExecutionResult.Status> shrinkingSequence = new LinkedList<>();
 
+	private Optional<ShrinkingPath> shrinkingPath = Optional.empty();
 	private Optional<FalsifiedSample> currentBest = Optional.empty();
 	private volatile boolean shrinkingInterrupted = false;
 
@@ -37,13 +39,35 @@ public class PropertyShrinker {
 		ShrinkingMode shrinkingMode,
 		int boundedShrinkingSeconds,
 		Consumer<FalsifiedSample> falsifiedSampleReporter,
-		Method targetMethod
+		Method targetMethod,
+		int falsificationCacheMaxEntries
+	) {
+		this(originalSample, shrinkingMode, boundedShrinkingSeconds, falsifiedSampleReporter, targetMethod, falsificationCacheMaxEntries, 1, false);
+	}
+
+	/**
+	 * @param parallelism       Values greater than 1 evaluate shrinking candidates concurrently.
+	 *                          The shrunk sample and the shrinking sequence are the same as with sequential shrinking.
+	 * @param useVirtualThreads Evaluate candidates on virtual threads if the JVM supports them
+	 */
+	public PropertyShrinker(
+		FalsifiedSample originalSample,
+		ShrinkingMode shrinkingMode,
+		int boundedShrinkingSeconds,
+		Consumer<FalsifiedSample> falsifiedSampleReporter,
+		Method targetMethod,
+		int falsificationCacheMaxEntries,
+		int parallelism,
+		boolean useVirtualThreads
 	) {
 		this.originalSample = originalSample;
 		this.shrinkingMode = shrinkingMode;
 		this.boundedShrinkingSeconds = boundedShrinkingSeconds;
 		this.falsifiedSampleReporter = falsifiedSampleReporter;
 		this.targetMethod = targetMethod;
+		this.falsificationCache = new FalsificationCache(falsificationCacheMaxEntries, this::recordResult);
+		this.parallelism = parallelism;
+		this.useVirtualThreads = useVirtualThreads;
 	}
 
 	public ShrunkFalsifiedSample shrink(Falsifier<List<Object>> forAllFalsifier) {
@@ -78,6 +102,36 @@ public class PropertyShrinker {
 		return shrinkingSequence.subList(0, indexOfLastFalsified + 1);
 	}
 
+	/**
+	 * @return the path on which the shrunk sample has been reached,
+	 * or {@code Optional.empty()} if it cannot be recreated through shrink streams alone
+	 */
+	public Optional<ShrinkingPath> shrinkingPath() {
+		return shrinkingPath;
+	}
+
+	/**
+	 * @return number of candidates the property has been run with,
+	 * including candidates evaluated ahead of time whose result was never used
+	 */
+	public int countEvaluatedCandidates() {
+		return evaluatedCandidatesCounter.get();
+	}
+
+	/**
+	 * @return number of candidates whose result was taken from the falsification cache
+	 */
+	public int countCacheHits() {
+		return falsificationCache.hits();
+	}
+
+	/**
+	 * @return number of candidates that were not found in the falsification cache
+	 */
+	public int countCacheMisses() {
+		return falsificationCache.misses();
+	}
+
 	private ShrunkFalsifiedSample shrink(
 		Falsifier<List<Object>> falsifier,
 		Consumer<FalsifiedSample> sampleShrunkConsumer,
@@ -90,19 +144,15 @@ public class PropertyShrinker {
 		} else {
 			fullyShrunkSample = withTimeout(shrinkUntilDone);
 		}
+		shrinkingPath = ShrinkingPath.of(fullyShrunkSample.shrinkables());
 		return new ShrunkFalsifiedSampleImpl(fullyShrunkSample, shrinkingStepsCounter.get());
 	}
 
 	private FalsifiedSample withTimeout(Supplier<FalsifiedSample> shrinkUntilDone) {
 		try {
-			TestDescriptor currentDescriptor = CurrentTestDescriptor.get();
-			DomainContext currentContext = CurrentDomainContext.get();
-			Supplier<FalsifiedSample> shrinkWithTestDescriptor =
-				() -> CurrentDomainContext.runWithContext(
-					currentContext,
-					() -> CurrentTestDescriptor.runWithDescriptor(currentDescriptor, shrinkUntilDone)
-				);
-			CompletableFuture<FalsifiedSample> falsifiedSampleFuture = CompletableFuture.supplyAsync(shrinkWithTestDescriptor);
+			ThreadContext threadContext = ThreadContext.capture();
+			CompletableFuture<FalsifiedSample> falsifiedSampleFuture =
+				CompletableFuture.supplyAsync(() -> threadContext.runWith(shrinkUntilDone));
 			return falsifiedSampleFuture.get(boundedShrinkingSeconds, TimeUnit.SECONDS);
 		} catch (InterruptedException | ExecutionException e) {
 			return JqwikExceptionSupport.throwAsUncheckedException(e);
@@ -118,21 +168,39 @@ public class PropertyShrinker {
 		final Consumer<FalsifiedSample> sampleShrunkConsumer,
 		final Consumer<FalsifiedSample> shrinkAttemptConsumer
 	) {
-		Falsifier<List<Object>> recordingFalsifier = params -> {
-			TryExecutionResult executionResult = falsifier.execute(params);
-			if (!shrinkingInterrupted) {
-				shrinkingSequence.add(executionResult.status());
-			}
-			return executionResult;
+		// Candidates are counted where they are run, including trailing and discarded concurrent evaluations
+		Falsifier<List<Object>> countingFalsifier = params -> {
+			evaluatedCandidatesCounter.incrementAndGet();
+			return falsifier.execute(params);
 		};
+		ConcurrentFalsifier concurrentFalsifier =
+			parallelism > 1 ? new ConcurrentFalsifier(countingFalsifier, parallelism, useVirtualThreads) : null;
+		Falsifier<List<Object>> evaluatingFalsifier = concurrentFalsifier != null ? concurrentFalsifier : countingFalsifier;
 
 		ShrinkingAlgorithm plainShrinker = new ShrinkingAlgorithm(
 			originalSample,
 			sampleShrunkConsumer,
-			shrinkAttemptConsumer
+			shrinkAttemptConsumer,
+			falsificationCache,
+			concurrentFalsifier
 		);
 
-		return plainShrinker.shrink(recordingFalsifier);
+		try {
+			FalsifiedSample shrunkSample = plainShrinker.shrink(evaluatingFalsifier);
+			LOG.fine(() -> String.format("Shrinking finished with %s", falsificationCache));
+			return shrunkSample;
+		} finally {
+			if (concurrentFalsifier != null) {
+				concurrentFalsifier.close();
+			}
+		}
+	}
+
+	// Cache hits are recorded as well so that replaying a sequence does not depend on the cache
+	private void recordResult(TryExecutionResult result) {
+		if (!shrinkingInterrupted) {
+			shrinkingSequence.add(result.status());
+		}
 	}
 
 	private ShrunkFalsifiedSample unshrunkOriginalSample() {
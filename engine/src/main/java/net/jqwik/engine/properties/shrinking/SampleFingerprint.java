@@ -0,0 +1,90 @@
+package net.jqwik.engine.properties.shrinking;
+
+import java.util.*;
+
+import net.jqwik.api.*;
+
+/**
+ * The parameters of a shrinking candidate together with precomputed hashes,
+ * so that looking up already tried candidates does not hash all parameters again and again.
+ *
+ * <p>
+ * The hash of a parameter is taken over from the sample a candidate has been shrunk from
+ * as long as the parameter's shrinkable is still the same object.
+ * Full equality of parameters is only checked if all hashes are equal.
+ * </p>
+ */
+class SampleFingerprint {
+
+	static SampleFingerprint of(List<Object> parameters) {
+		int[] parameterHashes = new int[parameters.size()];
+		for (int i = 0; i < parameterHashes.length; i++) {
+			parameterHashes[i] = Objects.hashCode(parameters.get(i));
+		}
+		return new SampleFingerprint(parameters, parameterHashes);
+	}
+
+	/**
+	 * @param shrinkables       the shrinkables of the candidate
+	 * @param baseShrinkables   the shrinkables the candidate has been shrunk from
+	 * @param baseFingerprint   the fingerprint of {@code baseShrinkables}
+	 */
+	static SampleFingerprint shrunkFrom(
+		List<Shrinkable<Object>> shrinkables,
+		List<Shrinkable<Object>> baseShrinkables,
+		SampleFingerprint baseFingerprint
+	) {
+		List<Object> parameters = new ArrayList<>(shrinkables.size());
+		int[] parameterHashes = new int[shrinkables.size()];
+		boolean sameSize = shrinkables.size() == baseShrinkables.size();
+		for (int i = 0; i < parameterHashes.length; i++) {
+			Shrinkable<Object> shrinkable = shrinkables.get(i);
+			// Values are always created anew because a property might change its parameters
+			Object parameter = shrinkable.value();
+			parameters.add(parameter);
+			boolean unchanged = sameSize && shrinkable == baseShrinkables.get(i);
+			parameterHashes[i] = unchanged ? baseFingerprint.parameterHashes[i] : Objects.hashCode(parameter);
+		}
+		return new SampleFingerprint(parameters, parameterHashes);
+	}
+
+	private final List<Object> parameters;
+	private final int[] parameterHashes;
+	private final int hash;
+
+	private SampleFingerprint(List<Object> parameters, int[] parameterHashes) {
+		this.parameters = parameters;
+		this.parameterHashes = parameterHashes;
+		// Same as List.hashCode() as long as a parameter's hash does not change
+		int hash = 1;
+		for (int parameterHash : parameterHashes) {
+			hash = 31 * hash + parameterHash;
+		}
+		this.hash = hash;
+	}
+
+	List<Object> parameters() {
+		return parameters;
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (this == o) return true;
+		if (o == null || getClass() != o.getClass()) return false;
+
+		SampleFingerprint that = (SampleFingerprint) o;
+		if (hash != that.hash) return false;
+		if (!Arrays.equals(parameterHashes, that.parameterHashes)) return false;
+		return parameters.equals(that.parameters);
+	}
+
+	@Override
+	public int hashCode() {
+		return hash;
+	}
+
+	@Override
+	public String toString() {
+		return String.format("SampleFingerprint[%s]", parameters);
+	}
+}
@@ -4,14 +4,16 @@ import java.util.*;
 import java.util.function.*;
 import java.util.stream.*;
 
+import org.jspecify.annotations.*;
+
 import net.jqwik.api.*;
 import net.jqwik.api.lifecycle.*;
 import net.jqwik.engine.support.*;
 
 class ShrinkAndGrowShrinker extends AbstractSampleShrinker {
 
-	public ShrinkAndGrowShrinker(Map<List<Object>, TryExecutionResult> falsificationCache) {
-		super(falsificationCache);
+	public ShrinkAndGrowShrinker(FalsificationCache falsificationCache, @Nullable ConcurrentFalsifier concurrentFalsifier) {
+		super(falsificationCache, concurrentFalsifier);
 	}
 
 	@Override
@@ -48,7 +50,8 @@ class ShrinkAndGrowShrinker extends AbstractSampleShrinker {
 						ArrayList<Shrinkable<Object>> newShrinkables = new ArrayList<>(sample.shrinkables());
 						newShrinkables.set(index1, after);
 						newShrinkables.set(index2, optionalShrink2.get());
-						return Stream.of(newShrinkables);
+						// Grown shrinkables are not part of any shrink stream
+						return Stream.of(new ShrinkingCandidate(newShrinkables, ShrinkingPath.Step.notReplayable()));
 					} else {
 						return Stream.empty();
 					}
@@ -21,6 +21,10 @@ abstract class ShrinkableContainer<C, E> implements Shrinkable<C> {
 	@Nullable
 	protected final Arbitrary<E> elementArbitrary;
 
+	// Lazily computed because features are only needed when shrinking with uniqueness constraints
+	@Nullable
+	private volatile UniqueFeatures<E> elementFeatures;
+
 	ShrinkableContainer(
 		List<Shrinkable<E>> elements,
 		int minSize, int maxSize,
@@ -133,12 +137,11 @@ abstract class ShrinkableContainer<C, E> implements Shrinkable<C> {
 			int index = i;
 			Shrinkable<E> element = elements.get(i);
 			Stream<Shrinkable<C>> shrinkElement = element.shrink().flatMap(shrunkElement -> {
-				List<Shrinkable<E>> elementsCopy = new ArrayList<>(elements);
-				elementsCopy.remove(index);
-				if (!checkShrinkableUniqueIn(uniquenessExtractors, shrunkElement, elementsCopy)) {
+				if (!isUniqueReplacement(element, shrunkElement)) {
 					return Stream.empty();
 				}
-				elementsCopy.add(index, shrunkElement);
+				List<Shrinkable<E>> elementsCopy = new ArrayList<>(elements);
+				elementsCopy.set(index, shrunkElement);
 				return Stream.of(createShrinkable(elementsCopy));
 			});
 			shrinkPerElementStreams.add(shrinkElement);
@@ -146,6 +149,34 @@ abstract class ShrinkableContainer<C, E> implements Shrinkable<C> {
 		return JqwikStreamSupport.concat(shrinkPerElementStreams);
 	}
 
+	protected boolean isUniqueReplacement(Shrinkable<E> element, Shrinkable<E> replacement) {
+		if (uniquenessExtractors.isEmpty()) {
+			return true;
+		}
+		return elementFeatures().isUniqueReplacement(element.value(), replacement.value());
+	}
+
+	protected boolean isUniqueReplacement(
+		Shrinkable<E> element1, Shrinkable<E> replacement1,
+		Shrinkable<E> element2, Shrinkable<E> replacement2
+	) {
+		if (uniquenessExtractors.isEmpty()) {
+			return true;
+		}
+		return elementFeatures().isUniqueReplacement(
+			element1.value(), replacement1.value(),
+			element2.value(), replacement2.value()
+		);
+	}
+
+	private UniqueFeatures<E> elementFeatures() {
+		if (elementFeatures == null) {
+			List<E> values = elements.stream().map(Shrinkable::value).collect(Collectors.toList());
+			elementFeatures = UniqueFeatures.of(uniquenessExtractors, values);
+		}
+		return elementFeatures;
+	}
+
 	protected Stream<Shrinkable<C>> shrinkPairsOfElements() {
 		ShrinkingCommons.ContainerCreator<C, E> createContainer = newElements -> {
 			if (checkUniquenessOfShrinkables(uniquenessExtractors, newElements)) {
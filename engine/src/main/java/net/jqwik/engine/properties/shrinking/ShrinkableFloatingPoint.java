@@ -0,0 +1,132 @@
+package net.jqwik.engine.properties.shrinking;
+
+import java.util.*;
+import java.util.stream.*;
+
+import net.jqwik.api.*;
+import net.jqwik.engine.properties.*;
+import net.jqwik.engine.support.*;
+
+/**
+ * Shrinks doubles and floats by their IEEE-754 representation without going through BigDecimal.
+ * Candidates are the shrinking target, values with fewer decimal places, smaller integral values
+ * and values whose {@linkplain FloatingPointType#ordinal(double) ordinal} is closer to the target's ordinal.
+ * The shrinking distance is the number of representable values between value and target.
+ */
+public class ShrinkableFloatingPoint<T> extends AbstractValueShrinkable<T> {
+
+	// All integral values up to this magnitude are exactly representable as double
+	private static final double MAX_EXACT_INTEGRAL = 0x1p53;
+
+	private final double doubleValue;
+	private final double min;
+	private final double max;
+	private final double shrinkingTarget;
+	private final FloatingPointType<T> type;
+
+	/**
+	 * @param min inclusive lower border
+	 * @param max inclusive upper border
+	 */
+	public ShrinkableFloatingPoint(double value, double min, double max, double shrinkingTarget, FloatingPointType<T> type) {
+		super(type.toValue(value));
+		this.doubleValue = value;
+		this.min = min;
+		this.max = max;
+		this.shrinkingTarget = shrinkingTarget;
+		this.type = type;
+		checkValueInRange(value);
+	}
+
+	@Override
+	public Stream<Shrinkable<T>> shrink() {
+		return JqwikStreamSupport.concat(
+			shrinkTowardsTarget(),
+			shrinkNegativeToPositive()
+		);
+	}
+
+	private Stream<Shrinkable<T>> shrinkNegativeToPositive() {
+		if (doubleValue >= 0 || !includes(-doubleValue)) {
+			return Stream.empty();
+		}
+		return Stream.of(createShrinkable(-doubleValue));
+	}
+
+	private Stream<Shrinkable<T>> shrinkTowardsTarget() {
+		long ordinal = type.ordinal(doubleValue);
+		long targetOrdinal = type.ordinal(shrinkingTarget);
+
+		Set<Double> candidates = new LinkedHashSet<>();
+		candidates.add(shrinkingTarget);
+		addRoundedCandidates(candidates);
+		addIntegralCandidates(candidates);
+		new LongShrinker(targetOrdinal).shrink(ordinal).forEach(candidate -> candidates.add(type.fromOrdinal(candidate)));
+
+		return candidates.stream()
+						 .filter(candidate -> includes(candidate) && isBetween(type.ordinal(candidate), targetOrdinal, ordinal))
+						 .sorted(Comparator.comparingLong(candidate -> LongShrinker.distance(type.ordinal(candidate), targetOrdinal)))
+						 .map(this::createShrinkable);
+	}
+
+	// Values with fewer decimal places, cut off in the direction of the target
+	private void addRoundedCandidates(Set<Double> candidates) {
+		for (int decimals = 0; decimals <= type.maxDecimals(); decimals++) {
+			double factor = Math.pow(10, decimals);
+			double scaled = doubleValue * factor;
+			if (Math.abs(scaled) >= MAX_EXACT_INTEGRAL) {
+				break;
+			}
+			double cutOff = doubleValue > shrinkingTarget ? Math.floor(scaled) : Math.ceil(scaled);
+			addCandidate(candidates, cutOff / factor);
+		}
+	}
+
+	private void addIntegralCandidates(Set<Double> candidates) {
+		if (!isExactIntegral(doubleValue) || !isExactIntegral(shrinkingTarget)) {
+			return;
+		}
+		new LongShrinker((long) shrinkingTarget)
+			.shrink((long) doubleValue)
+			.forEach(candidate -> addCandidate(candidates, (double) candidate));
+	}
+
+	private void addCandidate(Set<Double> candidates, double candidate) {
+		// Adding 0.0 turns -0.0 into 0.0
+		candidates.add(type.round(candidate) + 0.0);
+	}
+
+	private static boolean isExactIntegral(double value) {
+		return Math.abs(value) < MAX_EXACT_INTEGRAL && value == Math.rint(value);
+	}
+
+	private static boolean isBetween(long candidate, long target, long value) {
+		if (candidate == value) {
+			return false;
+		}
+		return value > target
+				   ? candidate >= target && candidate < value
+				   : candidate <= target && candidate > value;
+	}
+
+	private Shrinkable<T> createShrinkable(double value) {
+		return new ShrinkableFloatingPoint<>(value, min, max, shrinkingTarget, type);
+	}
+
+	@Override
+	public ShrinkingDistance distance() {
+		return ShrinkingDistance.of(LongShrinker.distance(type.ordinal(doubleValue), type.ordinal(shrinkingTarget)));
+	}
+
+	private boolean includes(double value) {
+		return value >= min && value <= max;
+	}
+
+	private void checkValueInRange(double value) {
+		if (!includes(value)) {
+			String message = String.format("Value <%s> is outside allowed range %s", value, Range.of(min, max));
+			throw new JqwikException(message);
+		}
+	}
+
+}
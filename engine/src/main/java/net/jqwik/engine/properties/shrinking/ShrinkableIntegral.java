@@ -0,0 +1,145 @@
+package net.jqwik.engine.properties.shrinking;
+
+import java.math.*;
+import java.util.*;
+import java.util.function.*;
+import java.util.stream.*;
+
+import net.jqwik.api.*;
+import net.jqwik.engine.properties.*;
+import net.jqwik.engine.support.*;
+
+/**
+ * Shrinks integral values that fit into a long, e.g. ints, shorts, bytes and longs,
+ * in the same way as {@linkplain ShrinkableBigInteger} does but without creating BigIntegers.
+ * The long value is converted to the shrinkable's type with {@code toValue}.
+ */
+public class ShrinkableIntegral<T> extends AbstractValueShrinkable<T> {
+
+	/**
+	 * Use this conversion for characters whose long value is their code,
+	 * so that strings of them can be shrunk as char arrays.
+	 */
+	public static final LongFunction<Character> TO_CHARACTER = aLong -> (char) aLong;
+
+	/**
+	 * Negates negative long values, which is correct as long as the long value is the value itself.
+	 */
+	public static final LongFunction<OptionalLong> NEGATE_LONG_VALUE =
+		aLong -> aLong < 0 && aLong != Long.MIN_VALUE ? OptionalLong.of(-aLong) : OptionalLong.empty();
+
+	private final long longValue;
+	private final long min;
+	private final long max;
+	private final long shrinkingTarget;
+	private final LongFunction<T> toValue;
+	private final LongFunction<OptionalLong> negation;
+
+	public ShrinkableIntegral(long value, long min, long max, long shrinkingTarget, LongFunction<T> toValue) {
+		this(value, min, max, shrinkingTarget, toValue, NEGATE_LONG_VALUE);
+	}
+
+	/**
+	 * @param negation Returns the long value that stands for the positive counterpart of a negative value, if there is one.
+	 *                 Long values that are indices of the actual values must not simply be negated.
+	 */
+	public ShrinkableIntegral(
+		long value,
+		long min,
+		long max,
+		long shrinkingTarget,
+		LongFunction<T> toValue,
+		LongFunction<OptionalLong> negation
+	) {
+		super(toValue.apply(value));
+		this.longValue = value;
+		this.min = min;
+		this.max = max;
+		this.shrinkingTarget = shrinkingTarget;
+		this.toValue = toValue;
+		this.negation = negation;
+		checkValueInRange(value);
+	}
+
+	@Override
+	public Stream<Shrinkable<T>> shrink() {
+		return JqwikStreamSupport.concat(
+			shrinkTowardsTarget(),
+			shrinkNegativeToPositive()
+		);
+	}
+
+	@Override
+	public Optional<Shrinkable<T>> grow(Shrinkable<?> before, Shrinkable<?> after) {
+		return new BigIntegerGrower()
+				   .grow(BigInteger.valueOf(longValue), bigIntegerRange(), BigInteger.valueOf(shrinkingTarget), before, after)
+				   .map(grown -> createShrinkable(grown.value().longValueExact()));
+	}
+
+	@Override
+	public Stream<Shrinkable<T>> grow() {
+		return new BigIntegerGrower()
+				   .grow(BigInteger.valueOf(longValue), bigIntegerRange(), BigInteger.valueOf(shrinkingTarget))
+				   .map(grown -> createShrinkable(grown.value().longValueExact()));
+	}
+
+	private Stream<Shrinkable<T>> shrinkNegativeToPositive() {
+		OptionalLong negated = negation.apply(longValue);
+		if (!negated.isPresent() || !includes(negated.getAsLong())) {
+			return Stream.empty();
+		}
+		return Stream.of(createShrinkable(negated.getAsLong()));
+	}
+
+	private Stream<Shrinkable<T>> shrinkTowardsTarget() {
+		return new LongShrinker(shrinkingTarget)
+				   .shrink(longValue)
+				   .sorted(Comparator.comparingLong(candidate -> LongShrinker.distance(candidate, shrinkingTarget)))
+				   .map(this::createShrinkable);
+	}
+
+	private Shrinkable<T> createShrinkable(long value) {
+		return new ShrinkableIntegral<>(value, min, max, shrinkingTarget, toValue, negation);
+	}
+
+	long longValue() {
+		return longValue;
+	}
+
+	long min() {
+		return min;
+	}
+
+	long max() {
+		return max;
+	}
+
+	long shrinkingTarget() {
+		return shrinkingTarget;
+	}
+
+	LongFunction<T> toValue() {
+		return toValue;
+	}
+
+	@Override
+	public ShrinkingDistance distance() {
+		return ShrinkingDistance.of(LongShrinker.distance(longValue, shrinkingTarget));
+	}
+
+	private boolean includes(long value) {
+		return value >= min && value <= max;
+	}
+
+	private Range<BigInteger> bigIntegerRange() {
+		return Range.of(BigInteger.valueOf(min), BigInteger.valueOf(max));
+	}
+
+	private void checkValueInRange(long value) {
+		if (!includes(value)) {
+			String message = String.format("Value <%s> is outside allowed range %s", value, Range.of(min, max));
+			throw new JqwikException(message);
+		}
+	}
+
+}
@@ -7,8 +7,6 @@ import net.jqwik.api.*;
 import net.jqwik.engine.properties.*;
 import net.jqwik.engine.support.*;
 
-import static net.jqwik.engine.properties.UniquenessChecker.*;
-
 public class ShrinkableList<E> extends ShrinkableContainer<List<E>, E> {
 
 	// Only used in tests
@@ -73,13 +71,13 @@ public class ShrinkableList<E> extends ShrinkableContainer<List<E>, E> {
 										   return Tuple.of(after, grow);
 									   })
 									   .filter(tuple -> tuple.get2().isPresent())
+									   .filter(tuple -> isUniqueReplacement(first, tuple.get1(), second, tuple.get2().get()))
 									   .map(tuple -> {
 										   List<Shrinkable<E>> pairMove = new ArrayList<>(elements);
 										   pairMove.set(firstIndex, tuple.get1());
 										   pairMove.set(secondIndex, tuple.get2().get());
 										   return pairMove;
 									   })
-									   .filter(shrinkables -> checkUniquenessOfShrinkables(uniquenessExtractors, shrinkables))
 									   .map(this::createShrinkable);
 
 					   })
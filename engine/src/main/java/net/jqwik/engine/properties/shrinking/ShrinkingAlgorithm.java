@@ -3,12 +3,16 @@ package net.jqwik.engine.properties.shrinking;
 import java.util.*;
 import java.util.function.*;
 
+import org.jspecify.annotations.*;
+
 import net.jqwik.api.*;
 import net.jqwik.api.lifecycle.*;
 
 class ShrinkingAlgorithm {
 
-	private final Map<List<Object>, TryExecutionResult> falsificationCache = new LinkedHashMap<>();
+	private final FalsificationCache falsificationCache;
+	@Nullable
+	private final ConcurrentFalsifier concurrentFalsifier;
 	private final FalsifiedSample originalSample;
 	private final Consumer<FalsifiedSample> sampleShrunkConsumer;
 	private final Consumer<FalsifiedSample> shrinkAttemptConsumer;
@@ -16,9 +20,12 @@ class ShrinkingAlgorithm {
 	ShrinkingAlgorithm(
 		FalsifiedSample originalSample,
 		Consumer<FalsifiedSample> sampleShrunkConsumer,
-		Consumer<FalsifiedSample> shrinkAttemptConsumer
+		Consumer<FalsifiedSample> shrinkAttemptConsumer,
+		FalsificationCache falsificationCache,
+		@Nullable ConcurrentFalsifier concurrentFalsifier
 	) {
-
+		this.falsificationCache = falsificationCache;
+		this.concurrentFalsifier = concurrentFalsifier;
 		this.originalSample = originalSample;
 		this.sampleShrunkConsumer = sampleShrunkConsumer;
 		this.shrinkAttemptConsumer = shrinkAttemptConsumer;
@@ -48,7 +55,7 @@ class ShrinkingAlgorithm {
 		Consumer<FalsifiedSample> sampleShrunkConsumer,
 		Consumer<FalsifiedSample> shrinkAttemptConsumer
 	) {
-		return new OneAfterTheOtherParameterShrinker(falsificationCache)
+		return new OneAfterTheOtherParameterShrinker(falsificationCache, concurrentFalsifier)
 				   .shrink(falsifier, sample, sampleShrunkConsumer, shrinkAttemptConsumer);
 	}
 
@@ -58,7 +65,7 @@ class ShrinkingAlgorithm {
 		Consumer<FalsifiedSample> sampleShrunkConsumer,
 		Consumer<FalsifiedSample> shrinkAttemptConsumer
 	) {
-		return new PairwiseParameterShrinker(falsificationCache).shrink(falsifier, sample, sampleShrunkConsumer, shrinkAttemptConsumer);
+		return new PairwiseParameterShrinker(falsificationCache, concurrentFalsifier).shrink(falsifier, sample, sampleShrunkConsumer, shrinkAttemptConsumer);
 	}
 
 	private FalsifiedSample shrinkAndGrow(
@@ -67,7 +74,7 @@ class ShrinkingAlgorithm {
 		Consumer<FalsifiedSample> sampleShrunkConsumer,
 		Consumer<FalsifiedSample> shrinkAttemptConsumer
 	) {
-		return new ShrinkAndGrowShrinker(falsificationCache).shrink(falsifier, sample, sampleShrunkConsumer, shrinkAttemptConsumer);
+		return new ShrinkAndGrowShrinker(falsificationCache, concurrentFalsifier).shrink(falsifier, sample, sampleShrunkConsumer, shrinkAttemptConsumer);
 	}
 
 }
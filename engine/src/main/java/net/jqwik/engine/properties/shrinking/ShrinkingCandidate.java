@@ -0,0 +1,35 @@
+package net.jqwik.engine.properties.shrinking;
+
+import java.util.*;
+
+import org.jspecify.annotations.*;
+
+import net.jqwik.api.*;
+import net.jqwik.engine.properties.shrinking.ShrinkingPath.*;
+
+/**
+ * The shrinkables of a shrinking candidate, which remember the last of the steps
+ * through which they have been shrunk from the original sample.
+ *
+ * @see ShrinkingPath
+ */
+class ShrinkingCandidate extends ArrayList<Shrinkable<Object>> {
+
+	/**
+	 * @return the last step or {@code null} if the shrinkables are those of the original sample
+	 */
+	@Nullable
+	static Step lastStepOf(List<Shrinkable<Object>> shrinkables) {
+		if (shrinkables instanceof ShrinkingCandidate) {
+			return ((ShrinkingCandidate) shrinkables).lastStep;
+		}
+		return null;
+	}
+
+	private final Step lastStep;
+
+	ShrinkingCandidate(List<Shrinkable<Object>> shrinkables, Step lastStep) {
+		super(shrinkables);
+		this.lastStep = lastStep;
+	}
+}
@@ -0,0 +1,148 @@
+package net.jqwik.engine.properties.shrinking;
+
+import java.io.*;
+import java.util.*;
+
+import org.jspecify.annotations.*;
+
+import net.jqwik.api.*;
+
+/**
+ * The path on which each parameter of a shrunk sample has been reached from the original sample:
+ * For every parameter the position of each accepted shrinkable in the {@linkplain Shrinkable#shrink()} stream
+ * of its predecessor.
+ *
+ * <p>
+ * Since the shrink stream of a shrinkable only depends on the shrinkable itself,
+ * replaying a path recreates the shrunk sample without running the property or any other candidate.
+ * </p>
+ */
+public final class ShrinkingPath implements Serializable {
+
+	/**
+	 * Create a path from its indices.
+	 *
+	 * @param indices for each parameter the positions in the successive shrink streams
+	 * @throws IllegalArgumentException if an index is negative
+	 */
+	public static ShrinkingPath of(int[][] indices) {
+		int[][] copy = new int[indices.length][];
+		for (int parameterIndex = 0; parameterIndex < indices.length; parameterIndex++) {
+			copy[parameterIndex] = indices[parameterIndex].clone();
+			for (int index : copy[parameterIndex]) {
+				if (index < 0) {
+					throw new IllegalArgumentException(String.format("Negative index %d in shrinking path", index));
+				}
+			}
+		}
+		return new ShrinkingPath(copy);
+	}
+
+	/**
+	 * @return the path to a sample as collected in its shrinking candidate,
+	 * or {@code Optional.empty()} if the sample cannot be reached through shrink streams alone
+	 */
+	static Optional<ShrinkingPath> of(List<Shrinkable<Object>> shrinkables) {
+		List<List<Integer>> indices = new ArrayList<>();
+		for (int i = 0; i < shrinkables.size(); i++) {
+			indices.add(new ArrayList<>());
+		}
+		for (Step step = ShrinkingCandidate.lastStepOf(shrinkables); step != null; step = step.previous) {
+			if (step.parameterIndex < 0) {
+				return Optional.empty();
+			}
+			indices.get(step.parameterIndex).add(0, step.indexInShrinkStream);
+		}
+		int[][] path = new int[shrinkables.size()][];
+		for (int parameterIndex = 0; parameterIndex < path.length; parameterIndex++) {
+			path[parameterIndex] = indices.get(parameterIndex).stream().mapToInt(Integer::intValue).toArray();
+		}
+		return Optional.of(new ShrinkingPath(path));
+	}
+
+	private final int[][] indices;
+
+	private ShrinkingPath(int[][] indices) {
+		this.indices = indices;
+	}
+
+	public int countParameters() {
+		return indices.length;
+	}
+
+	public int[] indices(int parameterIndex) {
+		return indices[parameterIndex].clone();
+	}
+
+	/**
+	 * @return the shrinkables at the end of this path
+	 * or {@code Optional.empty()} if the path does not fit the shrinkables
+	 */
+	public Optional<List<Shrinkable<Object>>> replayOn(List<Shrinkable<Object>> shrinkables) {
+		if (shrinkables.size() != indices.length) {
+			return Optional.empty();
+		}
+		List<Shrinkable<Object>> shrunk = new ArrayList<>(shrinkables);
+		for (int parameterIndex = 0; parameterIndex < indices.length; parameterIndex++) {
+			Shrinkable<Object> current = shrunk.get(parameterIndex);
+			for (int index : indices[parameterIndex]) {
+				Optional<Shrinkable<Object>> next = current.shrink().skip(index).findFirst();
+				if (!next.isPresent()) {
+					return Optional.empty();
+				}
+				current = next.get();
+			}
+			shrunk.set(parameterIndex, current);
+		}
+		return Optional.of(shrunk);
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (this == o) return true;
+		if (o == null || getClass() != o.getClass()) return false;
+		return Arrays.deepEquals(indices, ((ShrinkingPath) o).indices);
+	}
+
+	@Override
+	public int hashCode() {
+		return Arrays.deepHashCode(indices);
+	}
+
+	@Override
+	public String toString() {
+		return String.format("ShrinkingPath%s", Arrays.deepToString(indices));
+	}
+
+	/**
+	 * A single shrinking step of a candidate linked to the steps before it,
+	 * so that creating a candidate does not copy the whole path.
+	 */
+	static class Step {
+
+		static Step shrunk(@Nullable Step previous, int parameterIndex, int indexInShrinkStream) {
+			if (previous != null && previous.parameterIndex < 0) {
+				return previous;
+			}
+			return new Step(previous, parameterIndex, indexInShrinkStream);
+		}
+
+		/**
+		 * Steps that do not take a shrinkable from a shrink stream, e.g. growing, cannot be replayed
+		 */
+		static Step notReplayable() {
+			return new Step(null, -1, -1);
+		}
+
+		@Nullable
+		private final Step previous;
+		private final int parameterIndex;
+		private final int indexInShrinkStream;
+
+		private Step(@Nullable Step previous, int parameterIndex, int indexInShrinkStream) {
+			this.previous = previous;
+			this.parameterIndex = parameterIndex;
+			this.indexInShrinkStream = indexInShrinkStream;
+		}
+	}
+}
@@ -18,7 +18,8 @@ public class ShrunkSampleRecreator {
 	}
 
 	public Optional<List<Shrinkable<Object>>> recreateFrom(List<TryExecutionResult.Status> shrinkingSequence) {
-		List<TryExecutionResult.Status> recreatingSequence = new ArrayList<>(shrinkingSequence);
+		// Iterating instead of removing from the front keeps recreation linear in the sequence's length
+		Iterator<TryExecutionResult.Status> recreatingSequence = shrinkingSequence.iterator();
 		Falsifier<List<Object>> recreatingFalsifier = falsifier(recreatingSequence);
 
 		FalsifiedSample originalSample = createFalsifiedSample();
@@ -33,7 +34,11 @@ public class ShrunkSampleRecreator {
 		ShrinkingAlgorithm plainShrinker = new ShrinkingAlgorithm(
 			originalSample,
 			sampleShrunkConsumer,
-			ignore -> {}
+			ignore -> {},
+			// Recorded sequences contain the result of every candidate including cache hits,
+			// so recreation must not skip any candidate
+			new FalsificationCache(0),
+			null
 		);
 
 		try {
@@ -41,7 +46,7 @@ public class ShrunkSampleRecreator {
 			FalsifiedSample ignore = plainShrinker.shrink(recreatingFalsifier);
 		} catch (RecreationDone ignore) {}
 
-		if (recreatingSequence.isEmpty()) {
+		if (!recreatingSequence.hasNext()) {
 			return Optional.of(currentBest[0].shrinkables());
 		} else {
 			return Optional.empty();
@@ -58,10 +63,10 @@ public class ShrunkSampleRecreator {
 		);
 	}
 
-	private Falsifier<List<Object>> falsifier(List<TryExecutionResult.Status> recreatingSequence) {
+	private Falsifier<List<Object>> falsifier(Iterator<TryExecutionResult.Status> recreatingSequence) {
 		return ignore -> {
-			if (!recreatingSequence.isEmpty()) {
-				TryExecutionResult.Status next = recreatingSequence.remove(0);
+			if (recreatingSequence.hasNext()) {
+				TryExecutionResult.Status next = recreatingSequence.next();
 				switch (next) {
 					case SATISFIED:
 						return TryExecutionResult.satisfied();
@@ -53,7 +53,7 @@ public class SizeOfListShrinker<T> {
 		return toShrink.subList(elementsToCut, toShrink.size());
 	}
 
-	private int calculateElementsToCut(int listSize) {
+	int calculateElementsToCut(int listSize) {
 		int toCut = rawElementsToCut(listSize);
 		return Math.min(toCut, listSize - minSize);
 	}
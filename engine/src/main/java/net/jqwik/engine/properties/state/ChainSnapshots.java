@@ -0,0 +1,140 @@
+package net.jqwik.engine.properties.state;
+
+import java.util.*;
+import java.util.function.*;
+
+import org.jspecify.annotations.*;
+
+import net.jqwik.api.*;
+import net.jqwik.api.state.*;
+
+/**
+ * Remembers snapshots of the states a chain has run through,
+ * so that a shrunk chain can resume from the longest prefix of transformers
+ * it shares with a chain that has already run.
+ *
+ * <p>
+ * Snapshots are shared by a chain and all chains shrunk from it, which might run concurrently.
+ * Only the most recent runs are remembered.
+ * </p>
+ */
+class ChainSnapshots<T> {
+
+	private static final int MAX_REMEMBERED_RUNS = 4;
+
+	static <T> ChainSnapshots<T> none() {
+		return new ChainSnapshots<>(null, null);
+	}
+
+	@SuppressWarnings("unchecked")
+	static <T, C> ChainSnapshots<T> of(
+		Function<? super T, ? extends C> takeSnapshot,
+		Function<? super C, ? extends T> restoreSnapshot
+	) {
+		return new ChainSnapshots<>(
+			(Function<? super T, Object>) takeSnapshot,
+			(Function<Object, ? extends T>) restoreSnapshot
+		);
+	}
+
+	private final @Nullable Function<? super T, Object> takeSnapshot;
+	private final @Nullable Function<Object, ? extends T> restoreSnapshot;
+	private final Deque<Run> runs = new ArrayDeque<>();
+
+	private ChainSnapshots(
+		@Nullable Function<? super T, Object> takeSnapshot,
+		@Nullable Function<Object, ? extends T> restoreSnapshot
+	) {
+		this.takeSnapshot = takeSnapshot;
+		this.restoreSnapshot = restoreSnapshot;
+	}
+
+	private boolean isEnabled() {
+		return takeSnapshot != null;
+	}
+
+	/**
+	 * Start a new run of {@code iterations} that resumes after the longest prefix
+	 * for which a snapshot has been taken in a previous run.
+	 */
+	synchronized Run startRun(List<ShrinkableChainIteration<T>> iterations) {
+		if (!isEnabled()) {
+			return new Run(new ArrayList<>(), new ArrayList<>());
+		}
+		Run resumeFrom = null;
+		int longestPrefix = 0;
+		for (Run run : runs) {
+			int prefix = run.commonPrefix(iterations);
+			if (prefix > longestPrefix) {
+				longestPrefix = prefix;
+				resumeFrom = run;
+			}
+		}
+		Run newRun = resumeFrom == null
+						 ? new Run(new ArrayList<>(), new ArrayList<>())
+						 : resumeFrom.prefix(longestPrefix);
+		runs.addFirst(newRun);
+		if (runs.size() > MAX_REMEMBERED_RUNS) {
+			runs.removeLast();
+		}
+		return newRun;
+	}
+
+	class Run {
+		private final List<Shrinkable<Transformer<T>>> transformers;
+		private final List<Object> snapshots;
+		private final int resumedSteps;
+
+		private Run(List<Shrinkable<Transformer<T>>> transformers, List<Object> snapshots) {
+			this.transformers = transformers;
+			this.snapshots = snapshots;
+			this.resumedSteps = transformers.size();
+		}
+
+		/**
+		 * @return number of steps that are skipped because the run resumes from a snapshot
+		 */
+		int resumedSteps() {
+			return resumedSteps;
+		}
+
+		/**
+		 * Only call if {@linkplain #resumedSteps()} is greater than 0.
+		 */
+		T resumedState() {
+			Object snapshot;
+			synchronized (ChainSnapshots.this) {
+				snapshot = snapshots.get(resumedSteps - 1);
+			}
+			return Objects.requireNonNull(restoreSnapshot).apply(snapshot);
+		}
+
+		void record(Shrinkable<Transformer<T>> appliedTransformer, T stateAfter) {
+			if (!isEnabled()) {
+				return;
+			}
+			Object snapshot = Objects.requireNonNull(takeSnapshot).apply(stateAfter);
+			synchronized (ChainSnapshots.this) {
+				transformers.add(appliedTransformer);
+				snapshots.add(snapshot);
+			}
+		}
+
+		private int commonPrefix(List<ShrinkableChainIteration<T>> iterations) {
+			int maxPrefix = Math.min(transformers.size(), iterations.size());
+			int prefix = 0;
+			// Unchanged iterations share their shrinkable with the chain they have been shrunk from
+			while (prefix < maxPrefix && transformers.get(prefix) == iterations.get(prefix).shrinkable) {
+				prefix++;
+			}
+			return prefix;
+		}
+
+		private Run prefix(int steps) {
+			return new Run(
+				new ArrayList<>(transformers.subList(0, steps)),
+				new ArrayList<>(snapshots.subList(0, steps))
+			);
+		}
+	}
+}
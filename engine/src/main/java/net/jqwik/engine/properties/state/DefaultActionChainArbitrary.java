@@ -101,6 +101,16 @@ public class DefaultActionChainArbitrary<T> extends ArbitraryDecorator<ActionCha
 		return clone;
 	}
 
+	@Override
+	public <C> ActionChainArbitrary<T> withSnapshots(
+		Function<? super T, ? extends C> takeSnapshot,
+		Function<? super C, ? extends T> restoreSnapshot
+	) {
+		DefaultActionChainArbitrary<T> clone = typedClone();
+		clone.chainArbitrary = clone.chainArbitrary.withSnapshots(takeSnapshot, restoreSnapshot);
+		return clone;
+	}
+
 	@Override
 	protected Arbitrary<ActionChain<T>> arbitrary() {
 		return chainArbitrary.map(SequentialActionChain::new);
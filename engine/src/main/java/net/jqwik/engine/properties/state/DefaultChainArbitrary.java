@@ -12,6 +12,7 @@ public class DefaultChainArbitrary<T> extends TypedCloneable implements ChainArb
 
 	private int maxTransformations = Integer.MIN_VALUE;
 	private Supplier<ChangeDetector<T>> changeDetectorSupplier = ChangeDetector::alwaysTrue;
+	private Supplier<ChainSnapshots<T>> snapshotsSupplier = ChainSnapshots::none;
 	private List<Tuple.Tuple2<Integer, Transformation<T>>> weightedTransformations = new ArrayList<>();
 	private final Supplier<? extends T> initialSupplier;
 
@@ -29,6 +30,7 @@ public class DefaultChainArbitrary<T> extends TypedCloneable implements ChainArb
 			initialSupplier,
 			transformationGenerator,
 			changeDetectorSupplier,
+			snapshotsSupplier.get(),
 			effectiveMaxTransformations,
 			genSize
 		);
@@ -60,6 +62,16 @@ public class DefaultChainArbitrary<T> extends TypedCloneable implements ChainArb
 		return clone;
 	}
 
+	@Override
+	public <C> ChainArbitrary<T> withSnapshots(
+		Function<? super T, ? extends C> takeSnapshot,
+		Function<? super C, ? extends T> restoreSnapshot
+	) {
+		DefaultChainArbitrary<T> clone = typedClone();
+		clone.snapshotsSupplier = () -> ChainSnapshots.of(takeSnapshot, restoreSnapshot);
+		return clone;
+	}
+
 	@Override
 	public EdgeCases<Chain<T>> edgeCases(int maxEdgeCases) {
 		return EdgeCases.none();
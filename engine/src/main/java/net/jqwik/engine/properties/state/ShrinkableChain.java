@@ -25,6 +25,7 @@ public class ShrinkableChain<T> implements Shrinkable<Chain<T>> {
 	private final int genSize;
 	private final List<ShrinkableChainIteration<T>> iterations;
 	private final Supplier<ChangeDetector<T>> changeDetectorSupplier;
+	private final ChainSnapshots<T> snapshots;
 
 	public ShrinkableChain(
 		long randomSeed,
@@ -34,13 +35,26 @@ public class ShrinkableChain<T> implements Shrinkable<Chain<T>> {
 		int maxTransformations,
 		int genSize
 	) {
-		this(randomSeed, initialSupplier, transformationGenerator, changeDetectorSupplier, maxTransformations, genSize, new ArrayList<>());
+		this(randomSeed, initialSupplier, transformationGenerator, changeDetectorSupplier, ChainSnapshots.none(), maxTransformations, genSize);
+	}
+
+	ShrinkableChain(
+		long randomSeed,
+		Supplier<? extends T> initialSupplier,
+		Function<Random, Transformation<T>> transformationGenerator,
+		Supplier<ChangeDetector<T>> changeDetectorSupplier,
+		ChainSnapshots<T> snapshots,
+		int maxTransformations,
+		int genSize
+	) {
+		this(randomSeed, initialSupplier, transformationGenerator, changeDetectorSupplier, snapshots, maxTransformations, genSize, new ArrayList<>());
 	}
 
 	private ShrinkableChain(
 		long randomSeed, Supplier<? extends T> initialSupplier,
 		Function<Random, Transformation<T>> transformationGenerator,
 		Supplier<ChangeDetector<T>> changeDetectorSupplier,
+		ChainSnapshots<T> snapshots,
 		int maxTransformations,
 		int genSize,
 		List<ShrinkableChainIteration<T>> iterations
@@ -49,6 +63,7 @@ public class ShrinkableChain<T> implements Shrinkable<Chain<T>> {
 		this.initialSupplier = initialSupplier;
 		this.transformationGenerator = transformationGenerator;
 		this.changeDetectorSupplier = changeDetectorSupplier;
+		this.snapshots = snapshots;
 		this.maxTransformations = maxTransformations;
 		this.genSize = genSize;
 		this.iterations = iterations;
@@ -72,6 +87,7 @@ public class ShrinkableChain<T> implements Shrinkable<Chain<T>> {
 			initialSupplier,
 			transformationGenerator,
 			changeDetectorSupplier,
+			snapshots,
 			newMaxSize,
 			genSize,
 			shrunkIterations
@@ -102,7 +118,14 @@ public class ShrinkableChain<T> implements Shrinkable<Chain<T>> {
 		@Override
 		@NonNull
 		public Iterator<T> start() {
-			return new ChainIterator(initialSupplier.get());
+			ChainSnapshots<T>.Run run;
+			synchronized (ShrinkableChain.this) {
+				run = snapshots.startRun(iterations);
+			}
+			if (run.resumedSteps() > 0) {
+				return new ChainIterator(run.resumedState(), run);
+			}
+			return new ChainIterator(initialSupplier.get(), run);
 		}
 
 		@Override
@@ -132,13 +155,25 @@ public class ShrinkableChain<T> implements Shrinkable<Chain<T>> {
 	private class ChainIterator implements Iterator<T> {
 
 		private final Random random = SourceOfRandomness.newRandom(randomSeed);
+		private final ChainSnapshots<T>.Run run;
 		private int steps = 0;
 		private T current;
 		private boolean initialSupplied = false;
 		private Transformer<T> nextTransformer = null;
 
-		private ChainIterator(T initial) {
+		private ChainIterator(T initial, ChainSnapshots<T>.Run run) {
 			this.current = initial;
+			this.run = run;
+			skipResumedSteps();
+		}
+
+		private void skipResumedSteps() {
+			// A resumed chain starts with the state after the resumed steps
+			// but must use the same random sequence as a chain that ran all steps
+			while (steps < run.resumedSteps()) {
+				random.nextLong();
+				steps++;
+			}
 		}
 
 		@Override
@@ -194,6 +229,7 @@ public class ShrinkableChain<T> implements Shrinkable<Chain<T>> {
 				boolean stateHasChanged = changeDetector.hasChanged(after);
 				ShrinkableChainIteration<T> currentIteration = iterations.get(steps);
 				iterations.set(steps, currentIteration.withStateChange(stateHasChanged));
+				run.record(currentIteration.shrinkable, after);
 				return after;
 			} finally {
 				steps++;
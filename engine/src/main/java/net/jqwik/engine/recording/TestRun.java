@@ -17,13 +17,17 @@ public class TestRun implements Serializable {
 		Status status,
 		GenerationInfo generationInfo
 	) {
-		this.uniqueIdString = uniqueId.toString();
-		this.statusOrdinal = status.ordinal();
+		this(uniqueId.toString(), status.ordinal(), generationInfo);
+	}
+
+	TestRun(String uniqueIdString, int statusOrdinal, GenerationInfo generationInfo) {
+		this.uniqueIdString = uniqueIdString;
+		this.statusOrdinal = statusOrdinal;
 		this.generationInfo = generationInfo;
 	}
 
-	boolean hasUniqueId(UniqueId uniqueId) {
-		return getUniqueId().equals(uniqueId);
+	String uniqueIdString() {
+		return uniqueIdString;
 	}
 
 	public boolean isNotSuccessful() {
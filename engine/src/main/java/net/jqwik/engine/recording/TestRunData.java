@@ -5,39 +5,28 @@ import java.util.stream.*;
 
 import org.junit.platform.engine.*;
 
-import net.jqwik.engine.support.*;
-
 public class TestRunData {
 
-	private final Collection<TestRun> data;
+	// Indexed by unique id string to avoid parsing unique ids during lookup
+	private final Map<String, TestRun> data = new LinkedHashMap<>();
 
 	public TestRunData(Collection<TestRun> data) {
-		this.data = data;
+		data.forEach(this::add);
 	}
 
 	public TestRunData() {
-		this(new LinkedHashSet<>());
+		this(Collections.emptyList());
 	}
 
 	public void add(TestRun testRun) {
-		data.add(testRun);
+		data.put(testRun.uniqueIdString(), testRun);
 	}
 
 	public Optional<TestRun> byUniqueId(UniqueId uniqueId) {
-		try {
-			return data.stream()
-					   .filter(testRun -> testRun.hasUniqueId(uniqueId))
-					   .findFirst();
-		} catch (Throwable t) {
-			// An exception during test run data read should not stop the test run.
-			// Most of the time it's an error due to format change which will go away
-			// after one test run where the test run data has been written anew.
-			JqwikExceptionSupport.rethrowIfBlacklisted(t);
-			return Optional.empty();
-		}
+		return Optional.ofNullable(data.get(uniqueId.toString()));
 	}
 
 	public Stream<TestRun> allNonSuccessfulTests() {
-		return data.stream().filter(TestRun::isNotSuccessful);
+		return data.values().stream().filter(TestRun::isNotSuccessful);
 	}
 }
@@ -1,63 +1,163 @@
 package net.jqwik.engine.recording;
 
 import java.io.*;
+import java.nio.*;
+import java.nio.channels.*;
 import java.nio.file.*;
 import java.util.*;
+import java.util.function.*;
 import java.util.logging.*;
-
+import java.util.stream.*;
+
+import org.junit.platform.commons.*;
+import org.junit.platform.commons.support.*;
+import org.junit.platform.engine.*;
+
+import net.jqwik.engine.discovery.*;
+
+/**
+ * Stores test runs in an append-only binary file.
+ *
+ * <p>
+ * The database is read once on startup and indexed by unique id; the last record of a test run wins.
+ * During a run only changed test runs are appended, i.e. failing runs and successful runs of
+ * previously failed tests. All file access is guarded by file locks so that several
+ * engines, e.g. parallel Gradle workers, can share the same database file:
+ * Reading takes a shared lock, appending an exclusive one.
+ * Reading never changes the file, so that a read-only database still provides previous failures.
+ * </p>
+ *
+ * <p>
+ * Before the first record of a run is appended the file is rewritten if it contains
+ * an incomplete last record, more superseded records than current ones
+ * or records of tests that no longer exist.
+ * </p>
+ *
+ * <p>
+ * See {@linkplain TestRunRecords} for the file format.
+ * </p>
+ */
 public class TestRunDatabase {
 
 	// Only record failing test runs, the others are currently not needed anywhere
 	private static final Boolean RECORD_SUCCESSFUL_RUNS = false;
 
+	// Number of superseded records that are tolerated before the database is compacted
+	private static final int COMPACTION_SLACK = 100;
+
 	private static final Logger LOG = Logger.getLogger(TestRunDatabase.class.getName());
 
+	// File locks are held by the whole JVM, so threads of the same JVM must not request them concurrently
+	private static final Object FILE_LOCK_GUARD = new Object();
+
 	private final Path databasePath;
+	private final Predicate<TestRun> testStillExists;
 	private final TestRunData previousRunData;
-	private boolean stopRecording = false;
+	private volatile boolean stopRecording = false;
 
 	public TestRunDatabase(Path databasePath) {
+		this(databasePath, TestRunDatabase::testStillExists);
+	}
+
+	TestRunDatabase(Path databasePath, Predicate<TestRun> testStillExists) {
 		this.databasePath = databasePath;
+		this.testStillExists = testStillExists;
 		this.previousRunData = loadExistingRunData();
 	}
 
+	/**
+	 * A test no longer exists if its container class or its property method cannot be found.
+	 * Unique ids of any other shape are always kept.
+	 */
+	private static boolean testStillExists(TestRun testRun) {
+		Class<?> containerClass = null;
+		for (UniqueId.Segment segment : testRun.getUniqueId().getSegments()) {
+			if (segment.getType().equals(JqwikUniqueIDs.CONTAINER_SEGMENT_TYPE)) {
+				Optional<Class<?>> optionalClass = ReflectionSupport.tryToLoadClass(segment.getValue()).toOptional();
+				if (!optionalClass.isPresent()) {
+					return false;
+				}
+				containerClass = optionalClass.get();
+			} else if (segment.getType().equals(JqwikUniqueIDs.PROPERTY_SEGMENT_TYPE) && containerClass != null) {
+				return methodExists(segment, containerClass);
+			}
+		}
+		return true;
+	}
+
+	private static boolean methodExists(UniqueId.Segment segment, Class<?> containerClass) {
+		try {
+			return JqwikUniqueIDs.findMethodBySegment(segment, containerClass).isPresent();
+		} catch (JUnitException cannotLoadParameterTypes) {
+			return false;
+		}
+	}
+
 	private TestRunData loadExistingRunData() {
 		if (!Files.exists(databasePath)) {
 			return new TestRunData();
 		}
 
-		try (ObjectInputStream ois = createObjectInputStream()) {
-			List<TestRun> data = readAllTestRuns(ois);
-			return new TestRunData(data);
+		synchronized (FILE_LOCK_GUARD) {
+			return load();
+		}
+	}
+
+	private TestRunData load() {
+		try (
+			FileChannel channel = FileChannel.open(databasePath, StandardOpenOption.READ);
+			FileLock ignore = channel.lock(0, Long.MAX_VALUE, true)
+		) {
+			TestRunRecords records = TestRunRecords.readFrom(readAll(channel));
+			return new TestRunData(records.nonSuccessfulRuns());
 		} catch (Exception e) {
 			logReadException(e);
-			deleteDatabase();
 			return new TestRunData();
 		}
 	}
 
-	private void deleteDatabase() {
-		try {
-			Files.delete(databasePath);
-		} catch (IOException ignore) {
+	/**
+	 * Must be called with an exclusive lock on the channel.
+	 */
+	private void compactIfNecessary(FileChannel channel) throws IOException {
+		TestRunRecords records = TestRunRecords.readFrom(readAll(channel));
+		List<TestRun> nonSuccessfulRuns = records.nonSuccessfulRuns();
+		List<TestRun> existingRuns = nonSuccessfulRuns.stream().filter(testStillExists).collect(Collectors.toList());
+		boolean invalidTail = records.validLength() < channel.size();
+		boolean tooManySuperseded = records.countRecords() > 2 * nonSuccessfulRuns.size() + COMPACTION_SLACK;
+		boolean deletedTests = existingRuns.size() < nonSuccessfulRuns.size();
+		if (invalidTail || tooManySuperseded || deletedTests) {
+			compact(channel, existingRuns);
 		}
 	}
 
-	private List<TestRun> readAllTestRuns(ObjectInputStream ois) throws ClassNotFoundException {
-		List<TestRun> testRuns = new ArrayList<>();
-		while (true) {
-			try {
-				TestRun testRun = (TestRun) ois.readObject();
-				testRuns.add(testRun);
-			} catch (EOFException eof) {
-				break;
-			} catch (IOException eof) {
-				logReadException(eof);
-				deleteDatabase();
+	private ByteBuffer readAll(FileChannel channel) throws IOException {
+		ByteBuffer buffer = ByteBuffer.allocate((int) channel.size());
+		while (buffer.hasRemaining()) {
+			if (channel.read(buffer, buffer.position()) < 0) {
 				break;
 			}
 		}
-		return testRuns;
+		buffer.flip();
+		return buffer;
+	}
+
+	private void compact(FileChannel channel, List<TestRun> testRuns) throws IOException {
+		channel.truncate(0);
+		writeFully(channel, TestRunRecords.header(), 0);
+		long position = channel.size();
+		for (TestRun testRun : testRuns) {
+			ByteBuffer record = TestRunRecords.record(testRun);
+			position += writeFully(channel, record, position);
+		}
+	}
+
+	private static int writeFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+		int written = 0;
+		while (buffer.hasRemaining()) {
+			written += channel.write(buffer, position + written);
+		}
+		return written;
 	}
 
 	private void logReadException(Exception eof) {
@@ -68,47 +168,62 @@ public class TestRunDatabase {
 		LOG.log(Level.WARNING, e, () -> String.format("Cannot write database [%s]", databasePath.toAbsolutePath()));
 	}
 
-	private ObjectOutputStream createObjectOutputStream() {
-		try {
-			return new ObjectOutputStream(Files.newOutputStream(databasePath, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING));
-		} catch (IOException e) {
-			stopRecording = true;
-			logWriteException(e);
-			return null;
-		}
-	}
-
-	private ObjectInputStream createObjectInputStream() throws IOException {
-		return new ObjectInputStream(Files.newInputStream(databasePath, StandardOpenOption.CREATE));
+	private FileChannel openForAppending() throws IOException {
+		return FileChannel.open(databasePath, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
 	}
 
 	private class Recorder implements TestRunRecorder {
 
-		private final ObjectOutputStream objectOutputStream;
-
-		private Recorder(ObjectOutputStream objectOutputStream) {
-			this.objectOutputStream = objectOutputStream;
-		}
+		private FileChannel channel = null;
+		private boolean compactionChecked = false;
 
 		@Override
-		public void record(TestRun testRun) {
-			if (stopRecording) {
+		public synchronized void record(TestRun testRun) {
+			if (stopRecording || !needsRecording(testRun)) {
 				return;
 			}
 			try {
-				if (testRun.isNotSuccessful() || RECORD_SUCCESSFUL_RUNS) {
-					objectOutputStream.writeObject(testRun);
+				if (channel == null) {
+					channel = openForAppending();
 				}
+				append(TestRunRecords.record(testRun));
 			} catch (IOException e) {
 				stopRecording = true;
 				logWriteException(e);
 			}
 		}
 
+		private boolean needsRecording(TestRun testRun) {
+			if (testRun.isNotSuccessful() || RECORD_SUCCESSFUL_RUNS) {
+				return true;
+			}
+			// Supersede the previous failure of this test
+			return previousRunData.byUniqueId(testRun.getUniqueId()).isPresent();
+		}
+
+		private void append(ByteBuffer record) throws IOException {
+			synchronized (FILE_LOCK_GUARD) {
+				try (FileLock ignore = channel.lock()) {
+					if (!compactionChecked) {
+						compactIfNecessary(channel);
+						compactionChecked = true;
+					}
+					long end = channel.size();
+					if (end == 0) {
+						end += writeFully(channel, TestRunRecords.header(), 0);
+					}
+					writeFully(channel, record, end);
+				}
+			}
+		}
+
 		@Override
-		public void close() {
+		public synchronized void close() {
+			if (channel == null) {
+				return;
+			}
 			try {
-				objectOutputStream.close();
+				channel.close();
 			} catch (IOException e) {
 				logWriteException(e);
 			}
@@ -121,6 +236,6 @@ public class TestRunDatabase {
 	}
 
 	public TestRunRecorder recorder() {
-		return new Recorder(createObjectOutputStream());
+		return new Recorder();
 	}
 }
@@ -0,0 +1,228 @@
+package net.jqwik.engine.recording;
+
+import java.nio.*;
+import java.nio.charset.*;
+import java.util.*;
+import java.util.stream.*;
+import java.util.zip.*;
+
+import net.jqwik.api.lifecycle.*;
+import net.jqwik.engine.execution.*;
+import net.jqwik.engine.properties.shrinking.*;
+
+/**
+ * Binary format of the test run database:
+ *
+ * <ul>
+ *     <li>Header: magic number (int) and format version (byte)</li>
+ *     <li>Any number of records: body length (int), CRC32 of body (int), body</li>
+ *     <li>Body: unique id (string), status ordinal (byte), random seed (string or -1 for none),
+ *     generation index (int), number of shrinking sequences (int), each sequence as number of statuses (int)
+ *     followed by the status ordinals packed into two bits each and by its shrinking path</li>
+ *     <li>Shrinking path: number of parameters (int or -1 for none), for each parameter
+ *     the number of steps (int) followed by the index (int) of each step</li>
+ * </ul>
+ *
+ * <p>
+ * Strings are stored as length (int) followed by UTF-8 bytes.
+ * Reading stops at the first record that is incomplete or does not match its checksum.
+ * </p>
+ */
+final class TestRunRecords {
+
+	private static final int MAGIC = 0x6A717764; // "jqwd"
+	private static final byte VERSION = 4;
+	private static final int HEADER_LENGTH = Integer.BYTES + Byte.BYTES;
+	private static final int RECORD_PREFIX_LENGTH = 2 * Integer.BYTES;
+
+	private final Map<String, TestRun> latestRuns;
+	private final int countRecords;
+	private final long validLength;
+
+	private TestRunRecords(Map<String, TestRun> latestRuns, int countRecords, long validLength) {
+		this.latestRuns = latestRuns;
+		this.countRecords = countRecords;
+		this.validLength = validLength;
+	}
+
+	static ByteBuffer header() {
+		ByteBuffer header = ByteBuffer.allocate(HEADER_LENGTH);
+		header.putInt(MAGIC).put(VERSION);
+		header.flip();
+		return header;
+	}
+
+	static ByteBuffer record(TestRun testRun) {
+		byte[] body = encode(testRun);
+		ByteBuffer record = ByteBuffer.allocate(RECORD_PREFIX_LENGTH + body.length);
+		record.putInt(body.length).putInt(checksum(body, 0, body.length)).put(body);
+		record.flip();
+		return record;
+	}
+
+	static TestRunRecords readFrom(ByteBuffer buffer) {
+		Map<String, TestRun> latestRuns = new LinkedHashMap<>();
+		if (buffer.remaining() < HEADER_LENGTH || buffer.getInt() != MAGIC || buffer.get() != VERSION) {
+			return new TestRunRecords(latestRuns, 0, 0);
+		}
+		int countRecords = 0;
+		while (buffer.remaining() >= RECORD_PREFIX_LENGTH) {
+			int start = buffer.position();
+			int length = buffer.getInt();
+			int checksum = buffer.getInt();
+			if (length < 0 || length > buffer.remaining() || checksum(buffer.array(), buffer.position(), length) != checksum) {
+				buffer.position(start);
+				break;
+			}
+			Optional<TestRun> testRun = decode((ByteBuffer) buffer.slice().limit(length));
+			if (!testRun.isPresent()) {
+				buffer.position(start);
+				break;
+			}
+			buffer.position(buffer.position() + length);
+			// Remove first so that iteration order reflects the latest record
+			latestRuns.remove(testRun.get().uniqueIdString());
+			latestRuns.put(testRun.get().uniqueIdString(), testRun.get());
+			countRecords++;
+		}
+		return new TestRunRecords(latestRuns, countRecords, buffer.position());
+	}
+
+	int countRecords() {
+		return countRecords;
+	}
+
+	/**
+	 * The number of bytes from the beginning of the file up to the end of the last readable record
+	 */
+	long validLength() {
+		return validLength;
+	}
+
+	List<TestRun> nonSuccessfulRuns() {
+		return latestRuns.values().stream().filter(TestRun::isNotSuccessful).collect(Collectors.toList());
+	}
+
+	private static int checksum(byte[] bytes, int offset, int length) {
+		CRC32 crc32 = new CRC32();
+		crc32.update(bytes, offset, length);
+		return (int) crc32.getValue();
+	}
+
+	private static byte[] encode(TestRun testRun) {
+		GenerationInfo generationInfo = testRun.generationInfo();
+		byte[] uniqueId = testRun.uniqueIdString().getBytes(StandardCharsets.UTF_8);
+		byte[] seed = generationInfo.randomSeed().map(s -> s.getBytes(StandardCharsets.UTF_8)).orElse(null);
+		List<PackedShrinkingSequence> shrinkingSequences =
+			generationInfo.shrinkingSequences().stream().map(PackedShrinkingSequence::of).collect(Collectors.toList());
+		List<Optional<ShrinkingPath>> shrinkingPaths = generationInfo.shrinkingPaths();
+
+		int length = Integer.BYTES + uniqueId.length + Byte.BYTES
+						 + Integer.BYTES + (seed == null ? 0 : seed.length)
+						 + 2 * Integer.BYTES;
+		for (PackedShrinkingSequence sequence : shrinkingSequences) {
+			length += Integer.BYTES + PackedShrinkingSequence.countBytes(sequence.size());
+		}
+		for (Optional<ShrinkingPath> shrinkingPath : shrinkingPaths) {
+			length += countBytes(shrinkingPath);
+		}
+
+		ByteBuffer body = ByteBuffer.allocate(length);
+		body.putInt(uniqueId.length).put(uniqueId);
+		body.put((byte) testRun.getStatus().ordinal());
+		if (seed == null) {
+			body.putInt(-1);
+		} else {
+			body.putInt(seed.length).put(seed);
+		}
+		body.putInt(generationInfo.generationIndex());
+		body.putInt(shrinkingSequences.size());
+		for (int i = 0; i < shrinkingSequences.size(); i++) {
+			PackedShrinkingSequence sequence = shrinkingSequences.get(i);
+			body.putInt(sequence.size()).put(sequence.toBytes());
+			putShrinkingPath(body, shrinkingPaths.get(i));
+		}
+		return body.array();
+	}
+
+	private static int countBytes(Optional<ShrinkingPath> shrinkingPath) {
+		int length = Integer.BYTES;
+		if (shrinkingPath.isPresent()) {
+			for (int parameterIndex = 0; parameterIndex < shrinkingPath.get().countParameters(); parameterIndex++) {
+				length += Integer.BYTES * (1 + shrinkingPath.get().indices(parameterIndex).length);
+			}
+		}
+		return length;
+	}
+
+	private static void putShrinkingPath(ByteBuffer body, Optional<ShrinkingPath> shrinkingPath) {
+		if (!shrinkingPath.isPresent()) {
+			body.putInt(-1);
+			return;
+		}
+		body.putInt(shrinkingPath.get().countParameters());
+		for (int parameterIndex = 0; parameterIndex < shrinkingPath.get().countParameters(); parameterIndex++) {
+			int[] indices = shrinkingPath.get().indices(parameterIndex);
+			body.putInt(indices.length);
+			for (int index : indices) {
+				body.putInt(index);
+			}
+		}
+	}
+
+	private static Optional<ShrinkingPath> getShrinkingPath(ByteBuffer body) {
+		int countParameters = body.getInt();
+		if (countParameters < 0) {
+			return Optional.empty();
+		}
+		// Every parameter needs at least the number of its steps
+		if (countParameters > body.remaining() / Integer.BYTES) {
+			throw new IllegalArgumentException(String.format("%d parameters do not fit into record", countParameters));
+		}
+		int[][] indices = new int[countParameters][];
+		for (int parameterIndex = 0; parameterIndex < countParameters; parameterIndex++) {
+			int countSteps = body.getInt();
+			if (countSteps < 0 || countSteps > body.remaining() / Integer.BYTES) {
+				throw new IllegalArgumentException(String.format("%d steps do not fit into record", countSteps));
+			}
+			indices[parameterIndex] = new int[countSteps];
+			for (int step = 0; step < countSteps; step++) {
+				indices[parameterIndex][step] = body.getInt();
+			}
+		}
+		return Optional.of(ShrinkingPath.of(indices));
+	}
+
+	private static Optional<TestRun> decode(ByteBuffer body) {
+		try {
+			String uniqueId = readString(body, body.getInt());
+			int statusOrdinal = body.get();
+			if (statusOrdinal < 0 || statusOrdinal >= PropertyExecutionResult.Status.values().length) {
+				return Optional.empty();
+			}
+			int seedLength = body.getInt();
+			String seed = seedLength < 0 ? null : readString(body, seedLength);
+			GenerationInfo generationInfo = new GenerationInfo(seed, body.getInt());
+			int countSequences = body.getInt();
+			for (int i = 0; i < countSequences; i++) {
+				int sequenceLength = body.getInt();
+				if (sequenceLength < 0 || PackedShrinkingSequence.countBytes(sequenceLength) > body.remaining()) {
+					return Optional.empty();
+				}
+				byte[] packed = new byte[PackedShrinkingSequence.countBytes(sequenceLength)];
+				body.get(packed);
+				PackedShrinkingSequence sequence = PackedShrinkingSequence.fromBytes(sequenceLength, packed);
+				generationInfo = generationInfo.appendShrinkingSequence(sequence, getShrinkingPath(body));
+			}
+			return Optional.of(new TestRun(uniqueId, statusOrdinal, generationInfo));
+		} catch (BufferUnderflowException | IllegalArgumentException | IndexOutOfBoundsException invalidRecord) {
+			return Optional.empty();
+		}
+	}
+
+	private static String readString(ByteBuffer buffer, int length) {
+		String string = new String(buffer.array(), buffer.arrayOffset() + buffer.position(), length, StandardCharsets.UTF_8);
+		buffer.position(buffer.position() + length);
+		return string;
+	}
+}
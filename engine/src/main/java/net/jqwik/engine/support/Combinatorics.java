@@ -20,6 +20,33 @@ public class Combinatorics {
 		return new CombinedIterator<>(listOfIterables);
 	}
 
+	/**
+	 * Like {@linkplain #combine(List)} but without copying each combination.
+	 * A returned combination is only valid until the next one is requested.
+	 */
+	public static <T> Iterator<List<T>> combineWithoutCopying(List<Iterable<T>> listOfIterables) {
+		if (listOfIterables.isEmpty()) {
+			return emptyListSingleton();
+		}
+		return new CombinedIterator<>(listOfIterables, false);
+	}
+
+	/**
+	 * Decode {@code index} as a mixed-radix number with one digit per radix.
+	 * The last digit changes fastest, which is the order of combinations in {@linkplain #combine(List)}.
+	 *
+	 * @param index must be between 0 (inclusive) and the product of all radixes (exclusive)
+	 */
+	public static long[] mixedRadixDigits(long index, long[] radixes) {
+		long[] digits = new long[radixes.length];
+		long rest = index;
+		for (int i = radixes.length - 1; i >= 0; i--) {
+			digits[i] = rest % radixes[i];
+			rest /= radixes[i];
+		}
+		return digits;
+	}
+
 	@SuppressWarnings("unchecked")
 	private static <T> Iterator<List<T>> emptyListSingleton() {
 		return asList((List<T>) new ArrayList<>()).iterator();
@@ -0,0 +1,34 @@
+package net.jqwik.engine.support;
+
+import java.lang.reflect.*;
+import java.util.*;
+import java.util.concurrent.*;
+
+public class JqwikThreadSupport {
+
+	private JqwikThreadSupport() {
+	}
+
+	/**
+	 * Virtual threads are only available in Java 21 and above, but jqwik must still compile against Java 8.
+	 *
+	 * @return an executor that starts a new virtual thread for each task if the JVM supports it
+	 */
+	public static Optional<ExecutorService> virtualThreadPerTaskExecutor() {
+		try {
+			Method factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+			return Optional.of((ExecutorService) factory.invoke(null));
+		} catch (NoSuchMethodException | IllegalAccessException | InvocationTargetException notAvailable) {
+			return Optional.empty();
+		}
+	}
+
+	public static boolean isVirtual(Thread thread) {
+		try {
+			Method isVirtual = Thread.class.getMethod("isVirtual");
+			return (boolean) isVirtual.invoke(thread);
+		} catch (NoSuchMethodException | IllegalAccessException | InvocationTargetException notAvailable) {
+			return false;
+		}
+	}
+}
@@ -7,12 +7,25 @@ public class CombinedIterator<T> implements Iterator<List<T>> {
 	private final List<Iterable<T>> iterables;
 	private final List<Iterator<T>> iterators;
 	private final List<T> elements;
+	private final List<T> elementsView;
+	private final boolean copyCombinations;
 	private final boolean isEmpty;
 	private int position = -1;
 
 	public CombinedIterator(List<Iterable<T>> iterables) {
+		this(iterables, true);
+	}
+
+	/**
+	 * @param copyCombinations If false, each combination is returned as a read-only view
+	 *                         that changes with the next call to {@linkplain #next()}.
+	 *                         Only use it if combinations are not retained.
+	 */
+	public CombinedIterator(List<Iterable<T>> iterables, boolean copyCombinations) {
 		this.iterables = iterables;
+		this.copyCombinations = copyCombinations;
 		elements = new ArrayList<>(Collections.nCopies(iterables.size(), null));
+		elementsView = Collections.unmodifiableList(elements);
 		iterators = iterables.stream().map(Iterable::iterator).collect(Collectors.toCollection(ArrayList::new));
 		isEmpty = iterables.isEmpty() || !iterators.stream().allMatch(Iterator::hasNext);
 	}
@@ -49,7 +62,7 @@ public class CombinedIterator<T> implements Iterator<List<T>> {
 				resetValuesFrom(nextPosition + 1);
 			}
 		}
-		return new ArrayList<>(elements);
+		return copyCombinations ? new ArrayList<>(elements) : elementsView;
 	}
 
 	private void resetValuesFrom(int startPosition) {
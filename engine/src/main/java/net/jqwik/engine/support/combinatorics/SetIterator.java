@@ -15,7 +15,7 @@ public class SetIterator<T> implements Iterator<Set<T>> {
 		for (int i = 0; i < setSize; i++) {
 			iterables.add(elementIterable);
 		}
-		combinedListIterator = new CombinedIterator<>(iterables);
+		combinedListIterator = new CombinedIterator<>(iterables, false);
 		next = findNext();
 	}
 
@@ -22,6 +22,7 @@ import net.jqwik.testing.*;
 import static java.math.BigInteger.*;
 import static org.assertj.core.api.Assertions.*;
 
+import static net.jqwik.testing.ShrinkingSupport.*;
 import static net.jqwik.testing.TestingSupport.*;
 
 @Label("Arbitraries")
@@ -690,6 +691,15 @@ class ArbitrariesTests {
 			List<Character> allowedChars = Arrays.asList('a', 'b', 'c', 'd');
 			checkAllGenerated(generator, random, (Character value) -> allowedChars.contains(value));
 		}
+
+		@Example
+		void charsExcluding(@ForAll Random random) {
+			Arbitrary<Character> arbitrary = Arbitraries.chars().range('a', 'e').with('x', 'y').excluding('a', 'c', 'x');
+			List<Character> allowedChars = Arrays.asList('b', 'd', 'e', 'y');
+			checkAllGenerated(arbitrary.generator(1, true), random, allowedChars::contains);
+			assertThat(arbitrary.exhaustive().get()).containsExactly('b', 'd', 'e', 'y');
+			assertThat(falsifyThenShrink(arbitrary, random)).isEqualTo('b');
+		}
 	}
 
 	// TODO: Extract into StringArbitraryTests
@@ -862,6 +872,55 @@ class ArbitrariesTests {
 			);
 		}
 
+		@Example
+		void integersMultipleOf(@ForAll Random random) {
+			Arbitrary<Integer> arbitrary = Arbitraries.integers().between(-100, 100).multipleOf(7);
+			checkAllGenerated(arbitrary.generator(1000, true), random, value -> value % 7 == 0);
+			TestingSupport.checkAtLeastOneGenerated(arbitrary.generator(1000), random, value -> value < 0);
+			TestingSupport.checkAtLeastOneGenerated(arbitrary.generator(1000), random, value -> value > 0);
+			assertThat(arbitrary.exhaustive().get().maxCount()).isEqualTo(29);
+		}
+
+		@Example
+		void longsWithRemainder(@ForAll Random random) {
+			Arbitrary<Long> arbitrary = Arbitraries.longs().withRemainder(10, 3).excluding(3L, 13L);
+			checkAllGenerated(arbitrary.generator(1000, true), random, value -> Math.floorMod(value, 10) == 3);
+			checkAllGenerated(arbitrary.generator(1000, true), random, value -> value != 3L && value != 13L);
+			TestingFalsifier<Long> falsifier = value -> value < 5;
+			assertThat(falsifyThenShrink(arbitrary, random, falsifier)).isEqualTo(23L);
+		}
+
+		@Example
+		void shortsAndBytesExcluding(@ForAll Random random) {
+			Arbitrary<Short> shorts = Arbitraries.shorts().between((short) -2, (short) 2).excluding((short) 0);
+			assertThat(shorts.exhaustive().get()).containsExactly((short) -2, (short) -1, (short) 1, (short) 2);
+
+			Arbitrary<Byte> bytes = Arbitraries.bytes().multipleOf((byte) 2).excluding((byte) 0);
+			checkAllGenerated(bytes.generator(1000, true), random, value -> value != 0 && value % 2 == 0);
+			assertThat(falsifyThenShrink(bytes, random)).isEqualTo((byte) 2);
+		}
+
+		@Example
+		void constrainedNegativeValuesShrinkToTheirPositiveCounterpart(@ForAll Random random) {
+			Arbitrary<Integer> arbitrary = Arbitraries.integers().between(-100, 100).excluding(0);
+			RandomGenerator<Integer> generator = arbitrary.generator(1000);
+			Shrinkable<Integer> negative = generator.stream(random).filter(shrinkable -> shrinkable.value() == -5).findFirst().get();
+
+			List<Integer> candidates = negative.shrink().map(Shrinkable::value).collect(Collectors.toList());
+			assertThat(candidates).contains(5);
+			assertThat(candidates).doesNotContain(6);
+		}
+
+		@Example
+		void invalidValueConstraints() {
+			assertThatThrownBy(() -> Arbitraries.integers().multipleOf(0))
+				.isInstanceOf(IllegalArgumentException.class);
+			assertThatThrownBy(() -> Arbitraries.integers().withRemainder(3, 3))
+				.isInstanceOf(IllegalArgumentException.class);
+			assertThatThrownBy(() -> Arbitraries.integers().between(1, 2).multipleOf(5).generator(1000))
+				.isInstanceOf(IllegalArgumentException.class);
+		}
+
 		@Example
 		void integralEdgeCasesAreGenerated(@ForAll Random random) {
 			BigInteger min = valueOf(Integer.MIN_VALUE);
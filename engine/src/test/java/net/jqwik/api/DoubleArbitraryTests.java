@@ -16,8 +16,8 @@ class DoubleArbitraryTests {
 	@Example
 	void doubleMinsAndMaxesWithEdgeCases(@ForAll Random random) {
 		RandomGenerator<Double> generator = Arbitraries.doubles().generator(1, true);
-		TestingSupport.checkAtLeastOneGenerated(generator, random, value -> value == 0.01);
-		TestingSupport.checkAtLeastOneGenerated(generator, random, value -> value == -0.01);
+		TestingSupport.checkAtLeastOneGenerated(generator, random, value -> value == Double.MIN_VALUE);
+		TestingSupport.checkAtLeastOneGenerated(generator, random, value -> value == -Double.MIN_VALUE);
 		TestingSupport.checkAtLeastOneGenerated(generator, random, value -> value == -Double.MAX_VALUE);
 		TestingSupport.checkAtLeastOneGenerated(generator, random, value -> value == Double.MAX_VALUE);
 	}
@@ -36,6 +36,25 @@ class DoubleArbitraryTests {
 		});
 	}
 
+	@Example
+	void doublesWithoutScaleAreNotRounded(@ForAll Random random) {
+		Arbitrary<Double> doubleArbitrary = Arbitraries.doubles().between(-10.0, 10.0);
+		RandomGenerator<Double> generator = doubleArbitrary.generator(1000);
+
+		TestingSupport.checkAtLeastOneGenerated(generator, random, value -> value == Math.round(value * 100) / 100.0);
+		TestingSupport.checkAtLeastOneGenerated(generator, random, value -> value != Math.round(value * 100) / 100.0);
+		checkAllGenerated(generator, random, value -> value >= -10.0 && value <= 10.0);
+	}
+
+	@Example
+	void doublesWithoutScaleCoverAllMagnitudes(@ForAll Random random) {
+		RandomGenerator<Double> generator = Arbitraries.doubles().generator(1000);
+
+		TestingSupport.checkAtLeastOneGenerated(generator, random, value -> Math.abs(value) > 1e300);
+		TestingSupport.checkAtLeastOneGenerated(generator, random, value -> value != 0.0 && Math.abs(value) < 1e-300);
+		checkAllGenerated(generator, random, value -> !value.isNaN() && !value.isInfinite());
+	}
+
 	@Example
 	void doublesWithMaximumRange(@ForAll Random random) {
 		double min = -Double.MAX_VALUE;
@@ -223,6 +242,27 @@ class DoubleArbitraryTests {
 			assertThat(collectEdgeCaseValues(edgeCases)).hasSize(7);
 		}
 
+		@Example
+		void doublesWithoutScale() {
+			DoubleArbitrary arbitrary = Arbitraries.doubles().between(-10.0, 10.0);
+			EdgeCases<Double> edgeCases = arbitrary.edgeCases();
+			assertThat(collectEdgeCaseValues(edgeCases)).containsExactlyInAnyOrder(
+				-10.0, -1.0, 0.0, 1.0, 10.0,
+				Double.MIN_VALUE, -Double.MIN_VALUE,
+				Math.nextDown(Double.MIN_NORMAL), -Math.nextDown(Double.MIN_NORMAL),
+				Double.MIN_NORMAL, -Double.MIN_NORMAL
+			);
+		}
+
+		@Example
+		void doublesWithoutScaleInPositiveRange() {
+			DoubleArbitrary arbitrary = Arbitraries.doubles().between(0.5, false, 10.0, true);
+			EdgeCases<Double> edgeCases = arbitrary.edgeCases();
+			assertThat(collectEdgeCaseValues(edgeCases)).containsExactlyInAnyOrder(
+				Math.nextUp(0.5), 1.0, 10.0
+			);
+		}
+
 		@Example
 		void doublesWithSpecials() {
 			int scale = 1;
@@ -18,7 +18,7 @@ class FloatArbitraryTests {
 		RandomGenerator<Float> generator = Arbitraries.floats().generator(1, true);
 		assertAtLeastOneGeneratedOf(
 			generator, random,
-			0.01f, -0.01f, -Float.MAX_VALUE, Float.MAX_VALUE
+			Float.MIN_VALUE, -Float.MIN_VALUE, -Float.MAX_VALUE, Float.MAX_VALUE
 		);
 	}
 
@@ -196,6 +196,18 @@ class FloatArbitraryTests {
 			assertThat(collectEdgeCaseValues(edgeCases)).hasSize(7);
 		}
 
+		@Example
+		void floatsWithoutScale() {
+			FloatArbitrary arbitrary = Arbitraries.floats().between(-10.0f, 10.0f);
+			EdgeCases<Float> edgeCases = arbitrary.edgeCases();
+			assertThat(collectEdgeCaseValues(edgeCases)).containsExactlyInAnyOrder(
+				-10.0f, -1.0f, 0.0f, 1.0f, 10.0f,
+				Float.MIN_VALUE, -Float.MIN_VALUE,
+				Math.nextDown(Float.MIN_NORMAL), -Math.nextDown(Float.MIN_NORMAL),
+				Float.MIN_NORMAL, -Float.MIN_NORMAL
+			);
+		}
+
 		@Example
 		void floatsWithSpecials() {
 			int scale = 1;
@@ -68,6 +68,21 @@ class JqwikIntegrationTests {
 			public boolean reportOnlyFailures() {
 				return reportOnlyFailures;
 			}
+
+			@Override
+			public int executionParallelism() {
+				return 1;
+			}
+
+			@Override
+			public boolean useVirtualThreads() {
+				return false;
+			}
+
+			@Override
+			public int memoizationMaxEntries() {
+				return JqwikProperties.DEFAULT_MEMOIZATION_MAX_ENTRIES;
+			}
 		};
 	}
 
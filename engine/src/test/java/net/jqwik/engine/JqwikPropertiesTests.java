@@ -47,6 +47,7 @@ class JqwikPropertiesTests {
 		assertThat(properties.defaultAfterFailure()).isEqualTo(AfterFailureMode.SAMPLE_FIRST);
 
 		assertThat(properties.reportOnlyFailures()).isEqualTo(false);
+		assertThat(properties.reportExecutionMetrics()).isEqualTo(false);
 
 		assertThat(properties.defaultGeneration()).isEqualTo(GenerationMode.AUTO);
 
@@ -55,7 +56,17 @@ class JqwikPropertiesTests {
 		assertThat(properties.defaultShrinking()).isEqualTo(ShrinkingMode.BOUNDED);
 
 		assertThat(properties.boundedShrinkingSeconds()).isEqualTo(10);
+		assertThat(properties.shrinkingCacheMaxEntries()).isEqualTo(1000);
 
 		assertThat(properties.fixedSeedMode()).isEqualTo(FixedSeedMode.ALLOW);
+
+		assertThat(properties.defaultParallelism()).isEqualTo(1);
+		assertThat(properties.triesVirtualThreads()).isEqualTo(false);
+		assertThat(properties.defaultDurationSeconds()).isEqualTo(0);
+
+		assertThat(properties.executionParallelism()).isEqualTo(1);
+		assertThat(properties.executionVirtualThreads()).isEqualTo(false);
+
+		assertThat(properties.memoizationMaxEntries()).isEqualTo(2000);
 	}
 }
@@ -0,0 +1,34 @@
+package net.jqwik.engine;
+
+import net.jqwik.api.*;
+
+import static org.assertj.core.api.Assertions.*;
+
+class SourceOfRandomnessTests {
+
+	@Example
+	void numericSeedIsUsedAsIs() {
+		assertThat(SourceOfRandomness.seedAsLong("-4711")).isEqualTo(-4711L);
+	}
+
+	@Example
+	void missingSeedIsZero() {
+		assertThat(SourceOfRandomness.seedAsLong(Property.SEED_NOT_SET)).isEqualTo(0L);
+		assertThat(SourceOfRandomness.seedAsLong(null)).isEqualTo(0L);
+	}
+
+	@Example
+	void nonNumericSeedIsRejected() {
+		assertThatThrownBy(() -> SourceOfRandomness.seedAsLong("notANumber"))
+			.isInstanceOf(JqwikException.class);
+	}
+
+	@Example
+	void tryRandomDependsOnSeedAndTryIndexOnly() {
+		long value = SourceOfRandomness.tryRandom(42L, 7).nextLong();
+
+		assertThat(SourceOfRandomness.tryRandom(42L, 7).nextLong()).isEqualTo(value);
+		assertThat(SourceOfRandomness.tryRandom(42L, 8).nextLong()).isNotEqualTo(value);
+		assertThat(SourceOfRandomness.tryRandom(43L, 7).nextLong()).isNotEqualTo(value);
+	}
+}
@@ -22,12 +22,17 @@ public class TestHelper {
 
 	public static final int DEFAULT_TRIES = 1000;
 	public static final int BOUNDED_SHRINKING_SECONDS = 10;
+	public static final int SHRINKING_CACHE_MAX_ENTRIES = 1000;
 	public static final int DEFAULT_MAX_DISCARD_RATIO = 5;
 	public static final AfterFailureMode DEFAULT_AFTER_FAILURE = AfterFailureMode.PREVIOUS_SEED;
 	public static final GenerationMode DEFAULT_GENERATION = GenerationMode.AUTO;
 	public static final EdgeCasesMode DEFAULT_EDGE_CASES = EdgeCasesMode.MIXIN;
 	public static final ShrinkingMode DEFAULT_SHRINKING = ShrinkingMode.BOUNDED;
 	public static final FixedSeedMode DEFAULT_WHEN_FIXED_SEED = FixedSeedMode.ALLOW;
+	public static final int DEFAULT_PARALLELISM = 1;
+	public static final int DEFAULT_DURATION_SECONDS = 0;
+	public static final boolean REPORT_EXECUTION_METRICS = false;
+	public static final boolean TRIES_ON_VIRTUAL_THREADS = false;
 
 	public static PropertyAttributesDefaults propertyAttributesDefaults() {
 		return PropertyAttributesDefaults.with(
@@ -38,7 +43,12 @@ public class TestHelper {
 			DEFAULT_EDGE_CASES,
 			DEFAULT_SHRINKING,
 			BOUNDED_SHRINKING_SECONDS,
-			DEFAULT_WHEN_FIXED_SEED
+			SHRINKING_CACHE_MAX_ENTRIES,
+			DEFAULT_WHEN_FIXED_SEED,
+			DEFAULT_PARALLELISM,
+			DEFAULT_DURATION_SECONDS,
+			REPORT_EXECUTION_METRICS,
+			TRIES_ON_VIRTUAL_THREADS
 		);
 	}
 
@@ -85,6 +95,8 @@ public class TestHelper {
 			null,
 			null,
 			seed,
+			null,
+			null,
 			null
 		);
 
@@ -94,6 +94,46 @@ public class CheckedPropertyFactoryTests {
 		assertThat(property.tryLifecycleExecutor.execute(null, noArgs).status()).isEqualTo(SATISFIED);
 	}
 
+	@Example
+	void customInvokeMethodHookIsUsedForEveryTry() {
+		PropertyMethodDescriptor descriptor = createDescriptor("prop", "42", 11, 4, ShrinkingMode.OFF);
+		List<Object[]> invocations = new ArrayList<>();
+		InvokePropertyMethodHook countingHook = (method, target, args) -> {
+			invocations.add(args);
+			return InvokePropertyMethodHook.DEFAULT.invoke(method, target, args);
+		};
+
+		CheckedProperty property = factory.fromDescriptor(
+			descriptor,
+			createPropertyContext(descriptor),
+			AroundTryHook.BASE,
+			ResolveParameterHook.DO_NOT_RESOLVE,
+			countingHook
+		);
+
+		assertThat(property.tryLifecycleExecutor.execute(null, Arrays.asList(1, "test")).status()).isEqualTo(SATISFIED);
+		assertThat(property.tryLifecycleExecutor.execute(null, Arrays.asList(2, "test")).status()).isEqualTo(FALSIFIED);
+		assertThat(invocations).containsExactly(new Object[]{1, "test"}, new Object[]{2, "test"});
+	}
+
+	@Example
+	void exceptionsOfPropertyMethodAreNotWrapped() {
+		PropertyMethodDescriptor descriptor = createDescriptor("propThrowingException", "42", 11, 4, ShrinkingMode.OFF);
+		CheckedProperty property = factory.fromDescriptor(
+			descriptor,
+			createPropertyContext(descriptor),
+			AroundTryHook.BASE,
+			ResolveParameterHook.DO_NOT_RESOLVE,
+			InvokePropertyMethodHook.DEFAULT
+		);
+
+		TryExecutionResult result = property.tryLifecycleExecutor.execute(null, Arrays.asList(42));
+		assertThat(result.status()).isEqualTo(FALSIFIED);
+		assertThat(result.throwable()).hasValueSatisfying(
+			throwable -> assertThat(throwable).isInstanceOf(IllegalStateException.class).hasMessage("42")
+		);
+	}
+
 	private PropertyMethodDescriptor createDescriptor(
 		String methodName, String seed, int tries, int maxDiscardRatio,
 		ShrinkingMode shrinking
@@ -128,5 +168,10 @@ public class CheckedPropertyFactoryTests {
 		void propWithVoidResult() {
 		}
 
+		@Property
+		void propThrowingException(@ForAll int anInt) {
+			throw new IllegalStateException(Integer.toString(anInt));
+		}
+
 	}
 }
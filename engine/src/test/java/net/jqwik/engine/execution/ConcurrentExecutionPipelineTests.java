@@ -0,0 +1,143 @@
+package net.jqwik.engine.execution;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+
+import org.mockito.*;
+
+import net.jqwik.api.*;
+import net.jqwik.engine.execution.pipeline.*;
+
+import static org.assertj.core.api.Assertions.*;
+
+class ConcurrentExecutionPipelineTests {
+
+	private final PropertyExecutionListener listener = Mockito.mock(PropertyExecutionListener.class);
+	private final ConcurrentExecutionPipeline pipeline = new ConcurrentExecutionPipeline(listener, 4, false);
+
+	@Example
+	void withNoTasksPipelineTerminatesAtOnce() {
+		pipeline.runToTermination();
+	}
+
+	@Example
+	void allSubmittedTasksAreExecuted() {
+		List<MockExecutionTask> tasks = new ArrayList<>();
+		for (int i = 0; i < 50; i++) {
+			MockExecutionTask task = new MockExecutionTask(Integer.toString(i));
+			tasks.add(task);
+			pipeline.submit(task);
+		}
+		pipeline.runToTermination();
+
+		tasks.forEach(task -> Mockito.verify(listener).executionStarted(task));
+	}
+
+	@Example
+	void independentTasksRunConcurrently() {
+		CountDownLatch bothStarted = new CountDownLatch(2);
+		ExecutionTask task1 = latchedTask("1", bothStarted);
+		ExecutionTask task2 = latchedTask("2", bothStarted);
+		pipeline.submit(task1);
+		pipeline.submit(task2);
+		pipeline.runToTermination();
+
+		assertThat(bothStarted.getCount()).isEqualTo(0);
+	}
+
+	@Example
+	void predecessorsOfTasksAreFinishedBeforeTaskStarts() {
+		List<String> finished = Collections.synchronizedList(new ArrayList<>());
+		ExecutionTask task1 = recordingTask("1", finished);
+		ExecutionTask task2 = recordingTask("2", finished);
+		ExecutionTask task3 = recordingTask("3", finished);
+		pipeline.submit(task1);
+		pipeline.submit(task2, task1);
+		pipeline.submit(task3, task2, task1);
+		pipeline.executeFirst(task3, task2);
+		pipeline.runToTermination();
+
+		assertThat(finished).containsExactly("1", "2", "3");
+	}
+
+	@Example
+	void tasksPutInFrontAreStartedFirst() {
+		ConcurrentExecutionPipeline singleThreadedPipeline = new ConcurrentExecutionPipeline(listener, 1, false);
+		MockExecutionTask task1 = new MockExecutionTask("1");
+		MockExecutionTask task2 = new MockExecutionTask("2");
+		MockExecutionTask task3 = new MockExecutionTask("3");
+		singleThreadedPipeline.submit(task1);
+		singleThreadedPipeline.submit(task2);
+		singleThreadedPipeline.submit(task3);
+		singleThreadedPipeline.executeFirst(task2, task3);
+		singleThreadedPipeline.runToTermination();
+
+		InOrder events = Mockito.inOrder(listener);
+		events.verify(listener).executionStarted(task2);
+		events.verify(listener).executionStarted(task3);
+		events.verify(listener).executionStarted(task1);
+	}
+
+	@Example
+	void failedPredecessorResultIsHandedToSuccessors() {
+		RuntimeException failure = new RuntimeException("failed");
+		ExecutionTask failing = ExecutionTask.from(
+			(l, predecessorResult) -> TaskExecutionResult.failure(failure),
+			new MockExecutionTask("failing"),
+			"failing"
+		);
+		AtomicReference<TaskExecutionResult> handedResult = new AtomicReference<>();
+		ExecutionTask successor = ExecutionTask.from(
+			(l, predecessorResult) -> {
+				handedResult.set(predecessorResult);
+				return predecessorResult;
+			},
+			new MockExecutionTask("successor"),
+			"successor"
+		);
+		pipeline.submit(failing);
+		pipeline.submit(successor, failing);
+		pipeline.runToTermination();
+
+		assertThat(handedResult.get().successful()).isFalse();
+		assertThat(handedResult.get().throwable()).hasValue(failure);
+	}
+
+	@Example
+	void predecessorsMustBeSubmittedBeforeATaskCanRun() {
+		MockExecutionTask task1 = new MockExecutionTask("1");
+		MockExecutionTask task2 = new MockExecutionTask("2");
+		pipeline.submit(task1, task2);
+
+		assertThatThrownBy(() -> pipeline.runToTermination()).isInstanceOf(PredecessorNotSubmittedException.class);
+	}
+
+	private ExecutionTask latchedTask(String name, CountDownLatch latch) {
+		return ExecutionTask.from(
+			(l, predecessorResult) -> {
+				latch.countDown();
+				try {
+					latch.await(10, TimeUnit.SECONDS);
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+				return TaskExecutionResult.success();
+			},
+			new MockExecutionTask(name),
+			name
+		);
+	}
+
+	private ExecutionTask recordingTask(String name, List<String> finished) {
+		return ExecutionTask.from(
+			(l, predecessorResult) -> {
+				finished.add(name);
+				return TaskExecutionResult.success();
+			},
+			new MockExecutionTask(name),
+			name
+		);
+	}
+
+}
@@ -9,6 +9,7 @@ import net.jqwik.api.*;
 import net.jqwik.api.constraints.*;
 import net.jqwik.api.lifecycle.*;
 import net.jqwik.api.lifecycle.TryExecutionResult.*;
+import net.jqwik.engine.properties.shrinking.*;
 
 import static org.assertj.core.api.Assertions.*;
 
@@ -130,6 +131,46 @@ class GenerationInfoTests {
 			});
 		}
 
+		@Example
+		void generateWithShrinkingPath() {
+			// Shrink 100 to 34, then to 29, by taking the 10th and the 2nd candidate
+			ShrinkingPath shrinkingPath = ShrinkingPath.of(new int[][]{{9, 1}});
+			// The sequence's shrunk sample would be 2, which shows that only the path is replayed
+			GenerationInfo generationInfo = new GenerationInfo("4242", 100)
+				.appendShrinkingSequence(Arrays.asList(SATISFIED, SATISFIED, FALSIFIED), Optional.of(shrinkingPath));
+
+			Optional<List<Shrinkable<Object>>> sample = generationInfo.generateOn(generator, context);
+			assertThat(sample).isPresent();
+			sample.ifPresent(shrinkables -> {
+				Object value = shrinkables.get(0).value();
+				assertThat(value).isEqualTo(29);
+			});
+		}
+
+		@Example
+		void generateWithShrinkingPathAndSequenceWithoutPath() {
+			// Shrink 199 to 13 through its path, then shrink 13 to 2 through its sequence
+			GenerationInfo generationInfo = new GenerationInfo("4242", 199)
+				.appendShrinkingSequence(Arrays.asList(FALSIFIED), Optional.of(ShrinkingPath.of(new int[][]{{6}})))
+				.appendShrinkingSequence(Arrays.asList(SATISFIED, SATISFIED, FALSIFIED));
+
+			Optional<List<Shrinkable<Object>>> sample = generationInfo.generateOn(generator, context);
+			assertThat(sample).isPresent();
+			sample.ifPresent(shrinkables -> {
+				Object value = shrinkables.get(0).value();
+				assertThat(value).isEqualTo(2);
+			});
+		}
+
+		@Example
+		void noGenerationWhenShrinkingPathDoesNotFitSample() {
+			GenerationInfo generationInfo = new GenerationInfo("4242", 1)
+				.appendShrinkingSequence(Arrays.asList(FALSIFIED), Optional.of(ShrinkingPath.of(new int[][]{{0}, {0}})));
+
+			Optional<List<Shrinkable<Object>>> sample = generationInfo.generateOn(generator, context);
+			assertThat(sample).isEmpty();
+		}
+
 		@Example
 		void noGenerationWithoutGenerationIndex() {
 			GenerationInfo generationInfo = new GenerationInfo("4242");
@@ -198,6 +239,22 @@ class GenerationInfoTests {
 			assertThat(read).isEqualTo(generationInfo);
 		}
 
+		@Example
+		void serializeWithShrinkingPath() throws Exception {
+			GenerationInfo generationInfo = new GenerationInfo("4242", 41)
+				.appendShrinkingSequence(Arrays.asList(SATISFIED, FALSIFIED), Optional.of(ShrinkingPath.of(new int[][]{{1}, {}})))
+				.appendShrinkingSequence(Arrays.asList(INVALID, FALSIFIED));
+
+			outputStream().writeObject(generationInfo);
+
+			GenerationInfo read = (GenerationInfo) inputStream().readObject();
+			assertThat(read).isEqualTo(generationInfo);
+			assertThat(read.shrinkingPaths()).containsExactly(
+				Optional.of(ShrinkingPath.of(new int[][]{{1}, {}})),
+				Optional.empty()
+			);
+		}
+
 		@Property(tries = 10)
 		void serializeWithLongShrinkingSequence(@ForAll("shrinkingSequence") @Size(min = 100, max = 1500) List<Status> sequence) throws Exception {
 			GenerationInfo generationInfo = new GenerationInfo("4242", 41)
@@ -209,6 +266,7 @@ class GenerationInfoTests {
 
 			GenerationInfo read = (GenerationInfo) inputStream().readObject();
 			assertThat(read).isEqualTo(generationInfo);
+			assertThat(read.shrinkingSequences()).containsExactly(sequence);
 		}
 
 		@Provide
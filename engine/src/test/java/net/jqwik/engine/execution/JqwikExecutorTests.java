@@ -35,6 +35,22 @@ public class JqwikExecutorTests {
 		events.verify(listener).executionStarted(isPropertyDescriptorFor(TestContainer.class, "test1"));
 	}
 
+	@Example
+	void allPropertiesAreExecutedWithParallelism() {
+		TestDescriptor descriptor = TestDescriptorBuilder.forClass(TestContainer.class, "test1", "test2", "test3").build();
+		EngineExecutionListener listener = Mockito.mock(EngineExecutionListener.class);
+
+		JqwikExecutor parallelExecutor = new JqwikExecutor(new LifecycleHooksRegistry(), testRun -> {}, previouslyFailedTests, true, false, 4, false);
+		parallelExecutor.execute(descriptor, listener);
+
+		InOrder events = Mockito.inOrder(listener);
+		events.verify(listener).executionStarted(descriptor);
+		events.verify(listener).executionFinished(Mockito.eq(descriptor), Mockito.any());
+		Mockito.verify(listener).executionStarted(isPropertyDescriptorFor(TestContainer.class, "test1"));
+		Mockito.verify(listener).executionStarted(isPropertyDescriptorFor(TestContainer.class, "test2"));
+		Mockito.verify(listener).executionStarted(isPropertyDescriptorFor(TestContainer.class, "test3"));
+	}
+
 	private UniqueId testId(TestDescriptor descriptor, String value) {
 		return descriptor.getUniqueId().append(JqwikUniqueIDs.PROPERTY_SEGMENT_TYPE, value);
 	}
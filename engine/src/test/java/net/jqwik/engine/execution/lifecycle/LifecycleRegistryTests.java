@@ -52,6 +52,64 @@ class LifecycleRegistryTests {
 			.allMatch(descriptor -> !registry.hasHook(descriptor, GlobalHookForMethodsOnly.class));
 	}
 
+	@Example
+	void hooksRegisteredAfterLookupAreFound() {
+		TestDescriptor container1 = forClass(Container1.class, "method1_1", "method1_2").build();
+		TestDescriptor method = container1.getChildren().iterator().next();
+
+		assertThat(registry.hasHook(method, GlobalHook.class)).isFalse();
+
+		registry.registerLifecycleHook(container1, GlobalHook.class, ALL_DESCENDANTS);
+		assertThat(registry.hasHook(method, GlobalHook.class)).isTrue();
+	}
+
+	@Example
+	void indexedHooksArePropagatedDownTheDescriptorTree() {
+		TestDescriptor engine =
+			forEngine(new JqwikTestEngine())
+				.with(forClass(Container1.class, "method1_1", "method1_2"))
+				.build();
+		TestDescriptor container1 = engine.getChildren().iterator().next();
+
+		registry.registerLifecycleHook(engine, GlobalHook.class, DIRECT_DESCENDANTS);
+		registry.registerLifecycleHook(container1, GlobalHookForMethodsOnly.class, ALL_DESCENDANTS);
+		registry.buildIndex(engine);
+
+		assertThat(registry.hasHook(engine, GlobalHook.class)).isTrue();
+		assertThat(registry.hasHook(container1, GlobalHook.class)).isTrue();
+		assertThat(container1.getChildren()).allMatch(method -> !registry.hasHook(method, GlobalHook.class));
+
+		assertThat(registry.hasHook(container1, GlobalHookForMethodsOnly.class)).isFalse();
+		assertThat(container1.getChildren()).allMatch(method -> registry.hasHook(method, GlobalHookForMethodsOnly.class));
+	}
+
+	@Example
+	void hooksRegisteredAfterBuildingIndexAreFound() {
+		TestDescriptor container1 = forClass(Container1.class, "method1_1", "method1_2").build();
+		TestDescriptor method = container1.getChildren().iterator().next();
+		registry.buildIndex(container1);
+
+		registry.registerLifecycleHook(container1, GlobalHook.class, ALL_DESCENDANTS);
+		assertThat(registry.hasHook(method, GlobalHook.class)).isTrue();
+	}
+
+	@Example
+	void repeatedLookupReturnsSameHooksInSameOrder() throws Throwable {
+		TestDescriptor container1 = forClass(Container1.class, "method1_1", "method1_2").build();
+		registry.registerLifecycleHook(container1, ChangeFirstParamTo42.class, ALL_DESCENDANTS);
+		registry.registerLifecycleHook(container1, ChangeSecondParamToAAA.class, ALL_DESCENDANTS);
+		registry.buildIndex(container1);
+
+		PropertyMethodDescriptor method = (PropertyMethodDescriptor) container1.getChildren().iterator().next();
+		List<Object> first = new ArrayList<>(Arrays.asList(1, "x"));
+		List<Object> second = new ArrayList<>(Arrays.asList(1, "x"));
+		registry.aroundTryHook(method).aroundTry(null, params -> TryExecutionResult.satisfied(), first);
+		registry.aroundTryHook(method).aroundTry(null, params -> TryExecutionResult.satisfied(), second);
+
+		assertThat(first).containsExactly(42, "AAA");
+		assertThat(second).containsExactly(42, "AAA");
+	}
+
 	@Example
 	void currentDescriptorIsSetDuringRegisteringHookClass() {
 		TestDescriptor container1 = forClass(Container1.class, "method1_1", "method1_2").build();
@@ -1,6 +1,7 @@
 package net.jqwik.engine.execution.lifecycle;
 
 import java.util.*;
+import java.util.concurrent.*;
 import java.util.function.*;
 
 import org.assertj.core.api.*;
@@ -174,6 +175,57 @@ class StoreRepositoryTests {
 			});
 		}
 
+		@Example
+		void finishTry_withTryStores_resetsOnlyValuesOfThatTry() {
+			TestDescriptor container = TestDescriptorBuilder.forClass(Container1.class, "method1").build();
+			TestDescriptor method = container.getChildren().iterator().next();
+			ScopedStore<String> storeTry = repository.create(method, "storeTry", Lifespan.TRY, () -> "initial");
+			ScopedStore<String> storeProperty = repository.create(method, "storeProperty", Lifespan.PROPERTY, () -> "initial");
+			storeTry.update(s -> "shared");
+
+			TryStores try1 = new TryStores();
+			TryStores try2 = new TryStores();
+			try1.runWith(() -> {
+				storeTry.update(s -> s + " try1");
+				storeProperty.update(s -> "changed");
+				return null;
+			});
+			try2.runWith(() -> {
+				storeTry.update(s -> s + " try2");
+				return null;
+			});
+
+			try1.runWith(() -> {
+				repository.finishTry(method);
+				return null;
+			});
+
+			SoftAssertions.assertSoftly(softly -> {
+				softly.assertThat(try1.runWith(storeTry::get)).isEqualTo("initial");
+				softly.assertThat(try2.runWith(storeTry::get)).isEqualTo("initial try2");
+				softly.assertThat(storeTry.get()).isEqualTo("shared");
+				softly.assertThat(storeProperty.get()).isEqualTo("changed");
+			});
+		}
+
+		@Example
+		void tryStores_areNotLockedWhileInitialValueIsCreated() {
+			TestDescriptor container = TestDescriptorBuilder.forClass(Container1.class, "method1").build();
+			TestDescriptor method = container.getChildren().iterator().next();
+			TryStores tryStores = new TryStores();
+			ScopedStore<String> otherStore = repository.create(method, "otherStore", Lifespan.TRY, () -> "other");
+			ScopedStore<String> slowStore = repository.create(method, "slowStore", Lifespan.TRY, () -> {
+				CompletableFuture<String> otherThread = CompletableFuture.supplyAsync(() -> tryStores.runWith(otherStore::get));
+				try {
+					return "slow " + otherThread.get(10, TimeUnit.SECONDS);
+				} catch (Exception e) {
+					throw new RuntimeException(e);
+				}
+			});
+
+			assertThat(tryStores.runWith(slowStore::get)).isEqualTo("slow other");
+		}
+
 		@Example
 		void finishProperty_resetsAllVisibleStoresWithLifespanProperty() {
 			TestDescriptor container = TestDescriptorBuilder.forClass(Container1.class, "method1").build();
@@ -205,6 +257,70 @@ class StoreRepositoryTests {
 			});
 		}
 
+		@Example
+		void containerStoresHaveSeparateValuesForEachRunningProperty() {
+			TestDescriptor container = TestDescriptorBuilder.forClass(Container1.class, "method1", "method2").build();
+			Iterator<? extends TestDescriptor> methods = container.getChildren().iterator();
+			TestDescriptor method1 = methods.next();
+			TestDescriptor method2 = methods.next();
+			ScopedStore<String> storeProperty = repository.create(container, "storeProperty", Lifespan.PROPERTY, () -> "initial");
+			ScopedStore<String> storeTry = repository.create(container, "storeTry", Lifespan.TRY, () -> "initial");
+
+			CurrentTestDescriptor.runWithDescriptor(method1, () -> {
+				storeProperty.update(s -> s + " method1");
+				storeTry.update(s -> s + " method1");
+				return null;
+			});
+			CurrentTestDescriptor.runWithDescriptor(method2, () -> {
+				storeProperty.update(s -> s + " method2");
+				storeTry.update(s -> s + " method2");
+				return null;
+			});
+
+			repository.finishTry(method1);
+			repository.finishProperty(method2);
+
+			SoftAssertions.assertSoftly(softly -> {
+				softly.assertThat(CurrentTestDescriptor.runWithDescriptor(method1, storeProperty::get)).isEqualTo("initial method1");
+				softly.assertThat(CurrentTestDescriptor.runWithDescriptor(method1, storeTry::get)).isEqualTo("initial");
+				softly.assertThat(CurrentTestDescriptor.runWithDescriptor(method2, storeProperty::get)).isEqualTo("initial");
+				softly.assertThat(CurrentTestDescriptor.runWithDescriptor(method2, storeTry::get)).isEqualTo("initial method2");
+			});
+		}
+
+		@Example
+		void finishScope_closesValuesOfAllProperties() {
+			List<String> closed = new ArrayList<>();
+			class NamedCloseOnReset implements Store.CloseOnReset {
+				private final String name;
+
+				NamedCloseOnReset(String name) {
+					this.name = name;
+				}
+
+				@Override
+				public void close() {
+					closed.add(name);
+				}
+			}
+
+			TestDescriptor container = TestDescriptorBuilder.forClass(Container1.class, "method1", "method2").build();
+			Iterator<? extends TestDescriptor> methods = container.getChildren().iterator();
+			TestDescriptor method1 = methods.next();
+			TestDescriptor method2 = methods.next();
+			ScopedStore<NamedCloseOnReset> store = repository.create(
+				container, "store", Lifespan.PROPERTY,
+				() -> new NamedCloseOnReset(CurrentTestDescriptor.get().getDisplayName())
+			);
+
+			CurrentTestDescriptor.runWithDescriptor(method1, store::get);
+			CurrentTestDescriptor.runWithDescriptor(method2, store::get);
+
+			repository.finishScope(container);
+
+			assertThat(closed).containsExactlyInAnyOrder(method1.getDisplayName(), method2.getDisplayName());
+		}
+
 		@Example
 		void finishScope_removesAllStoresForScopeAndItsChildren() {
 			TestDescriptor container1 = TestDescriptorBuilder.forClass(Container1.class, "method1").build();
@@ -0,0 +1,68 @@
+package net.jqwik.engine.execution.lifecycle;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import org.junit.platform.engine.*;
+
+import net.jqwik.api.*;
+import net.jqwik.api.domains.*;
+import net.jqwik.engine.*;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class ThreadContextTests {
+
+	@Example
+	void descriptorAndDomainContextAreHandedOverToOtherThread() throws Exception {
+		TestDescriptor currentDescriptor = CurrentTestDescriptor.get();
+		DomainContext domainContext = mock(DomainContext.class);
+
+		ThreadContext threadContext = CurrentDomainContext.runWithContext(domainContext, ThreadContext::capture);
+
+		CompletableFuture<List<Object>> onOtherThread = CompletableFuture.supplyAsync(
+			() -> threadContext.runWith(() -> Arrays.asList(CurrentTestDescriptor.get(), CurrentDomainContext.get()))
+		);
+
+		assertThat(onOtherThread.get()).containsExactly(currentDescriptor, domainContext);
+	}
+
+	@Example
+	void contextIsRemovedFromOtherThreadAfterRunning() throws Exception {
+		ThreadContext threadContext = ThreadContext.capture();
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+		try {
+			executor.submit(() -> threadContext.runWith(() -> CurrentTestDescriptor.get())).get();
+			boolean descriptorLeftBehind = executor.submit(() -> !CurrentTestDescriptor.isEmpty()).get();
+			assertThat(descriptorLeftBehind).isFalse();
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+	@Example
+	void randomIsOnlyUsedWhileRunning() throws Exception {
+		ThreadContext threadContext = ThreadContext.capture();
+		Random random = SourceOfRandomness.newRandom(42L);
+
+		CompletableFuture<Random> onOtherThread = CompletableFuture.supplyAsync(
+			() -> threadContext.runWith(random, SourceOfRandomness::current)
+		);
+
+		assertThat(onOtherThread.get()).isSameAs(random);
+		assertThat(SourceOfRandomness.current()).isNotSameAs(random);
+	}
+
+	@Example
+	void contextWithoutDescriptorCanBeCaptured() throws Exception {
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+		try {
+			ThreadContext threadContext = executor.submit(ThreadContext::capture).get();
+			boolean hasDescriptor = executor.submit(() -> threadContext.runWith(() -> !CurrentTestDescriptor.isEmpty())).get();
+			assertThat(hasDescriptor).isFalse();
+		} finally {
+			executor.shutdown();
+		}
+	}
+}
@@ -0,0 +1,156 @@
+package net.jqwik.engine.facades;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import net.jqwik.api.*;
+import net.jqwik.api.domains.*;
+import net.jqwik.engine.*;
+import net.jqwik.engine.execution.lifecycle.*;
+
+import static org.assertj.core.api.Assertions.*;
+
+class MemoizeTests {
+
+	@Example
+	void generatorIsMemoizedOutsideOfProperty() throws Exception {
+		Arbitrary<Integer> arbitrary = Arbitraries.integers().between(-42, 4242);
+
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+		try {
+			RandomGenerator<Integer> outside = executor.submit(() -> memoize(arbitrary)).get();
+			assertThat(memoize(arbitrary)).isSameAs(outside);
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+	@Example
+	void concurrentlyMemoizedGeneratorsAreTheSame() throws Exception {
+		Arbitrary<String> arbitrary = Arbitraries.strings().alpha().ofMaxLength(4711);
+
+		ExecutorService executor = Executors.newFixedThreadPool(8);
+		try {
+			List<Future<RandomGenerator<String>>> futures = new ArrayList<>();
+			for (int i = 0; i < 32; i++) {
+				futures.add(executor.submit(() -> memoize(arbitrary)));
+			}
+			RandomGenerator<String> first = futures.get(0).get();
+			for (Future<RandomGenerator<String>> future : futures) {
+				assertThat(future.get()).isSameAs(first);
+			}
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+	@Example
+	void generatorsAreNotSharedBetweenDomainContexts() {
+		Arbitrary<Integer> arbitrary = Arbitraries.integers().between(-4711, 42);
+
+		RandomGenerator<Integer> global = memoize(arbitrary);
+		RandomGenerator<Integer> inDomain = CurrentDomainContext.runWithContext(
+			new DomainContextBase() {},
+			() -> memoize(arbitrary)
+		);
+
+		assertThat(inDomain).isNotSameAs(global);
+		assertThat(memoize(arbitrary)).isSameAs(global);
+	}
+
+	@Example
+	void hitsAndMissesAreCounted() {
+		Arbitrary<Integer> arbitrary = Arbitraries.integers().between(-4242, 4711);
+		GeneratorCache cache = Memoize.sharedGeneratorCache();
+		long hitsBefore = cache.hits();
+		long missesBefore = cache.misses();
+
+		memoize(arbitrary);
+		memoize(arbitrary);
+		memoize(arbitrary);
+
+		assertThat(cache.misses() - missesBefore).isEqualTo(1);
+		assertThat(cache.hits() - hitsBefore).isEqualTo(2);
+	}
+
+	@Example
+	void generatorsOfOtherDomainContextsAreNotShared() {
+		Arbitrary<Integer> arbitrary = Arbitraries.integers().between(-42, 4711);
+		GeneratorCache cache = Memoize.sharedGeneratorCache();
+		long hitsBefore = cache.hits();
+		long missesBefore = cache.misses();
+
+		DomainContext context = new DomainContextBase() {};
+		RandomGenerator<Integer> first = CurrentDomainContext.runWithContext(context, () -> memoize(arbitrary));
+		RandomGenerator<Integer> second = CurrentDomainContext.runWithContext(context, () -> memoize(arbitrary));
+
+		assertThat(second).isSameAs(first);
+		assertThat(cache.hits()).isEqualTo(hitsBefore);
+		assertThat(cache.misses()).isEqualTo(missesBefore);
+	}
+
+	@Example
+	void clearingSharedGeneratorsForgetsGeneratorsAndStatistics() {
+		Arbitrary<Integer> arbitrary = Arbitraries.integers().between(-4711, 4242);
+		RandomGenerator<Integer> before = memoize(arbitrary);
+
+		Memoize.clearSharedGenerators();
+
+		GeneratorCache cache = Memoize.sharedGeneratorCache();
+		assertThat(cache.hits()).isZero();
+		assertThat(cache.misses()).isZero();
+		assertThat(cache.size()).isZero();
+		assertThat(memoize(arbitrary)).isNotSameAs(before);
+	}
+
+	@Example
+	void sizeOfSharedGeneratorsCanBeConfigured() {
+		try {
+			Memoize.startSharedGenerators(2);
+
+			memoize(Arbitraries.integers().between(1, 42));
+			memoize(Arbitraries.integers().between(2, 42));
+			memoize(Arbitraries.integers().between(3, 42));
+
+			assertThat(Memoize.sharedGeneratorCache().size()).isEqualTo(2);
+		} finally {
+			Memoize.startSharedGenerators(JqwikProperties.DEFAULT_MEMOIZATION_MAX_ENTRIES);
+		}
+	}
+
+	@Example
+	void lookupsOfCurrentPropertyAreCounted() {
+		Arbitrary<Integer> arbitrary = Arbitraries.integers().between(-424242, 42);
+
+		// Lookups of every property are counted while it is checked
+		MemoizationCounts counts = Memoize.countedLookups().get();
+		long hitsBefore = counts.hits();
+		long missesBefore = counts.misses();
+
+		memoize(arbitrary);
+		memoize(arbitrary);
+
+		assertThat(counts.misses() - missesBefore).isEqualTo(1);
+		assertThat(counts.hits() - hitsBefore).isEqualTo(1);
+	}
+
+	@Example
+	void lookupsAreNotCountedOutsideOfProperty() throws Exception {
+		Arbitrary<Integer> arbitrary = Arbitraries.integers().between(-42, 4711);
+
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+		try {
+			Optional<MemoizationCounts> outside = executor.submit(() -> {
+				memoize(arbitrary);
+				return Memoize.countedLookups();
+			}).get();
+			assertThat(outside).isEmpty();
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+	private static <T> RandomGenerator<T> memoize(Arbitrary<T> arbitrary) {
+		return Memoize.memoizedGenerator(arbitrary, 1000, true, () -> arbitrary.generator(1000, true));
+	}
+}
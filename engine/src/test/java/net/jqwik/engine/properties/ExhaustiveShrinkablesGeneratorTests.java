@@ -77,6 +77,41 @@ class ExhaustiveShrinkablesGeneratorTests {
 		assertThat(shrinkablesGenerator.hasNext()).isFalse();
 	}
 
+	@Example
+	void skipping() {
+		ExhaustiveShrinkablesGenerator shrinkablesGenerator = createGenerator("intFrom1to3And4to5");
+
+		assertThat(shrinkablesGenerator.skip(3)).isTrue();
+		assertThat(shrinkablesGenerator.next()).containsExactly(Shrinkable.unshrinkable(2), Shrinkable.unshrinkable(5));
+
+		assertThat(shrinkablesGenerator.skip(3)).isFalse();
+		assertThat(shrinkablesGenerator.hasNext()).isFalse();
+	}
+
+	@Example
+	void partitioning() {
+		ExhaustiveShrinkablesGenerator shrinkablesGenerator = createGenerator("intFrom1to3And4to5");
+
+		List<ExhaustiveShrinkablesGenerator> parts = shrinkablesGenerator.partition(4);
+		assertThat(parts).extracting(ExhaustiveShrinkablesGenerator::maxCount).containsExactly(2L, 2L, 1L, 1L);
+
+		List<List<Shrinkable<Object>>> partitionedSamples = new ArrayList<>();
+		parts.forEach(part -> part.forEachRemaining(partitionedSamples::add));
+		assertThat(partitionedSamples).containsExactlyElementsOf(() -> createGenerator("intFrom1to3And4to5"));
+	}
+
+	@Example
+	void partitioningStartsAfterAlreadyGeneratedSamples() {
+		ExhaustiveShrinkablesGenerator shrinkablesGenerator = createGenerator("intFrom1to3And4to5");
+		shrinkablesGenerator.next();
+		shrinkablesGenerator.next();
+
+		List<ExhaustiveShrinkablesGenerator> parts = shrinkablesGenerator.partition(2);
+		assertThat(parts).extracting(ExhaustiveShrinkablesGenerator::maxCount).containsExactly(2L, 2L);
+		assertThat(parts.get(0).next()).containsExactly(Shrinkable.unshrinkable(2), Shrinkable.unshrinkable(4));
+		assertThat(parts.get(1).next()).containsExactly(Shrinkable.unshrinkable(3), Shrinkable.unshrinkable(4));
+	}
+
 	@Example
 	void noExhaustiveGenerator() {
 		Assertions.assertThatThrownBy(() -> createGenerator("doubles")).isInstanceOf(JqwikException.class);
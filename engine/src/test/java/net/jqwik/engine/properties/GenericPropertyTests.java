@@ -1,7 +1,10 @@
 package net.jqwik.engine.properties;
 
+import java.time.*;
 import java.util.*;
+import java.util.concurrent.*;
 import java.util.concurrent.atomic.*;
+import java.util.concurrent.locks.*;
 import java.util.function.*;
 import java.util.stream.*;
 
@@ -13,8 +16,12 @@ import net.jqwik.api.lifecycle.*;
 import net.jqwik.engine.*;
 import net.jqwik.engine.descriptor.*;
 import net.jqwik.engine.execution.*;
+import net.jqwik.engine.execution.lifecycle.*;
+import net.jqwik.engine.facades.*;
 
 import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
 
 import static net.jqwik.api.ShrinkingMode.*;
 import static net.jqwik.engine.properties.PropertyConfigurationBuilder.*;
@@ -500,6 +507,372 @@ class GenericPropertyTests {
 
 	}
 
+	@Group
+	class ParallelTries {
+
+		@Example
+		void allTriesAreChecked() {
+			AtomicInteger countCalls = new AtomicInteger(0);
+			CheckedFunction forAllFunction = args -> {
+				countCalls.incrementAndGet();
+				return true;
+			};
+
+			Arbitrary<Object> arbitrary = Arbitraries.integers().between(1, 100).asGeneric();
+			ParametersGenerator shrinkablesGenerator = randomizedShrinkablesGenerator(arbitrary);
+
+			PropertyConfiguration configuration = aConfig().withTries(500).withParallelism(4).build();
+			GenericProperty property =
+				new GenericProperty("parallel property", configuration, shrinkablesGenerator, forAllFunction, tryLifecycleContextSupplier);
+			PropertyCheckResult result = property.check(TestHelper.reporter(), new Reporting[0]);
+
+			assertThat(countCalls.get()).isEqualTo(500);
+			assertThat(result.checkStatus()).isEqualTo(PropertyCheckResult.CheckStatus.SUCCESSFUL);
+			assertThat(result.countTries()).isEqualTo(500);
+			assertThat(result.countChecks()).isEqualTo(500);
+		}
+
+		@Example
+		void triesAreCheckedConcurrently() {
+			Set<Thread> threads = Collections.newSetFromMap(new ConcurrentHashMap<>());
+			CheckedFunction forAllFunction = args -> {
+				threads.add(Thread.currentThread());
+				LockSupport.parkNanos(1_000_000);
+				return true;
+			};
+
+			Arbitrary<Object> arbitrary = Arbitraries.integers().asGeneric();
+			ParametersGenerator shrinkablesGenerator = randomizedShrinkablesGenerator(arbitrary);
+
+			PropertyConfiguration configuration = aConfig().withTries(200).withParallelism(4).build();
+			GenericProperty property =
+				new GenericProperty("parallel property", configuration, shrinkablesGenerator, forAllFunction, tryLifecycleContextSupplier);
+			property.check(TestHelper.reporter(), new Reporting[0]);
+
+			assertThat(threads).hasSizeGreaterThan(1);
+			assertThat(threads).doesNotContain(Thread.currentThread());
+		}
+
+		@Example
+		void firstFalsifiedTryInOrderOfGenerationIsReported() {
+			CheckedFunction forAllFunction = args -> ((int) args.get(0)) % 10 != 7;
+
+			Arbitrary<Object> arbitrary = new OrderedArbitraryForTesting<>(1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15, 16, 17);
+			ParametersGenerator shrinkablesGenerator = randomizedShrinkablesGenerator(arbitrary);
+
+			PropertyConfiguration configuration = aConfig().withShrinking(OFF).withParallelism(4).build();
+			GenericProperty property =
+				new GenericProperty("parallel property", configuration, shrinkablesGenerator, forAllFunction, tryLifecycleContextSupplier);
+			PropertyCheckResult result = property.check(TestHelper.reporter(), new Reporting[0]);
+
+			assertThat(result.checkStatus()).isEqualTo(PropertyCheckResult.CheckStatus.FAILED);
+			assertThat(result.countTries()).isEqualTo(7);
+			assertThat(result.countChecks()).isEqualTo(7);
+			assertThat(result.falsifiedParameters().get()).containsExactly(7);
+			assertThat(result.generationInfo().generationIndex()).isEqualTo(7);
+		}
+
+		@Example
+		void partitionsAreGeneratedAndCheckedOnWorkers() {
+			Set<Integer> checkedValues = Collections.newSetFromMap(new ConcurrentHashMap<>());
+			Set<Thread> generatingThreads = Collections.newSetFromMap(new ConcurrentHashMap<>());
+			CheckedFunction forAllFunction = args -> {
+				checkedValues.add((int) args.get(0));
+				return true;
+			};
+
+			ParametersGenerator shrinkablesGenerator = partitionableShrinkablesGenerator(0, 100, generatingThreads);
+
+			PropertyConfiguration configuration = aConfig().withTries(100).withParallelism(4).build();
+			GenericProperty property =
+				new GenericProperty("parallel property", configuration, shrinkablesGenerator, forAllFunction, tryLifecycleContextSupplier);
+			PropertyCheckResult result = property.check(TestHelper.reporter(), new Reporting[0]);
+
+			assertThat(result.checkStatus()).isEqualTo(PropertyCheckResult.CheckStatus.SUCCESSFUL);
+			assertThat(result.countTries()).isEqualTo(100);
+			assertThat(result.countChecks()).isEqualTo(100);
+			assertThat(checkedValues).hasSize(100);
+			assertThat(generatingThreads).doesNotContain(Thread.currentThread());
+		}
+
+		@Example
+		void firstFalsifiedTryOfAllPartitionsIsReported() {
+			CheckedFunction forAllFunction = args -> ((int) args.get(0)) % 10 != 7;
+
+			ParametersGenerator shrinkablesGenerator =
+				partitionableShrinkablesGenerator(0, 100, Collections.newSetFromMap(new ConcurrentHashMap<>()));
+
+			PropertyConfiguration configuration = aConfig().withTries(100).withShrinking(OFF).withParallelism(4).build();
+			GenericProperty property =
+				new GenericProperty("parallel property", configuration, shrinkablesGenerator, forAllFunction, tryLifecycleContextSupplier);
+			PropertyCheckResult result = property.check(TestHelper.reporter(), new Reporting[0]);
+
+			assertThat(result.checkStatus()).isEqualTo(PropertyCheckResult.CheckStatus.FAILED);
+			assertThat(result.countTries()).isEqualTo(8);
+			assertThat(result.countChecks()).isEqualTo(8);
+			assertThat(result.falsifiedParameters().get()).containsExactly(7);
+			assertThat(result.generationInfo().generationIndex()).isEqualTo(8);
+		}
+
+		@Example
+		void falsifiedSampleIsShrunk() {
+			CheckedFunction forAllFunction = args -> ((int) args.get(0)) < 50;
+
+			Arbitrary<Object> arbitrary = Arbitraries.integers().between(0, 100).asGeneric();
+			ParametersGenerator shrinkablesGenerator = randomizedShrinkablesGenerator(arbitrary);
+
+			PropertyConfiguration configuration = aConfig().withTries(1000).withParallelism(4).build();
+			GenericProperty property =
+				new GenericProperty("parallel property", configuration, shrinkablesGenerator, forAllFunction, tryLifecycleContextSupplier);
+			PropertyCheckResult result = property.check(TestHelper.reporter(), new Reporting[0]);
+
+			assertThat(result.checkStatus()).isEqualTo(PropertyCheckResult.CheckStatus.FAILED);
+			assertThat(result.falsifiedParameters().get()).containsExactly(50);
+		}
+
+		@Example
+		void triesOnVirtualThreadsRunWithPropertyContext() {
+			Set<Thread> threads = Collections.newSetFromMap(new ConcurrentHashMap<>());
+			AtomicInteger countCalls = new AtomicInteger(0);
+			TryLifecycleExecutor tryExecutor = (context, parameters) -> {
+				assertThat(CurrentTestDescriptor.isEmpty()).isFalse();
+				threads.add(Thread.currentThread());
+				countCalls.incrementAndGet();
+				return TryExecutionResult.satisfied();
+			};
+
+			List<TryLifecycleContext> contexts = new ArrayList<>();
+			List<List<Object>> samples = new ArrayList<>();
+			List<TryStores> tryStores = new ArrayList<>();
+			for (int i = 0; i < 100; i++) {
+				contexts.add(tryLifecycleContextSupplier.get());
+				samples.add(Collections.singletonList(i));
+				tryStores.add(new TryStores());
+			}
+
+			try (ParallelTriesExecutor executor = new ParallelTriesExecutor(4, tryExecutor, "42", true)) {
+				List<Future<TryExecutionResult>> results = executor.execute(contexts, samples, tryStores, 0);
+				for (Future<TryExecutionResult> result : results) {
+					assertThat(executor.resultOf(result).status()).isEqualTo(TryExecutionResult.Status.SATISFIED);
+				}
+			}
+
+			assertThat(countCalls.get()).isEqualTo(100);
+			assertThat(threads).doesNotContain(Thread.currentThread());
+		}
+
+		@Example
+		void invalidTriesAreNotCounted() {
+			CheckedFunction forAllFunction = args -> {
+				Assume.that(((int) args.get(0)) % 2 == 0);
+				return true;
+			};
+
+			Arbitrary<Object> arbitrary = new OrderedArbitraryForTesting<>(1, 2, 3, 4);
+			ParametersGenerator shrinkablesGenerator = randomizedShrinkablesGenerator(arbitrary);
+
+			PropertyConfiguration configuration = aConfig().withTries(100).withParallelism(4).build();
+			GenericProperty property =
+				new GenericProperty("parallel property", configuration, shrinkablesGenerator, forAllFunction, tryLifecycleContextSupplier);
+			PropertyCheckResult result = property.check(TestHelper.reporter(), new Reporting[0]);
+
+			assertThat(result.checkStatus()).isEqualTo(PropertyCheckResult.CheckStatus.SUCCESSFUL);
+			assertThat(result.countTries()).isEqualTo(100);
+			assertThat(result.countChecks()).isEqualTo(50);
+		}
+	}
+
+	@Group
+	class TimeBudgeted {
+
+		@Example
+		void triesAreRunUntilTimeIsUp() {
+			CheckedFunction forAllFunction = args -> {
+				LockSupport.parkNanos(1_000_000);
+				return true;
+			};
+
+			Arbitrary<Object> arbitrary = Arbitraries.integers().asGeneric();
+			ParametersGenerator shrinkablesGenerator = randomizedShrinkablesGenerator(arbitrary);
+
+			PropertyConfiguration configuration = aConfig().withTries(10).withDurationSeconds(1).build();
+			GenericProperty property =
+				new GenericProperty("timed property", configuration, shrinkablesGenerator, forAllFunction, tryLifecycleContextSupplier);
+
+			long start = System.nanoTime();
+			PropertyCheckResult result = property.check(TestHelper.reporter(), new Reporting[0]);
+			long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+			assertThat(result.checkStatus()).isEqualTo(PropertyCheckResult.CheckStatus.SUCCESSFUL);
+			assertThat(result.countTries()).isGreaterThan(10);
+			assertThat(result.countChecks()).isEqualTo(result.countTries());
+			assertThat(elapsedMillis).isBetween(1000L, 10_000L);
+		}
+
+		@Example
+		void parallelTriesAreRunUntilTimeIsUp() {
+			CheckedFunction forAllFunction = args -> {
+				LockSupport.parkNanos(1_000_000);
+				return true;
+			};
+
+			Arbitrary<Object> arbitrary = Arbitraries.integers().asGeneric();
+			ParametersGenerator shrinkablesGenerator = randomizedShrinkablesGenerator(arbitrary);
+
+			PropertyConfiguration configuration = aConfig().withTries(10).withDurationSeconds(1).withParallelism(4).build();
+			GenericProperty property =
+				new GenericProperty("timed property", configuration, shrinkablesGenerator, forAllFunction, tryLifecycleContextSupplier);
+			PropertyCheckResult result = property.check(TestHelper.reporter(), new Reporting[0]);
+
+			assertThat(result.checkStatus()).isEqualTo(PropertyCheckResult.CheckStatus.SUCCESSFUL);
+			assertThat(result.countTries()).isGreaterThan(10);
+		}
+
+		@Example
+		void falsifiedTryStopsTimeBudgetedProperty() {
+			CheckedFunction forAllFunction = args -> ((int) args.get(0)) < 5;
+
+			Arbitrary<Object> arbitrary = new OrderedArbitraryForTesting<>(1, 2, 3, 4, 5, 6);
+			ParametersGenerator shrinkablesGenerator = randomizedShrinkablesGenerator(arbitrary);
+
+			PropertyConfiguration configuration = aConfig().withShrinking(OFF).withDurationSeconds(60).build();
+			GenericProperty property =
+				new GenericProperty("timed property", configuration, shrinkablesGenerator, forAllFunction, tryLifecycleContextSupplier);
+			PropertyCheckResult result = property.check(TestHelper.reporter(), new Reporting[0]);
+
+			assertThat(result.checkStatus()).isEqualTo(PropertyCheckResult.CheckStatus.FAILED);
+			assertThat(result.countTries()).isEqualTo(5);
+		}
+
+		@Example
+		void throughputAndEdgeCasesCoverageAreReported() {
+			CheckedFunction forAllFunction = args -> true;
+
+			Arbitrary<Object> arbitrary = Arbitraries.integers().asGeneric();
+			ParametersGenerator shrinkablesGenerator = randomizedShrinkablesGenerator(arbitrary);
+
+			PropertyConfiguration configuration = aConfig().withDurationSeconds(1).build();
+			GenericProperty property =
+				new GenericProperty("timed property", configuration, shrinkablesGenerator, forAllFunction, tryLifecycleContextSupplier);
+			Reporter reporter = mock(Reporter.class);
+			PropertyCheckResult result = property.check(reporter, new Reporting[0]);
+
+			verify(reporter).publishReports(eq("time budget"), argThat(reports -> {
+				assertThat(reports).containsOnlyKeys("duration", "tries", "tries per second", "edge cases");
+				assertThat(reports.get("tries")).isEqualTo(result.countTries());
+				assertThat(reports.get("edge cases")).isEqualTo("none");
+				return true;
+			}));
+		}
+
+		@Example
+		void nothingIsReportedWithoutTimeBudget() {
+			CheckedFunction forAllFunction = args -> true;
+
+			Arbitrary<Object> arbitrary = Arbitraries.integers().asGeneric();
+			ParametersGenerator shrinkablesGenerator = randomizedShrinkablesGenerator(arbitrary);
+
+			PropertyConfiguration configuration = aConfig().withTries(10).build();
+			GenericProperty property =
+				new GenericProperty("untimed property", configuration, shrinkablesGenerator, forAllFunction, tryLifecycleContextSupplier);
+			Reporter reporter = mock(Reporter.class);
+			PropertyCheckResult result = property.check(reporter, new Reporting[0]);
+
+			assertThat(result.countTries()).isEqualTo(10);
+			verify(reporter, never()).publishReports(eq("time budget"), any());
+		}
+	}
+
+	@Group
+	class ExecutionMetricsOfProperty {
+
+		@Example
+		void generationAndCheckTimesAreMeasured() {
+			CheckedFunction forAllFunction = args -> {
+				LockSupport.parkNanos(100_000);
+				return true;
+			};
+
+			Arbitrary<Object> arbitrary = Arbitraries.integers().asGeneric();
+			ParametersGenerator shrinkablesGenerator = randomizedShrinkablesGenerator(arbitrary);
+
+			PropertyConfiguration configuration = aConfig().withTries(50).build();
+			GenericProperty property =
+				new GenericProperty("measured property", configuration, shrinkablesGenerator, forAllFunction, tryLifecycleContextSupplier);
+			PropertyCheckResult result = property.check(TestHelper.reporter(), new Reporting[0]);
+
+			assertThat(result.executionMetrics()).hasValueSatisfying(metrics -> {
+				assertThat(metrics.generationTime()).isPositive();
+				assertThat(metrics.checkTime()).isGreaterThanOrEqualTo(Duration.ofNanos(50 * 100_000));
+				assertThat(metrics.shrinkingTime()).isZero();
+				assertThat(metrics.countShrinkingCandidates()).isZero();
+				assertThat(metrics.countShrinkingCacheHits()).isZero();
+			});
+		}
+
+		@Example
+		void checkTimesOfParallelTriesAddUp() {
+			CheckedFunction forAllFunction = args -> {
+				LockSupport.parkNanos(1_000_000);
+				return true;
+			};
+
+			Arbitrary<Object> arbitrary = Arbitraries.integers().asGeneric();
+			ParametersGenerator shrinkablesGenerator = randomizedShrinkablesGenerator(arbitrary);
+
+			PropertyConfiguration configuration = aConfig().withTries(40).withParallelism(4).build();
+			GenericProperty property =
+				new GenericProperty("measured property", configuration, shrinkablesGenerator, forAllFunction, tryLifecycleContextSupplier);
+			PropertyCheckResult result = property.check(TestHelper.reporter(), new Reporting[0]);
+
+			PropertyExecutionMetrics metrics = result.executionMetrics().get();
+			assertThat(metrics.checkTime()).isGreaterThanOrEqualTo(Duration.ofMillis(40));
+		}
+
+		@Example
+		void shrinkingIsMeasuredSeparately() {
+			CheckedFunction forAllFunction = args -> ((int) args.get(0)) < 50;
+
+			Arbitrary<Object> arbitrary = Arbitraries.integers().between(0, 100).asGeneric();
+			ParametersGenerator shrinkablesGenerator = randomizedShrinkablesGenerator(arbitrary);
+
+			PropertyConfiguration configuration = aConfig().withTries(1000).build();
+			GenericProperty property =
+				new GenericProperty("measured property", configuration, shrinkablesGenerator, forAllFunction, tryLifecycleContextSupplier);
+			PropertyCheckResult result = property.check(TestHelper.reporter(), new Reporting[0]);
+
+			assertThat(result.checkStatus()).isEqualTo(PropertyCheckResult.CheckStatus.FAILED);
+			PropertyExecutionMetrics metrics = result.executionMetrics().get();
+			assertThat(metrics.shrinkingTime()).isPositive();
+			assertThat(metrics.countShrinkingCandidates()).isGreaterThan(0);
+			assertThat(metrics.countShrinkingCacheMisses()).isGreaterThan(0);
+
+			PropertyExecutionResult mappedResult = result.mapToSuccessful();
+			assertThat(mappedResult.executionMetrics()).containsSame(metrics);
+		}
+
+		@Example
+		void memoizedGeneratorLookupsAreCounted() {
+			Arbitrary<Integer> memoized = Arbitraries.integers().between(-4711, 4242);
+			CheckedFunction forAllFunction = args -> {
+				memoized.generator(1000, true);
+				return true;
+			};
+
+			Arbitrary<Object> arbitrary = Arbitraries.integers().asGeneric();
+			ParametersGenerator shrinkablesGenerator = randomizedShrinkablesGenerator(arbitrary);
+
+			PropertyConfiguration configuration = aConfig().withTries(10).build();
+			GenericProperty property =
+				new GenericProperty("measured property", configuration, shrinkablesGenerator, forAllFunction, tryLifecycleContextSupplier);
+			PropertyCheckResult result = Memoize.countLookups(() -> property.check(TestHelper.reporter(), new Reporting[0]));
+
+			PropertyExecutionMetrics metrics = result.executionMetrics().get();
+			assertThat(metrics.countMemoizedGeneratorHits()).isGreaterThanOrEqualTo(9);
+			assertThat(metrics.memoizedGeneratorHitRate()).isPositive();
+		}
+	}
+
 	private ParametersGenerator randomizedShrinkablesGenerator(Arbitrary<Object>... arbitraries) {
 		Random random = SourceOfRandomness.current();
 		List<Arbitrary<Object>> arbitraryList = Arrays.stream(arbitraries).collect(Collectors.toList());
@@ -548,6 +921,56 @@ class GenericPropertyTests {
 		};
 	}
 
+
+	// Generates the values from {@code from} (inclusive) to {@code to} (exclusive) and can be partitioned into ranges
+	private ParametersGenerator partitionableShrinkablesGenerator(int from, int to, Set<Thread> generatingThreads) {
+		return new ParametersGenerator() {
+
+			private int index = from;
+
+			@Override
+			public boolean hasNext() {
+				return index < to;
+			}
+
+			@Override
+			public List<Shrinkable<Object>> next(TryLifecycleContext context) {
+				generatingThreads.add(Thread.currentThread());
+				return Collections.singletonList(Shrinkable.unshrinkable(index++));
+			}
+
+			@Override
+			public int edgeCasesTotal() {
+				return 0;
+			}
+
+			@Override
+			public int edgeCasesTried() {
+				return 0;
+			}
+
+			@Override
+			public GenerationInfo generationInfo(String randomSeed) {
+				return new GenerationInfo(randomSeed, index);
+			}
+
+			@Override
+			public void reset() {
+				index = from;
+			}
+
+			@Override
+			public List<ParametersGenerator> partition(int numberOfParts) {
+				int partSize = (to - index + numberOfParts - 1) / numberOfParts;
+				List<ParametersGenerator> parts = new ArrayList<>();
+				for (int partFrom = index; partFrom < to; partFrom += partSize) {
+					parts.add(partitionableShrinkablesGenerator(partFrom, Math.min(partFrom + partSize, to), generatingThreads));
+				}
+				return parts;
+			}
+		};
+	}
+
 	private ParametersGenerator emptyShrinkablesGenerator() {
 		return new ParametersGenerator() {
 			@Override
@@ -22,6 +22,8 @@ class PropertyConfigurationBuilder {
 	private AfterFailureMode afterFailureMode = null;
 	private EdgeCasesMode edgeCasesMode = null;
 	private FixedSeedMode fixedSeedMode = null;
+	private Integer parallelism = null;
+	private Integer durationSeconds = null;
 
 	PropertyConfigurationBuilder withSeed(String seed) {
 		this.seed = seed;
@@ -68,6 +70,16 @@ class PropertyConfigurationBuilder {
 		return this;
 	}
 
+	public PropertyConfigurationBuilder withParallelism(int parallelism) {
+		this.parallelism = parallelism;
+		return this;
+	}
+
+	public PropertyConfigurationBuilder withDurationSeconds(int durationSeconds) {
+		this.durationSeconds = durationSeconds;
+		return this;
+	}
+
 	PropertyConfiguration build() {
 		PropertyAttributes propertyAttributes = new DefaultPropertyAttributes(
 			tries,
@@ -78,7 +90,9 @@ class PropertyConfigurationBuilder {
 			edgeCasesMode,
 			null,
 			seed,
-			fixedSeedMode
+			fixedSeedMode,
+			parallelism,
+			durationSeconds
 		);
 
 		return new PropertyConfiguration(
@@ -38,6 +38,21 @@ class RandomizedShrinkablesGeneratorTests {
 		assertThat(values(shrinkablesGenerator.next())).isEqualTo(values3);
 	}
 
+	@Example
+	void skipping(@ForAll Random random) {
+		long seed = random.nextLong();
+		RandomizedShrinkablesGenerator generating = createGenerator(SourceOfRandomness.newRandom(seed), "simpleParameters");
+		RandomizedShrinkablesGenerator skipping = createGenerator(SourceOfRandomness.newRandom(seed), "simpleParameters");
+
+		List<Object> values = null;
+		for (int i = 0; i < 100; i++) {
+			values = values(generating.next());
+		}
+
+		assertThat(skipping.skip(99)).isTrue();
+		assertThat(values(skipping.next())).isEqualTo(values);
+	}
+
 	@Example
 	void severalFittingArbitraries(@ForAll Random random) {
 
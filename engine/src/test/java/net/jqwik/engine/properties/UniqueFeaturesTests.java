@@ -0,0 +1,89 @@
+package net.jqwik.engine.properties;
+
+import java.util.*;
+
+import net.jqwik.api.*;
+
+import static java.util.Arrays.*;
+import static org.assertj.core.api.Assertions.*;
+
+class UniqueFeaturesTests {
+
+	private final FeatureExtractor<String> firstChar = s -> s.charAt(0);
+
+	@Example
+	void addIfUniqueRejectsElementsWithExistingFeature() {
+		UniqueFeatures<String> features = new UniqueFeatures<>(asList(firstChar));
+
+		assertThat(features.addIfUnique("apple")).isTrue();
+		assertThat(features.addIfUnique("banana")).isTrue();
+		assertThat(features.addIfUnique("avocado")).isFalse();
+		assertThat(features.addIfUnique("cherry")).isTrue();
+	}
+
+	@Example
+	void allExtractorsMustBeSatisfied() {
+		FeatureExtractor<String> length = String::length;
+		UniqueFeatures<String> features = UniqueFeatures.of(asList(firstChar, length), asList("a", "bb"));
+
+		assertThat(features.isUnique("ccc")).isTrue();
+		assertThat(features.isUnique("cc")).isFalse();
+		assertThat(features.isUnique("aaa")).isFalse();
+	}
+
+	@Example
+	void identityExtractorComparesValues() {
+		UniqueFeatures<Integer> features = UniqueFeatures.of(asList(FeatureExtractor.identity()), asList(1, 2, 3));
+
+		assertThat(features.isUnique(2)).isFalse();
+		assertThat(features.isUnique(4)).isTrue();
+	}
+
+	@Example
+	void nullPointerExceptionInExtractorCountsAsNullFeature() {
+		FeatureExtractor<String> length = String::length;
+		UniqueFeatures<String> features = new UniqueFeatures<>(asList(length));
+
+		assertThat(features.addIfUnique(null)).isTrue();
+		assertThat(features.addIfUnique(null)).isFalse();
+	}
+
+	@Example
+	void replacingOneElement() {
+		UniqueFeatures<String> features = UniqueFeatures.of(asList(firstChar), asList("apple", "banana", "cherry"));
+
+		assertThat(features.isUniqueReplacement("apple", "avocado")).isTrue();
+		assertThat(features.isUniqueReplacement("apple", "date")).isTrue();
+		assertThat(features.isUniqueReplacement("apple", "blueberry")).isFalse();
+	}
+
+	@Example
+	void replacingTwoElements() {
+		UniqueFeatures<String> features = UniqueFeatures.of(asList(firstChar), asList("apple", "banana", "cherry"));
+
+		assertThat(features.isUniqueReplacement("apple", "banana", "banana", "apple")).isTrue();
+		assertThat(features.isUniqueReplacement("apple", "date", "banana", "elderberry")).isTrue();
+		assertThat(features.isUniqueReplacement("apple", "date", "banana", "durian")).isFalse();
+		assertThat(features.isUniqueReplacement("apple", "avocado", "banana", "cranberry")).isFalse();
+	}
+
+	@Property
+	void sameResultAsCheckingAllValues(@ForAll("uniqueWords") List<String> words, @ForAll("words") String word) {
+		UniqueFeatures<String> features = UniqueFeatures.of(asList(firstChar), words);
+		List<String> withWord = new ArrayList<>(words);
+		withWord.add(word);
+
+		boolean expected = UniquenessChecker.checkUniquenessOfValues(asList(firstChar), withWord);
+		assertThat(features.isUnique(word)).isEqualTo(expected);
+	}
+
+	@Provide
+	Arbitrary<List<String>> uniqueWords() {
+		return words().list().uniqueElements(firstChar::apply);
+	}
+
+	@Provide
+	Arbitrary<String> words() {
+		return Arbitraries.strings().withCharRange('a', 'e').ofMinLength(1).ofMaxLength(3);
+	}
+}
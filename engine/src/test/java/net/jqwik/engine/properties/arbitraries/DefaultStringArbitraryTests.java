@@ -10,6 +10,7 @@ import net.jqwik.api.arbitraries.*;
 import net.jqwik.api.constraints.*;
 import net.jqwik.api.edgeCases.*;
 import net.jqwik.api.statistics.*;
+import net.jqwik.engine.properties.shrinking.*;
 import net.jqwik.testing.*;
 
 import static org.assertj.core.api.Assertions.*;
@@ -52,6 +53,13 @@ class DefaultStringArbitraryTests implements GenericEdgeCasesProperties, Generic
 		});
 	}
 
+	@Example
+	void charsFromSingleRangeAreGeneratedAsCompactString(@ForAll Random random) {
+		assertThat(arbitrary.generator(1000).next(random)).isInstanceOf(CompactShrinkableString.class);
+		assertThat(arbitrary.withCharRange('a', 'z').generator(1000).next(random)).isInstanceOf(CompactShrinkableString.class);
+		assertThat(arbitrary.alpha().ofMinLength(1).generator(1000).next(random)).isNotInstanceOf(CompactShrinkableString.class);
+	}
+
 	@Example
 	void allAlsoAllowsNoncharactersAndPrivateUseCharacters(@ForAll Random random) {
 		StringArbitrary stringArbitrary = this.arbitrary.all();
@@ -0,0 +1,121 @@
+package net.jqwik.engine.properties.arbitraries;
+
+import java.math.*;
+import java.util.*;
+import java.util.stream.*;
+
+import net.jqwik.api.*;
+import net.jqwik.api.constraints.*;
+import net.jqwik.engine.properties.*;
+
+import static java.math.BigInteger.*;
+import static org.assertj.core.api.Assertions.*;
+
+class IntegralValueIndexTests {
+
+	@Example
+	void withoutConstraintsIndexIsValue() {
+		IntegralValueIndex index = index(-10, 10, 1, 0);
+
+		assertThat(index.minIndex()).isEqualTo(-10);
+		assertThat(index.maxIndex()).isEqualTo(10);
+		assertThat(index.count()).isEqualTo(21);
+		assertThat(index.valueAt(7)).isEqualTo(7);
+		assertThat(index.indexOf(-3)).isEqualTo(-3);
+	}
+
+	@Example
+	void multiplesOfDivisor() {
+		IntegralValueIndex index = index(-10, 10, 3, 0);
+
+		assertThat(values(index)).containsExactly(-9L, -6L, -3L, 0L, 3L, 6L, 9L);
+		assertThat(index.count()).isEqualTo(7);
+		assertThat(index.valueAt(index.indexOf(4))).isEqualTo(6);
+		assertThat(index.valueAt(index.indexOf(-5))).isEqualTo(-3);
+	}
+
+	@Example
+	void negativeValuesWithRemainder() {
+		IntegralValueIndex index = index(-10, 10, 4, 3);
+
+		assertThat(values(index)).containsExactly(-9L, -5L, -1L, 3L, 7L);
+		assertThat(index.isAllowed(-5)).isTrue();
+		assertThat(index.isAllowed(-4)).isFalse();
+	}
+
+	@Example
+	void excludedValuesAreSkipped() {
+		IntegralValueIndex index = index(0, 10, 2, 0, Range.of(valueOf(3), valueOf(6)), Range.of(valueOf(10), valueOf(10)));
+
+		assertThat(values(index)).containsExactly(0L, 2L, 8L);
+		assertThat(index.valueAt(index.indexOf(3))).isEqualTo(8);
+		assertThat(index.valueAt(index.indexOf(9))).isEqualTo(8);
+		assertThat(index.isAllowed(4)).isFalse();
+	}
+
+	@Example
+	void negatedValuesAreLookedUpByValue() {
+		IntegralValueIndex index = index(-10, 10, 2, 0, Range.of(valueOf(4), valueOf(4)));
+
+		OptionalLong negated = index.indexOfNegatedValue(index.indexOf(-6));
+		assertThat(negated).isPresent();
+		assertThat(index.valueAt(negated.getAsLong())).isEqualTo(6);
+		assertThat(index.indexOfNegatedValue(index.indexOf(-4))).isEmpty();
+		assertThat(index.indexOfNegatedValue(index.indexOf(6))).isEmpty();
+	}
+
+	@Example
+	void everythingExcludedIsEmpty() {
+		IntegralValueIndex index = index(1, 5, 1, 0, Range.of(valueOf(0), valueOf(3)), Range.of(valueOf(4), valueOf(7)));
+		assertThat(index.isEmpty()).isTrue();
+		assertThat(index.iterator().hasNext()).isFalse();
+	}
+
+	@Example
+	void fullLongRangeDoesNotOverflow() {
+		IntegralValueIndex index = IntegralValueIndex.of(
+			valueOf(Long.MIN_VALUE), valueOf(Long.MAX_VALUE), ONE, ZERO, Collections.emptyList()
+		);
+
+		assertThat(index.count()).isEqualTo(Long.MAX_VALUE);
+		assertThat(index.valueAt(index.maxIndex())).isEqualTo(Long.MAX_VALUE);
+		assertThat(index.indexOf(Long.MIN_VALUE)).isEqualTo(Long.MIN_VALUE);
+	}
+
+	@Property(tries = 100)
+	void indexEnumeratesAllowedValuesInOrder(
+		@ForAll @IntRange(min = -50, max = 50) int min,
+		@ForAll @IntRange(min = 0, max = 100) int width,
+		@ForAll @IntRange(min = 1, max = 7) int divisor,
+		@ForAll @Size(max = 5) Set<@IntRange(min = -60, max = 160) Integer> excluded
+	) {
+		int max = min + width;
+		int remainder = Math.floorMod(min, divisor);
+		List<Range<BigInteger>> excludedRanges =
+			excluded.stream().map(value -> Range.of(valueOf(value), valueOf(value))).collect(Collectors.toList());
+		IntegralValueIndex index = IntegralValueIndex.of(valueOf(min), valueOf(max), valueOf(divisor), valueOf(remainder), excludedRanges);
+
+		List<Long> expected =
+			LongStream.rangeClosed(min, max)
+					  .filter(value -> Math.floorMod(value, divisor) == remainder)
+					  .filter(value -> !excluded.contains((int) value))
+					  .boxed()
+					  .collect(Collectors.toList());
+
+		assertThat(values(index)).isEqualTo(expected);
+		for (long value = min; value <= max; value++) {
+			assertThat(index.isAllowed(value)).isEqualTo(expected.contains(value));
+		}
+	}
+
+	private static List<Long> values(IntegralValueIndex index) {
+		List<Long> values = new ArrayList<>();
+		index.iterator().forEachRemaining(values::add);
+		return values;
+	}
+
+	@SafeVarargs
+	private static IntegralValueIndex index(long min, long max, long divisor, long remainder, Range<BigInteger>... excluded) {
+		return IntegralValueIndex.of(valueOf(min), valueOf(max), valueOf(divisor), valueOf(remainder), Arrays.asList(excluded));
+	}
+}
@@ -51,6 +51,33 @@ public class RandomDistributionProperties {
 		Assertions.assertThat(value1).isEqualTo(value2);
 	}
 
+	@Property(tries = 100, edgeCases = EdgeCasesMode.NONE)
+	void longGenerationUsesRandomLikeBigIntegerGeneration(
+		@ForAll @IntRange(min = 1, max = 10000) int genSize,
+		@ForAll("distributionConfigValues") Tuple3<BigInteger, BigInteger, BigInteger> minMaxCenter,
+		@ForAll long randomSeed
+	) {
+		BigInteger min = minMaxCenter.get1();
+		BigInteger max = minMaxCenter.get2();
+		BigInteger center = minMaxCenter.get3();
+
+		LongNumericGenerator longUniform = new LongUniformNumericGenerator(min, max);
+		RandomNumericGenerator bigUniform = new BigUniformNumericGenerator(min, max);
+		assertSameValues(longUniform, bigUniform, randomSeed);
+
+		LongNumericGenerator biased = new BiasedNumericGenerator(genSize, min, max, center);
+		assertSameValues(biased, biased, randomSeed);
+	}
+
+	private void assertSameValues(LongNumericGenerator longGenerator, RandomNumericGenerator bigIntegerGenerator, long randomSeed) {
+		Random longRandom = new Random(randomSeed);
+		Random bigIntegerRandom = new Random(randomSeed);
+		for (int i = 0; i < 10; i++) {
+			long value = longGenerator.nextLong(longRandom);
+			Assertions.assertThat(BigInteger.valueOf(value)).isEqualTo(bigIntegerGenerator.next(bigIntegerRandom));
+		}
+	}
+
 	@Provide
 	Arbitrary<RandomDistribution> distributions() {
 		return Arbitraries.oneOf(
@@ -6,7 +6,9 @@ import java.util.*;
 import org.assertj.core.api.*;
 
 import net.jqwik.api.*;
+import net.jqwik.api.constraints.*;
 import net.jqwik.engine.properties.*;
+import net.jqwik.engine.properties.shrinking.*;
 
 import static java.math.BigInteger.*;
 import static org.assertj.core.api.Assertions.*;
@@ -31,6 +33,51 @@ class RandomGeneratorsTests {
 				  .isInstanceOf(JqwikException.class);
 	}
 
+	@Group
+	class StringGeneration {
+
+		private final CharacterRanges ranges = CharacterRanges.of('a', 'z', Arrays.asList(Range.of('c', 'e'), Range.of('x', 'x')));
+
+		@Property(tries = 50)
+		void sameStringsAsWithCharacterGenerator(@ForAll long seed, @ForAll boolean uniqueChars) {
+			RandomGenerator<Character> characterGenerator = RandomIntegralGenerators.integrals(
+				1000, ranges.minIndex(), ranges.maxIndex(), ranges.minIndex(), RandomDistribution.uniform(), ranges
+			);
+			RandomGenerator<String> generator = RandomGenerators.strings(
+				ranges, 0, 30, ranges.count(), 100, RandomDistribution.biased(), null, uniqueChars
+			);
+			RandomGenerator<String> characterWise = RandomGenerators.strings(
+				characterGenerator, 0, 30, ranges.count(), 100, RandomDistribution.biased(), null, uniqueChars
+			);
+
+			Random random = new Random(seed);
+			Random characterWiseRandom = new Random(seed);
+			for (int i = 0; i < 10; i++) {
+				Shrinkable<String> shrinkable = generator.next(random);
+				assertThat(shrinkable).isInstanceOf(CompactShrinkableString.class);
+				assertThat(shrinkable.value()).isEqualTo(characterWise.next(characterWiseRandom).value());
+			}
+		}
+
+		@Example
+		void excludedCharsAreNotGenerated(@ForAll Random random) {
+			RandomGenerator<String> generator = RandomGenerators.strings(
+				ranges, 1, 10, ranges.count(), 100, RandomDistribution.uniform(), null, false
+			);
+			checkAllGenerated(generator, random, aString -> aString.chars().noneMatch(aChar -> "cdex".indexOf(aChar) >= 0));
+		}
+
+		@Example
+		void uniqueCharsFailWithTooFewChars(@ForAll Random random) {
+			RandomGenerator<String> generator = RandomGenerators.strings(
+				ranges, 23, 23, ranges.count(), 100, RandomDistribution.uniform(), null, true
+			);
+
+			Assertions.assertThatThrownBy(() -> generator.next(random))
+					  .isInstanceOf(JqwikException.class);
+		}
+	}
+
 	@Group
 	class IntegralGeneration {
 
@@ -359,6 +406,51 @@ class RandomGeneratorsTests {
 		}
 	}
 
+	@Group
+	class FloatingPointGeneration {
+
+		@Property
+		void scaledDoubleIsSameAsBigDecimalValue(@ForAll long unscaled, @ForAll @IntRange(max = 30) int scale) {
+			double expected = new BigDecimal(valueOf(unscaled), scale).doubleValue();
+			assertThat(RandomDecimalGenerators.scaledDouble(unscaled, scale)).isEqualTo(expected);
+		}
+
+		@Property
+		void scaledFloatIsSameAsBigDecimalValue(@ForAll long unscaled, @ForAll @IntRange(max = 15) int scale) {
+			float expected = new BigDecimal(valueOf(unscaled), scale).floatValue();
+			assertThat(RandomDecimalGenerators.scaledFloat(unscaled, scale)).isEqualTo(expected);
+		}
+
+		@Property(tries = 20)
+		void generateSameValuesAsBigDecimalGeneration(
+			@ForAll("distributions") RandomDistribution distribution,
+			@ForAll @IntRange(max = 5) int scale,
+			@ForAll long seed
+		) {
+			Range<BigDecimal> range = Range.of(new BigDecimal("-1000.5"), false, new BigDecimal("100000"), true);
+			BigDecimal shrinkingTarget = RandomDecimalGenerators.defaultShrinkingTarget(range, scale);
+			RandomGenerator<Double> generator = RandomDecimalGenerators.floatingPoints(
+				1000, range, scale, distribution, shrinkingTarget,
+				BigDecimal::doubleValue,
+				unscaled -> RandomDecimalGenerators.scaledDouble(unscaled, scale)
+			);
+			RandomGenerator<BigDecimal> bigDecimalGenerator =
+				RandomDecimalGenerators.bigDecimals(1000, range, scale, distribution, shrinkingTarget);
+
+			Random random = new Random(seed);
+			Random bigDecimalRandom = new Random(seed);
+			for (int i = 0; i < 10; i++) {
+				double expected = bigDecimalGenerator.next(bigDecimalRandom).value().doubleValue();
+				assertThat(generator.next(random).value()).isEqualTo(expected);
+			}
+		}
+
+		@Provide
+		Arbitrary<RandomDistribution> distributions() {
+			return Arbitraries.of(RandomDistribution.uniform(), RandomDistribution.biased(), RandomDistribution.gaussian());
+		}
+	}
+
 	private void assertAllPartitionsAreCovered(
 		RandomGenerator<BigInteger> generator,
 		Random random,
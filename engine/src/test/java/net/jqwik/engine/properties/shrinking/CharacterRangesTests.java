@@ -0,0 +1,90 @@
+package net.jqwik.engine.properties.shrinking;
+
+import java.util.*;
+import java.util.stream.*;
+
+import net.jqwik.api.*;
+import net.jqwik.api.constraints.*;
+import net.jqwik.engine.properties.*;
+
+import static org.assertj.core.api.Assertions.*;
+
+class CharacterRangesTests {
+
+	@Example
+	void withoutExclusionsIndexIsCharCode() {
+		CharacterRanges ranges = CharacterRanges.of('a', 'z');
+
+		assertThat(ranges.minIndex()).isEqualTo('a');
+		assertThat(ranges.maxIndex()).isEqualTo('z');
+		assertThat(ranges.count()).isEqualTo(26);
+		assertThat(ranges.charAt('k')).isEqualTo('k');
+		assertThat(ranges.indexOf('k')).isEqualTo('k');
+	}
+
+	@Example
+	void excludedCharsAreSkipped() {
+		CharacterRanges ranges = CharacterRanges.of('a', 'z', Arrays.asList(Range.of('c', 'e'), Range.of('x', 'x')));
+
+		assertThat(ranges.minIndex()).isEqualTo('a');
+		assertThat(ranges.count()).isEqualTo(22);
+		assertThat(ranges.charAt('a' + 2)).isEqualTo('f');
+		assertThat(ranges.indexOf('f')).isEqualTo('a' + 2);
+		assertThat(ranges.charAt(ranges.indexOf('d'))).isEqualTo('f');
+		assertThat(ranges.charAt(ranges.maxIndex())).isEqualTo('z');
+		assertThat(ranges).hasToString("CharacterRanges[0061..0062, 0066..0077, 0079..007a]");
+	}
+
+	@Example
+	void excludedMinimum() {
+		CharacterRanges ranges = CharacterRanges.of('a', 'z', Collections.singletonList(Range.of('A', 'b')));
+
+		assertThat(ranges.minIndex()).isEqualTo('a');
+		assertThat(ranges.charAt(ranges.minIndex())).isEqualTo('c');
+		assertThat(ranges.indexOf('a')).isEqualTo(ranges.minIndex());
+	}
+
+	@Example
+	void excludedMaximumAtEndOfCharRange() {
+		CharacterRanges ranges = CharacterRanges.of(
+			Character.MIN_VALUE, Character.MAX_VALUE,
+			Collections.singletonList(Range.of('\ufffe', Character.MAX_VALUE))
+		);
+
+		assertThat(ranges.count()).isEqualTo(0xfffe);
+		assertThat(ranges.charAt(ranges.maxIndex())).isEqualTo('\ufffd');
+		assertThat(ranges.indexOf(Character.MAX_VALUE)).isEqualTo(ranges.maxIndex());
+	}
+
+	@Example
+	void everythingExcludedIsEmpty() {
+		CharacterRanges ranges = CharacterRanges.of('a', 'c', Arrays.asList(Range.of('a', 'a'), Range.of('b', 'd')));
+		assertThat(ranges.isEmpty()).isTrue();
+		assertThat(ranges.count()).isEqualTo(0);
+	}
+
+	@Property(tries = 100)
+	void indexEnumeratesAllowedCharsInOrder(
+		@ForAll @CharRange(from = 'a', to = 'z') char min,
+		@ForAll @IntRange(min = 0, max = 50) int width,
+		@ForAll @Size(max = 5) Set<@CharRange(from = 'A', to = '~') Character> excluded
+	) {
+		char max = (char) (min + width);
+		List<Range<Character>> excludedRanges =
+			excluded.stream().map(aChar -> Range.of(aChar, aChar)).collect(Collectors.toList());
+		CharacterRanges ranges = CharacterRanges.of(min, max, excludedRanges);
+
+		List<Character> expected =
+			IntStream.rangeClosed(min, max)
+					 .mapToObj(code -> (char) code)
+					 .filter(aChar -> !excluded.contains(aChar))
+					 .collect(Collectors.toList());
+
+		List<Character> chars = new ArrayList<>();
+		for (int index = ranges.minIndex(); index <= ranges.maxIndex(); index++) {
+			chars.add(ranges.charAt(index));
+			assertThat(ranges.indexOf(ranges.charAt(index))).isEqualTo(index);
+		}
+		assertThat(chars).isEqualTo(expected);
+	}
+}
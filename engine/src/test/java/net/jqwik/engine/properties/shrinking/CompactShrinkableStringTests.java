@@ -0,0 +1,173 @@
+package net.jqwik.engine.properties.shrinking;
+
+import java.util.*;
+import java.util.stream.*;
+
+import net.jqwik.api.*;
+import net.jqwik.api.constraints.*;
+import net.jqwik.engine.properties.*;
+import net.jqwik.engine.properties.shrinking.ShrinkableTypesForTest.*;
+
+import static org.assertj.core.api.Assertions.*;
+
+import static net.jqwik.testing.ShrinkingSupport.*;
+import static net.jqwik.testing.TestingFalsifier.*;
+
+@Group
+@Label("CompactShrinkableString")
+class CompactShrinkableStringTests {
+
+	private static final CharacterRanges RANGES_WITH_EXCLUSIONS =
+		CharacterRanges.of('a', 'z', Arrays.asList(Range.of('c', 'e'), Range.of('x', 'x')));
+
+	@Example
+	void creation() {
+		Shrinkable<String> shrinkable = createCompactString("abcd", 0, false);
+		assertThat(shrinkable).isInstanceOf(CompactShrinkableString.class);
+		assertThat(shrinkable.distance()).isEqualTo(ShrinkingDistance.of(4, 6));
+		assertThat(shrinkable.value()).isEqualTo("abcd");
+	}
+
+	@Example
+	void charsThatDoNotComeFromRangesUseShrinkableString() {
+		List<Shrinkable<Character>> elements = "abc".chars()
+													.mapToObj(aChar -> new OneStepShrinkable(aChar, 'a', 'z'))
+													.map(shrinkable -> shrinkable.map(anInt -> (char) (int) anInt))
+													.collect(Collectors.toList());
+
+		Shrinkable<String> shrinkable = CompactShrinkableString.of(elements, 0, 3, null, false);
+		assertThat(shrinkable).isInstanceOf(ShrinkableString.class);
+	}
+
+	@Property(tries = 200)
+	void sameCandidatesAsShrinkableString(
+		@ForAll @StringLength(max = 12) @CharRange(from = 'a', to = 'f') @NumericChars String aString,
+		@ForAll @IntRange(max = 12) int minSize,
+		@ForAll boolean uniqueChars
+	) {
+		Assume.that(minSize <= aString.length());
+		Assume.that(!uniqueChars || aString.chars().distinct().count() == aString.length());
+
+		Shrinkable<String> compact = createCompactString(aString, minSize, uniqueChars);
+		Shrinkable<String> shrinkableString = createShrinkableString(aString, minSize, uniqueChars);
+
+		assertThat(compact.distance()).isEqualTo(shrinkableString.distance());
+		assertThat(values(compact.shrink())).isEqualTo(values(shrinkableString.shrink()));
+		assertThat(values(compact.grow())).isEqualTo(values(shrinkableString.grow()));
+	}
+
+	@Property(tries = 20)
+	void sameCandidatesAsShrinkableStringForLongStrings(
+		@ForAll @StringLength(min = 101, max = 500) @CharRange(from = 'a', to = 'z') String aString,
+		@ForAll @IntRange(max = 100) int minSize
+	) {
+		Shrinkable<String> compact = createCompactString(aString, minSize, false);
+		Shrinkable<String> shrinkableString = createShrinkableString(aString, minSize, false);
+
+		assertThat(values(compact.shrink().limit(1000)))
+			.isEqualTo(values(shrinkableString.shrink().limit(1000)));
+	}
+
+	@Property(tries = 100)
+	void sameCandidatesAsShrinkableStringForExcludedChars(
+		@ForAll @StringLength(max = 10) @CharRange(from = 'a', to = 'z') String aString,
+		@ForAll @IntRange(max = 10) int minSize,
+		@ForAll boolean uniqueChars
+	) {
+		String allowed = aString.replaceAll("[c-ex]", "");
+		Assume.that(minSize <= allowed.length());
+		Assume.that(!uniqueChars || allowed.chars().distinct().count() == allowed.length());
+
+		Shrinkable<String> compact = CompactShrinkableString.of(allowed.toCharArray(), RANGES_WITH_EXCLUSIONS, minSize, allowed.length(), null, uniqueChars);
+		Shrinkable<String> fromShrinkables = CompactShrinkableString.of(rangeShrinkables(allowed), minSize, allowed.length(), null, uniqueChars);
+		Shrinkable<String> shrinkableString = new ShrinkableString(rangeShrinkables(allowed), minSize, allowed.length(), null, uniqueChars);
+
+		assertThat(fromShrinkables).isInstanceOf(CompactShrinkableString.class);
+		assertThat(compact.distance()).isEqualTo(shrinkableString.distance());
+		assertThat(values(compact.shrink())).isEqualTo(values(shrinkableString.shrink()));
+		assertThat(values(fromShrinkables.shrink())).isEqualTo(values(shrinkableString.shrink()));
+		assertThat(values(compact.grow())).isEqualTo(values(shrinkableString.grow()));
+	}
+
+	@Example
+	void growByCharsRemovedInOtherString() {
+		Shrinkable<String> before = createCompactString("abcd", 0, false);
+		Shrinkable<String> after = createCompactString("bd", 0, false);
+		Shrinkable<String> toGrow = CompactShrinkableString.of(charShrinkables("x"), 0, 10, null, false);
+
+		Optional<Shrinkable<String>> grown = toGrow.grow(before, after);
+		assertThat(grown).map(Shrinkable::value).hasValue("cax");
+
+		Shrinkable<String> stringToGrow = new ShrinkableString(charShrinkables("x"), 0, 10, null, false);
+		Optional<Shrinkable<String>> expected = stringToGrow.grow(
+			createShrinkableString("abcd", 0, false),
+			createShrinkableString("bd", 0, false)
+		);
+		assertThat(expected).map(Shrinkable::value).hasValue("cax");
+	}
+
+	@Group
+	class Shrinking {
+
+		@Property(tries = 10)
+		void longStrings(@ForAll @CharRange(from = 'a', to = 'z') @StringLength(min = 1000, max = 10000) String any) {
+			Shrinkable<String> shrinkable = createCompactString(any, 1, false);
+			String shrunkValue = shrink(shrinkable, alwaysFalsify(), null);
+			assertThat(shrunkValue).isEqualTo("a");
+		}
+
+		@Example
+		void shrinkEachCharTowardsTheMinimumOfItsRange() {
+			Shrinkable<String> shrinkable = createCompactString("z9", 2, false);
+			String shrunkValue = shrink(shrinkable, alwaysFalsify(), null);
+			assertThat(shrunkValue).isEqualTo("a0");
+		}
+
+		@Example
+		void excludedCharsAreSkipped() {
+			Shrinkable<String> shrinkable = CompactShrinkableString.of("zyf".toCharArray(), RANGES_WITH_EXCLUSIONS, 3, 3, null, true);
+			String shrunkValue = shrink(shrinkable, alwaysFalsify(), null);
+			assertThat(shrunkValue).isEqualTo("abf");
+		}
+
+		@Example
+		void withUniqueChars() {
+			Shrinkable<String> shrinkable = createCompactString("xyz", 3, true);
+			String shrunkValue = shrink(shrinkable, alwaysFalsify(), null);
+			assertThat(shrunkValue).isEqualTo("abc");
+		}
+	}
+
+	private static List<Shrinkable<Character>> rangeShrinkables(String aString) {
+		int minIndex = RANGES_WITH_EXCLUSIONS.minIndex();
+		int maxIndex = RANGES_WITH_EXCLUSIONS.maxIndex();
+		return aString.chars()
+					  .mapToObj(aChar -> new ShrinkableIntegral<>(
+						  RANGES_WITH_EXCLUSIONS.indexOf((char) aChar), minIndex, maxIndex, minIndex, RANGES_WITH_EXCLUSIONS
+					  ))
+					  .collect(Collectors.toList());
+	}
+
+	private static List<String> values(Stream<Shrinkable<String>> shrinkables) {
+		return shrinkables.map(Shrinkable::value).collect(Collectors.toList());
+	}
+
+	private static Shrinkable<String> createCompactString(String aString, int minSize, boolean uniqueChars) {
+		return CompactShrinkableString.of(charShrinkables(aString), minSize, aString.length(), null, uniqueChars);
+	}
+
+	private static Shrinkable<String> createShrinkableString(String aString, int minSize, boolean uniqueChars) {
+		return new ShrinkableString(charShrinkables(aString), minSize, aString.length(), null, uniqueChars);
+	}
+
+	// Letters and digits come from different ranges
+	private static List<Shrinkable<Character>> charShrinkables(String aString) {
+		return aString.chars()
+					  .mapToObj(aChar -> {
+						  char min = Character.isDigit(aChar) ? '0' : 'a';
+						  char max = Character.isDigit(aChar) ? '9' : 'z';
+						  return new ShrinkableIntegral<>(aChar, min, max, min, ShrinkableIntegral.TO_CHARACTER);
+					  })
+					  .collect(Collectors.toList());
+	}
+}
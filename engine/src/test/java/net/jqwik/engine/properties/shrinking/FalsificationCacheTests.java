@@ -0,0 +1,63 @@
+package net.jqwik.engine.properties.shrinking;
+
+import java.util.*;
+import java.util.concurrent.atomic.*;
+
+import net.jqwik.api.*;
+import net.jqwik.api.lifecycle.*;
+
+import static java.util.Arrays.*;
+import static org.assertj.core.api.Assertions.*;
+
+class FalsificationCacheTests {
+
+	private final AtomicInteger executions = new AtomicInteger(0);
+
+	private final Falsifier<List<Object>> falsifier = params -> {
+		executions.incrementAndGet();
+		int value = (int) params.get(0);
+		return value > 10 ? TryExecutionResult.falsified(null) : TryExecutionResult.satisfied();
+	};
+
+	@Example
+	void repeatedSamplesAreOnlyFalsifiedOnce() {
+		FalsificationCache cache = new FalsificationCache(10);
+
+		assertThat(cache.falsify(falsifier, asList(11)).isFalsified()).isTrue();
+		assertThat(cache.falsify(falsifier, asList(5)).isSatisfied()).isTrue();
+		assertThat(cache.falsify(falsifier, asList(11)).isFalsified()).isTrue();
+
+		assertThat(executions.get()).isEqualTo(2);
+		assertThat(cache.hits()).isEqualTo(1);
+		assertThat(cache.misses()).isEqualTo(2);
+	}
+
+	@Example
+	void leastRecentlyUsedEntryIsEvicted() {
+		FalsificationCache cache = new FalsificationCache(2);
+
+		cache.falsify(falsifier, asList(1));
+		cache.falsify(falsifier, asList(2));
+		cache.falsify(falsifier, asList(1));
+		cache.falsify(falsifier, asList(3));
+		assertThat(cache.size()).isEqualTo(2);
+
+		cache.falsify(falsifier, asList(1));
+		assertThat(executions.get()).isEqualTo(3);
+
+		cache.falsify(falsifier, asList(2));
+		assertThat(executions.get()).isEqualTo(4);
+	}
+
+	@Example
+	void zeroMaxEntriesDisablesCaching() {
+		FalsificationCache cache = new FalsificationCache(0);
+
+		cache.falsify(falsifier, asList(11));
+		cache.falsify(falsifier, asList(11));
+
+		assertThat(executions.get()).isEqualTo(2);
+		assertThat(cache.hits()).isEqualTo(0);
+		assertThat(cache.size()).isEqualTo(0);
+	}
+}
@@ -3,6 +3,8 @@ package net.jqwik.engine.properties.shrinking;
 import java.math.*;
 import java.util.ArrayList;
 import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
 import java.util.function.*;
 import java.util.stream.*;
 
@@ -11,6 +13,8 @@ import org.mockito.*;
 import net.jqwik.api.*;
 import net.jqwik.api.constraints.*;
 import net.jqwik.api.lifecycle.*;
+import net.jqwik.engine.*;
+import net.jqwik.engine.execution.lifecycle.*;
 import net.jqwik.engine.properties.*;
 import net.jqwik.engine.properties.shrinking.ShrinkableTypesForTest.*;
 import net.jqwik.testing.*;
@@ -114,6 +118,24 @@ class PropertyShrinkerTests {
 			assertThat(shrinker.shrinkingSequence()).containsOnly(TryExecutionResult.Status.FALSIFIED);
 		}
 
+		@Example
+		void allRunCandidatesAreCounted() {
+			List<Shrinkable<Object>> shrinkables = listOfOneStepShrinkables(10);
+
+			PropertyShrinker shrinker = createShrinker(toFalsifiedSample(shrinkables, null), ShrinkingMode.FULL);
+
+			AtomicInteger countRuns = new AtomicInteger(0);
+			Falsifier<List<Object>> falsifier = paramFalsifier((Integer i) -> {
+				countRuns.incrementAndGet();
+				return i <= 1;
+			});
+			shrinker.shrink(falsifier);
+
+			assertThat(shrinker.countEvaluatedCandidates()).isEqualTo(countRuns.get());
+			// Candidates after the last falsified one are not part of the shrinking sequence
+			assertThat(shrinker.countEvaluatedCandidates()).isGreaterThan(shrinker.shrinkingSequence().size());
+		}
+
 		@Example
 		void inOneStep() {
 			List<Shrinkable<Object>> shrinkables = listOfFullShrinkables(10);
@@ -484,6 +506,101 @@ class PropertyShrinkerTests {
 		return list.size() < size;
 	}
 
+	@Group
+	class ConcurrentEvaluation {
+
+		@Property(tries = 50)
+		void sameResultAndShrinkingSequenceAsSequentialShrinking(
+			@ForAll @IntRange(min = 0, max = 50) int value1,
+			@ForAll @IntRange(min = 0, max = 50) int value2,
+			@ForAll @IntRange(min = 2, max = 8) int parallelism
+		) {
+			List<Shrinkable<Object>> shrinkables = listOfFullShrinkables(value1, value2);
+			TestingFalsifier<List<Object>> falsifier = params -> {
+				int int1 = (int) params.get(0);
+				int int2 = (int) params.get(1);
+				Assume.that((int1 + int2) % 3 != 0);
+				return int1 + int2 < 20;
+			};
+
+			PropertyShrinker sequentialShrinker = createShrinker(toFalsifiedSample(shrinkables, null), 1);
+			ShrunkFalsifiedSample sequentialSample = sequentialShrinker.shrink(falsifier);
+
+			PropertyShrinker concurrentShrinker = createShrinker(toFalsifiedSample(shrinkables, null), parallelism);
+			ShrunkFalsifiedSample concurrentSample = concurrentShrinker.shrink(falsifier);
+
+			assertThat(concurrentSample.parameters()).isEqualTo(sequentialSample.parameters());
+			assertThat(concurrentSample.countShrinkingSteps()).isEqualTo(sequentialSample.countShrinkingSteps());
+			assertThat(concurrentShrinker.shrinkingSequence()).isEqualTo(sequentialShrinker.shrinkingSequence());
+		}
+
+		@Example
+		void candidatesAreEvaluatedOnSeveralThreads() {
+			Set<Thread> evaluatingThreads = ConcurrentHashMap.newKeySet();
+			List<Shrinkable<Object>> shrinkables = listOfFullShrinkables(100);
+			PropertyShrinker shrinker = createShrinker(toFalsifiedSample(shrinkables, null), 4);
+
+			ShrunkFalsifiedSample sample = shrinker.shrink(paramFalsifier((Integer i) -> {
+				evaluatingThreads.add(Thread.currentThread());
+				return i < 90;
+			}));
+
+			assertThat(sample.parameters()).containsExactly(90);
+			assertThat(evaluatingThreads).hasSizeGreaterThan(1);
+			assertThat(evaluatingThreads).doesNotContain(Thread.currentThread());
+		}
+
+		@Example
+		void neverMoreThanParallelismCandidatesAreRunAtTheSameTime() {
+			AtomicInteger running = new AtomicInteger(0);
+			AtomicInteger maxRunning = new AtomicInteger(0);
+			AtomicInteger countRuns = new AtomicInteger(0);
+			List<Shrinkable<Object>> shrinkables = listOfFullShrinkables(100);
+			PropertyShrinker shrinker = createShrinker(toFalsifiedSample(shrinkables, null), 3);
+
+			shrinker.shrink(paramFalsifier((Integer i) -> {
+				countRuns.incrementAndGet();
+				maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+				try {
+					Thread.sleep(1);
+				} catch (InterruptedException ignore) {
+					// Discarded evaluations are interrupted
+				}
+				running.decrementAndGet();
+				return i < 90;
+			}));
+
+			assertThat(maxRunning.get()).isLessThanOrEqualTo(3);
+			assertThat(shrinker.countEvaluatedCandidates()).isEqualTo(countRuns.get());
+		}
+
+		@Example
+		void currentTestDescriptorIsAvailableInConcurrentEvaluation() {
+			List<Shrinkable<Object>> shrinkables = asList(new ShrinkableTypesForTest.ShrinkableUsingCurrentTestDescriptor(20).asGeneric());
+			PropertyShrinker shrinker = createShrinker(toFalsifiedSample(shrinkables, null), 4);
+
+			ShrunkFalsifiedSample sample = shrinker.shrink(params -> {
+				assertThat(CurrentTestDescriptor.get()).isNotNull();
+				return TryExecutionResult.falsified(null);
+			});
+
+			assertThat((int) sample.parameters().get(0)).isEqualTo(0);
+		}
+
+		private PropertyShrinker createShrinker(FalsifiedSample originalSample, int parallelism) {
+			return new PropertyShrinker(
+				originalSample,
+				ShrinkingMode.FULL,
+				10,
+				falsifiedSampleReporter,
+				null,
+				TestHelper.SHRINKING_CACHE_MAX_ENTRIES,
+				parallelism,
+				false
+			);
+		}
+	}
+
 	private class ShrinkToEmptyList0 extends ShrinkToChecker {
 		@Override
 		public Iterable<?> shrunkValues() {
@@ -513,7 +630,8 @@ class PropertyShrinkerTests {
 			shrinkingMode,
 			boundedShrinkingSeconds,
 			falsifiedSampleReporter,
-			null
+			null,
+			TestHelper.SHRINKING_CACHE_MAX_ENTRIES
 		);
 	}
 
@@ -0,0 +1,63 @@
+package net.jqwik.engine.properties.shrinking;
+
+import java.util.*;
+import java.util.concurrent.atomic.*;
+
+import net.jqwik.api.*;
+
+import static java.util.Arrays.*;
+import static org.assertj.core.api.Assertions.*;
+
+class SampleFingerprintTests {
+
+	@Example
+	void fingerprintsOfEqualParametersAreEqual() {
+		SampleFingerprint fingerprint = SampleFingerprint.of(asList(1, "two", asList(3, 4)));
+
+		assertThat(fingerprint).isEqualTo(SampleFingerprint.of(asList(1, "two", asList(3, 4))));
+		assertThat(fingerprint.hashCode()).isEqualTo(asList(1, "two", asList(3, 4)).hashCode());
+		assertThat(fingerprint).isNotEqualTo(SampleFingerprint.of(asList(1, "two", asList(3, 5))));
+	}
+
+	@Example
+	void hashesOfUnchangedShrinkablesAreTakenFromBase() {
+		AtomicInteger hashCodeCalls = new AtomicInteger(0);
+		Shrinkable<Object> unchanged = Shrinkable.unshrinkable(new CountingHashCode(hashCodeCalls));
+		List<Shrinkable<Object>> base = asList(unchanged, Shrinkable.unshrinkable(42));
+		SampleFingerprint baseFingerprint = SampleFingerprint.of(asList(unchanged.value(), 42));
+		assertThat(hashCodeCalls.get()).isEqualTo(1);
+
+		List<Shrinkable<Object>> candidate = asList(unchanged, Shrinkable.unshrinkable(41));
+		SampleFingerprint shrunk = SampleFingerprint.shrunkFrom(candidate, base, baseFingerprint);
+
+		assertThat(hashCodeCalls.get()).isEqualTo(1);
+		assertThat(shrunk.parameters()).containsExactly(unchanged.value(), 41);
+		assertThat(shrunk).isEqualTo(SampleFingerprint.of(asList(unchanged.value(), 41)));
+	}
+
+	@Example
+	void changedShrinkablesAreHashedAgain() {
+		List<Shrinkable<Object>> base = asList(Shrinkable.unshrinkable(1), Shrinkable.unshrinkable(2));
+		SampleFingerprint baseFingerprint = SampleFingerprint.of(asList(1, 2));
+
+		List<Shrinkable<Object>> candidate = asList(Shrinkable.unshrinkable(1), Shrinkable.unshrinkable(3));
+		SampleFingerprint shrunk = SampleFingerprint.shrunkFrom(candidate, base, baseFingerprint);
+
+		assertThat(shrunk).isEqualTo(SampleFingerprint.of(asList(1, 3)));
+		assertThat(shrunk).isNotEqualTo(baseFingerprint);
+	}
+
+	private static class CountingHashCode {
+		private final AtomicInteger calls;
+
+		private CountingHashCode(AtomicInteger calls) {
+			this.calls = calls;
+		}
+
+		@Override
+		public int hashCode() {
+			calls.incrementAndGet();
+			return 4711;
+		}
+	}
+}
@@ -0,0 +1,113 @@
+package net.jqwik.engine.properties.shrinking;
+
+import net.jqwik.api.*;
+import net.jqwik.api.constraints.*;
+import net.jqwik.testing.*;
+
+import static org.assertj.core.api.Assertions.*;
+
+import static net.jqwik.testing.ShrinkingSupport.*;
+
+class ShrinkableFloatingPointTests {
+
+	@Example
+	void creation() {
+		Shrinkable<Double> shrinkable = createShrinkableDouble(25.23, -100.0, 100.0, 0.0);
+		assertThat(shrinkable.value()).isEqualTo(25.23);
+	}
+
+	@Example
+	void cannotCreateValueOutsideRange() {
+		assertThatThrownBy(() -> createShrinkableDouble(25.0, 50.0, 100.0, 50.0))
+			.isInstanceOf(JqwikException.class);
+	}
+
+	@Example
+	void shrinkingDistanceIsNumberOfRepresentableValuesToTarget() {
+		assertThat(createShrinkableDouble(Double.MIN_VALUE, -1.0, 1.0, 0.0).distance())
+			.isEqualTo(ShrinkingDistance.of(1));
+		assertThat(createShrinkableDouble(-3 * Double.MIN_VALUE, -1.0, 1.0, 0.0).distance())
+			.isEqualTo(ShrinkingDistance.of(3));
+		assertThat(createShrinkableDouble(Math.nextUp(1.0), -2.0, 2.0, 1.0).distance())
+			.isEqualTo(ShrinkingDistance.of(1));
+		assertThat(createShrinkableDouble(Double.MAX_VALUE, -Double.MAX_VALUE, Double.MAX_VALUE, -Double.MAX_VALUE).distance())
+			.isEqualTo(ShrinkingDistance.of(Long.MAX_VALUE));
+	}
+
+	@Example
+	void shrinkToTarget() {
+		Shrinkable<Double> shrinkable = createShrinkableDouble(1234.5678, -10000.0, 10000.0, 0.0);
+		double shrunkValue = shrink(shrinkable, (TestingFalsifier<Double>) ignore -> false, null);
+		assertThat(shrunkValue).isEqualTo(0.0);
+	}
+
+	@Example
+	void shrinkToBorderWithFewestDecimals() {
+		Shrinkable<Double> shrinkable = createShrinkableDouble(1234.5678, -10000.0, 10000.0, 0.0);
+		double shrunkValue = shrink(shrinkable, (TestingFalsifier<Double>) aDouble -> aDouble < 10.5, null);
+		assertThat(shrunkValue).isEqualTo(10.5);
+	}
+
+	@Example
+	void shrinkToNextRepresentableValue() {
+		Shrinkable<Double> shrinkable = createShrinkableDouble(2.75, 0.0, 10.0, 0.0);
+		double shrunkValue = shrink(shrinkable, (TestingFalsifier<Double>) aDouble -> aDouble <= 1.0, null);
+		assertThat(shrunkValue).isEqualTo(Math.nextUp(1.0));
+	}
+
+	@Example
+	void shrinkSubnormalValues() {
+		Shrinkable<Double> shrinkable = createShrinkableDouble(Double.MIN_NORMAL, -1.0, 1.0, 0.0);
+		double shrunkValue = shrink(shrinkable, (TestingFalsifier<Double>) aDouble -> aDouble < 2 * Double.MIN_VALUE, null);
+		assertThat(shrunkValue).isEqualTo(2 * Double.MIN_VALUE);
+	}
+
+	@Example
+	void shrinkNegativeToPositiveValue() {
+		Shrinkable<Double> shrinkable = createShrinkableDouble(-42.5, -100.0, 100.0, 0.0);
+		double shrunkValue = shrink(shrinkable, (TestingFalsifier<Double>) aDouble -> Math.abs(aDouble) < 42.5, null);
+		assertThat(shrunkValue).isEqualTo(42.5);
+	}
+
+	@Example
+	void shrinkHugeValues() {
+		Shrinkable<Double> shrinkable = createShrinkableDouble(Double.MAX_VALUE, -Double.MAX_VALUE, Double.MAX_VALUE, 0.0);
+		double shrunkValue = shrink(shrinkable, (TestingFalsifier<Double>) aDouble -> aDouble < 1e300, null);
+		assertThat(shrunkValue).isBetween(1e300, Math.nextUp(1e300));
+	}
+
+	@Example
+	void shrinkFloats() {
+		Shrinkable<Float> shrinkable = new ShrinkableFloatingPoint<>(1234.5678f, -10000.0, 10000.0, 0.0, FloatingPointType.FLOAT);
+		assertThat(shrinkable.value()).isEqualTo(1234.5678f);
+
+		float shrunkValue = shrink(shrinkable, (TestingFalsifier<Float>) aFloat -> aFloat < 10.5f, null);
+		assertThat(shrunkValue).isEqualTo(10.5f);
+	}
+
+	@Property(tries = 100)
+	void shrinkingWillAlwaysConvergeToTarget(
+		@ForAll double aValue,
+		@ForAll @DoubleRange(min = -1000, max = 1000) @Scale(0) double shrinkingTarget
+	) {
+		double min = Math.min(aValue, shrinkingTarget);
+		double max = Math.max(aValue, shrinkingTarget);
+		Shrinkable<Double> shrinkable = createShrinkableDouble(aValue, min, max, shrinkingTarget);
+		double shrunkValue = shrink(shrinkable, (TestingFalsifier<Double>) ignore -> false, null);
+		assertThat(shrunkValue).isEqualTo(shrinkingTarget);
+	}
+
+	@Property(tries = 100)
+	void allCandidatesAreCloserToTargetAndWithinRange(@ForAll double aValue) {
+		Shrinkable<Double> shrinkable = createShrinkableDouble(aValue, -Double.MAX_VALUE, Double.MAX_VALUE, 0.0);
+		assertThat(shrinkable.shrink()).allSatisfy(candidate -> {
+			assertThat(candidate.distance()).isLessThanOrEqualTo(shrinkable.distance());
+			assertThat(Math.abs(candidate.value())).isLessThanOrEqualTo(Math.abs(aValue));
+		});
+	}
+
+	private Shrinkable<Double> createShrinkableDouble(double value, double min, double max, double shrinkingTarget) {
+		return new ShrinkableFloatingPoint<>(value, min, max, shrinkingTarget, FloatingPointType.DOUBLE);
+	}
+
+}
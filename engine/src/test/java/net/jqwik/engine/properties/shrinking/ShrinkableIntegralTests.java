@@ -0,0 +1,133 @@
+package net.jqwik.engine.properties.shrinking;
+
+import java.math.*;
+import java.util.*;
+import java.util.stream.*;
+
+import net.jqwik.api.*;
+import net.jqwik.engine.properties.*;
+import net.jqwik.testing.*;
+
+import static org.assertj.core.api.Assertions.*;
+
+import static net.jqwik.testing.ShrinkingSupport.*;
+
+@Group
+@Label("ShrinkableIntegral")
+class ShrinkableIntegralTests {
+
+	@Example
+	void creation() {
+		Shrinkable<Integer> shrinkable = createShrinkableInt(25, -100, 100, 0);
+		assertThat(shrinkable.value()).isEqualTo(25);
+		assertThat(shrinkable.distance()).isEqualTo(ShrinkingDistance.of(25));
+	}
+
+	@Example
+	void cannotCreateValueOutsideRange() {
+		assertThatThrownBy(
+			() -> createShrinkableInt(25, 50, 100, 50))
+			.isInstanceOf(JqwikException.class);
+	}
+
+	@Example
+	void shrinkingDistanceIsDistanceToShrinkingTarget() {
+		assertThat(createShrinkableInt(25, -100, 100, 0).distance())
+			.isEqualTo(ShrinkingDistance.of(25));
+		assertThat(createShrinkableInt(-25, -100, 100, 0).distance())
+			.isEqualTo(ShrinkingDistance.of(25));
+		assertThat(createShrinkableInt(-25, -100, 100, 100).distance())
+			.isEqualTo(ShrinkingDistance.of(125));
+	}
+
+	@Example
+	void shrinkingDistanceOutsideLongRange() {
+		assertThat(
+			new ShrinkableIntegral<>(Long.MAX_VALUE, Long.MIN_VALUE, Long.MAX_VALUE, -1L, Long::valueOf).distance())
+			.isEqualTo(ShrinkingDistance.of(Long.MAX_VALUE));
+		assertThat(
+			new ShrinkableIntegral<>(Long.MIN_VALUE, Long.MIN_VALUE, Long.MAX_VALUE, 0L, Long::valueOf).distance())
+			.isEqualTo(ShrinkingDistance.of(Long.MAX_VALUE));
+	}
+
+	@Property(tries = 100)
+	void shrinkCandidatesAreSameAsForBigInteger(@ForAll long value, @ForAll long target) {
+		long min = Math.min(value, target);
+		long max = Math.max(value, target);
+		ShrinkableIntegral<Long> shrinkable = new ShrinkableIntegral<>(value, min, max, target, Long::valueOf);
+		ShrinkableBigInteger bigIntegerShrinkable = new ShrinkableBigInteger(
+			BigInteger.valueOf(value),
+			Range.of(BigInteger.valueOf(min), BigInteger.valueOf(max)),
+			BigInteger.valueOf(target)
+		);
+
+		List<BigInteger> candidates = shrinkable.shrink().map(s -> BigInteger.valueOf(s.value())).collect(Collectors.toList());
+		List<BigInteger> bigIntegerCandidates = bigIntegerShrinkable.shrink().map(Shrinkable::value).collect(Collectors.toList());
+		assertThat(candidates).isEqualTo(bigIntegerCandidates);
+	}
+
+	@Group
+	class Shrinking {
+
+		@Example
+		void downAllTheWay() {
+			Shrinkable<Integer> shrinkable = createShrinkableInt(100000, 5, 500000, 5);
+
+			TestingFalsifier<Integer> falsifier = anInt -> anInt <= 1000;
+			int shrunkValue = shrink(shrinkable, falsifier, null);
+			assertThat(shrunkValue).isEqualTo(1001);
+		}
+
+		@Example
+		void negativeToPositive() {
+			Shrinkable<Integer> shrinkable = createShrinkableInt(-100, -1000, 1000, 0);
+
+			TestingFalsifier<Integer> falsifier = anInt -> Math.abs(anInt) < 10;
+			int shrunkValue = shrink(shrinkable, falsifier, null);
+			assertThat(shrunkValue).isEqualTo(10);
+		}
+
+		@Example
+		void upToExplicitShrinkingTarget() {
+			Shrinkable<Integer> shrinkable = createShrinkableInt(1000, 5, 500000, 5000);
+
+			TestingFalsifier<Integer> falsifier = anInt -> anInt >= 5000;
+			int shrunkValue = shrink(shrinkable, falsifier, null);
+			assertThat(shrunkValue).isEqualTo(4999);
+		}
+
+		@Example
+		void extremeLongValues() {
+			Shrinkable<Long> shrinkable = new ShrinkableIntegral<>(Long.MIN_VALUE, Long.MIN_VALUE, Long.MAX_VALUE, 0L, Long::valueOf);
+
+			TestingFalsifier<Long> falsifier = aLong -> aLong > -1000;
+			long shrunkValue = shrink(shrinkable, falsifier, null);
+			assertThat(shrunkValue).isEqualTo(-1000L);
+		}
+	}
+
+	@Group
+	class Growing {
+
+		@Example
+		void upToMax() {
+			Shrinkable<Integer> shrinkable = createShrinkableInt(100000, 5, 500000, 5);
+
+			Stream<Integer> grownValues = shrinkable.grow().map(Shrinkable::value);
+			assertThat(grownValues).containsExactlyInAnyOrder(100001, 100010, 300000, 500000);
+		}
+
+		@Example
+		void downToMin() {
+			Shrinkable<Integer> shrinkable = createShrinkableInt(-100000, -500000, -5, -5);
+
+			Stream<Integer> grownValues = shrinkable.grow().map(Shrinkable::value);
+			assertThat(grownValues).containsExactlyInAnyOrder(-100001, -100010, -300000, -500000);
+		}
+	}
+
+	private Shrinkable<Integer> createShrinkableInt(int value, int min, int max, int shrinkingTarget) {
+		return new ShrinkableIntegral<>(value, min, max, shrinkingTarget, aLong -> (int) aLong);
+	}
+
+}
@@ -10,6 +10,7 @@ import org.mockito.*;
 import net.jqwik.api.*;
 import net.jqwik.api.constraints.*;
 import net.jqwik.api.lifecycle.*;
+import net.jqwik.engine.*;
 import net.jqwik.engine.properties.*;
 import net.jqwik.testing.*;
 
@@ -41,6 +42,27 @@ class ShrunkSampleRecreatorTests {
 		assertThat(recreatedSample).hasValue(shrunkSample.shrinkables());
 	}
 
+	@Example
+	void shrinkingSequenceDoesNotDependOnCacheSize() {
+		List<Shrinkable<Object>> shrinkables = listOfShrinkableInts(500, 700);
+		FalsifiedSample originalSample = toFalsifiedSample(shrinkables, null);
+		Falsifier<List<Object>> falsifier = params -> {
+			int sum = (int) params.get(0) + (int) params.get(1);
+			return sum < 100 ? TryExecutionResult.satisfied() : TryExecutionResult.falsified(null);
+		};
+
+		PropertyShrinker withoutCache = createPropertyShrinker(originalSample, ShrinkingMode.FULL, 10, 0);
+		ShrunkFalsifiedSample shrunkSample = withoutCache.shrink(falsifier);
+		PropertyShrinker withCache = createPropertyShrinker(originalSample, ShrinkingMode.FULL, 10);
+		withCache.shrink(falsifier);
+		assertThat(withCache.countCacheHits()).isGreaterThan(0);
+
+		assertThat(withCache.shrinkingSequence()).isEqualTo(withoutCache.shrinkingSequence());
+		ShrunkSampleRecreator recreator = new ShrunkSampleRecreator(originalSample.shrinkables());
+		Optional<List<Shrinkable<Object>>> recreatedSample = recreator.recreateFrom(withCache.shrinkingSequence());
+		assertThat(recreatedSample).hasValue(shrunkSample.shrinkables());
+	}
+
 	@Example
 	void emptyShrinkingSequenceReturnsOriginalSample() {
 		List<Shrinkable<Object>> shrinkables = listOfShrinkableInts(42);
@@ -159,6 +181,69 @@ class ShrunkSampleRecreatorTests {
 		assertThat(recreatedSampleValue).isLessThanOrEqualTo(shrunkSampleValue);
 		// In some strange cases the recreated value has been shrunk further than the original shrunk value
 		// assertThat(recreatedSampleValue).isEqualTo(shrunkSampleValue);
+
+		Optional<List<Shrinkable<Object>>> replayedShrinkables =
+			shrinker.shrinkingPath().flatMap(path -> path.replayOn(originalSample.shrinkables()));
+		assertThat(replayedShrinkables).hasValue(shrunkSample.shrinkables());
+	}
+
+	@Property(tries = 10)
+	void shrinkingPathRecreatesShrunkSample(
+		@ForAll @IntRange(min = 1, max = 1000) int shrinkingResult,
+		@ForAll @IntRange(min = 1, max = 100) int diff
+	) {
+		int initialValue = shrinkingResult + diff;
+		List<Shrinkable<Object>> shrinkables = listOfShrinkableInts(initialValue, 99, 999);
+		FalsifiedSample originalSample = toFalsifiedSample(shrinkables, null);
+		PropertyShrinker shrinker = createPropertyShrinker(originalSample, ShrinkingMode.FULL, 0);
+
+		Falsifier<List<Object>> falsifier = params -> {
+			int value = (int) params.get(0);
+			if (value % 2 != 0) {
+				return TryExecutionResult.invalid();
+			}
+			return value < shrinkingResult ? TryExecutionResult.satisfied() : TryExecutionResult.falsified(null);
+		};
+		ShrunkFalsifiedSample shrunkSample = shrinker.shrink(falsifier);
+		assertThat(shrunkSample.countShrinkingSteps()).isGreaterThan(0);
+
+		assertThat(shrinker.shrinkingPath()).isPresent();
+		ShrinkingPath shrinkingPath = shrinker.shrinkingPath().get();
+		assertThat(shrinkingPath.countParameters()).isEqualTo(3);
+		assertThat(shrinkingPath.replayOn(originalSample.shrinkables())).hasValue(shrunkSample.shrinkables());
+	}
+
+	@Example
+	void shrinkingPathIncludesPairwiseShrinking() {
+		List<Shrinkable<Object>> shrinkables = listOfShrinkableInts(500, 500);
+		FalsifiedSample originalSample = toFalsifiedSample(shrinkables, null);
+		PropertyShrinker shrinker = createPropertyShrinker(originalSample, ShrinkingMode.FULL, 0);
+
+		// Can only be shrunk by shrinking both parameters at once
+		Falsifier<List<Object>> falsifier = params -> {
+			int first = (int) params.get(0);
+			int second = (int) params.get(1);
+			return first == second && first >= 10 ? TryExecutionResult.falsified(null) : TryExecutionResult.satisfied();
+		};
+		ShrunkFalsifiedSample shrunkSample = shrinker.shrink(falsifier);
+		assertThat(shrunkSample.parameters()).isEqualTo(asList(10, 10));
+
+		Optional<List<Shrinkable<Object>>> replayedShrinkables =
+			shrinker.shrinkingPath().flatMap(path -> path.replayOn(originalSample.shrinkables()));
+		assertThat(replayedShrinkables).hasValue(shrunkSample.shrinkables());
+	}
+
+	@Example
+	void shrinkingPathDoesNotFitSampleOfDifferentSize() {
+		ShrinkingPath shrinkingPath = ShrinkingPath.of(new int[][]{{0}, {0}});
+		assertThat(shrinkingPath.replayOn(listOfShrinkableInts(42))).isEmpty();
+	}
+
+	@Example
+	void shrinkingPathDoesNotFitShrinkStreamThatIsTooShort() {
+		ShrinkingPath shrinkingPath = ShrinkingPath.of(new int[][]{{0, 0}});
+		// 1 can only be shrunk to 0 and 0 cannot be shrunk at all
+		assertThat(shrinkingPath.replayOn(listOfShrinkableInts(1))).isEmpty();
 	}
 
 	@Provide
@@ -189,17 +274,26 @@ class ShrunkSampleRecreatorTests {
 		};
 	}
 
-	@SuppressWarnings("unchecked")
 	private PropertyShrinker createPropertyShrinker(
 		FalsifiedSample originalSample,
 		ShrinkingMode shrinkingMode, int boundedShrinkingSeconds
+	) {
+		return createPropertyShrinker(originalSample, shrinkingMode, boundedShrinkingSeconds, TestHelper.SHRINKING_CACHE_MAX_ENTRIES);
+	}
+
+	@SuppressWarnings("unchecked")
+	private PropertyShrinker createPropertyShrinker(
+		FalsifiedSample originalSample,
+		ShrinkingMode shrinkingMode, int boundedShrinkingSeconds,
+		int cacheMaxEntries
 	) {
 		return new PropertyShrinker(
 			originalSample,
 			shrinkingMode,
 			boundedShrinkingSeconds,
 			Mockito.mock(Consumer.class),
-			null
+			null,
+			cacheMaxEntries
 		);
 	}
 
@@ -2,10 +2,12 @@ package net.jqwik.engine.properties.state;
 
 import java.util.*;
 import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
 
 import net.jqwik.api.*;
 import net.jqwik.api.state.*;
 import net.jqwik.api.statistics.*;
+import net.jqwik.engine.*;
 import net.jqwik.testing.*;
 
 import static org.assertj.core.api.Assertions.*;
@@ -657,4 +659,77 @@ class ChainArbitraryTests {
 		}
 
 	}
+
+	@Group
+	@PropertyDefaults(tries = 20)
+	class Snapshots {
+
+		@Example
+		void shrinkingResumesFromSnapshots(@ForAll Random random) {
+			AtomicInteger countInitial = new AtomicInteger(0);
+			AtomicInteger countTransformations = new AtomicInteger(0);
+			ChainArbitrary<List<Integer>> chains =
+				Chain.<List<Integer>>startWith(() -> {
+						 countInitial.incrementAndGet();
+						 return new ArrayList<>();
+					 })
+					 .withTransformation(ignore -> just(Transformer.mutate("add 1", list -> {
+						 countTransformations.incrementAndGet();
+						 list.add(1);
+					 })))
+					 .withMaxTransformations(10);
+			TestingFalsifier<Chain<List<Integer>>> falsifier = chain -> finalState(chain).size() < 5;
+
+			Chain<List<Integer>> shrunkChain = ShrinkingSupport.falsifyThenShrink(
+				chains.withSnapshots(ArrayList::new, ArrayList::new),
+				random,
+				falsifier
+			);
+			int transformationsWithSnapshots = countTransformations.get();
+			int initialWithSnapshots = countInitial.get();
+
+			countInitial.set(0);
+			countTransformations.set(0);
+			ShrinkingSupport.falsifyThenShrink(chains, random, falsifier);
+
+			assertThat(shrunkChain.transformations()).hasSize(5);
+			assertThat(transformationsWithSnapshots).isLessThan(countTransformations.get());
+			assertThat(initialWithSnapshots).isLessThan(countInitial.get());
+		}
+
+		@Property
+		void shrinkingWithSnapshotsHasSameResult(@ForAll("seeds") long seed) {
+			ChainArbitrary<List<Integer>> chains =
+				Chain.<List<Integer>>startWith(ArrayList::new)
+					 .withTransformation(ignore -> integers().between(1, 5).map(i -> Transformer.mutate("add " + i, list -> list.add(i))))
+					 .withTransformation(Transformation.<List<Integer>>when(list -> !list.isEmpty())
+													   .provide(list -> just(Transformer.mutate("remove first", l -> l.remove(0)))))
+					 .withMaxTransformations(15);
+			TestingFalsifier<Chain<List<Integer>>> falsifier =
+				chain -> finalState(chain).stream().mapToInt(i -> i).sum() < 12;
+
+			Chain<List<Integer>> withoutSnapshots =
+				ShrinkingSupport.falsifyThenShrink(chains, SourceOfRandomness.newRandom(seed), falsifier);
+			Chain<List<Integer>> withSnapshots = ShrinkingSupport.falsifyThenShrink(
+				chains.withSnapshots(ArrayList::new, ArrayList::new),
+				SourceOfRandomness.newRandom(seed),
+				falsifier
+			);
+
+			assertThat(withSnapshots.transformations()).isEqualTo(withoutSnapshots.transformations());
+		}
+
+		@Provide
+		Arbitrary<Long> seeds() {
+			return longs();
+		}
+
+		private <T> T finalState(Chain<T> chain) {
+			T last = null;
+			for (T state : chain) {
+				last = state;
+			}
+			return last;
+		}
+	}
 }
@@ -0,0 +1,232 @@
+package net.jqwik.engine.recording;
+
+import java.io.*;
+import java.nio.*;
+import java.nio.file.*;
+import java.util.*;
+
+import org.junit.platform.engine.*;
+
+import net.jqwik.api.*;
+import net.jqwik.api.lifecycle.*;
+import net.jqwik.engine.execution.*;
+import net.jqwik.engine.properties.shrinking.*;
+
+import static org.assertj.core.api.Assertions.*;
+
+import static net.jqwik.api.lifecycle.PropertyExecutionResult.Status.*;
+
+class TestRunDatabaseTests {
+
+	private final Path databasePath;
+
+	TestRunDatabaseTests() throws IOException {
+		databasePath = Files.createTempDirectory("jqwik").resolve(".jqwik-database");
+	}
+
+	@AfterProperty
+	void deleteDatabase() throws IOException {
+		Files.deleteIfExists(databasePath);
+		Files.deleteIfExists(databasePath.getParent());
+	}
+
+	@Example
+	void nonSuccessfulRunsAreAvailableInNextRun() {
+		GenerationInfo generationInfo = new GenerationInfo("4242", 17).appendShrinkingSequence(
+			Arrays.asList(TryExecutionResult.Status.SATISFIED, TryExecutionResult.Status.FALSIFIED)
+		);
+		record(
+			new TestRun(uniqueId("failing"), FAILED, generationInfo),
+			new TestRun(uniqueId("aborted"), ABORTED, new GenerationInfo(null)),
+			new TestRun(uniqueId("successful"), SUCCESSFUL, new GenerationInfo("1"))
+		);
+
+		TestRunData previousRun = new TestRunDatabase(databasePath).previousRun();
+
+		assertThat(previousRun.allNonSuccessfulTests().map(TestRun::getUniqueId))
+			.containsExactly(uniqueId("failing"), uniqueId("aborted"));
+		TestRun failing = previousRun.byUniqueId(uniqueId("failing")).get();
+		assertThat(failing.getStatus()).isEqualTo(FAILED);
+		assertThat(failing.generationInfo()).isEqualTo(generationInfo);
+		assertThat(previousRun.byUniqueId(uniqueId("successful"))).isNotPresent();
+	}
+
+	@Example
+	void successfulRunsAreNotWrittenIfTestHasNotFailedBefore() {
+		record(new TestRun(uniqueId("successful"), SUCCESSFUL, new GenerationInfo("1")));
+
+		assertThat(databasePath).doesNotExist();
+	}
+
+	@Example
+	void successfulRunSupersedesPreviousFailure() {
+		record(new TestRun(uniqueId("test"), FAILED, new GenerationInfo("1")));
+		record(new TestRun(uniqueId("test"), SUCCESSFUL, new GenerationInfo("2")));
+
+		TestRunData previousRun = new TestRunDatabase(databasePath).previousRun();
+		assertThat(previousRun.byUniqueId(uniqueId("test"))).isNotPresent();
+	}
+
+	@Example
+	void latestFailureWins() {
+		record(new TestRun(uniqueId("test"), FAILED, new GenerationInfo("1")));
+		record(new TestRun(uniqueId("test"), FAILED, new GenerationInfo("2")));
+
+		TestRunData previousRun = new TestRunDatabase(databasePath).previousRun();
+		assertThat(previousRun.byUniqueId(uniqueId("test")).get().generationInfo().randomSeed()).hasValue("2");
+	}
+
+	@Example
+	void recordersSharingTheDatabaseDoNotOverwriteEachOther() {
+		TestRunDatabase worker1 = new TestRunDatabase(databasePath);
+		TestRunDatabase worker2 = new TestRunDatabase(databasePath);
+		try (
+			TestRunRecorder recorder1 = worker1.recorder();
+			TestRunRecorder recorder2 = worker2.recorder()
+		) {
+			recorder1.record(new TestRun(uniqueId("test1"), FAILED, new GenerationInfo("1")));
+			recorder2.record(new TestRun(uniqueId("test2"), FAILED, new GenerationInfo("2")));
+			recorder1.record(new TestRun(uniqueId("test3"), FAILED, new GenerationInfo("3")));
+		}
+
+		TestRunData previousRun = new TestRunDatabase(databasePath).previousRun();
+		assertThat(previousRun.allNonSuccessfulTests().map(TestRun::getUniqueId))
+			.containsExactly(uniqueId("test1"), uniqueId("test2"), uniqueId("test3"));
+	}
+
+	@Example
+	void incompleteLastRecordIsDiscarded() throws IOException {
+		record(
+			new TestRun(uniqueId("test1"), FAILED, new GenerationInfo("1")),
+			new TestRun(uniqueId("test2"), FAILED, new GenerationInfo("2"))
+		);
+		byte[] bytes = Files.readAllBytes(databasePath);
+		Files.write(databasePath, Arrays.copyOf(bytes, bytes.length - 3));
+
+		TestRunData previousRun = new TestRunDatabase(databasePath).previousRun();
+		assertThat(previousRun.allNonSuccessfulTests().map(TestRun::getUniqueId))
+			.containsExactly(uniqueId("test1"));
+
+		record(new TestRun(uniqueId("test3"), FAILED, new GenerationInfo("3")));
+		TestRunData nextRun = new TestRunDatabase(databasePath).previousRun();
+		assertThat(nextRun.allNonSuccessfulTests().map(TestRun::getUniqueId))
+			.containsExactly(uniqueId("test1"), uniqueId("test3"));
+	}
+
+	@Example
+	void databaseInUnknownFormatIsReplaced() throws IOException {
+		Files.write(databasePath, new byte[]{(byte) 0xAC, (byte) 0xED, 0, 5, 1, 2, 3});
+
+		TestRunDatabase database = new TestRunDatabase(databasePath);
+		assertThat(database.previousRun().allNonSuccessfulTests()).isEmpty();
+
+		record(new TestRun(uniqueId("test"), FAILED, new GenerationInfo("1")));
+		TestRunData previousRun = new TestRunDatabase(databasePath).previousRun();
+		assertThat(previousRun.byUniqueId(uniqueId("test"))).isPresent();
+	}
+
+	@Example
+	void supersededRecordsAreCompactedBeforeAppending() throws IOException {
+		TestRun[] testRuns = new TestRun[300];
+		for (int i = 0; i < testRuns.length; i++) {
+			testRuns[i] = new TestRun(uniqueId("test"), FAILED, new GenerationInfo(Integer.toString(i)));
+		}
+		record(testRuns);
+		long sizeBeforeCompaction = Files.size(databasePath);
+
+		TestRunData previousRun = new TestRunDatabase(databasePath).previousRun();
+		assertThat(Files.size(databasePath)).isEqualTo(sizeBeforeCompaction);
+		assertThat(previousRun.byUniqueId(uniqueId("test")).get().generationInfo().randomSeed()).hasValue("299");
+
+		record(new TestRun(uniqueId("other"), FAILED, new GenerationInfo("1")));
+
+		assertThat(Files.size(databasePath)).isLessThan(sizeBeforeCompaction / 100);
+		TestRunData nextRun = new TestRunDatabase(databasePath).previousRun();
+		assertThat(nextRun.byUniqueId(uniqueId("test")).get().generationInfo().randomSeed()).hasValue("299");
+		assertThat(nextRun.byUniqueId(uniqueId("other"))).isPresent();
+	}
+
+	@Example
+	void recordsOfDeletedTestsAreRemovedBeforeAppending() {
+		UniqueId existingTest = UniqueId.forEngine("jqwik")
+										.append("class", TestRunDatabaseTests.class.getName())
+										.append("property", "latestFailureWins()");
+		UniqueId deletedMethod = UniqueId.forEngine("jqwik")
+										 .append("class", TestRunDatabaseTests.class.getName())
+										 .append("property", "noLongerThere()");
+		UniqueId deletedClass = UniqueId.forEngine("jqwik")
+										.append("class", "net.jqwik.engine.recording.NoLongerThere")
+										.append("property", "test()");
+		record(
+			new TestRun(existingTest, FAILED, new GenerationInfo("1")),
+			new TestRun(deletedMethod, FAILED, new GenerationInfo("2")),
+			new TestRun(deletedClass, FAILED, new GenerationInfo("3"))
+		);
+		assertThat(new TestRunDatabase(databasePath).previousRun().allNonSuccessfulTests()).hasSize(3);
+
+		record(new TestRun(uniqueId("other"), FAILED, new GenerationInfo("4")));
+
+		TestRunData previousRun = new TestRunDatabase(databasePath).previousRun();
+		assertThat(previousRun.allNonSuccessfulTests().map(TestRun::getUniqueId))
+			.containsExactly(existingTest, uniqueId("other"));
+	}
+
+	@Example
+	void readOnlyDatabaseProvidesPreviousFailures() {
+		record(new TestRun(uniqueId("test"), FAILED, new GenerationInfo("1")));
+		assertThat(databasePath.toFile().setWritable(false)).isTrue();
+		try {
+			TestRunData previousRun = new TestRunDatabase(databasePath).previousRun();
+			assertThat(previousRun.byUniqueId(uniqueId("test"))).isPresent();
+		} finally {
+			databasePath.toFile().setWritable(true);
+		}
+	}
+
+	@Example
+	void shrinkingSequencesAreStoredWithTwoBitsPerStatus() {
+		List<TryExecutionResult.Status> sequence = new ArrayList<>();
+		for (int i = 0; i < 1001; i++) {
+			sequence.add(TryExecutionResult.Status.values()[i % 3]);
+		}
+		GenerationInfo generationInfo = new GenerationInfo("42").appendShrinkingSequence(sequence);
+		TestRun withSequence = new TestRun(uniqueId("test"), FAILED, generationInfo);
+		TestRun withoutSequence = new TestRun(uniqueId("test"), FAILED, new GenerationInfo("42"));
+
+		ByteBuffer record = TestRunRecords.record(withSequence);
+		int sequenceLength = record.remaining() - TestRunRecords.record(withoutSequence).remaining();
+		// Number of statuses, packed statuses and marker for a missing shrinking path
+		assertThat(sequenceLength).isEqualTo(Integer.BYTES + 251 + Integer.BYTES);
+
+		ByteBuffer database = ByteBuffer.allocate(TestRunRecords.header().remaining() + record.remaining());
+		database.put(TestRunRecords.header()).put(record).flip();
+		List<TestRun> runs = TestRunRecords.readFrom(database).nonSuccessfulRuns();
+		assertThat(runs).hasSize(1);
+		assertThat(runs.get(0).generationInfo().shrinkingSequences()).containsExactly(sequence);
+	}
+
+	@Example
+	void shrinkingPathsAreStoredWithTheirSequences() {
+		ShrinkingPath shrinkingPath = ShrinkingPath.of(new int[][]{{3, 0, 7}, {}, {1}});
+		GenerationInfo generationInfo = new GenerationInfo("42", 5)
+			.appendShrinkingSequence(Arrays.asList(TryExecutionResult.Status.INVALID, TryExecutionResult.Status.FALSIFIED))
+			.appendShrinkingSequence(Arrays.asList(TryExecutionResult.Status.FALSIFIED), Optional.of(shrinkingPath));
+		record(new TestRun(uniqueId("test"), FAILED, generationInfo));
+
+		TestRunData previousRun = new TestRunDatabase(databasePath).previousRun();
+		GenerationInfo read = previousRun.byUniqueId(uniqueId("test")).get().generationInfo();
+		assertThat(read).isEqualTo(generationInfo);
+		assertThat(read.shrinkingPaths()).containsExactly(Optional.empty(), Optional.of(shrinkingPath));
+	}
+
+	private void record(TestRun... testRuns) {
+		TestRunDatabase database = new TestRunDatabase(databasePath);
+		try (TestRunRecorder recorder = database.recorder()) {
+			Arrays.stream(testRuns).forEach(recorder::record);
+		}
+	}
+
+	private static UniqueId uniqueId(String name) {
+		return UniqueId.forEngine("jqwik").append("property", name);
+	}
+}
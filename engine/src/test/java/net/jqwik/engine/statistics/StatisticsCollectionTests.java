@@ -239,4 +239,91 @@ class StatisticsCollectionTests {
 		}
 
 	}
+
+	@Group
+	class Approximate {
+
+		@Example
+		void countsAreExactAsLongAsAllValuesAreTracked() {
+			StatisticsCollectorImpl collector = new StatisticsCollectorImpl("a label");
+			collector.approximate(3);
+
+			collector.collect("two");
+			collector.collect("three");
+			collector.collect("two");
+			collector.collect("one");
+			collector.collect("three");
+			collector.collect("three");
+
+			assertThat(collector.getCounts()).containsOnly(
+				entry(asList("one"), 1),
+				entry(asList("two"), 2),
+				entry(asList("three"), 3)
+			);
+			assertThat(collector.count("zero")).isEqualTo(0);
+			assertThat(collector.approximateDistinctValues()).isEqualTo(3);
+		}
+
+		@Example
+		void mostFrequentValuesAreTrackedInBoundedMemory() {
+			StatisticsCollectorImpl collector = new StatisticsCollectorImpl("a label");
+			collector.approximate(20);
+
+			for (int i = 0; i < 50000; i++) {
+				collector.collect(i);
+				if (i % 5 == 0) {
+					collector.collect("frequent");
+				}
+				if (i % 10 == 0) {
+					collector.collect("less frequent");
+				}
+			}
+
+			assertThat(collector.countAllCollects()).isEqualTo(65000);
+			assertThat(collector.getCounts()).hasSizeLessThanOrEqualTo(20);
+			assertThat(collector.getCounts()).containsKeys(asList("frequent"), asList("less frequent"));
+			assertThat(collector.count("frequent")).isBetween(10000, 10500);
+			assertThat(collector.count("less frequent")).isBetween(5000, 5500);
+			assertThat(collector.count(4711)).isBetween(1, 500);
+			assertThat(collector.approximateDistinctValues()).isCloseTo(50002L, withPercentage(5));
+		}
+
+		@Example
+		void coverageIsCheckedOnEstimatedCounts() {
+			StatisticsCollectorImpl collector = new StatisticsCollectorImpl("a label");
+			collector.approximate(5);
+
+			for (int i = 0; i < 1000; i++) {
+				collector.collect(i % 2 == 0 ? "even" : i);
+			}
+
+			collector.coverage(coverage -> coverage.check("even").percentage(p -> p >= 50.0));
+			collector.coverage(coverage -> coverage.check(4711).count(c -> c < 50));
+			collector.checkCoverage();
+
+			collector.coverage(coverage -> coverage.check("even").count(c -> c < 500));
+			assertThatThrownBy(collector::checkCoverage).isInstanceOf(AssertionError.class);
+		}
+
+		@Example
+		void valuesCollectedBeforeAreTakenOver() {
+			StatisticsCollectorImpl collector = new StatisticsCollectorImpl("a label");
+
+			collector.collect("one");
+			collector.collect("two");
+			collector.approximate(10).collect("two");
+
+			assertThat(collector.isApproximate()).isTrue();
+			assertThat(collector.count("one")).isEqualTo(1);
+			assertThat(collector.count("two")).isEqualTo(2);
+			assertThat(collector.countAllCollects()).isEqualTo(3);
+		}
+
+		@Example
+		void atLeastOneValueMustBeTracked() {
+			StatisticsCollectorImpl collector = new StatisticsCollectorImpl("a label");
+
+			assertThatThrownBy(() -> collector.approximate(0)).isInstanceOf(IllegalArgumentException.class);
+		}
+	}
 }
@@ -333,6 +333,23 @@ class CombinatoricsTests {
 			assertThatThrownBy(() -> iterator.next()).isInstanceOf(NoSuchElementException.class);
 		}
 
+		@Property
+		void mixedRadixDigitsFollowOrderOfCombinations(@ForAll @Size(max = 4) List<@IntRange(min = 1, max = 5) Integer> sizes) {
+			List<Iterable<Long>> iterables = sizes.stream()
+												  .map(size -> (Iterable<Long>) LongStream.range(0, size).boxed().collect(Collectors.toList()))
+												  .collect(Collectors.toList());
+			long[] radixes = sizes.stream().mapToLong(Integer::longValue).toArray();
+			Iterator<List<Long>> iterator = Combinatorics.combine(iterables);
+
+			long index = 0;
+			while (iterator.hasNext()) {
+				long[] digits = Combinatorics.mixedRadixDigits(index++, radixes);
+				assertThat(iterator.next()).containsExactlyElementsOf(
+					Arrays.stream(digits).boxed().collect(Collectors.toList())
+				);
+			}
+		}
+
 		@Example
 		void combineTwoIterables() {
 			List<Iterable<Object>> iterables = asList(
@@ -348,6 +365,26 @@ class CombinatoricsTests {
 			);
 		}
 
+		@Example
+		void combineWithoutCopyingReusesCombination() {
+			List<Iterable<Object>> iterables = asList(
+				asList(1, 2, 3),
+				asList('a', 'b')
+			);
+			Iterator<List<Object>> iterator = Combinatorics.combineWithoutCopying(iterables);
+
+			List<Object> first = iterator.next();
+			assertThat(first).containsExactly(1, 'a');
+			List<List<Object>> rest = new ArrayList<>();
+			iterator.forEachRemaining(combination -> rest.add(new ArrayList<>(combination)));
+			assertThat(rest).containsExactly(
+				asList(1, 'b'),
+				asList(2, 'a'), asList(2, 'b'),
+				asList(3, 'a'), asList(3, 'b')
+			);
+			assertThat(first).containsExactly(3, 'b');
+		}
+
 		@Example
 		void twoIterablesFirstIsSingleton() {
 			List<Iterable<Object>> iterables = asList(
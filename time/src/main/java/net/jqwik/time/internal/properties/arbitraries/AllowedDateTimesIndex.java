@@ -0,0 +1,119 @@
+package net.jqwik.time.internal.properties.arbitraries;
+
+import java.math.*;
+import java.time.*;
+import java.util.*;
+
+/**
+ * Enumerates the date times between min and max that have an allowed day and an allowed time of day.
+ *
+ * <p>
+ * Every allowed day contributes the same allowed times of day except for the days of min and max,
+ * which are cut off at min's and max's time. Therefore date times can be numbered consecutively
+ * with {@code dayIndex * timesPerDay + timeIndex} minus the times cut off from min's day.
+ * </p>
+ */
+class AllowedDateTimesIndex {
+
+	private final AllowedDaysIndex days;
+	private final AllowedTimesIndex times;
+	private final long firstTimeIndex;
+	private final long timesPerDay;
+
+	// Number of times cut off from the first day
+	private final long firstSlot;
+	// Exclusive end of slots counted from the start of the first day
+	private final BigInteger endSlot;
+
+	AllowedDateTimesIndex(
+		AllowedDaysIndex days,
+		AllowedTimesIndex times,
+		LocalTime minTime,
+		LocalTime maxTime,
+		LocalDateTime min,
+		LocalDateTime max
+	) {
+		this.days = days;
+		this.times = times;
+		this.firstTimeIndex = times.countBefore(minTime);
+		this.timesPerDay = Math.max(0, times.countUpTo(maxTime) - firstTimeIndex);
+		if (days.count() == 0 || timesPerDay == 0) {
+			this.firstSlot = 0;
+			this.endSlot = BigInteger.ZERO;
+			return;
+		}
+
+		LocalDate firstDay = days.dateAt(0);
+		LocalDate lastDay = days.dateAt(days.count() - 1);
+		this.firstSlot = firstDay.equals(min.toLocalDate())
+							 ? times.countBefore(min.toLocalTime()) - firstTimeIndex
+							 : 0;
+		long lastDayEnd = lastDay.equals(max.toLocalDate())
+							  ? times.countUpTo(max.toLocalTime()) - firstTimeIndex
+							  : timesPerDay;
+		this.endSlot = BigInteger.valueOf(days.count() - 1)
+								 .multiply(BigInteger.valueOf(timesPerDay))
+								 .add(BigInteger.valueOf(lastDayEnd));
+	}
+
+	/**
+	 * @return the number of allowed date times between min and max
+	 */
+	BigInteger count() {
+		return endSlot.subtract(BigInteger.valueOf(firstSlot)).max(BigInteger.ZERO);
+	}
+
+	/**
+	 * @return true if all indices can be handled with {@linkplain #dateTimeAt(long)}
+	 */
+	boolean fitsInLong() {
+		return endSlot.bitLength() < Long.SIZE - 1;
+	}
+
+	/**
+	 * @param index must be between 0 (inclusive) and {@linkplain #count()} (exclusive)
+	 */
+	LocalDateTime dateTimeAt(long index) {
+		long slot = firstSlot + index;
+		return dateTimeAt(slot / timesPerDay, slot % timesPerDay);
+	}
+
+	/**
+	 * @param index must be between 0 (inclusive) and {@linkplain #count()} (exclusive)
+	 */
+	LocalDateTime dateTimeAt(BigInteger index) {
+		BigInteger[] dayAndTime = index.add(BigInteger.valueOf(firstSlot)).divideAndRemainder(BigInteger.valueOf(timesPerDay));
+		return dateTimeAt(dayAndTime[0].longValueExact(), dayAndTime[1].longValueExact());
+	}
+
+	private LocalDateTime dateTimeAt(long dayIndex, long timeIndex) {
+		return LocalDateTime.of(days.dateAt(dayIndex), times.timeAt(firstTimeIndex + timeIndex));
+	}
+
+	/**
+	 * Edge cases are the earliest and the latest time on the first day, on the first leap day and on the last day.
+	 *
+	 * @return the indices of all edge cases
+	 */
+	Set<BigInteger> edgeCaseIndices() {
+		Set<BigInteger> edgeCases = new LinkedHashSet<>();
+		if (count().signum() == 0) {
+			return edgeCases;
+		}
+		addEdgeCasesOfDay(edgeCases, 0);
+		days.firstLeapDayIndex().ifPresent(leapDay -> addEdgeCasesOfDay(edgeCases, leapDay));
+		addEdgeCasesOfDay(edgeCases, days.count() - 1);
+		return edgeCases;
+	}
+
+	private void addEdgeCasesOfDay(Set<BigInteger> edgeCases, long dayIndex) {
+		BigInteger dayStart = BigInteger.valueOf(dayIndex).multiply(BigInteger.valueOf(timesPerDay));
+		BigInteger dayEnd = dayStart.add(BigInteger.valueOf(timesPerDay));
+		BigInteger first = dayStart.max(BigInteger.valueOf(firstSlot));
+		BigInteger last = dayEnd.min(endSlot).subtract(BigInteger.ONE);
+		if (first.compareTo(last) <= 0) {
+			edgeCases.add(first.subtract(BigInteger.valueOf(firstSlot)));
+			edgeCases.add(last.subtract(BigInteger.valueOf(firstSlot)));
+		}
+	}
+}
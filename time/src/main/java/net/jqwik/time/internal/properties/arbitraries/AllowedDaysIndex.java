@@ -0,0 +1,143 @@
+package net.jqwik.time.internal.properties.arbitraries;
+
+import java.time.*;
+import java.util.*;
+
+/**
+ * Enumerates the days between min and max that have an allowed month, day of month and day of week.
+ * Days are accessed through their index so that generating them never has to reject a value.
+ *
+ * <p>
+ * The gregorian calendar repeats every 400 years, which is also a whole number of weeks.
+ * Therefore only the allowed days of a single 400 year cycle must be computed.
+ * </p>
+ */
+class AllowedDaysIndex {
+
+	private static final int DAYS_PER_CYCLE = 146097;
+	private static final long CYCLE_START_EPOCH_DAY = LocalDate.of(0, 1, 1).toEpochDay();
+
+	// Offsets of allowed days within a cycle or null if all days are allowed
+	private final int[] allowedOffsets;
+	private final LocalDate min;
+	private final LocalDate max;
+	private final long firstIndex;
+	private final long count;
+
+	AllowedDaysIndex(
+		LocalDate min,
+		LocalDate max,
+		Set<Month> allowedMonths,
+		int minDayOfMonth,
+		int maxDayOfMonth,
+		Set<DayOfWeek> allowedDayOfWeeks
+	) {
+		boolean allDaysAllowed = allowedMonths.size() == 12
+									 && minDayOfMonth <= 1 && maxDayOfMonth >= 31
+									 && allowedDayOfWeeks.size() == 7;
+		this.allowedOffsets = allDaysAllowed
+								  ? null
+								  : allowedOffsets(allowedMonths, minDayOfMonth, maxDayOfMonth, allowedDayOfWeeks);
+		this.min = min;
+		this.max = max;
+		this.firstIndex = countBefore(min.toEpochDay());
+		this.count = Math.max(0, countBefore(max.toEpochDay() + 1) - firstIndex);
+	}
+
+	private static int[] allowedOffsets(
+		Set<Month> allowedMonths,
+		int minDayOfMonth,
+		int maxDayOfMonth,
+		Set<DayOfWeek> allowedDayOfWeeks
+	) {
+		int[] offsets = new int[DAYS_PER_CYCLE];
+		int size = 0;
+		for (int year = 0; year < 400; year++) {
+			for (Month month : Month.values()) {
+				if (!allowedMonths.contains(month)) {
+					continue;
+				}
+				LocalDate firstOfMonth = LocalDate.of(year, month, 1);
+				long firstOfMonthOffset = firstOfMonth.toEpochDay() - CYCLE_START_EPOCH_DAY;
+				int lastDay = Math.min(maxDayOfMonth, firstOfMonth.lengthOfMonth());
+				for (int day = Math.max(1, minDayOfMonth); day <= lastDay; day++) {
+					int offset = (int) firstOfMonthOffset + day - 1;
+					if (allowedDayOfWeeks.contains(dayOfWeek(offset))) {
+						offsets[size++] = offset;
+					}
+				}
+			}
+		}
+		return Arrays.copyOf(offsets, size);
+	}
+
+	private static DayOfWeek dayOfWeek(long epochDayOffset) {
+		// 0000-01-01 was a Saturday
+		return DayOfWeek.SATURDAY.plus(epochDayOffset % 7);
+	}
+
+	/**
+	 * @return the number of allowed days before {@code epochDay} counted from the start of cycle 0
+	 */
+	private long countBefore(long epochDay) {
+		long offset = epochDay - CYCLE_START_EPOCH_DAY;
+		if (allowedOffsets == null) {
+			return offset;
+		}
+		long cycle = Math.floorDiv(offset, DAYS_PER_CYCLE);
+		int offsetInCycle = (int) Math.floorMod(offset, DAYS_PER_CYCLE);
+		int found = Arrays.binarySearch(allowedOffsets, offsetInCycle);
+		int allowedBefore = found >= 0 ? found : -found - 1;
+		return cycle * allowedOffsets.length + allowedBefore;
+	}
+
+	/**
+	 * @return the number of allowed days between min and max
+	 */
+	long count() {
+		return count;
+	}
+
+	/**
+	 * @param index must be between 0 (inclusive) and {@linkplain #count()} (exclusive)
+	 */
+	LocalDate dateAt(long index) {
+		return LocalDate.ofEpochDay(epochDayAt(firstIndex + index));
+	}
+
+	private long epochDayAt(long indexFromCycleStart) {
+		if (allowedOffsets == null) {
+			return CYCLE_START_EPOCH_DAY + indexFromCycleStart;
+		}
+		long cycle = Math.floorDiv(indexFromCycleStart, allowedOffsets.length);
+		int indexInCycle = (int) Math.floorMod(indexFromCycleStart, (long) allowedOffsets.length);
+		return CYCLE_START_EPOCH_DAY + cycle * DAYS_PER_CYCLE + allowedOffsets[indexInCycle];
+	}
+
+	/**
+	 * @return the index of {@code date} if it is allowed and between min and max
+	 */
+	Optional<Long> indexOf(LocalDate date) {
+		long index = countBefore(date.toEpochDay()) - firstIndex;
+		if (index < 0 || index >= count || !dateAt(index).equals(date)) {
+			return Optional.empty();
+		}
+		return Optional.of(index);
+	}
+
+	/**
+	 * @return the index of the first february 29th on or after min if it is an allowed day
+	 */
+	Optional<Long> firstLeapDayIndex() {
+		for (int year = min.getYear(); year <= max.getYear(); year++) {
+			if (Year.isLeap(year)) {
+				LocalDate leapDay = LocalDate.of(year, Month.FEBRUARY, 29);
+				if (!leapDay.isBefore(min)) {
+					// Empty if the first leap day is not an allowed day
+					return indexOf(leapDay);
+				}
+			}
+		}
+		return Optional.empty();
+	}
+}
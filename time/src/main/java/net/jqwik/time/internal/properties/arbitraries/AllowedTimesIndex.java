@@ -0,0 +1,114 @@
+package net.jqwik.time.internal.properties.arbitraries;
+
+import java.time.*;
+import java.time.temporal.*;
+
+/**
+ * Enumerates the times of day that have an allowed hour, minute and second and match the precision.
+ * Times are accessed through their index so that generating them never has to reject a value.
+ */
+class AllowedTimesIndex {
+
+	private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+	private final int minHour;
+	private final int maxHour;
+	private final int minMinute;
+	private final int maxMinute;
+	private final int minSecond;
+	private final int maxSecond;
+	private final long nanosPerStep;
+
+	private final long stepsPerSecond;
+	private final long stepsPerMinute;
+	private final long stepsPerHour;
+	private final long count;
+
+	AllowedTimesIndex(
+		int minHour,
+		int maxHour,
+		int minMinute,
+		int maxMinute,
+		int minSecond,
+		int maxSecond,
+		ChronoUnit precision
+	) {
+		boolean minutesAllowed = precision.compareTo(ChronoUnit.HOURS) < 0;
+		boolean secondsAllowed = precision.compareTo(ChronoUnit.MINUTES) < 0;
+		this.minHour = minHour;
+		this.maxHour = maxHour;
+		this.minMinute = minutesAllowed ? minMinute : 0;
+		this.maxMinute = minutesAllowed ? maxMinute : 0;
+		this.minSecond = secondsAllowed ? minSecond : 0;
+		this.maxSecond = secondsAllowed ? maxSecond : 0;
+		this.nanosPerStep = precision.compareTo(ChronoUnit.SECONDS) < 0 ? precision.getDuration().toNanos() : NANOS_PER_SECOND;
+
+		this.stepsPerSecond = NANOS_PER_SECOND / nanosPerStep;
+		this.stepsPerMinute = (this.maxSecond - this.minSecond + 1) * stepsPerSecond;
+		this.stepsPerHour = (this.maxMinute - this.minMinute + 1) * stepsPerMinute;
+		this.count = (maxHour - minHour + 1) * stepsPerHour;
+	}
+
+	/**
+	 * @return the number of allowed times of a day
+	 */
+	long count() {
+		return count;
+	}
+
+	/**
+	 * @return the number of allowed times before {@code time}
+	 */
+	long countBefore(LocalTime time) {
+		if (time.getHour() < minHour) {
+			return 0;
+		}
+		if (time.getHour() > maxHour) {
+			return count;
+		}
+		long before = (time.getHour() - minHour) * stepsPerHour;
+		if (time.getMinute() < minMinute) {
+			return before;
+		}
+		if (time.getMinute() > maxMinute) {
+			return before + stepsPerHour;
+		}
+		before += (time.getMinute() - minMinute) * stepsPerMinute;
+		if (time.getSecond() < minSecond) {
+			return before;
+		}
+		if (time.getSecond() > maxSecond) {
+			return before + stepsPerMinute;
+		}
+		before += (time.getSecond() - minSecond) * stepsPerSecond;
+		long stepsBefore = (time.getNano() + nanosPerStep - 1) / nanosPerStep;
+		return before + Math.min(stepsBefore, stepsPerSecond);
+	}
+
+	/**
+	 * @return the number of allowed times before or at {@code time}
+	 */
+	long countUpTo(LocalTime time) {
+		return countBefore(time) + (isAllowed(time) ? 1 : 0);
+	}
+
+	private boolean isAllowed(LocalTime time) {
+		return time.getHour() >= minHour && time.getHour() <= maxHour
+				   && time.getMinute() >= minMinute && time.getMinute() <= maxMinute
+				   && time.getSecond() >= minSecond && time.getSecond() <= maxSecond
+				   && time.getNano() % nanosPerStep == 0;
+	}
+
+	/**
+	 * @param index must be between 0 (inclusive) and {@linkplain #count()} (exclusive)
+	 */
+	LocalTime timeAt(long index) {
+		int hour = minHour + (int) (index / stepsPerHour);
+		long inHour = index % stepsPerHour;
+		int minute = minMinute + (int) (inHour / stepsPerMinute);
+		long inMinute = inHour % stepsPerMinute;
+		int second = minSecond + (int) (inMinute / stepsPerSecond);
+		int nano = (int) ((inMinute % stepsPerSecond) * nanosPerStep);
+		return LocalTime.of(hour, minute, second, nano);
+	}
+}
@@ -11,7 +11,6 @@ import net.jqwik.time.api.arbitraries.*;
 import net.jqwik.time.internal.properties.arbitraries.valueRanges.*;
 
 import static java.time.Month.*;
-import static java.time.temporal.ChronoUnit.*;
 import static org.apiguardian.api.API.Status.*;
 
 @API(status = INTERNAL)
@@ -31,101 +30,41 @@ public class DefaultLocalDateArbitrary extends ArbitraryDecorator<LocalDate> imp
 		LocalDate effectiveMin = effectiveMinDate();
 		LocalDate effectiveMax = effectiveMaxDate(effectiveMin);
 
-		checkIfValuesArePossible(effectiveMin, effectiveMax);
+		AllowedDaysIndex allowedDays = allowedDaysIndex(effectiveMin, effectiveMax);
+		if (allowedDays.count() == 0) {
+			throw new IllegalArgumentException("These min/max configurations cannot be used together: No values are possible.");
+		}
 
-		long days = DAYS.between(effectiveMin, effectiveMax);
+		long maxIndex = allowedDays.count() - 1;
 
-		Arbitrary<Long> day =
+		Arbitrary<Long> dayIndex =
 			Arbitraries.longs()
-					   .between(0, days)
+					   .between(0, maxIndex)
 					   .withDistribution(RandomDistribution.uniform())
 					   .edgeCases(edgeCases -> {
-						   edgeCases.includeOnly(0L, days);
-						   Optional<Long> optionalLeapDay = firstLeapDayAfter(effectiveMin, days);
-						   optionalLeapDay.ifPresent(edgeCases::add);
+						   edgeCases.includeOnly(0L, maxIndex);
+						   allowedDays.firstLeapDayIndex().ifPresent(edgeCases::add);
 					   });
 
-		Arbitrary<LocalDate> localDates = day.map(effectiveMin::plusDays);
-
-		if (allowedMonths.get().size() < 12) {
-			localDates = localDates.filter(date -> allowedMonths.get().contains(date.getMonth()));
-		}
-
-		if (allowedDayOfWeeks.get().size() < 7) {
-			localDates = localDates.filter(date -> allowedDayOfWeeks.get().contains(date.getDayOfWeek()));
-		}
-
-		if (dayOfMonthBetween.getMax() != null
-				&& dayOfMonthBetween.getMin() != null
-				&& dayOfMonthBetween.getMax() - dayOfMonthBetween.getMin() != 30
-		) {
-			localDates = localDates.filter(date ->
-											   date.getDayOfMonth() >= dayOfMonthBetween.getMin()
-												   && date.getDayOfMonth() <= dayOfMonthBetween.getMax()
-			);
-		}
-
-		return localDates;
-
-	}
+		return dayIndex.map(allowedDays::dateAt);
 
-	private void checkIfValuesArePossible(LocalDate min, LocalDate max) {
-		if (max.getYear() - 2 >= min.getYear()) {
-			if (valuesArePossible()) {
-				return;
-			}
-		} else {
-			int minDayOfMonth = dayOfMonthBetween.getMin() == null ? 1 : dayOfMonthBetween.getMin();
-			int maxDayOfMonth = dayOfMonthBetween.getMax() == null ? 31 : dayOfMonthBetween.getMax();
-			for (LocalDate date = min; !date.isAfter(max); date = date.plusDays(1)) {
-				if (minDayOfMonth <= date.getDayOfMonth()
-						&& maxDayOfMonth >= date.getDayOfMonth()
-						&& allowedMonths.get().contains(date.getMonth())
-				) {
-					return;
-				}
-			}
-		}
-		throw new IllegalArgumentException("These min/max configurations cannot be used together: No values are possible.");
 	}
 
-	private boolean valuesArePossible() {
-		int min = dayOfMonthBetween.getMin() == null ? 1 : dayOfMonthBetween.getMin();
-		return !(
-			(min == 31 && !allowedMonthContainsMonthWith31Days())
-				|| (min == 30 && !allowedMonthContainsNotOnlyFebruary())
-				|| (min == 29
-						&& !allowedMonthContainsNotOnlyFebruary()
-						&& !leapYearPossible(dateBetween.getMin().getYear(), dateBetween.getMax().getYear()))
+	/**
+	 * Allowed days are enumerated instead of filtered so that restrictive combinations
+	 * of months, days of month and days of week never reject a generated value.
+	 */
+	private AllowedDaysIndex allowedDaysIndex(LocalDate effectiveMin, LocalDate effectiveMax) {
+		return new AllowedDaysIndex(
+			effectiveMin,
+			effectiveMax,
+			allowedMonths.get(),
+			dayOfMonthBetween.getMin() == null ? 1 : dayOfMonthBetween.getMin(),
+			dayOfMonthBetween.getMax() == null ? 31 : dayOfMonthBetween.getMax(),
+			allowedDayOfWeeks.get()
 		);
 	}
 
-	private boolean allowedMonthContainsMonthWith31Days() {
-		Set<Month> allowed = allowedMonths.get();
-		return allowed.contains(JANUARY)
-				   || allowed.contains(MARCH)
-				   || allowed.contains(MAY)
-				   || allowed.contains(JULY)
-				   || allowed.contains(AUGUST)
-				   || allowed.contains(OCTOBER)
-				   || allowed.contains(DECEMBER);
-	}
-
-	private boolean allowedMonthContainsNotOnlyFebruary() {
-		Set<Month> allowed = allowedMonths.get();
-		return allowed.contains(JANUARY)
-				   || allowed.contains(MARCH)
-				   || allowed.contains(APRIL)
-				   || allowed.contains(MAY)
-				   || allowed.contains(JUNE)
-				   || allowed.contains(JULY)
-				   || allowed.contains(AUGUST)
-				   || allowed.contains(SEPTEMBER)
-				   || allowed.contains(OCTOBER)
-				   || allowed.contains(NOVEMBER)
-				   || allowed.contains(DECEMBER);
-	}
-
 	public static boolean leapYearPossible(int min, int max) {
 		if (max - min >= 8) {
 			return true;
@@ -199,32 +138,6 @@ public class DefaultLocalDateArbitrary extends ArbitraryDecorator<LocalDate> imp
 							.findFirst().orElse(1);
 	}
 
-	private Optional<Long> firstLeapDayAfter(LocalDate date, long maxOffset) {
-		long offset = nextLeapDayOffset(date, 0);
-		if (offset > maxOffset) {
-			return Optional.empty();
-		} else {
-			return Optional.of(offset);
-		}
-	}
-
-	private long nextLeapDayOffset(LocalDate date, long base) {
-		if (date.isLeapYear()) {
-			if (date.getMonth().compareTo(FEBRUARY) <= 0) {
-				LocalDate leapDaySameYear = date.withMonth(2).withDayOfMonth(29);
-				long offset = DAYS.between(date, leapDaySameYear);
-				return base + offset;
-			}
-		}
-		int nextYear = date.getYear() + 1;
-		if (nextYear > Year.MAX_VALUE) {
-			return Long.MAX_VALUE;
-		}
-		LocalDate nextJan1 = LocalDate.of(nextYear, 1, 1);
-
-		return nextLeapDayOffset(nextJan1, base + DAYS.between(date, nextJan1));
-	}
-
 	@Override
 	public LocalDateArbitrary atTheEarliest(LocalDate min) {
 		DefaultLocalDateArbitrary clone = typedClone();
@@ -1,5 +1,6 @@
 package net.jqwik.time.internal.properties.arbitraries;
 
+import java.math.*;
 import java.time.*;
 import java.time.temporal.*;
 
@@ -7,7 +8,6 @@ import org.apiguardian.api.*;
 
 import net.jqwik.api.*;
 import net.jqwik.api.arbitraries.*;
-import net.jqwik.time.api.*;
 import net.jqwik.time.api.arbitraries.*;
 import net.jqwik.time.internal.properties.arbitraries.valueRanges.*;
 
@@ -38,39 +38,70 @@ public class DefaultLocalDateTimeArbitrary extends ArbitraryDecorator<LocalDateT
 		LocalDateTime effectiveMin = effectiveMin();
 		LocalDateTime effectiveMax = effectiveMax(effectiveMin);
 
-		LocalDateArbitrary dates = Dates.dates();
-		TimeArbitraries times = generateTimeArbitraries(effectiveMin, effectiveMax, ofPrecision);
-
-		dates = dates.atTheEarliest(effectiveMin.toLocalDate());
-		dates = dates.atTheLatest(effectiveMax.toLocalDate());
-
-		dates = setDateParams(dates);
-
-		LocalDate effectiveMinDate = effectiveMin.toLocalDate();
-		LocalDate effectiveMaxDate = effectiveMax.toLocalDate();
+		AllowedDateTimesIndex allowedDateTimes = allowedDateTimesIndex(effectiveMin, effectiveMax);
+		BigInteger count = allowedDateTimes.count();
+		if (count.signum() == 0) {
+			throw new IllegalArgumentException("These min/max configurations cannot be used together: No values are possible.");
+		}
 
-		return dates.flatMap(date -> timesByDate(times, date, effectiveMinDate, effectiveMaxDate)
-										 .map(time -> LocalDateTime.of(date, time)));
+		if (allowedDateTimes.fitsInLong()) {
+			long maxIndex = count.longValue() - 1;
+			Arbitrary<Long> dateTimeIndex =
+				Arbitraries.longs()
+						   .between(0, maxIndex)
+						   .withDistribution(RandomDistribution.uniform())
+						   .edgeCases(edgeCases -> {
+							   edgeCases.includeOnly(0L, maxIndex);
+							   allowedDateTimes.edgeCaseIndices().stream()
+											   .map(BigInteger::longValue)
+											   .filter(index -> index != 0 && index != maxIndex)
+											   .forEach(edgeCases::add);
+						   });
+			return dateTimeIndex.map(allowedDateTimes::dateTimeAt);
+		}
 
-	}
+		BigInteger maxIndex = count.subtract(BigInteger.ONE);
+		Arbitrary<BigInteger> dateTimeIndex =
+			Arbitraries.bigIntegers()
+					   .between(BigInteger.ZERO, maxIndex)
+					   .withDistribution(RandomDistribution.uniform())
+					   .edgeCases(edgeCases -> {
+						   edgeCases.includeOnly(BigInteger.ZERO, maxIndex);
+						   allowedDateTimes.edgeCaseIndices().stream()
+										   .filter(index -> index.signum() != 0 && !index.equals(maxIndex))
+										   .forEach(edgeCases::add);
+					   });
+		return dateTimeIndex.map(allowedDateTimes::dateTimeAt);
 
-	private LocalDateArbitrary setDateParams(LocalDateArbitrary dates) {
-		dates = dates.onlyMonths(allowedMonths.get().toArray(new Month[]{}));
-		if (dayOfMonthBetween.getMin() != null && dayOfMonthBetween.getMax() != null) {
-			dates = dates.dayOfMonthBetween(dayOfMonthBetween.getMin(), dayOfMonthBetween.getMax());
-		}
-		dates = dates.onlyDaysOfWeek(allowedDayOfWeeks.get().toArray(new DayOfWeek[]{}));
-		return dates;
 	}
 
-	private LocalTimeArbitrary timesByDate(TimeArbitraries times, LocalDate date, LocalDate effectiveMin, LocalDate effectiveMax) {
-		if (date.isEqual(effectiveMin)) {
-			return times.firstDay;
-		} else if (date.isEqual(effectiveMax)) {
-			return times.lastDay;
-		} else {
-			return times.daysBetween;
-		}
+	/**
+	 * Allowed date times are enumerated instead of combining a date arbitrary with a time arbitrary per date
+	 * so that generating a value neither creates arbitraries nor rejects values.
+	 */
+	private AllowedDateTimesIndex allowedDateTimesIndex(LocalDateTime effectiveMin, LocalDateTime effectiveMax) {
+		AllowedDaysIndex days = new AllowedDaysIndex(
+			effectiveMin.toLocalDate(),
+			effectiveMax.toLocalDate(),
+			allowedMonths.get(),
+			dayOfMonthBetween.getMin() == null ? 1 : dayOfMonthBetween.getMin(),
+			dayOfMonthBetween.getMax() == null ? 31 : dayOfMonthBetween.getMax(),
+			allowedDayOfWeeks.get()
+		);
+		AllowedTimesIndex times = new AllowedTimesIndex(
+			hourBetween.getMin(),
+			hourBetween.getMax(),
+			minuteBetween.getMin(),
+			minuteBetween.getMax(),
+			secondBetween.getMin(),
+			secondBetween.getMax(),
+			ofPrecision.get()
+		);
+		LocalTime effectiveMinTime = DefaultLocalTimeArbitrary
+										 .effectiveMin(timeBetween, hourBetween, minuteBetween, secondBetween, ofPrecision);
+		LocalTime effectiveMaxTime = DefaultLocalTimeArbitrary
+										 .effectiveMax(timeBetween, hourBetween, minuteBetween, secondBetween, ofPrecision);
+		return new AllowedDateTimesIndex(days, times, effectiveMinTime, effectiveMaxTime, effectiveMin, effectiveMax);
 	}
 
 	private LocalDateTime effectiveMin() {
@@ -143,42 +174,6 @@ public class DefaultLocalDateTimeArbitrary extends ArbitraryDecorator<LocalDateT
 		return effective;
 	}
 
-	private TimeArbitraries generateTimeArbitraries(LocalDateTime effectiveMin, LocalDateTime effectiveMax, OfPrecision ofPrecision) {
-		boolean oneDay = false;
-		TimeArbitraries times = new TimeArbitraries();
-		if (effectiveMin.toLocalDate().isEqual(effectiveMax.toLocalDate())) {
-			oneDay = true;
-			times.firstDay = Times.times().between(effectiveMin.toLocalTime(), effectiveMax.toLocalTime()).ofPrecision(ofPrecision.get());
-		} else {
-			times.firstDay = Times.times().atTheEarliest(effectiveMin.toLocalTime()).ofPrecision(ofPrecision.get());
-			times.daysBetween = Times.times().ofPrecision(ofPrecision.get());
-			times.lastDay = Times.times().atTheLatest(effectiveMax.toLocalTime()).ofPrecision(ofPrecision.get());
-		}
-		setTimeParams(times, oneDay);
-		return times;
-	}
-
-	private void setTimeParams(TimeArbitraries times, boolean oneDay) {
-		if (timeBetween.getMin() != null && timeBetween.getMax() != null) {
-			if (!oneDay) {
-				times.firstDay = times.firstDay.atTheLatest(timeBetween.getMax());
-				times.daysBetween = times.daysBetween.between(timeBetween.getMin(), timeBetween.getMax());
-				times.lastDay = times.lastDay.atTheEarliest(timeBetween.getMin());
-			}
-		}
-		times.firstDay = times.firstDay.hourBetween(hourBetween.getMin(), hourBetween.getMax())
-									   .minuteBetween(minuteBetween.getMin(), minuteBetween.getMax())
-									   .secondBetween(secondBetween.getMin(), secondBetween.getMax());
-		if (!oneDay) {
-			times.daysBetween = times.daysBetween.hourBetween(hourBetween.getMin(), hourBetween.getMax())
-												 .minuteBetween(minuteBetween.getMin(), minuteBetween.getMax())
-												 .secondBetween(secondBetween.getMin(), secondBetween.getMax());
-			times.lastDay = times.lastDay.hourBetween(hourBetween.getMin(), hourBetween.getMax())
-										 .minuteBetween(minuteBetween.getMin(), minuteBetween.getMax())
-										 .secondBetween(secondBetween.getMin(), secondBetween.getMax());
-		}
-	}
-
 	private void setOfPrecisionImplicitly(DefaultLocalDateTimeArbitrary clone, LocalDateTime dateTime) {
 		setOfPrecisionImplicitly(clone, dateTime.toLocalTime());
 	}
@@ -290,12 +285,4 @@ public class DefaultLocalDateTimeArbitrary extends ArbitraryDecorator<LocalDateT
 		return clone;
 	}
 
-	private static class TimeArbitraries {
-
-		private LocalTimeArbitrary firstDay;
-		private LocalTimeArbitrary daysBetween;
-		private LocalTimeArbitrary lastDay;
-
-	}
-
 }
@@ -32,13 +32,7 @@ public class DefaultZonedDateTimeArbitrary extends ArbitraryDecorator<ZonedDateT
 	}
 
 	private Arbitrary<ZoneId> sortedZoneIds() {
-		LocalDateTime refTime = LocalDateTime.of(2000, 1, 1, 0, 0, 0);
-		Comparator<ZoneId> zoneIdComparator = Comparator.comparing(zoneId -> ZonedDateTime.of(refTime, zoneId));
-		List<ZoneId> sortedZoneIds = ZoneId.getAvailableZoneIds().stream()
-										   .map(ZoneId::of)
-										   .sorted(zoneIdComparator)
-										   .collect(Collectors.toList());
-		return Arbitraries.of(sortedZoneIds);
+		return Arbitraries.of(SortedZoneIds.ALL);
 	}
 
 	@Override
@@ -132,4 +126,24 @@ public class DefaultZonedDateTimeArbitrary extends ArbitraryDecorator<ZonedDateT
 		return clone;
 	}
 
+	/**
+	 * Parsing and sorting all available zone ids is expensive.
+	 * It is done once and only when the first zoned date time arbitrary is created.
+	 */
+	private static class SortedZoneIds {
+
+		private static final List<ZoneId> ALL = sortZoneIds();
+
+		private static List<ZoneId> sortZoneIds() {
+			LocalDateTime refTime = LocalDateTime.of(2000, 1, 1, 0, 0, 0);
+			Comparator<ZoneId> zoneIdComparator = Comparator.comparing(zoneId -> ZonedDateTime.of(refTime, zoneId));
+			List<ZoneId> sortedZoneIds = ZoneId.getAvailableZoneIds().stream()
+											   .map(ZoneId::of)
+											   .sorted(zoneIdComparator)
+											   .collect(Collectors.toList());
+			return Collections.unmodifiableList(sortedZoneIds);
+		}
+
+	}
+
 }
@@ -243,4 +243,35 @@ public class TimeTests {
 
 	}
 
+	@Group
+	class MultipleCombinations {
+
+		@Property
+		void narrowTimeOfDayWithDateRestrictionsAndNanos(@ForAll Random random) {
+
+			LocalDateTime min = LocalDateTime.of(2013, 5, 25, 17, 45, 0);
+			LocalDateTime max = LocalDateTime.of(2020, 8, 23, 9, 10, 0);
+
+			Arbitrary<LocalDateTime> dateTimes =
+				DateTimes.dateTimes()
+						 .between(min, max)
+						 .onlyDaysOfWeek(DayOfWeek.SUNDAY)
+						 .hourBetween(9, 17)
+						 .minuteBetween(10, 20)
+						 .secondBetween(59, 59)
+						 .ofPrecision(NANOS);
+
+			checkAllGenerated(dateTimes.generator(1000), random, dateTime -> {
+				assertThat(dateTime).isBetween(min, max);
+				assertThat(dateTime.getDayOfWeek()).isEqualTo(DayOfWeek.SUNDAY);
+				assertThat(dateTime.getHour()).isBetween(9, 17);
+				assertThat(dateTime.getMinute()).isBetween(10, 20);
+				assertThat(dateTime.getSecond()).isEqualTo(59);
+				return true;
+			});
+
+		}
+
+	}
+
 }
@@ -384,6 +384,23 @@ public class DateMethodTests {
 
 		}
 
+		@Property
+		void onlyFebruary29OnMondays(@ForAll Random random) {
+
+			Arbitrary<LocalDate> dates = Dates.dates()
+											  .onlyMonths(FEBRUARY)
+											  .dayOfMonthBetween(29, 29)
+											  .onlyDaysOfWeek(DayOfWeek.MONDAY);
+
+			checkAllGenerated(dates.generator(1000, true), random, date -> {
+				assertThat(date.getMonth()).isEqualTo(FEBRUARY);
+				assertThat(date.getDayOfMonth()).isEqualTo(29);
+				assertThat(date.getDayOfWeek()).isEqualTo(DayOfWeek.MONDAY);
+				return true;
+			});
+
+		}
+
 	}
 
 }
@@ -23,7 +23,7 @@ public class ExhaustiveGenerationTests {
 		assertThat(optionalGenerator).isPresent();
 
 		ExhaustiveGenerator<LocalDate> generator = optionalGenerator.get();
-		assertThat(generator.maxCount()).isEqualTo(4); // Cannot know the number of filtered elements in advance
+		assertThat(generator.maxCount()).isEqualTo(4);
 		assertThat(generator).containsExactly(
 			LocalDate.of(42, DECEMBER, 30),
 			LocalDate.of(42, DECEMBER, 31),
@@ -43,7 +43,7 @@ public class ExhaustiveGenerationTests {
 		assertThat(optionalGenerator).isPresent();
 
 		ExhaustiveGenerator<LocalDate> generator = optionalGenerator.get();
-		assertThat(generator.maxCount()).isEqualTo(276); // Cannot know the exact number of filtered elements in advance
+		assertThat(generator.maxCount()).isEqualTo(3);
 		assertThat(generator).containsExactly(
 			LocalDate.of(1997, MARCH, 17),
 			LocalDate.of(1997, OCTOBER, 17),
@@ -62,7 +62,7 @@ public class ExhaustiveGenerationTests {
 		assertThat(optionalGenerator).isPresent();
 
 		ExhaustiveGenerator<LocalDate> generator = optionalGenerator.get();
-		assertThat(generator.maxCount()).isEqualTo(31); // Cannot know the exact number of filtered elements in advance
+		assertThat(generator.maxCount()).isEqualTo(9);
 		assertThat(generator).containsExactly(
 			LocalDate.of(2020, DECEMBER, 3),
 			LocalDate.of(2020, DECEMBER, 7),
@@ -90,7 +90,7 @@ public class ExhaustiveGenerationTests {
 		assertThat(optionalGenerator).isPresent();
 
 		ExhaustiveGenerator<LocalDate> generator = optionalGenerator.get();
-		assertThat(generator.maxCount()).isEqualTo(367);
+		assertThat(generator.maxCount()).isEqualTo(4);
 		assertThat(generator).containsExactly(
 			LocalDate.of(2010, DECEMBER, 27),
 			LocalDate.of(2010, DECEMBER, 28),
@@ -113,7 +113,7 @@ public class ExhaustiveGenerationTests {
 		assertThat(optionalGenerator).isPresent();
 
 		ExhaustiveGenerator<LocalDate> generator = optionalGenerator.get();
-		assertThat(generator.maxCount()).isEqualTo(368);
+		assertThat(generator.maxCount()).isEqualTo(4);
 		assertThat(generator).containsExactly(
 			LocalDate.of(2011, JUNE, 21),
 			LocalDate.of(2011, JUNE, 22),
@@ -136,7 +136,7 @@ public class ExhaustiveGenerationTests {
 		assertThat(optionalGenerator).isPresent();
 
 		ExhaustiveGenerator<LocalDate> generator = optionalGenerator.get();
-		assertThat(generator.maxCount()).isEqualTo(367);
+		assertThat(generator.maxCount()).isEqualTo(4);
 		assertThat(generator).containsExactly(
 			LocalDate.of(2011, FEBRUARY, 12),
 			LocalDate.of(2011, FEBRUARY, 13),
@@ -159,7 +159,7 @@ public class ExhaustiveGenerationTests {
 		assertThat(optionalGenerator).isPresent();
 
 		ExhaustiveGenerator<LocalDate> generator = optionalGenerator.get();
-		assertThat(generator.maxCount()).isEqualTo(397);
+		assertThat(generator.maxCount()).isEqualTo(4);
 		assertThat(generator).containsExactly(
 			LocalDate.of(2010, OCTOBER, 21),
 			LocalDate.of(2010, NOVEMBER, 21),
@@ -182,7 +182,7 @@ public class ExhaustiveGenerationTests {
 		assertThat(optionalGenerator).isPresent();
 
 		ExhaustiveGenerator<LocalDate> generator = optionalGenerator.get();
-		assertThat(generator.maxCount()).isEqualTo(397);
+		assertThat(generator.maxCount()).isEqualTo(4);
 		assertThat(generator).containsExactly(
 			LocalDate.of(2011, JUNE, 21),
 			LocalDate.of(2011, JULY, 21),
@@ -205,7 +205,7 @@ public class ExhaustiveGenerationTests {
 		assertThat(optionalGenerator).isPresent();
 
 		ExhaustiveGenerator<LocalDate> generator = optionalGenerator.get();
-		assertThat(generator.maxCount()).isEqualTo(397);
+		assertThat(generator.maxCount()).isEqualTo(4);
 		assertThat(generator).containsExactly(
 			LocalDate.of(2011, JANUARY, 20),
 			LocalDate.of(2011, FEBRUARY, 20),